@@ -18,6 +18,7 @@ import org.optaplanner.jpyinterpreter.types.PythonString;
 import org.optaplanner.jpyinterpreter.types.collections.PythonLikeTuple;
 import org.optaplanner.jpyinterpreter.types.errors.PythonTraceback;
 import org.optaplanner.jpyinterpreter.types.numeric.PythonInteger;
+import org.optaplanner.jpyinterpreter.types.wrappers.CPythonType;
 import org.optaplanner.jpyinterpreter.types.wrappers.OpaquePythonReference;
 import org.optaplanner.jpyinterpreter.types.wrappers.PythonObjectWrapper;
 import org.optaplanner.jpyinterpreter.util.function.PentaFunction;
@@ -37,6 +38,7 @@ public class CPythonBackedPythonInterpreter implements PythonInterpreter {
     public static Function<OpaquePythonReference, Number> lookupPythonReferenceIdPythonFunction;
 
     public static Function<OpaquePythonReference, OpaquePythonReference> lookupPythonReferenceTypePythonFunction;
+    public static Function<OpaquePythonReference, CPythonType> lookupPythonReferenceCPythonTypePythonFunction;
     public static BiFunction<OpaquePythonReference, String, PythonLikeObject> lookupAttributeOnPythonReferencePythonFunction;
     public static BiFunction<OpaquePythonReference, String, OpaquePythonReference> lookupPointerForAttributeOnPythonReferencePythonFunction;
     public static BiFunction<OpaquePythonReference, String, OpaquePythonReference[]> lookupPointerArrayForAttributeOnPythonReferencePythonFunction;
@@ -68,6 +70,10 @@ public class CPythonBackedPythonInterpreter implements PythonInterpreter {
         return lookupPythonReferenceTypePythonFunction.apply(reference);
     }
 
+    public static CPythonType getPythonReferenceCPythonType(OpaquePythonReference reference) {
+        return lookupPythonReferenceCPythonTypePythonFunction.apply(reference);
+    }
+
     public static PythonLikeObject lookupAttributeOnPythonReference(OpaquePythonReference object, String attribute) {
         return lookupAttributeOnPythonReferencePythonFunction.apply(object, attribute);
     }
@@ -103,9 +109,19 @@ public class CPythonBackedPythonInterpreter implements PythonInterpreter {
     public static void updateJavaObjectFromPythonObject(CPythonBackedPythonLikeObject javaObject,
             OpaquePythonReference pythonObject,
             Map<Number, PythonLikeObject> instanceMap) {
+        updateJavaObjectFromPythonObject(javaObject, pythonObject, getPythonReferenceId(pythonObject), instanceMap);
+    }
+
+    /**
+     * Like {@link #updateJavaObjectFromPythonObject(CPythonBackedPythonLikeObject, OpaquePythonReference, Map)},
+     * for callers that already know the id of {@code pythonObject}.
+     */
+    public static void updateJavaObjectFromPythonObject(CPythonBackedPythonLikeObject javaObject,
+            OpaquePythonReference pythonObject, Number pythonObjectId,
+            Map<Number, PythonLikeObject> instanceMap) {
         javaObject.$setInstanceMap(instanceMap);
         javaObject.$setCPythonReference(pythonObject);
-        javaObject.$setCPythonId(PythonInteger.valueOf(getPythonReferenceId(pythonObject).longValue()));
+        javaObject.$setCPythonId(PythonInteger.valueOf(pythonObjectId.longValue()));
         javaObject.$readFieldsFromCPythonReference();
     }
 
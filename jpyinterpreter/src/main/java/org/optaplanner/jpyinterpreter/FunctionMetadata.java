@@ -2,9 +2,12 @@ package org.optaplanner.jpyinterpreter;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.objectweb.asm.Label;
 import org.objectweb.asm.MethodVisitor;
+import org.optaplanner.jpyinterpreter.implementors.CompareAndJumpImplementor;
+import org.optaplanner.jpyinterpreter.implementors.UnboxedFloatImplementor;
 
 public class FunctionMetadata {
 
@@ -19,4 +22,21 @@ public class FunctionMetadata {
     public PythonCompiledFunction pythonCompiledFunction;
     public Map<Integer, Label> bytecodeCounterToLabelMap;
     public Map<Integer, List<Runnable>> bytecodeCounterToCodeArgumenterList;
+    public Map<Integer, UnboxedFloatImplementor.UnboxedFloatOperation> bytecodeCounterToUnboxedFloatOperationMap = Map.of();
+
+    public Map<Integer, CompareAndJumpImplementor.FusedComparison> bytecodeCounterToFusedComparisonMap = Map.of();
+
+    public Set<Integer> fusedIterateAndUnpackBytecodeCounterSet = Set.of();
+
+    public UnboxedFloatImplementor.UnboxedFloatOperation getUnboxedFloatOperation(int bytecodeCounter) {
+        return bytecodeCounterToUnboxedFloatOperationMap.get(bytecodeCounter);
+    }
+
+    public CompareAndJumpImplementor.FusedComparison getFusedComparison(int bytecodeCounter) {
+        return bytecodeCounterToFusedComparisonMap.get(bytecodeCounter);
+    }
+
+    public boolean isFusedIterateAndUnpack(int bytecodeCounter) {
+        return fusedIterateAndUnpackBytecodeCounterSet.contains(bytecodeCounter);
+    }
 }
@@ -11,4 +11,37 @@ public final class InterpreterStartupOptions {
      * Where to output class files; defaults to null (which cause not class files to not be written)
      */
     public static Path classOutputRootPath = null;
+
+    /**
+     * If true, record translation times, generated bytecode sizes and generic fallbacks in
+     * {@link org.optaplanner.jpyinterpreter.profiling.TranslationMetricsRegistry}; defaults to false
+     */
+    public static boolean collectTranslationMetrics = false;
+
+    /**
+     * If true, translated code counts how often each generic dunder method, attribute lookup or call
+     * runs, and with which types, in {@link org.optaplanner.jpyinterpreter.profiling.GenericFallbackCounters};
+     * defaults to false. Only affects code translated after it is set.
+     */
+    public static boolean countGenericFallbacks = false;
+
+    /**
+     * If true, functions translated to a Java functional interface record the classes of their arguments, and are
+     * translated again with those classes as guarded parameter types once called
+     * {@link #tieredTranslationCallThreshold} times (see {@link PythonTieredFunctionTranslator}); defaults to false.
+     * Only affects code translated after it is set.
+     */
+    public static boolean tieredTranslation = false;
+
+    /**
+     * The number of calls after which a function is specialized when {@link #tieredTranslation} is enabled;
+     * defaults to 10000.
+     */
+    public static int tieredTranslationCallThreshold = 10_000;
+
+    /**
+     * If true, overload dispatchers of builtin types are loaded from the bytecode prebuilt into the jar when it
+     * matches their signatures (see {@link PrebuiltDispatchers}) instead of being generated; defaults to true.
+     */
+    public static boolean usePrebuiltDispatchers = true;
 }
@@ -0,0 +1,188 @@
+package org.optaplanner.jpyinterpreter;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import org.optaplanner.jpyinterpreter.builtins.GlobalBuiltins;
+import org.optaplanner.jpyinterpreter.types.BuiltinTypes;
+import org.optaplanner.jpyinterpreter.types.PythonKnownFunctionType;
+import org.optaplanner.jpyinterpreter.types.PythonLikeType;
+import org.optaplanner.jpyinterpreter.types.datetime.PythonDate;
+import org.optaplanner.jpyinterpreter.types.datetime.PythonDateTime;
+import org.optaplanner.jpyinterpreter.types.datetime.PythonTime;
+import org.optaplanner.jpyinterpreter.types.datetime.PythonTimeDelta;
+import org.optaplanner.jpyinterpreter.types.datetime.PythonTzinfo;
+
+/**
+ * Overload dispatchers for builtin types that were generated when the jar was built.
+ * <p>
+ * The bytecode of a dispatcher only depends on the signatures of the methods it dispatches to, so the dispatchers
+ * of builtin types are the same on every run. The build runs {@link #main(String[])}, which generates them and
+ * stores their bytecode in a resource, together with a fingerprint of the signatures each was generated from.
+ * At runtime, {@link PythonOverloadImplementor} uses the stored bytecode instead of emitting it when the fingerprint
+ * still matches. The bytecode is defined by {@link BuiltinTypes#asmClassLoader} like any generated class, since
+ * dispatchers reference generated default argument holder classes.
+ */
+public final class PrebuiltDispatchers {
+    static final String ARCHIVE_RESOURCE = "META-INF/jpyinterpreter/dispatchers.bin";
+
+    private static volatile Map<String, PrebuiltDispatcher> classNameToPrebuiltDispatcher = null;
+
+    private static final class PrebuiltDispatcher {
+        final String fingerprint;
+        final byte[] bytecode;
+
+        PrebuiltDispatcher(String fingerprint, byte[] bytecode) {
+            this.fingerprint = fingerprint;
+            this.bytecode = bytecode;
+        }
+    }
+
+    private PrebuiltDispatchers() {
+    }
+
+    /**
+     * @return the prebuilt bytecode for the dispatcher {@code className}, or null if there is none or it was generated
+     *         from different signatures
+     */
+    static byte[] getBytecode(String className, PythonLikeType pythonLikeType,
+            PythonKnownFunctionType knownFunctionType, PythonClassTranslator.PythonMethodKind methodKind) {
+        if (!InterpreterStartupOptions.usePrebuiltDispatchers) {
+            return null;
+        }
+        PrebuiltDispatcher prebuiltDispatcher = getArchive().get(className);
+        if (prebuiltDispatcher == null
+                || !prebuiltDispatcher.fingerprint.equals(fingerprint(pythonLikeType, knownFunctionType, methodKind))) {
+            return null;
+        }
+        return prebuiltDispatcher.bytecode;
+    }
+
+    private static Map<String, PrebuiltDispatcher> getArchive() {
+        Map<String, PrebuiltDispatcher> out = classNameToPrebuiltDispatcher;
+        if (out == null) {
+            out = new HashMap<>();
+            try (InputStream inputStream = PrebuiltDispatchers.class.getClassLoader()
+                    .getResourceAsStream(ARCHIVE_RESOURCE)) {
+                if (inputStream != null) {
+                    DataInputStream dataInputStream = new DataInputStream(new BufferedInputStream(inputStream));
+                    int count = dataInputStream.readInt();
+                    for (int i = 0; i < count; i++) {
+                        String className = dataInputStream.readUTF();
+                        String fingerprint = new String(readBytes(dataInputStream), StandardCharsets.UTF_8);
+                        out.put(className, new PrebuiltDispatcher(fingerprint, readBytes(dataInputStream)));
+                    }
+                }
+            } catch (IOException e) {
+                // A missing or corrupt archive only means every dispatcher is generated
+                out.clear();
+            }
+            classNameToPrebuiltDispatcher = out;
+        }
+        return out;
+    }
+
+    private static byte[] readBytes(DataInputStream dataInputStream) throws IOException {
+        byte[] out = new byte[dataInputStream.readInt()];
+        dataInputStream.readFully(out);
+        return out;
+    }
+
+    private static void writeBytes(DataOutputStream dataOutputStream, byte[] bytes) throws IOException {
+        dataOutputStream.writeInt(bytes.length);
+        dataOutputStream.write(bytes);
+    }
+
+    /**
+     * Returns a description of everything the bytecode of a dispatcher depends on.
+     */
+    static String fingerprint(PythonLikeType pythonLikeType, PythonKnownFunctionType knownFunctionType,
+            PythonClassTranslator.PythonMethodKind methodKind) {
+        StringBuilder out = new StringBuilder();
+        out.append(pythonLikeType.getJavaTypeInternalName()).append(' ').append(methodKind);
+        for (PythonFunctionSignature signature : knownFunctionType.getOverloadFunctionSignatureList()) {
+            MethodDescriptor methodDescriptor = signature.getMethodDescriptor();
+            out.append('\n')
+                    .append(methodDescriptor.getDeclaringClassInternalName()).append('.')
+                    .append(methodDescriptor.getMethodName())
+                    .append(methodDescriptor.getMethodDescriptor()).append(' ')
+                    .append(methodDescriptor.getMethodType()).append(' ')
+                    .append(signature.isFromArgumentSpec()).append(' ')
+                    .append(signature.getExtraPositionalArgumentsVariableIndex().orElse(-1)).append(' ')
+                    .append(signature.getExtraKeywordArgumentsVariableIndex().orElse(-1)).append(' ')
+                    .append(signature.getDefaultArgumentHolderClass() != null
+                            ? signature.getDefaultArgumentHolderClass().getName()
+                            : "")
+                    .append(' ').append(signature.getReturnType().getTypeName());
+            for (PythonLikeType parameterType : signature.getParameterTypes()) {
+                out.append(' ').append(parameterType.getJavaTypeInternalName())
+                        .append(':').append(parameterType.getTypeName());
+            }
+        }
+        return out.toString();
+    }
+
+    /**
+     * Generates the dispatchers of the builtin types and writes them to an archive in the output directory given
+     * as the only argument. Run by the build in the process-classes phase.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Expected the output directory as the only argument.");
+        }
+
+        // Never reuse dispatchers from a previous build, since the signatures they were generated from may have changed
+        InterpreterStartupOptions.usePrebuiltDispatchers = false;
+
+        // Initializing the builtin types registers their dispatchers
+        GlobalBuiltins.getBuiltinTypes();
+        Stream.of(PythonDate.DATE_TYPE, PythonDateTime.DATE_TIME_TYPE, PythonTime.TIME_TYPE,
+                PythonTimeDelta.TIME_DELTA_TYPE, PythonTzinfo.TZ_INFO_TYPE).forEach(Objects::requireNonNull);
+
+        writeArchive(Path.of(args[0]), PythonOverloadImplementor.getBuiltinDispatchList());
+    }
+
+    /**
+     * Generates the dispatchers in {@code dispatchList} and writes them to an archive in {@code outputDirectory}.
+     */
+    static void writeArchive(Path outputDirectory, List<PythonOverloadImplementor.LazyOverloadDispatch> dispatchList)
+            throws IOException {
+        Path archivePath = outputDirectory.resolve(ARCHIVE_RESOURCE);
+
+        // Sorted, so the build output is reproducible
+        Map<String, PrebuiltDispatcher> classNameToDispatcher = new TreeMap<>();
+        for (PythonOverloadImplementor.LazyOverloadDispatch dispatch : dispatchList) {
+            String className = dispatch.getDispatch().getClass().getName();
+            if (!className.endsWith("$$Dispatcher")) {
+                // Only the first dispatcher with a given name can be reused; later ones get a numbered suffix
+                continue;
+            }
+            classNameToDispatcher.put(className, new PrebuiltDispatcher(dispatch.getFingerprint(),
+                    BuiltinTypes.classNameToBytecode.get(className)));
+        }
+
+        Files.createDirectories(archivePath.getParent());
+        try (DataOutputStream dataOutputStream =
+                new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(archivePath)))) {
+            dataOutputStream.writeInt(classNameToDispatcher.size());
+            for (Map.Entry<String, PrebuiltDispatcher> entry : classNameToDispatcher.entrySet()) {
+                dataOutputStream.writeUTF(entry.getKey());
+                writeBytes(dataOutputStream, entry.getValue().fingerprint.getBytes(StandardCharsets.UTF_8));
+                writeBytes(dataOutputStream, entry.getValue().bytecode);
+            }
+        }
+    }
+}
@@ -13,6 +13,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
@@ -25,14 +26,18 @@ import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
 import org.optaplanner.jpyinterpreter.dag.FlowGraph;
 import org.optaplanner.jpyinterpreter.implementors.CollectionImplementor;
+import org.optaplanner.jpyinterpreter.implementors.CompareAndJumpImplementor;
 import org.optaplanner.jpyinterpreter.implementors.ExceptionImplementor;
 import org.optaplanner.jpyinterpreter.implementors.FunctionImplementor;
 import org.optaplanner.jpyinterpreter.implementors.JavaPythonTypeConversionImplementor;
 import org.optaplanner.jpyinterpreter.implementors.StackManipulationImplementor;
+import org.optaplanner.jpyinterpreter.implementors.UnboxedFloatImplementor;
 import org.optaplanner.jpyinterpreter.implementors.VariableImplementor;
 import org.optaplanner.jpyinterpreter.opcodes.Opcode;
 import org.optaplanner.jpyinterpreter.opcodes.OpcodeWithoutSource;
 import org.optaplanner.jpyinterpreter.opcodes.SelfOpcodeWithoutSource;
+import org.optaplanner.jpyinterpreter.profiling.TranslationMetricsRegistry;
+import org.optaplanner.jpyinterpreter.profiling.TranslationPhase;
 import org.optaplanner.jpyinterpreter.types.BuiltinTypes;
 import org.optaplanner.jpyinterpreter.types.PythonLikeFunction;
 import org.optaplanner.jpyinterpreter.types.PythonLikeType;
@@ -82,7 +87,13 @@ public class PythonBytecodeToJavaBytecodeTranslator {
     public static final String INTERPRETER_INSTANCE_FIELD_NAME = "__interpreter__";
 
     public static final String PYTHON_WRAPPER_FUNCTION_INSTANCE_FIELD_NAME = "__function__";
-    public static final Map<String, Integer> classNameToSharedInstanceCount = new HashMap<>();
+    public static final Map<String, Integer> classNameToSharedInstanceCount = new ConcurrentHashMap<>();
+
+    /**
+     * Held while classes are generated after startup (lazy overload dispatchers, tiered specializations), since
+     * translation also registers types and methods in structures that are not thread-safe.
+     */
+    public static final Object CLASS_GENERATION_LOCK = new Object();
 
     private static final Logger LOGGER = LoggerFactory.getLogger(PythonBytecodeToJavaBytecodeTranslator.class);
     public static Path classOutputRootPath = InterpreterStartupOptions.classOutputRootPath;
@@ -91,8 +102,16 @@ public class PythonBytecodeToJavaBytecodeTranslator {
         BuiltinTypes.load();
     }
 
+    public static void writeClassOutput(Map<String, byte[]> classNameToBytecode, String className, ClassWriter classWriter) {
+        long emissionStartTime = TranslationMetricsRegistry.startPhase();
+        byte[] classByteCode = classWriter.toByteArray();
+        TranslationMetricsRegistry.endPhase(className, TranslationPhase.BYTECODE_EMISSION, emissionStartTime);
+        writeClassOutput(classNameToBytecode, className, classByteCode);
+    }
+
     public static void writeClassOutput(Map<String, byte[]> classNameToBytecode, String className, byte[] classByteCode) {
         classNameToBytecode.put(className, classByteCode);
+        TranslationMetricsRegistry.recordBytecodeSize(className, classByteCode.length);
 
         if (classOutputRootPath == null) {
             return;
@@ -140,6 +159,19 @@ public class PythonBytecodeToJavaBytecodeTranslator {
     public static <T> T translatePythonBytecode(PythonCompiledFunction pythonCompiledFunction,
             Class<T> javaFunctionalInterfaceType) {
         Class<T> compiledClass = translatePythonBytecodeToClass(pythonCompiledFunction, javaFunctionalInterfaceType);
+        T out = createInstanceOfTranslatedFunction(pythonCompiledFunction, compiledClass);
+
+        Method methodWithoutGenerics = getFunctionalInterfaceMethod(javaFunctionalInterfaceType);
+        if (PythonTieredFunctionTranslator.isTieredTranslationApplicable(pythonCompiledFunction,
+                javaFunctionalInterfaceType, methodWithoutGenerics)) {
+            return PythonTieredFunctionTranslator.createTieredInstance(pythonCompiledFunction, javaFunctionalInterfaceType,
+                    new MethodDescriptor(methodWithoutGenerics), methodWithoutGenerics, out);
+        }
+        return out;
+    }
+
+    static <T> T createInstanceOfTranslatedFunction(PythonCompiledFunction pythonCompiledFunction,
+            Class<T> compiledClass) {
         PythonLikeTuple annotationTuple = pythonCompiledFunction.typeAnnotations.entrySet()
                 .stream()
                 .map(entry -> PythonLikeTuple.fromList(List.of(PythonString.valueOf(entry.getKey()),
@@ -156,15 +188,16 @@ public class PythonBytecodeToJavaBytecodeTranslator {
             Class<T> javaFunctionalInterfaceType, List<Class<?>> genericTypeArgumentList) {
         Class<T> compiledClass =
                 translatePythonBytecodeToClass(pythonCompiledFunction, javaFunctionalInterfaceType, genericTypeArgumentList);
-        PythonLikeTuple annotationTuple = pythonCompiledFunction.typeAnnotations.entrySet()
-                .stream()
-                .map(entry -> PythonLikeTuple.fromList(List.of(PythonString.valueOf(entry.getKey()), entry.getValue())))
-                .collect(Collectors.toCollection(PythonLikeTuple::new));
-        return FunctionImplementor.createInstance(pythonCompiledFunction.defaultPositionalArguments,
-                pythonCompiledFunction.defaultKeywordArguments,
-                annotationTuple, pythonCompiledFunction.closure,
-                PythonString.valueOf(compiledClass.getName()),
-                compiledClass, PythonInterpreter.DEFAULT);
+        T out = createInstanceOfTranslatedFunction(pythonCompiledFunction, compiledClass);
+
+        Method methodWithoutGenerics = getFunctionalInterfaceMethod(javaFunctionalInterfaceType);
+        if (PythonTieredFunctionTranslator.isTieredTranslationApplicable(pythonCompiledFunction,
+                javaFunctionalInterfaceType, methodWithoutGenerics)) {
+            return PythonTieredFunctionTranslator.createTieredInstance(pythonCompiledFunction, javaFunctionalInterfaceType,
+                    new MethodDescriptor(javaFunctionalInterfaceType, methodWithoutGenerics, genericTypeArgumentList),
+                    methodWithoutGenerics, out);
+        }
+        return out;
     }
 
     public static <T> T forceTranslatePythonBytecodeToGenerator(PythonCompiledFunction pythonCompiledFunction,
@@ -211,15 +244,7 @@ public class PythonBytecodeToJavaBytecodeTranslator {
             MethodDescriptor methodDescriptor,
             boolean isVirtual) {
         Class<T> compiledClass = translatePythonBytecodeToClass(pythonCompiledFunction, methodDescriptor, isVirtual);
-        PythonLikeTuple annotationTuple = pythonCompiledFunction.typeAnnotations.entrySet()
-                .stream()
-                .map(entry -> PythonLikeTuple.fromList(List.of(PythonString.valueOf(entry.getKey()), entry.getValue())))
-                .collect(Collectors.toCollection(PythonLikeTuple::new));
-        return FunctionImplementor.createInstance(pythonCompiledFunction.defaultPositionalArguments,
-                pythonCompiledFunction.defaultKeywordArguments,
-                annotationTuple, pythonCompiledFunction.closure,
-                PythonString.valueOf(compiledClass.getName()),
-                compiledClass, PythonInterpreter.DEFAULT);
+        return createInstanceOfTranslatedFunction(pythonCompiledFunction, compiledClass);
     }
 
     @SuppressWarnings("unchecked")
@@ -253,11 +278,16 @@ public class PythonBytecodeToJavaBytecodeTranslator {
 
         classWriter.visitEnd();
 
-        writeClassOutput(BuiltinTypes.classNameToBytecode, className, classWriter.toByteArray());
+        writeClassOutput(BuiltinTypes.classNameToBytecode, className, classWriter);
 
         try {
+            long classDefinitionStartTime = TranslationMetricsRegistry.startPhase();
             Class<T> compiledClass = (Class<T>) BuiltinTypes.asmClassLoader.loadClass(className);
+            TranslationMetricsRegistry.endPhase(className, TranslationPhase.CLASS_DEFINITION, classDefinitionStartTime);
+
+            long staticFieldSetupStartTime = TranslationMetricsRegistry.startPhase();
             setStaticFields(compiledClass, pythonCompiledFunction);
+            TranslationMetricsRegistry.endPhase(className, TranslationPhase.STATIC_FIELD_SETUP, staticFieldSetupStartTime);
             return compiledClass;
         } catch (ClassNotFoundException e) {
             throw new IllegalStateException("Impossible State: Unable to load generated class (" +
@@ -317,11 +347,16 @@ public class PythonBytecodeToJavaBytecodeTranslator {
         }
         classWriter.visitEnd();
 
-        writeClassOutput(BuiltinTypes.classNameToBytecode, className, classWriter.toByteArray());
+        writeClassOutput(BuiltinTypes.classNameToBytecode, className, classWriter);
 
         try {
+            long classDefinitionStartTime = TranslationMetricsRegistry.startPhase();
             Class<T> compiledClass = (Class<T>) BuiltinTypes.asmClassLoader.loadClass(className);
+            TranslationMetricsRegistry.endPhase(className, TranslationPhase.CLASS_DEFINITION, classDefinitionStartTime);
+
+            long staticFieldSetupStartTime = TranslationMetricsRegistry.startPhase();
             setStaticFields(compiledClass, pythonCompiledFunction);
+            TranslationMetricsRegistry.endPhase(className, TranslationPhase.STATIC_FIELD_SETUP, staticFieldSetupStartTime);
             return compiledClass;
         } catch (ClassNotFoundException e) {
             throw new IllegalStateException("Impossible State: Unable to load generated class (" +
@@ -380,11 +415,16 @@ public class PythonBytecodeToJavaBytecodeTranslator {
 
         classWriter.visitEnd();
 
-        writeClassOutput(BuiltinTypes.classNameToBytecode, className, classWriter.toByteArray());
+        writeClassOutput(BuiltinTypes.classNameToBytecode, className, classWriter);
 
         try {
+            long classDefinitionStartTime = TranslationMetricsRegistry.startPhase();
             Class<T> compiledClass = (Class<T>) BuiltinTypes.asmClassLoader.loadClass(className);
+            TranslationMetricsRegistry.endPhase(className, TranslationPhase.CLASS_DEFINITION, classDefinitionStartTime);
+
+            long staticFieldSetupStartTime = TranslationMetricsRegistry.startPhase();
             setStaticFields(compiledClass, pythonCompiledFunction);
+            TranslationMetricsRegistry.endPhase(className, TranslationPhase.STATIC_FIELD_SETUP, staticFieldSetupStartTime);
             compiledClass.getField(PYTHON_WRAPPER_CODE_STATIC_FIELD_NAME).set(null, codeReference);
             return compiledClass;
         } catch (ClassNotFoundException | NoSuchFieldException | IllegalAccessException e) {
@@ -469,11 +509,16 @@ public class PythonBytecodeToJavaBytecodeTranslator {
         }
         classWriter.visitEnd();
 
-        writeClassOutput(BuiltinTypes.classNameToBytecode, className, classWriter.toByteArray());
+        writeClassOutput(BuiltinTypes.classNameToBytecode, className, classWriter);
 
         try {
+            long classDefinitionStartTime = TranslationMetricsRegistry.startPhase();
             Class<T> compiledClass = (Class<T>) BuiltinTypes.asmClassLoader.loadClass(className);
+            TranslationMetricsRegistry.endPhase(className, TranslationPhase.CLASS_DEFINITION, classDefinitionStartTime);
+
+            long staticFieldSetupStartTime = TranslationMetricsRegistry.startPhase();
             setStaticFields(compiledClass, pythonCompiledFunction);
+            TranslationMetricsRegistry.endPhase(className, TranslationPhase.STATIC_FIELD_SETUP, staticFieldSetupStartTime);
             return compiledClass;
         } catch (ClassNotFoundException e) {
             throw new IllegalStateException("Impossible State: Unable to load generated class (" +
@@ -1050,8 +1095,12 @@ public class PythonBytecodeToJavaBytecodeTranslator {
 
         List<Opcode> opcodeList = getOpcodeList(pythonCompiledFunction);
 
+        long flowAnalysisStartTime = TranslationMetricsRegistry.startPhase();
         FlowGraph flowGraph = FlowGraph.createFlowGraph(functionMetadata, initialStackMetadata, opcodeList);
         List<StackMetadata> stackMetadataForOpcodeIndex = flowGraph.getStackMetadataForOperations();
+        TranslationMetricsRegistry.endPhase(className, TranslationPhase.FLOW_ANALYSIS, flowAnalysisStartTime);
+
+        long emissionStartTime = TranslationMetricsRegistry.startPhase();
         writeInstructionsForOpcodes(functionMetadata, stackMetadataForOpcodeIndex, opcodeList);
 
         methodVisitor.visitLabel(end);
@@ -1076,6 +1125,7 @@ public class PythonBytecodeToJavaBytecodeTranslator {
         }
 
         methodVisitor.visitEnd();
+        TranslationMetricsRegistry.endPhase(className, TranslationPhase.BYTECODE_EMISSION, emissionStartTime);
     }
 
     public static void writeInstructionsForOpcodes(FunctionMetadata functionMetadata,
@@ -1135,35 +1185,54 @@ public class PythonBytecodeToJavaBytecodeTranslator {
                     });
         }
 
-        for (int i = 0; i < opcodeList.size(); i++) {
-            StackMetadata stackMetadata = stackMetadataForOpcodeIndex.get(i);
-            PythonBytecodeInstruction instruction = pythonCompiledFunction.instructionList.get(i);
+        Set<Integer> unboxingBarrierInstructionSet = new HashSet<>(bytecodeIndexToArgumentorsMap.keySet());
+        unboxingBarrierInstructionSet.addAll(tryBlockStartInstructionSet);
+        for (ExceptionBlock exceptionBlock : pythonCompiledFunction.co_exceptiontable.getEntries()) {
+            unboxingBarrierInstructionSet.add(exceptionBlock.targetInstruction);
+        }
+        functionMetadata.bytecodeCounterToFusedComparisonMap = CompareAndJumpImplementor.findFusedComparisons(
+                functionMetadata, stackMetadataForOpcodeIndex, opcodeList, unboxingBarrierInstructionSet);
+        functionMetadata.bytecodeCounterToUnboxedFloatOperationMap = UnboxedFloatImplementor.findUnboxedFloatOperations(
+                functionMetadata, stackMetadataForOpcodeIndex, opcodeList, unboxingBarrierInstructionSet,
+                functionMetadata.bytecodeCounterToFusedComparisonMap);
+        functionMetadata.fusedIterateAndUnpackBytecodeCounterSet = CollectionImplementor.findFusedIterateAndUnpacks(
+                functionMetadata, stackMetadataForOpcodeIndex, opcodeList, unboxingBarrierInstructionSet);
+
+        TranslationMetricsRegistry.enterFunction(functionMetadata);
+        try {
+            for (int i = 0; i < opcodeList.size(); i++) {
+                StackMetadata stackMetadata = stackMetadataForOpcodeIndex.get(i);
+                PythonBytecodeInstruction instruction = pythonCompiledFunction.instructionList.get(i);
+                TranslationMetricsRegistry.setCurrentInstruction(i, instruction);
+
+                if (exceptionTableTargetLabelMap.containsKey(instruction.offset)) {
+                    Label label = exceptionTableTargetLabelMap.get(instruction.offset);
+                    methodVisitor.visitLabel(label);
+                }
+                exceptionTableTryBlockMap.getOrDefault(instruction.offset, List.of()).forEach(Runnable::run);
 
-            if (exceptionTableTargetLabelMap.containsKey(instruction.offset)) {
-                Label label = exceptionTableTargetLabelMap.get(instruction.offset);
-                methodVisitor.visitLabel(label);
-            }
-            exceptionTableTryBlockMap.getOrDefault(instruction.offset, List.of()).forEach(Runnable::run);
+                if (instruction.isJumpTarget || bytecodeCounterToLabelMap.containsKey(instruction.offset)) {
+                    Label label = bytecodeCounterToLabelMap.computeIfAbsent(instruction.offset, offset -> new Label());
+                    methodVisitor.visitLabel(label);
+                }
 
-            if (instruction.isJumpTarget || bytecodeCounterToLabelMap.containsKey(instruction.offset)) {
-                Label label = bytecodeCounterToLabelMap.computeIfAbsent(instruction.offset, offset -> new Label());
-                methodVisitor.visitLabel(label);
-            }
+                runAfterLabelAndBeforeArgumentors.accept(instruction);
 
-            runAfterLabelAndBeforeArgumentors.accept(instruction);
+                bytecodeIndexToArgumentorsMap.getOrDefault(instruction.offset, List.of()).forEach(Runnable::run);
 
-            bytecodeIndexToArgumentorsMap.getOrDefault(instruction.offset, List.of()).forEach(Runnable::run);
+                if (exceptionTableStartLabelMap.containsKey(instruction.offset)) {
+                    Label label = exceptionTableStartLabelMap.get(instruction.offset);
+                    methodVisitor.visitLabel(label);
+                }
 
-            if (exceptionTableStartLabelMap.containsKey(instruction.offset)) {
-                Label label = exceptionTableStartLabelMap.get(instruction.offset);
-                methodVisitor.visitLabel(label);
-            }
+                if (stackMetadata.isDeadCode()) {
+                    continue;
+                }
 
-            if (stackMetadata.isDeadCode()) {
-                continue;
+                opcodeList.get(i).implement(functionMetadata, stackMetadata);
             }
-
-            opcodeList.get(i).implement(functionMetadata, stackMetadata);
+        } finally {
+            TranslationMetricsRegistry.exitFunction();
         }
     }
 
@@ -37,6 +37,8 @@ import org.optaplanner.jpyinterpreter.opcodes.object.DeleteAttrOpcode;
 import org.optaplanner.jpyinterpreter.opcodes.object.LoadAttrOpcode;
 import org.optaplanner.jpyinterpreter.opcodes.object.StoreAttrOpcode;
 import org.optaplanner.jpyinterpreter.opcodes.variable.LoadFastOpcode;
+import org.optaplanner.jpyinterpreter.profiling.TranslationMetricsRegistry;
+import org.optaplanner.jpyinterpreter.profiling.TranslationPhase;
 import org.optaplanner.jpyinterpreter.types.BuiltinTypes;
 import org.optaplanner.jpyinterpreter.types.CPythonBackedPythonLikeObject;
 import org.optaplanner.jpyinterpreter.types.GeneratedFunctionMethodReference;
@@ -111,6 +113,7 @@ public class PythonClassTranslator {
                 superTypeList);
         PythonLikeType superClassType = superTypeList.get(0);
         Set<String> instanceAttributeSet = new HashSet<>();
+        long flowAnalysisStartTime = TranslationMetricsRegistry.startPhase();
         pythonCompiledClass.instanceFunctionNameToPythonBytecode.values().forEach(instanceMethod -> {
             try {
                 instanceAttributeSet.addAll(getReferencedSelfAttributes(instanceMethod));
@@ -130,6 +133,9 @@ public class PythonClassTranslator {
                         .collect(Collectors.joining("\n")));
             }
         });
+        TranslationMetricsRegistry.endPhase(className, TranslationPhase.FLOW_ANALYSIS, flowAnalysisStartTime);
+
+        long emissionStartTime = TranslationMetricsRegistry.startPhase();
 
         List<JavaInterfaceImplementor> nonObjectInterfaceImplementors = javaInterfaceImplementorSet.stream()
                 .filter(implementor -> !Object.class.equals(implementor.getInterfaceClass()))
@@ -255,9 +261,10 @@ public class PythonClassTranslator {
         javaInterfaceImplementorSet.forEach(implementor -> implementor.implement(classWriter, pythonCompiledClass));
 
         classWriter.visitEnd();
+        TranslationMetricsRegistry.endPhase(className, TranslationPhase.BYTECODE_EMISSION, emissionStartTime);
 
         PythonBytecodeToJavaBytecodeTranslator.writeClassOutput(BuiltinTypes.classNameToBytecode, className,
-                classWriter.toByteArray());
+                classWriter);
 
         pythonLikeType.__setAttribute("__name__", PythonString.valueOf(pythonCompiledClass.className));
         pythonLikeType.__setAttribute("__qualname__", PythonString.valueOf(pythonCompiledClass.qualifiedName));
@@ -273,9 +280,14 @@ public class PythonClassTranslator {
 
         Class<? extends PythonLikeObject> generatedClass;
         try {
+            long classDefinitionStartTime = TranslationMetricsRegistry.startPhase();
             generatedClass = (Class<? extends PythonLikeObject>) BuiltinTypes.asmClassLoader.loadClass(className);
+            TranslationMetricsRegistry.endPhase(className, TranslationPhase.CLASS_DEFINITION, classDefinitionStartTime);
+
+            long staticFieldSetupStartTime = TranslationMetricsRegistry.startPhase();
             generatedClass.getField(TYPE_FIELD_NAME).set(null, pythonLikeType);
             generatedClass.getField(CPYTHON_TYPE_FIELD_NAME).set(null, pythonCompiledClass.binaryType);
+            TranslationMetricsRegistry.endPhase(className, TranslationPhase.STATIC_FIELD_SETUP, staticFieldSetupStartTime);
         } catch (ClassNotFoundException e) {
             throw new IllegalStateException("Impossible State: Unable to load generated class (" +
                     className + ") despite it being just generated.", e);
@@ -547,7 +559,7 @@ public class PythonClassTranslator {
         classWriter.visitEnd();
 
         PythonBytecodeToJavaBytecodeTranslator.writeClassOutput(BuiltinTypes.classNameToBytecode, className,
-                classWriter.toByteArray());
+                classWriter);
 
         try {
             return BuiltinTypes.asmClassLoader.loadClass(className);
@@ -653,7 +665,7 @@ public class PythonClassTranslator {
 
         classWriter.visitEnd();
         PythonBytecodeToJavaBytecodeTranslator.writeClassOutput(BuiltinTypes.classNameToBytecode, constructorClassName,
-                classWriter.toByteArray());
+                classWriter);
 
         try {
             @SuppressWarnings("unchecked")
@@ -1136,7 +1148,7 @@ public class PythonClassTranslator {
                 Type.getMethodDescriptor(returnType, parameterTypes), null, null);
         classWriter.visitEnd();
         PythonBytecodeToJavaBytecodeTranslator.writeClassOutput(BuiltinTypes.classNameToBytecode, className,
-                classWriter.toByteArray());
+                classWriter);
 
         return new InterfaceDeclaration(internalClassName, Type.getMethodDescriptor(returnType, parameterTypes));
     }
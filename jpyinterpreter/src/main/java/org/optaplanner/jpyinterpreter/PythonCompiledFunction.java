@@ -83,6 +83,11 @@ public class PythonCompiledFunction {
      */
     public List<PythonLikeObject> co_constants;
 
+    /**
+     * The file the function was defined in; may be null if unknown
+     */
+    public String co_filename;
+
     /**
      * The exception table; only populated in Python 3.11 and above (in Python 3.10 and below,
      * the table will be empty, since those use explict block instructions)
@@ -142,6 +147,7 @@ public class PythonCompiledFunction {
         out.co_cellvars = new ArrayList<>(co_cellvars);
         out.co_freevars = new ArrayList<>(co_freevars);
         out.co_constants = new ArrayList<>(co_constants);
+        out.co_filename = co_filename;
         out.co_argcount = co_argcount;
         out.co_kwonlyargcount = co_kwonlyargcount;
         out.pythonVersion = pythonVersion;
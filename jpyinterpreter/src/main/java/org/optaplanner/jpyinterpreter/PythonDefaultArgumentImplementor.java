@@ -170,7 +170,7 @@ public class PythonDefaultArgumentImplementor {
 
         classWriter.visitEnd();
         PythonBytecodeToJavaBytecodeTranslator.writeClassOutput(BuiltinTypes.classNameToBytecode, className,
-                classWriter.toByteArray());
+                classWriter);
 
         try {
             Class<?> compiledClass = BuiltinTypes.asmClassLoader.loadClass(className);
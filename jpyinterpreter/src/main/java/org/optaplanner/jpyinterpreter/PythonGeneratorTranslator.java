@@ -34,6 +34,8 @@ import org.optaplanner.jpyinterpreter.opcodes.generator.GeneratorStartOpcode;
 import org.optaplanner.jpyinterpreter.opcodes.generator.ResumeOpcode;
 import org.optaplanner.jpyinterpreter.opcodes.generator.YieldFromOpcode;
 import org.optaplanner.jpyinterpreter.opcodes.generator.YieldValueOpcode;
+import org.optaplanner.jpyinterpreter.profiling.TranslationMetricsRegistry;
+import org.optaplanner.jpyinterpreter.profiling.TranslationPhase;
 import org.optaplanner.jpyinterpreter.types.BuiltinTypes;
 import org.optaplanner.jpyinterpreter.types.PythonCell;
 import org.optaplanner.jpyinterpreter.types.PythonGenerator;
@@ -268,10 +270,15 @@ public class PythonGeneratorTranslator {
         classWriter.visitEnd();
 
         PythonBytecodeToJavaBytecodeTranslator.writeClassOutput(BuiltinTypes.classNameToBytecode, className,
-                classWriter.toByteArray());
+                classWriter);
         try {
+            long classDefinitionStartTime = TranslationMetricsRegistry.startPhase();
             Class<?> out = BuiltinTypes.asmClassLoader.loadClass(className);
+            TranslationMetricsRegistry.endPhase(className, TranslationPhase.CLASS_DEFINITION, classDefinitionStartTime);
+
+            long staticFieldSetupStartTime = TranslationMetricsRegistry.startPhase();
             PythonBytecodeToJavaBytecodeTranslator.setStaticFields(out, pythonCompiledFunction);
+            TranslationMetricsRegistry.endPhase(className, TranslationPhase.STATIC_FIELD_SETUP, staticFieldSetupStartTime);
             return out;
         } catch (ClassNotFoundException e) {
             throw new IllegalStateException("Cannot load class " + className + " despite it being just generated.", e);
@@ -471,8 +478,11 @@ public class PythonGeneratorTranslator {
         StackMetadata initialStackMetadata =
                 getInitialStackMetadata(generatorMethodPart.initialStackMetadata.localVariableHelper,
                         generatorMethodPart.originalMethodDescriptor, false);
+        long flowAnalysisStartTime = TranslationMetricsRegistry.startPhase();
         FlowGraph flowGraph = FlowGraph.createFlowGraph(generatorMethodPart.functionMetadata, initialStackMetadata, opcodeList);
         List<StackMetadata> stackMetadataForOpcodeIndex = flowGraph.getStackMetadataForOperations();
+        TranslationMetricsRegistry.endPhase(generatorMethodPart.functionMetadata.className, TranslationPhase.FLOW_ANALYSIS,
+                flowAnalysisStartTime);
 
         initialStackMetadata.localVariableHelper.resetCallKeywords(methodVisitor);
         if (generatorMethodPart.afterYield != 0) {
@@ -545,8 +555,11 @@ public class PythonGeneratorTranslator {
                 getInitialStackMetadata(generatorMethodPart.initialStackMetadata.localVariableHelper,
                         generatorMethodPart.originalMethodDescriptor, false);
         List<Opcode> opcodeList = getOpcodeList(generatorMethodPart.functionMetadata.pythonCompiledFunction);
+        long flowAnalysisStartTime = TranslationMetricsRegistry.startPhase();
         FlowGraph flowGraph = FlowGraph.createFlowGraph(generatorMethodPart.functionMetadata, initialStackMetadata, opcodeList);
         List<StackMetadata> stackMetadataForOpcodeIndex = flowGraph.getStackMetadataForOperations();
+        TranslationMetricsRegistry.endPhase(generatorMethodPart.functionMetadata.className, TranslationPhase.FLOW_ANALYSIS,
+                flowAnalysisStartTime);
 
         initialStackMetadata.localVariableHelper.resetCallKeywords(methodVisitor);
         if (generatorMethodPart.afterYield != 0) {
@@ -774,7 +787,9 @@ public class PythonGeneratorTranslator {
 
         List<Opcode> opcodeList = getOpcodeList(pythonCompiledFunction);
 
+        long flowAnalysisStartTime = TranslationMetricsRegistry.startPhase();
         FlowGraph flowGraph = FlowGraph.createFlowGraph(functionMetadata, initialStackMetadata, opcodeList);
+        TranslationMetricsRegistry.endPhase(internalClassName, TranslationPhase.FLOW_ANALYSIS, flowAnalysisStartTime);
         flowGraph.visitOperations(YieldValueOpcode.class, (yieldValueOpcode, priorStackMetadata) -> {
             generatorStateToMethod.put(yieldValueOpcode.getBytecodeIndex() + 1,
                     getGeneratorMethodPartForYield(internalClassName, classWriter, pythonCompiledFunction,
@@ -20,6 +20,8 @@ import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
 import org.optaplanner.jpyinterpreter.implementors.KnownCallImplementor;
+import org.optaplanner.jpyinterpreter.profiling.TranslationMetricsRegistry;
+import org.optaplanner.jpyinterpreter.profiling.TranslationPhase;
 import org.optaplanner.jpyinterpreter.types.BoundPythonLikeFunction;
 import org.optaplanner.jpyinterpreter.types.BuiltinTypes;
 import org.optaplanner.jpyinterpreter.types.PythonKnownFunctionType;
@@ -37,6 +39,9 @@ public class PythonOverloadImplementor {
 
     private final static List<DeferredRunner> deferredRunnerList = new ArrayList<>();
 
+    // Dispatchers of types that are not generated; used to prebuild them (see PrebuiltDispatchers)
+    private final static List<LazyOverloadDispatch> builtinDispatchList = new ArrayList<>();
+
     public interface DeferredRunner {
         PythonLikeType run() throws NoSuchMethodException;
     }
@@ -67,10 +72,15 @@ public class PythonOverloadImplementor {
         }
     }
 
+    /**
+     * Sets the attributes of {@code pythonLikeType} for its known methods (and its constructor) to functions that
+     * dispatch to the overload matching the arguments. The dispatcher classes are generated on the first call of
+     * each method, so types with many rarely used methods do not pay for them on startup.
+     */
     public static void createDispatchesFor(PythonLikeType pythonLikeType) {
         for (String methodName : pythonLikeType.getKnownMethodsDefinedByClass()) {
             PythonLikeFunction overloadDispatch =
-                    createDispatchForMethod(pythonLikeType, methodName, pythonLikeType.getMethodType(methodName).orElseThrow(),
+                    createLazyDispatch(pythonLikeType, methodName, pythonLikeType.getMethodType(methodName).orElseThrow(),
                             pythonLikeType.getMethodKind(methodName)
                                     .orElse(PythonClassTranslator.PythonMethodKind.VIRTUAL_METHOD));
             pythonLikeType.__setAttribute(methodName, overloadDispatch);
@@ -78,13 +88,96 @@ public class PythonOverloadImplementor {
 
         if (pythonLikeType.getConstructorType().isPresent()) {
             PythonLikeFunction overloadDispatch =
-                    createDispatchForMethod(pythonLikeType, "__init__", pythonLikeType.getConstructorType().orElseThrow(),
+                    createLazyDispatch(pythonLikeType, "__init__", pythonLikeType.getConstructorType().orElseThrow(),
                             PythonClassTranslator.PythonMethodKind.VIRTUAL_METHOD);
             pythonLikeType.setConstructor(overloadDispatch);
             pythonLikeType.__setAttribute("__init__", overloadDispatch);
         }
     }
 
+    private static LazyOverloadDispatch createLazyDispatch(PythonLikeType pythonLikeType, String methodName,
+            PythonKnownFunctionType knownFunctionType, PythonClassTranslator.PythonMethodKind methodKind) {
+        LazyOverloadDispatch out = new LazyOverloadDispatch(pythonLikeType, methodName, knownFunctionType, methodKind);
+        String javaTypeName = pythonLikeType.getJavaTypeInternalName().replace('/', '.');
+        if (!javaTypeName.startsWith(PythonBytecodeToJavaBytecodeTranslator.GENERATED_PACKAGE_BASE)
+                && !javaTypeName.startsWith(PythonBytecodeToJavaBytecodeTranslator.USER_PACKAGE_BASE)) {
+            synchronized (builtinDispatchList) {
+                builtinDispatchList.add(out);
+            }
+        }
+        return out;
+    }
+
+    static List<LazyOverloadDispatch> getBuiltinDispatchList() {
+        synchronized (builtinDispatchList) {
+            return new ArrayList<>(builtinDispatchList);
+        }
+    }
+
+    /**
+     * A function that generates its dispatcher class on its first call, and delegates to it afterwards.
+     */
+    public static final class LazyOverloadDispatch implements PythonLikeFunction {
+        private final PythonLikeType pythonLikeType;
+        private final String methodName;
+        private final PythonKnownFunctionType knownFunctionType;
+        private final PythonClassTranslator.PythonMethodKind methodKind;
+        private volatile PythonLikeFunction dispatch;
+
+        LazyOverloadDispatch(PythonLikeType pythonLikeType, String methodName,
+                PythonKnownFunctionType knownFunctionType, PythonClassTranslator.PythonMethodKind methodKind) {
+            this.pythonLikeType = pythonLikeType;
+            this.methodName = methodName;
+            this.knownFunctionType = knownFunctionType;
+            this.methodKind = methodKind;
+        }
+
+        String getFingerprint() {
+            return PrebuiltDispatchers.fingerprint(pythonLikeType, knownFunctionType, methodKind);
+        }
+
+        public boolean isGenerated() {
+            return dispatch != null;
+        }
+
+        /**
+         * @return the generated dispatcher, generating it if it was not generated yet
+         */
+        public PythonLikeFunction getDispatch() {
+            PythonLikeFunction out = dispatch;
+            if (out == null) {
+                synchronized (PythonBytecodeToJavaBytecodeTranslator.CLASS_GENERATION_LOCK) {
+                    out = dispatch;
+                    if (out == null) {
+                        out = createDispatchForMethod(pythonLikeType, methodName, knownFunctionType, methodKind);
+                        dispatch = out;
+                    }
+                }
+            }
+            return out;
+        }
+
+        @Override
+        public PythonLikeObject $call(List<PythonLikeObject> positionalArguments,
+                Map<PythonString, PythonLikeObject> namedArguments, PythonLikeObject callerInstance) {
+            return getDispatch().$call(positionalArguments, namedArguments, callerInstance);
+        }
+
+        @Override
+        public PythonLikeType __getType() {
+            switch (methodKind) {
+                case VIRTUAL_METHOD:
+                    return BuiltinTypes.FUNCTION_TYPE;
+                case STATIC_METHOD:
+                    return BuiltinTypes.STATIC_FUNCTION_TYPE;
+                case CLASS_METHOD:
+                    return BuiltinTypes.CLASS_FUNCTION_TYPE;
+                default:
+                    throw new IllegalStateException("Unhandled case: " + methodKind);
+            }
+        }
+    }
+
     private static PythonLikeFunction createDispatchForMethod(PythonLikeType pythonLikeType,
             String methodName,
             PythonKnownFunctionType knownFunctionType,
@@ -98,8 +191,38 @@ public class PythonOverloadImplementor {
             maybeClassName = maybeClassName + "$$" + numberOfInstances;
         }
         String className = maybeClassName;
+
+        byte[] prebuiltBytecode = (numberOfInstances == 1)
+                ? PrebuiltDispatchers.getBytecode(className, pythonLikeType, knownFunctionType, methodKind)
+                : null;
+        if (prebuiltBytecode != null) {
+            PythonBytecodeToJavaBytecodeTranslator.writeClassOutput(BuiltinTypes.classNameToBytecode, className,
+                    prebuiltBytecode);
+        } else {
+            emitDispatchClass(pythonLikeType, knownFunctionType, methodKind, className);
+        }
+
+        try {
+            long classDefinitionStartTime = TranslationMetricsRegistry.startPhase();
+            Class<? extends PythonLikeFunction> generatedClass =
+                    (Class<? extends PythonLikeFunction>) BuiltinTypes.asmClassLoader.loadClass(className);
+            PythonLikeFunction out = generatedClass.getConstructor().newInstance();
+            TranslationMetricsRegistry.endPhase(className, TranslationPhase.CLASS_DEFINITION, classDefinitionStartTime);
+            return out;
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("Impossible State: Unable to load generated class (" +
+                    className + ") despite it being just generated.", e);
+        } catch (InvocationTargetException | InstantiationException | NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException("Impossible State: Unable to invoke constructor for generated class (" +
+                    className + ").", e);
+        }
+    }
+
+    private static void emitDispatchClass(PythonLikeType pythonLikeType, PythonKnownFunctionType knownFunctionType,
+            PythonClassTranslator.PythonMethodKind methodKind, String className) {
         String internalClassName = className.replace('.', '/');
 
+        long emissionStartTime = TranslationMetricsRegistry.startPhase();
         ClassWriter classWriter = new ClassWriter(ClassWriter.COMPUTE_MAXS | ClassWriter.COMPUTE_FRAMES);
 
         classWriter.visit(Opcodes.V11, Modifier.PUBLIC, internalClassName, null,
@@ -124,20 +247,10 @@ public class PythonOverloadImplementor {
         createGetTypeFunction(methodKind, classWriter);
 
         classWriter.visitEnd();
-        PythonBytecodeToJavaBytecodeTranslator.writeClassOutput(BuiltinTypes.classNameToBytecode, className,
-                classWriter.toByteArray());
+        TranslationMetricsRegistry.endPhase(className, TranslationPhase.BYTECODE_EMISSION, emissionStartTime);
 
-        try {
-            Class<? extends PythonLikeFunction> generatedClass =
-                    (Class<? extends PythonLikeFunction>) BuiltinTypes.asmClassLoader.loadClass(className);
-            return generatedClass.getConstructor().newInstance();
-        } catch (ClassNotFoundException e) {
-            throw new IllegalStateException("Impossible State: Unable to load generated class (" +
-                    className + ") despite it being just generated.", e);
-        } catch (InvocationTargetException | InstantiationException | NoSuchMethodException | IllegalAccessException e) {
-            throw new IllegalStateException("Impossible State: Unable to invoke constructor for generated class (" +
-                    className + ").", e);
-        }
+        PythonBytecodeToJavaBytecodeTranslator.writeClassOutput(BuiltinTypes.classNameToBytecode, className,
+                classWriter);
     }
 
     private static void createGetTypeFunction(PythonClassTranslator.PythonMethodKind kind, ClassWriter classWriter) {
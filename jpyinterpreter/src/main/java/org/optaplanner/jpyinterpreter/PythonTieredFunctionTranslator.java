@@ -0,0 +1,308 @@
+package org.optaplanner.jpyinterpreter;
+
+import static org.optaplanner.jpyinterpreter.PythonBytecodeToJavaBytecodeTranslator.USER_PACKAGE_BASE;
+import static org.optaplanner.jpyinterpreter.PythonBytecodeToJavaBytecodeTranslator.classNameToSharedInstanceCount;
+
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.Map;
+
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.optaplanner.jpyinterpreter.implementors.JavaPythonTypeConversionImplementor;
+import org.optaplanner.jpyinterpreter.types.BuiltinTypes;
+import org.optaplanner.jpyinterpreter.types.PythonLikeFunction;
+import org.optaplanner.jpyinterpreter.util.JavaPythonClassWriter;
+
+/**
+ * Creates the dispatchers used for tiered translation (see {@link InterpreterStartupOptions#tieredTranslation}).
+ * <p>
+ * The tiered dispatcher is what callers get; it looks like this:
+ *
+ * <pre>
+ * R apply(A0 a0, A1 a1) {
+ *     if ($state.isProfiling()) {
+ *         $state.recordArgument(0, a0);
+ *         $state.recordArgument(1, a1);
+ *         $state.recordCall();
+ *     }
+ *     return ((Interface) $state.current).apply(a0, a1);
+ * }
+ * </pre>
+ *
+ * The tiered dispatcher also implements {@link PythonLikeFunction}, binding the arguments of
+ * {@link PythonLikeFunction#$call} like the generic translation does
+ * (see {@link TieredFunctionState#convertCallArguments}) and converting them to the parameter types of the functional interface method.
+ * <p>
+ * The guarded dispatcher replaces {@code $state.current} once the function is specialized; it looks like this:
+ *
+ * <pre>
+ * R apply(A0 a0, A1 a1) {
+ *     if (a0 instanceof Observed0 &amp;&amp; a1 instanceof Observed1) {
+ *         return ((Interface) $specialized).apply(a0, a1);
+ *     }
+ *     $state.recordGuardFailure();
+ *     return ((Interface) $state.generic).apply(a0, a1);
+ * }
+ * </pre>
+ */
+public class PythonTieredFunctionTranslator {
+    public static final String STATE_FIELD_NAME = "$state";
+    public static final String SPECIALIZED_FIELD_NAME = "$specialized";
+
+    private static final String STATE_INTERNAL_NAME = Type.getInternalName(TieredFunctionState.class);
+    private static final String STATE_DESCRIPTOR = Type.getDescriptor(TieredFunctionState.class);
+
+    /**
+     * Returns true if calls to a translation of {@code pythonCompiledFunction} to {@code javaFunctionalInterfaceType}
+     * can go through a tiered dispatcher: tiered translation is enabled, the function is not a generator, and
+     * the interface is neither {@link PythonLikeFunction} nor has primitive parameters.
+     */
+    public static boolean isTieredTranslationApplicable(PythonCompiledFunction pythonCompiledFunction,
+            Class<?> javaFunctionalInterfaceType, Method methodWithoutGenerics) {
+        if (!InterpreterStartupOptions.tieredTranslation
+                || javaFunctionalInterfaceType == PythonLikeFunction.class
+                || !Modifier.isPublic(javaFunctionalInterfaceType.getModifiers())
+                || PythonBytecodeToJavaBytecodeTranslator
+                        .getFunctionType(pythonCompiledFunction) != PythonFunctionType.FUNCTION) {
+            return false;
+        }
+        for (Class<?> parameterType : methodWithoutGenerics.getParameterTypes()) {
+            if (parameterType.isPrimitive()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Wrap {@code genericInstance} in a tiered dispatcher that profiles its calls and specializes it once it is hot.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T createTieredInstance(PythonCompiledFunction pythonCompiledFunction,
+            Class<T> javaFunctionalInterfaceType, MethodDescriptor methodDescriptor, Method methodWithoutGenerics,
+            T genericInstance) {
+        TieredFunctionState state = new TieredFunctionState(pythonCompiledFunction, methodDescriptor,
+                methodWithoutGenerics, genericInstance, InterpreterStartupOptions.tieredTranslationCallThreshold);
+        String className = getClassName(pythonCompiledFunction.getGeneratedClassBaseName() + "$$Tiered");
+        Class<?> dispatcherClass = createDispatcherClass(className, javaFunctionalInterfaceType, methodWithoutGenerics,
+                null);
+        return (T) newInstance(dispatcherClass, state, null);
+    }
+
+    static Object createGuardedInstance(TieredFunctionState state, Method methodWithoutGenerics,
+            Class<?>[] guardTypes, Object specializedInstance) {
+        String className = getClassName(specializedInstance.getClass().getSimpleName() + "$$Guarded");
+        Class<?> dispatcherClass = createDispatcherClass(className, methodWithoutGenerics.getDeclaringClass(),
+                methodWithoutGenerics, guardTypes);
+        return newInstance(dispatcherClass, state, specializedInstance);
+    }
+
+    private static String getClassName(String baseName) {
+        String maybeClassName = USER_PACKAGE_BASE + baseName;
+        int numberOfInstances = classNameToSharedInstanceCount.merge(maybeClassName, 1, Integer::sum);
+        if (numberOfInstances > 1) {
+            maybeClassName = maybeClassName + "$$" + numberOfInstances;
+        }
+        return maybeClassName;
+    }
+
+    private static Object newInstance(Class<?> dispatcherClass, TieredFunctionState state, Object specializedInstance) {
+        try {
+            Object out = dispatcherClass.getConstructor(TieredFunctionState.class).newInstance(state);
+            if (specializedInstance != null) {
+                dispatcherClass.getField(SPECIALIZED_FIELD_NAME).set(out, specializedInstance);
+            }
+            return out;
+        } catch (NoSuchMethodException | NoSuchFieldException | InstantiationException | IllegalAccessException
+                | InvocationTargetException e) {
+            throw new IllegalStateException("Impossible State: Unable to create instance of generated class (" +
+                    dispatcherClass.getName() + ").", e);
+        }
+    }
+
+    /**
+     * Creates a tiered dispatcher if {@code guardTypes} is null, and a guarded dispatcher otherwise.
+     */
+    private static Class<?> createDispatcherClass(String className, Class<?> javaFunctionalInterfaceType,
+            Method methodWithoutGenerics, Class<?>[] guardTypes) {
+        String internalClassName = className.replace('.', '/');
+        String interfaceInternalName = Type.getInternalName(methodWithoutGenerics.getDeclaringClass());
+        String methodDescriptor = Type.getMethodDescriptor(methodWithoutGenerics);
+
+        ClassWriter classWriter = new JavaPythonClassWriter(ClassWriter.COMPUTE_MAXS | ClassWriter.COMPUTE_FRAMES);
+        String[] interfaces = (guardTypes == null)
+                ? new String[] { Type.getInternalName(javaFunctionalInterfaceType),
+                        Type.getInternalName(PythonLikeFunction.class) }
+                : new String[] { Type.getInternalName(javaFunctionalInterfaceType) };
+        classWriter.visit(Opcodes.V11, Modifier.PUBLIC | Opcodes.ACC_FINAL, internalClassName, null,
+                Type.getInternalName(Object.class), interfaces);
+
+        classWriter.visitField(Modifier.PUBLIC | Modifier.FINAL, STATE_FIELD_NAME, STATE_DESCRIPTOR, null, null);
+        if (guardTypes != null) {
+            classWriter.visitField(Modifier.PUBLIC, SPECIALIZED_FIELD_NAME, Type.getDescriptor(Object.class), null, null);
+        }
+
+        MethodVisitor methodVisitor = classWriter.visitMethod(Modifier.PUBLIC, "<init>",
+                Type.getMethodDescriptor(Type.VOID_TYPE, Type.getType(TieredFunctionState.class)), null, null);
+        methodVisitor.visitCode();
+        methodVisitor.visitVarInsn(Opcodes.ALOAD, 0);
+        methodVisitor.visitMethodInsn(Opcodes.INVOKESPECIAL, Type.getInternalName(Object.class), "<init>",
+                Type.getMethodDescriptor(Type.VOID_TYPE), false);
+        methodVisitor.visitVarInsn(Opcodes.ALOAD, 0);
+        methodVisitor.visitVarInsn(Opcodes.ALOAD, 1);
+        methodVisitor.visitFieldInsn(Opcodes.PUTFIELD, internalClassName, STATE_FIELD_NAME, STATE_DESCRIPTOR);
+        methodVisitor.visitInsn(Opcodes.RETURN);
+        methodVisitor.visitMaxs(-1, -1);
+        methodVisitor.visitEnd();
+
+        methodVisitor = classWriter.visitMethod(Modifier.PUBLIC, methodWithoutGenerics.getName(), methodDescriptor,
+                null, null);
+        methodVisitor.visitCode();
+
+        Class<?>[] parameterTypes = methodWithoutGenerics.getParameterTypes();
+        if (guardTypes == null) {
+            Label delegate = new Label();
+            loadState(methodVisitor, internalClassName);
+            methodVisitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, STATE_INTERNAL_NAME, "isProfiling",
+                    Type.getMethodDescriptor(Type.BOOLEAN_TYPE), false);
+            methodVisitor.visitJumpInsn(Opcodes.IFEQ, delegate);
+            for (int i = 0; i < parameterTypes.length; i++) {
+                loadState(methodVisitor, internalClassName);
+                methodVisitor.visitLdcInsn(i);
+                methodVisitor.visitVarInsn(Opcodes.ALOAD, i + 1);
+                methodVisitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, STATE_INTERNAL_NAME, "recordArgument",
+                        Type.getMethodDescriptor(Type.VOID_TYPE, Type.INT_TYPE, Type.getType(Object.class)), false);
+            }
+            loadState(methodVisitor, internalClassName);
+            methodVisitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, STATE_INTERNAL_NAME, "recordCall",
+                    Type.getMethodDescriptor(Type.VOID_TYPE), false);
+            methodVisitor.visitLabel(delegate);
+
+            loadState(methodVisitor, internalClassName);
+            methodVisitor.visitFieldInsn(Opcodes.GETFIELD, STATE_INTERNAL_NAME, "current",
+                    Type.getDescriptor(Object.class));
+            invokeDelegate(methodVisitor, interfaceInternalName, methodWithoutGenerics);
+        } else {
+            Label guardFailed = new Label();
+            for (int i = 0; i < parameterTypes.length; i++) {
+                if (guardTypes[i] != null) {
+                    methodVisitor.visitVarInsn(Opcodes.ALOAD, i + 1);
+                    methodVisitor.visitTypeInsn(Opcodes.INSTANCEOF, Type.getInternalName(guardTypes[i]));
+                    methodVisitor.visitJumpInsn(Opcodes.IFEQ, guardFailed);
+                }
+            }
+            methodVisitor.visitVarInsn(Opcodes.ALOAD, 0);
+            methodVisitor.visitFieldInsn(Opcodes.GETFIELD, internalClassName, SPECIALIZED_FIELD_NAME,
+                    Type.getDescriptor(Object.class));
+            invokeDelegate(methodVisitor, interfaceInternalName, methodWithoutGenerics);
+
+            methodVisitor.visitLabel(guardFailed);
+            loadState(methodVisitor, internalClassName);
+            methodVisitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, STATE_INTERNAL_NAME, "recordGuardFailure",
+                    Type.getMethodDescriptor(Type.VOID_TYPE), false);
+            loadState(methodVisitor, internalClassName);
+            methodVisitor.visitFieldInsn(Opcodes.GETFIELD, STATE_INTERNAL_NAME, "generic",
+                    Type.getDescriptor(Object.class));
+            invokeDelegate(methodVisitor, interfaceInternalName, methodWithoutGenerics);
+        }
+
+        methodVisitor.visitMaxs(-1, -1);
+        methodVisitor.visitEnd();
+
+        if (guardTypes == null) {
+            createCallMethod(classWriter, internalClassName, methodWithoutGenerics);
+        }
+        classWriter.visitEnd();
+
+        PythonBytecodeToJavaBytecodeTranslator.writeClassOutput(BuiltinTypes.classNameToBytecode, className,
+                classWriter);
+        try {
+            return BuiltinTypes.asmClassLoader.loadClass(className);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("Impossible State: Unable to load generated class (" +
+                    className + ") despite it being just generated.", e);
+        }
+    }
+
+    /**
+     * Creates {@link PythonLikeFunction#$call}, so the tiered dispatcher can be called from Python code:
+     *
+     * <pre>
+     * PythonLikeObject $call(List positionalArguments, Map namedArguments, PythonLikeObject callerInstance) {
+     *     Object[] arguments = $state.convertCallArguments(positionalArguments, namedArguments);
+     *     return wrapJavaObject(apply((A0) arguments[0], (A1) arguments[1]));
+     * }
+     * </pre>
+     */
+    private static void createCallMethod(ClassWriter classWriter, String internalClassName,
+            Method methodWithoutGenerics) {
+        MethodVisitor methodVisitor = classWriter.visitMethod(Modifier.PUBLIC, "$call",
+                Type.getMethodDescriptor(Type.getType(PythonLikeObject.class), Type.getType(List.class),
+                        Type.getType(Map.class), Type.getType(PythonLikeObject.class)),
+                null, null);
+        methodVisitor.visitCode();
+
+        loadState(methodVisitor, internalClassName);
+        methodVisitor.visitVarInsn(Opcodes.ALOAD, 1);
+        methodVisitor.visitVarInsn(Opcodes.ALOAD, 2);
+        methodVisitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, STATE_INTERNAL_NAME, "convertCallArguments",
+                Type.getMethodDescriptor(Type.getType(Object[].class), Type.getType(List.class), Type.getType(Map.class)),
+                false);
+        methodVisitor.visitVarInsn(Opcodes.ASTORE, 4);
+
+        methodVisitor.visitVarInsn(Opcodes.ALOAD, 0);
+        Class<?>[] parameterTypes = methodWithoutGenerics.getParameterTypes();
+        for (int i = 0; i < parameterTypes.length; i++) {
+            methodVisitor.visitVarInsn(Opcodes.ALOAD, 4);
+            methodVisitor.visitLdcInsn(i);
+            methodVisitor.visitInsn(Opcodes.AALOAD);
+            methodVisitor.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(parameterTypes[i]));
+        }
+        methodVisitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, internalClassName, methodWithoutGenerics.getName(),
+                Type.getMethodDescriptor(methodWithoutGenerics), false);
+
+        Class<?> returnType = methodWithoutGenerics.getReturnType();
+        if (returnType == void.class) {
+            methodVisitor.visitInsn(Opcodes.ACONST_NULL);
+        } else if (returnType.isPrimitive()) {
+            Class<?> boxedType = MethodType.methodType(returnType).wrap().returnType();
+            methodVisitor.visitMethodInsn(Opcodes.INVOKESTATIC, Type.getInternalName(boxedType), "valueOf",
+                    Type.getMethodDescriptor(Type.getType(boxedType), Type.getType(returnType)), false);
+        }
+        methodVisitor.visitMethodInsn(Opcodes.INVOKESTATIC, Type.getInternalName(JavaPythonTypeConversionImplementor.class),
+                "wrapJavaObject", Type.getMethodDescriptor(Type.getType(PythonLikeObject.class),
+                        Type.getType(Object.class)),
+                false);
+        methodVisitor.visitInsn(Opcodes.ARETURN);
+
+        methodVisitor.visitMaxs(-1, -1);
+        methodVisitor.visitEnd();
+    }
+
+    private static void loadState(MethodVisitor methodVisitor, String internalClassName) {
+        methodVisitor.visitVarInsn(Opcodes.ALOAD, 0);
+        methodVisitor.visitFieldInsn(Opcodes.GETFIELD, internalClassName, STATE_FIELD_NAME, STATE_DESCRIPTOR);
+    }
+
+    /**
+     * Expects the delegate on the top of the stack; calls the functional interface method on it with this method's
+     * arguments and returns the result.
+     */
+    private static void invokeDelegate(MethodVisitor methodVisitor, String interfaceInternalName,
+            Method methodWithoutGenerics) {
+        methodVisitor.visitTypeInsn(Opcodes.CHECKCAST, interfaceInternalName);
+        for (int i = 0; i < methodWithoutGenerics.getParameterCount(); i++) {
+            methodVisitor.visitVarInsn(Opcodes.ALOAD, i + 1);
+        }
+        methodVisitor.visitMethodInsn(Opcodes.INVOKEINTERFACE, interfaceInternalName, methodWithoutGenerics.getName(),
+                Type.getMethodDescriptor(methodWithoutGenerics), true);
+        methodVisitor.visitInsn(Type.getType(methodWithoutGenerics.getReturnType()).getOpcode(Opcodes.IRETURN));
+    }
+}
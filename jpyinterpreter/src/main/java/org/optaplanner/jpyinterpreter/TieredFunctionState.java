@@ -0,0 +1,236 @@
+package org.optaplanner.jpyinterpreter;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.objectweb.asm.Type;
+import org.optaplanner.jpyinterpreter.implementors.JavaPythonTypeConversionImplementor;
+import org.optaplanner.jpyinterpreter.types.BuiltinTypes;
+import org.optaplanner.jpyinterpreter.types.PythonString;
+import org.optaplanner.jpyinterpreter.util.arguments.ArgumentSpec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runtime state shared by the dispatchers generated by {@link PythonTieredFunctionTranslator}.
+ * <p>
+ * While profiling, the tiered dispatcher records the Java class of every reference argument and counts calls.
+ * Once the call count reaches {@link InterpreterStartupOptions#tieredTranslationCallThreshold}, the function
+ * is translated again with each monomorphic parameter typed as its observed class, and {@link #current} is
+ * replaced by a guarded dispatcher that calls the specialized translation when the arguments still have the
+ * observed classes and {@link #generic} otherwise. If the guards fail too often, the function is deoptimized:
+ * {@link #current} goes back to {@link #generic} for good.
+ */
+public final class TieredFunctionState {
+    private static final Logger LOGGER = LoggerFactory.getLogger(TieredFunctionState.class);
+
+    /**
+     * The number of guard failures after which a specialized function is permanently replaced by its generic
+     * translation.
+     */
+    public static final int GUARD_FAILURE_THRESHOLD = 100;
+
+    // Marks a parameter that was called with more than one class (or with null)
+    private static final Class<?> POLYMORPHIC = Object.class;
+
+    /**
+     * The instance of the generic translation; read by generated code
+     */
+    public final Object generic;
+
+    /**
+     * The instance calls are currently delegated to; read by generated code
+     */
+    public volatile Object current;
+
+    private final PythonCompiledFunction pythonCompiledFunction;
+    private final MethodDescriptor methodDescriptor;
+    private final Method methodWithoutGenerics;
+    private final ArgumentSpec<?> argumentSpec;
+    private final int callThreshold;
+
+    private final AtomicReferenceArray<Class<?>> observedParameterTypes;
+    private final AtomicInteger callCount = new AtomicInteger();
+    private final AtomicInteger guardFailureCount = new AtomicInteger();
+    private volatile boolean profiling = true;
+    private volatile Class<?>[] specializedParameterTypes = null;
+
+    public TieredFunctionState(PythonCompiledFunction pythonCompiledFunction, MethodDescriptor methodDescriptor,
+            Method methodWithoutGenerics, Object generic, int callThreshold) {
+        this.pythonCompiledFunction = pythonCompiledFunction;
+        this.methodDescriptor = methodDescriptor;
+        this.methodWithoutGenerics = methodWithoutGenerics;
+        this.generic = generic;
+        this.current = generic;
+        this.argumentSpec = getArgumentSpec(generic);
+        this.callThreshold = callThreshold;
+        this.observedParameterTypes = new AtomicReferenceArray<>(methodWithoutGenerics.getParameterCount());
+    }
+
+    public boolean isProfiling() {
+        return profiling;
+    }
+
+    public boolean isSpecialized() {
+        return current != generic;
+    }
+
+    /**
+     * @return the parameter types the current specialization assumes, with null for parameters that keep
+     *         their generic type; null if the function is not specialized
+     */
+    public Class<?>[] getSpecializedParameterTypes() {
+        Class<?>[] out = specializedParameterTypes;
+        return (out != null && isSpecialized()) ? out.clone() : null;
+    }
+
+    public int getGuardFailureCount() {
+        return guardFailureCount.get();
+    }
+
+    /**
+     * Called by the tiered dispatcher while profiling for every reference parameter.
+     */
+    public void recordArgument(int parameterIndex, Object argument) {
+        Class<?> observed = observedParameterTypes.get(parameterIndex);
+        if (observed == POLYMORPHIC) {
+            return;
+        }
+        Class<?> actual = (argument != null) ? argument.getClass() : POLYMORPHIC;
+        if (observed == null) {
+            if (observedParameterTypes.compareAndSet(parameterIndex, null, actual)) {
+                return;
+            }
+            observed = observedParameterTypes.get(parameterIndex);
+        }
+        if (observed != actual) {
+            observedParameterTypes.set(parameterIndex, POLYMORPHIC);
+        }
+    }
+
+    /**
+     * Called by the tiered dispatcher while profiling after the arguments are recorded.
+     */
+    public void recordCall() {
+        if (callCount.incrementAndGet() >= callThreshold) {
+            specialize();
+        }
+    }
+
+    /**
+     * Called by the guarded dispatcher when an argument does not have its observed class.
+     */
+    public void recordGuardFailure() {
+        if (guardFailureCount.incrementAndGet() == GUARD_FAILURE_THRESHOLD) {
+            LOGGER.debug("Deoptimizing {} after {} guard failures", pythonCompiledFunction.qualifiedName,
+                    GUARD_FAILURE_THRESHOLD);
+            current = generic;
+        }
+    }
+
+    /**
+     * Called by {@link org.optaplanner.jpyinterpreter.types.PythonLikeFunction#$call} on the tiered dispatcher;
+     * binds the arguments with the {@link ArgumentSpec} of {@link #generic} (so keyword and default arguments
+     * work as they do for the generic translation) and converts them to the parameter types of the functional
+     * interface method.
+     */
+    public Object[] convertCallArguments(List<PythonLikeObject> positionalArguments,
+            Map<PythonString, PythonLikeObject> namedArguments) {
+        List<PythonLikeObject> boundArguments = argumentSpec.extractArgumentList(positionalArguments,
+                (namedArguments != null) ? namedArguments : Map.of());
+        Class<?>[] parameterTypes = methodWithoutGenerics.getParameterTypes();
+        Object[] out = new Object[parameterTypes.length];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            out[i] = JavaPythonTypeConversionImplementor.convertPythonObjectToJavaType(parameterTypes[i],
+                    boundArguments.get(i));
+        }
+        return out;
+    }
+
+    private static ArgumentSpec<?> getArgumentSpec(Object generic) {
+        try {
+            return (ArgumentSpec<?>) generic.getClass()
+                    .getField(PythonBytecodeToJavaBytecodeTranslator.ARGUMENT_SPEC_INSTANCE_FIELD_NAME)
+                    .get(generic);
+        } catch (NoSuchFieldException | IllegalAccessException e) {
+            throw new IllegalStateException("Impossible State: generic translation (" + generic.getClass().getName()
+                    + ") does not have an argument spec.", e);
+        }
+    }
+
+    private void specialize() {
+        synchronized (this) {
+            if (!profiling) {
+                return;
+            }
+            profiling = false;
+        }
+
+        Type[] genericParameterTypes = methodDescriptor.getParameterTypes();
+        Type[] specializedAsmTypes = new Type[genericParameterTypes.length];
+        Class<?>[] guardTypes = new Class<?>[genericParameterTypes.length];
+        boolean isAnyParameterSpecialized = false;
+
+        for (int i = 0; i < genericParameterTypes.length; i++) {
+            specializedAsmTypes[i] = genericParameterTypes[i];
+            Class<?> observed = observedParameterTypes.get(i);
+            if (isSpecializable(genericParameterTypes[i], observed)) {
+                specializedAsmTypes[i] = Type.getType(observed);
+                guardTypes[i] = observed;
+                isAnyParameterSpecialized = true;
+            }
+        }
+
+        if (!isAnyParameterSpecialized) {
+            return;
+        }
+
+        MethodDescriptor specializedMethodDescriptor = new MethodDescriptor(
+                methodDescriptor.getDeclaringClassInternalName(),
+                methodDescriptor.getMethodType(),
+                methodDescriptor.getMethodName(),
+                Type.getMethodDescriptor(methodDescriptor.getReturnType(), specializedAsmTypes));
+
+        try {
+            Object guarded;
+            synchronized (PythonBytecodeToJavaBytecodeTranslator.CLASS_GENERATION_LOCK) {
+                Class<?> specializedClass = PythonBytecodeToJavaBytecodeTranslator.translatePythonBytecodeToClass(
+                        pythonCompiledFunction.copy(), specializedMethodDescriptor, methodWithoutGenerics, false);
+                Object specialized = PythonBytecodeToJavaBytecodeTranslator
+                        .createInstanceOfTranslatedFunction(pythonCompiledFunction, specializedClass);
+                guarded = PythonTieredFunctionTranslator.createGuardedInstance(this, methodWithoutGenerics,
+                        guardTypes, specialized);
+            }
+            specializedParameterTypes = guardTypes;
+            current = guarded;
+            LOGGER.debug("Specialized {} for parameter types {}", pythonCompiledFunction.qualifiedName,
+                    Arrays.toString(guardTypes));
+        } catch (RuntimeException e) {
+            // The generic translation is always correct, so a failed specialization only costs performance
+            LOGGER.debug("Unable to specialize {}; keeping its generic translation", pythonCompiledFunction.qualifiedName,
+                    e);
+        }
+    }
+
+    private static boolean isSpecializable(Type genericParameterType, Class<?> observed) {
+        if (observed == null || observed == POLYMORPHIC || genericParameterType.getSort() != Type.OBJECT) {
+            return false;
+        }
+        if (!PythonLikeObject.class.isAssignableFrom(observed) || !Modifier.isPublic(observed.getModifiers())) {
+            return false;
+        }
+        try {
+            Class<?> genericParameterClass =
+                    Class.forName(genericParameterType.getClassName(), false, BuiltinTypes.asmClassLoader);
+            return genericParameterClass != observed && genericParameterClass.isAssignableFrom(observed)
+                    && Class.forName(observed.getName(), false, BuiltinTypes.asmClassLoader) == observed;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package org.optaplanner.jpyinterpreter.implementors;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -19,9 +20,14 @@ import org.optaplanner.jpyinterpreter.PythonLikeObject;
 import org.optaplanner.jpyinterpreter.PythonTernaryOperators;
 import org.optaplanner.jpyinterpreter.PythonUnaryOperator;
 import org.optaplanner.jpyinterpreter.StackMetadata;
+import org.optaplanner.jpyinterpreter.builtins.UnaryDunderBuiltin;
+import org.optaplanner.jpyinterpreter.opcodes.Opcode;
+import org.optaplanner.jpyinterpreter.opcodes.collection.UnpackSequenceOpcode;
+import org.optaplanner.jpyinterpreter.opcodes.controlflow.ForIterOpcode;
 import org.optaplanner.jpyinterpreter.types.PythonSlice;
 import org.optaplanner.jpyinterpreter.types.collections.PythonLikeList;
 import org.optaplanner.jpyinterpreter.types.collections.PythonLikeTuple;
+import org.optaplanner.jpyinterpreter.types.collections.view.DictItemIterator;
 import org.optaplanner.jpyinterpreter.types.errors.StopIteration;
 import org.optaplanner.jpyinterpreter.types.numeric.PythonInteger;
 
@@ -76,125 +82,183 @@ public class CollectionImplementor {
     }
 
     /**
-     * TOS is an iterable; push {@code toUnpack} elements from it to the stack
-     * (with first item of the iterable as the new TOS). Raise an exception if it does not
-     * have exactly {@code toUnpack} elements.
+     * Find the {@link ForIterOpcode}s in {@code opcodeList} whose items are only unpacked into two variables by the
+     * {@link UnpackSequenceOpcode} that follows them (i.e. {@code for key, value in d.items()}).
+     *
+     * @param barrierInstructionSet Instructions where the stack must only contain Python objects (such as the
+     *        start of try blocks and exception handlers); an unpack in it is never fused.
+     * @return The bytecode indices of both the FOR_ITER and the UNPACK_SEQUENCE of each fused pair
      */
-    public static void unpackSequence(MethodVisitor methodVisitor, int toUnpack, LocalVariableHelper localVariableHelper) {
-        // Initialize size and unpacked elements local variables
-        int sizeLocal = localVariableHelper.newLocal();
-
-        methodVisitor.visitInsn(Opcodes.ICONST_0);
-        localVariableHelper.writeTemp(methodVisitor, Type.INT_TYPE, sizeLocal);
-
-        int[] unpackedLocals = new int[toUnpack];
-
-        for (int i = 0; i < toUnpack; i++) {
-            unpackedLocals[i] = localVariableHelper.newLocal();
-            methodVisitor.visitInsn(Opcodes.ACONST_NULL);
-            localVariableHelper.writeTemp(methodVisitor, Type.getType(Object.class), unpackedLocals[i]);
+    public static Set<Integer> findFusedIterateAndUnpacks(FunctionMetadata functionMetadata,
+            List<StackMetadata> stackMetadataForOpcodeIndex, List<Opcode> opcodeList,
+            Set<Integer> barrierInstructionSet) {
+        List<PythonBytecodeInstruction> instructionList = functionMetadata.pythonCompiledFunction.instructionList;
+        Set<Integer> out = new HashSet<>();
+
+        for (int i = 0; i < opcodeList.size() - 1; i++) {
+            if (!(opcodeList.get(i) instanceof ForIterOpcode) || !(opcodeList.get(i + 1) instanceof UnpackSequenceOpcode)) {
+                continue;
+            }
+            PythonBytecodeInstruction unpackInstruction = instructionList.get(i + 1);
+            if (unpackInstruction.arg != 2 || unpackInstruction.isJumpTarget
+                    || barrierInstructionSet.contains(unpackInstruction.offset)
+                    || stackMetadataForOpcodeIndex.get(i).isDeadCode()
+                    || stackMetadataForOpcodeIndex.get(i + 1).isDeadCode()) {
+                continue;
+            }
+            out.add(instructionList.get(i).offset);
+            out.add(unpackInstruction.offset);
         }
+        return out;
+    }
 
-        // Get the iterator for the iterable
-        DunderOperatorImplementor.unaryOperator(methodVisitor, PythonUnaryOperator.ITERATOR);
-
-        // Surround the unpacking code in a try...finally block
+    /**
+     * Like {@link #iterateIterator}, but also unpacks TOS' into its two elements, like the UNPACK_SEQUENCE
+     * that follows the FOR_ITER would. If TOS is a {@link DictItemIterator}, the key and value are read from the
+     * entry of the dict, so no tuple is created for the item.
+     */
+    public static void iterateIteratorAndUnpackPair(MethodVisitor methodVisitor, int jumpTarget,
+            StackMetadata stackMetadata,
+            FunctionMetadata functionMetadata) {
         Label tryStartLabel = new Label();
         Label tryEndLabel = new Label();
-        Label finallyStartLabel = new Label();
+        Label catchStartLabel = new Label();
+        Label nextItemLabel = new Label();
+        Label unpackEntryLabel = new Label();
+        Label unpackItemLabel = new Label();
+        Label unpackEndLabel = new Label();
+        Label loopEndLabel =
+                functionMetadata.bytecodeCounterToLabelMap.computeIfAbsent(jumpTarget,
+                        key -> new Label());
 
-        methodVisitor.visitTryCatchBlock(tryStartLabel, tryEndLabel, finallyStartLabel, null);
+        int[] storedStack = StackManipulationImplementor.storeStack(methodVisitor, stackMetadata);
 
-        methodVisitor.visitLabel(tryStartLabel);
+        methodVisitor.visitTryCatchBlock(tryStartLabel, tryEndLabel, catchStartLabel,
+                Type.getInternalName(StopIteration.class));
 
-        for (int i = 0; i < toUnpack + 1; i++) {
-            // Call the next method of the iterator
-            methodVisitor.visitInsn(Opcodes.DUP);
-            DunderOperatorImplementor.unaryOperator(methodVisitor, PythonUnaryOperator.NEXT);
-            if (i < toUnpack) { // Store the unpacked value in a local
-                localVariableHelper.writeTemp(methodVisitor, Type.getType(Object.class), unpackedLocals[i]);
-            } else { // Try to get more elements to see if the iterable contain exactly enough
-                methodVisitor.visitInsn(Opcodes.POP);
-            }
-            // increment size
-            localVariableHelper.incrementTemp(methodVisitor, sizeLocal);
-        }
-        methodVisitor.visitLabel(tryEndLabel);
+        methodVisitor.visitLabel(tryStartLabel);
 
-        methodVisitor.visitLabel(finallyStartLabel);
+        methodVisitor.visitInsn(Opcodes.DUP);
+        methodVisitor.visitTypeInsn(Opcodes.INSTANCEOF, Type.getInternalName(DictItemIterator.class));
+        methodVisitor.visitJumpInsn(Opcodes.IFEQ, nextItemLabel);
+        methodVisitor.visitInsn(Opcodes.DUP);
+        methodVisitor.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(DictItemIterator.class));
+        methodVisitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, Type.getInternalName(DictItemIterator.class),
+                "nextEntry", Type.getMethodDescriptor(Type.getType(Map.Entry.class)),
+                false);
+        methodVisitor.visitJumpInsn(Opcodes.GOTO, unpackEntryLabel);
 
-        Label toFewElements = new Label();
-        Label toManyElements = new Label();
-        Label exactNumberOfElements = new Label();
+        methodVisitor.visitLabel(nextItemLabel);
+        methodVisitor.visitInsn(Opcodes.DUP);
+        DunderOperatorImplementor.unaryOperator(methodVisitor, PythonUnaryOperator.NEXT);
+        methodVisitor.visitLabel(tryEndLabel);
+        methodVisitor.visitJumpInsn(Opcodes.GOTO, unpackItemLabel);
 
-        // Pop off the iterator
+        methodVisitor.visitLabel(catchStartLabel);
         methodVisitor.visitInsn(Opcodes.POP);
+        methodVisitor.visitJumpInsn(Opcodes.GOTO, loopEndLabel);
 
-        // Check if too few
-        localVariableHelper.readTemp(methodVisitor, Type.INT_TYPE, sizeLocal);
-        methodVisitor.visitLdcInsn(toUnpack);
-        methodVisitor.visitJumpInsn(Opcodes.IF_ICMPLT, toFewElements);
+        // Unlike all other collection operators, UNPACK_SEQUENCE unpacks the result in reverse order
+        methodVisitor.visitLabel(unpackEntryLabel);
+        methodVisitor.visitInsn(Opcodes.DUP);
+        methodVisitor.visitMethodInsn(Opcodes.INVOKEINTERFACE, Type.getInternalName(Map.Entry.class),
+                "getValue", Type.getMethodDescriptor(Type.getType(Object.class)),
+                true);
+        methodVisitor.visitInsn(Opcodes.SWAP);
+        methodVisitor.visitMethodInsn(Opcodes.INVOKEINTERFACE, Type.getInternalName(Map.Entry.class),
+                "getKey", Type.getMethodDescriptor(Type.getType(Object.class)),
+                true);
+        methodVisitor.visitJumpInsn(Opcodes.GOTO, unpackEndLabel);
 
-        // Check if too many
-        localVariableHelper.readTemp(methodVisitor, Type.INT_TYPE, sizeLocal);
-        methodVisitor.visitLdcInsn(toUnpack);
-        methodVisitor.visitJumpInsn(Opcodes.IF_ICMPGT, toManyElements);
+        methodVisitor.visitLabel(unpackItemLabel);
+        unpackSequence(methodVisitor, 2, stackMetadata.localVariableHelper);
+        methodVisitor.visitLabel(unpackEndLabel);
 
-        // Must have exactly enough
-        methodVisitor.visitJumpInsn(Opcodes.GOTO, exactNumberOfElements);
+        functionMetadata.bytecodeCounterToCodeArgumenterList
+                .computeIfAbsent(jumpTarget, key -> new ArrayList<>())
+                .add(() -> {
+                    StackManipulationImplementor.restoreStack(methodVisitor, stackMetadata, storedStack);
+                    methodVisitor.visitInsn(Opcodes.POP);
+                });
+    }
 
-        // TODO: Throw ValueError instead
-        methodVisitor.visitLabel(toFewElements);
-        methodVisitor.visitTypeInsn(Opcodes.NEW, Type.getInternalName(IllegalArgumentException.class));
-        methodVisitor.visitInsn(Opcodes.DUP);
+    /**
+     * TOS is an iterable; push {@code toUnpack} elements from it to the stack
+     * (with first item of the iterable as the new TOS). Raise an exception if it does not
+     * have exactly {@code toUnpack} elements.
+     */
+    public static void unpackSequence(MethodVisitor methodVisitor, int toUnpack, LocalVariableHelper localVariableHelper) {
+        // Tuples of the right size are unpacked by index, without creating an iterator
+        Label iterableLabel = new Label();
+        Label unpackEndLabel = new Label();
 
-        // Build error message string
-        methodVisitor.visitTypeInsn(Opcodes.NEW, Type.getInternalName(StringBuilder.class));
         methodVisitor.visitInsn(Opcodes.DUP);
-        methodVisitor.visitLdcInsn("not enough values to unpack (expected " + toUnpack + ", got ");
-        methodVisitor.visitMethodInsn(Opcodes.INVOKESPECIAL, Type.getInternalName(StringBuilder.class),
-                "<init>", Type.getMethodDescriptor(Type.VOID_TYPE, Type.getType(String.class)),
+        methodVisitor.visitTypeInsn(Opcodes.INSTANCEOF, Type.getInternalName(PythonLikeTuple.class));
+        methodVisitor.visitJumpInsn(Opcodes.IFEQ, iterableLabel);
+        methodVisitor.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(PythonLikeTuple.class));
+        methodVisitor.visitInsn(Opcodes.DUP);
+        methodVisitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, Type.getInternalName(PythonLikeTuple.class),
+                "size", Type.getMethodDescriptor(Type.INT_TYPE),
                 false);
+        methodVisitor.visitLdcInsn(toUnpack);
+        methodVisitor.visitJumpInsn(Opcodes.IF_ICMPNE, iterableLabel);
 
-        localVariableHelper.readTemp(methodVisitor, Type.INT_TYPE, sizeLocal);
-        methodVisitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, Type.getInternalName(StringBuilder.class),
-                "append", Type.getMethodDescriptor(Type.getType(StringBuilder.class), Type.INT_TYPE),
-                false);
+        int tupleLocal = localVariableHelper.newLocal();
+        localVariableHelper.writeTemp(methodVisitor, Type.getType(PythonLikeTuple.class), tupleLocal);
+        for (int i = toUnpack - 1; i >= 0; i--) {
+            localVariableHelper.readTemp(methodVisitor, Type.getType(PythonLikeTuple.class), tupleLocal);
+            methodVisitor.visitLdcInsn(i);
+            methodVisitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, Type.getInternalName(PythonLikeTuple.class),
+                    "get", Type.getMethodDescriptor(Type.getType(PythonLikeObject.class), Type.INT_TYPE),
+                    false);
+        }
+        localVariableHelper.freeLocal();
+        methodVisitor.visitJumpInsn(Opcodes.GOTO, unpackEndLabel);
 
-        methodVisitor.visitLdcInsn(")");
-        methodVisitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, Type.getInternalName(StringBuilder.class),
-                "append", Type.getMethodDescriptor(Type.getType(StringBuilder.class), Type.getType(String.class)),
-                false);
-        methodVisitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, Type.getInternalName(Object.class),
-                "toString", Type.getMethodDescriptor(Type.getType(String.class)),
+        methodVisitor.visitLabel(iterableLabel);
+        methodVisitor.visitLdcInsn(toUnpack);
+        methodVisitor.visitMethodInsn(Opcodes.INVOKESTATIC, Type.getInternalName(CollectionImplementor.class),
+                "unpackIterable", Type.getMethodDescriptor(Type.getType(PythonLikeObject[].class),
+                        Type.getType(PythonLikeObject.class), Type.INT_TYPE),
                 false);
 
-        // Call the constructor of the Error
-        methodVisitor.visitMethodInsn(Opcodes.INVOKESPECIAL, Type.getInternalName(IllegalArgumentException.class),
-                "<init>", Type.getMethodDescriptor(Type.VOID_TYPE, Type.getType(String.class)),
-                false);
-        // And throw it
-        methodVisitor.visitInsn(Opcodes.ATHROW);
+        int elementsLocal = localVariableHelper.newLocal();
+        localVariableHelper.writeTemp(methodVisitor, Type.getType(PythonLikeObject[].class), elementsLocal);
+        for (int i = toUnpack - 1; i >= 0; i--) {
+            localVariableHelper.readTemp(methodVisitor, Type.getType(PythonLikeObject[].class), elementsLocal);
+            methodVisitor.visitLdcInsn(i);
+            methodVisitor.visitInsn(Opcodes.AALOAD);
+        }
+        localVariableHelper.freeLocal();
+        methodVisitor.visitLabel(unpackEndLabel);
+    }
 
-        methodVisitor.visitLabel(toManyElements);
-        methodVisitor.visitTypeInsn(Opcodes.NEW, Type.getInternalName(IllegalArgumentException.class));
-        methodVisitor.visitInsn(Opcodes.DUP);
-        methodVisitor.visitLdcInsn("too many values to unpack (expected " + toUnpack + ")");
-        methodVisitor.visitMethodInsn(Opcodes.INVOKESPECIAL, Type.getInternalName(IllegalArgumentException.class),
-                "<init>", Type.getMethodDescriptor(Type.VOID_TYPE, Type.getType(String.class)),
-                false);
-        methodVisitor.visitInsn(Opcodes.ATHROW);
+    /**
+     * Returns the elements of {@code iterable}, which must have exactly {@code toUnpack} elements.
+     * Used by the bytecode {@link #unpackSequence} generates when TOS is not a tuple of the right size;
+     * unlike a try block in the generated bytecode, it works whatever is below TOS on the stack.
+     */
+    public static PythonLikeObject[] unpackIterable(PythonLikeObject iterable, int toUnpack) {
+        PythonLikeObject iterator = UnaryDunderBuiltin.ITERATOR.invoke(iterable);
+        PythonLikeObject[] out = new PythonLikeObject[toUnpack];
+        int size = 0;
 
-        methodVisitor.visitLabel(exactNumberOfElements);
-        for (int i = toUnpack - 1; i >= 0; i--) {
-            // Unlike all other collection operators, UNPACK_SEQUENCE unpacks the result in reverse order
-            localVariableHelper.readTemp(methodVisitor, Type.getType(Object.class), unpackedLocals[i]);
+        // TODO: Throw ValueError instead
+        try {
+            while (size < toUnpack) {
+                out[size] = UnaryDunderBuiltin.NEXT.invoke(iterator);
+                size++;
+            }
+        } catch (StopIteration e) {
+            throw new IllegalArgumentException("not enough values to unpack (expected " + toUnpack + ", got " + size + ")");
         }
 
-        localVariableHelper.freeLocal();
-        for (int i = 0; i < toUnpack; i++) {
-            localVariableHelper.freeLocal();
+        try {
+            UnaryDunderBuiltin.NEXT.invoke(iterator);
+        } catch (StopIteration e) {
+            return out;
         }
+        throw new IllegalArgumentException("too many values to unpack (expected " + toUnpack + ")");
     }
 
     /**
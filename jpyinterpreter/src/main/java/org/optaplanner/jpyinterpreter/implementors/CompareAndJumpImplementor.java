@@ -0,0 +1,213 @@
+package org.optaplanner.jpyinterpreter.implementors;
+
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.optaplanner.jpyinterpreter.CompareOp;
+import org.optaplanner.jpyinterpreter.FunctionMetadata;
+import org.optaplanner.jpyinterpreter.PythonBytecodeInstruction;
+import org.optaplanner.jpyinterpreter.StackMetadata;
+import org.optaplanner.jpyinterpreter.opcodes.Opcode;
+import org.optaplanner.jpyinterpreter.opcodes.controlflow.PopJumpIfFalseOpcode;
+import org.optaplanner.jpyinterpreter.opcodes.controlflow.PopJumpIfTrueOpcode;
+import org.optaplanner.jpyinterpreter.opcodes.dunder.CompareOpcode;
+import org.optaplanner.jpyinterpreter.types.BuiltinTypes;
+import org.optaplanner.jpyinterpreter.types.PythonLikeType;
+import org.optaplanner.jpyinterpreter.types.PythonString;
+import org.optaplanner.jpyinterpreter.types.numeric.PythonInteger;
+
+/**
+ * Implements a comparison that is immediately used by a conditional jump as a JVM compare and jump.
+ * <p>
+ * When both operands of a {@link CompareOpcode} are known to be ints, floats or strs, and the next instruction
+ * is a {@link PopJumpIfFalseOpcode} or {@link PopJumpIfTrueOpcode}, the comparison leaves the result of
+ * {@code compareTo} (or {@code DCMPL}/{@code DCMPG} for floats) on the stack instead of a
+ * {@link org.optaplanner.jpyinterpreter.types.PythonBoolean}, and the jump branches on it directly.
+ */
+public class CompareAndJumpImplementor {
+
+    enum ComparisonKind {
+        INT,
+        FLOAT,
+        STRING
+    }
+
+    /**
+     * A comparison fused with the jump that follows it.
+     */
+    public static final class FusedComparison {
+        final CompareOp compareOp;
+        final ComparisonKind kind;
+        final PythonLikeType leftType;
+        final PythonLikeType rightType;
+        boolean isLeftUnboxed = false;
+        boolean isRightUnboxed = false;
+
+        FusedComparison(CompareOp compareOp, ComparisonKind kind, PythonLikeType leftType, PythonLikeType rightType) {
+            this.compareOp = compareOp;
+            this.kind = kind;
+            this.leftType = leftType;
+            this.rightType = rightType;
+        }
+
+        /**
+         * Returns true if the operands are compared as doubles, which means they can be results of
+         * {@link UnboxedFloatImplementor} operations left on the stack as doubles.
+         */
+        public boolean isFloatComparison() {
+            return kind == ComparisonKind.FLOAT;
+        }
+    }
+
+    /**
+     * Find the comparisons in {@code opcodeList} that can be fused with the jump that follows them.
+     *
+     * @param barrierInstructionSet Instructions where the stack must only contain Python objects (such as the
+     *        start of try blocks and exception handlers); a jump in it is never fused.
+     * @return A map from the bytecode index of both the comparison and the jump to the fused comparison
+     */
+    public static Map<Integer, FusedComparison> findFusedComparisons(FunctionMetadata functionMetadata,
+            List<StackMetadata> stackMetadataForOpcodeIndex, List<Opcode> opcodeList,
+            Set<Integer> barrierInstructionSet) {
+        List<PythonBytecodeInstruction> instructionList = functionMetadata.pythonCompiledFunction.instructionList;
+        Map<Integer, FusedComparison> out = new HashMap<>();
+
+        for (int i = 0; i < opcodeList.size() - 1; i++) {
+            if (!(opcodeList.get(i) instanceof CompareOpcode)) {
+                continue;
+            }
+            Opcode jump = opcodeList.get(i + 1);
+            if (!(jump instanceof PopJumpIfFalseOpcode) && !(jump instanceof PopJumpIfTrueOpcode)) {
+                continue;
+            }
+            PythonBytecodeInstruction jumpInstruction = instructionList.get(i + 1);
+            StackMetadata stackMetadata = stackMetadataForOpcodeIndex.get(i);
+            if (jumpInstruction.isJumpTarget || barrierInstructionSet.contains(jumpInstruction.offset)
+                    || stackMetadata.isDeadCode() || stackMetadataForOpcodeIndex.get(i + 1).isDeadCode()) {
+                continue;
+            }
+
+            PythonLikeType leftType = stackMetadata.getTypeAtStackIndex(1);
+            PythonLikeType rightType = stackMetadata.getTypeAtStackIndex(0);
+            ComparisonKind kind = getComparisonKind(leftType, rightType);
+            if (kind == null) {
+                continue;
+            }
+
+            FusedComparison fusedComparison = new FusedComparison(((CompareOpcode) opcodeList.get(i)).getCompareOp(),
+                    kind, leftType, rightType);
+            out.put(instructionList.get(i).offset, fusedComparison);
+            out.put(jumpInstruction.offset, fusedComparison);
+        }
+        return out;
+    }
+
+    private static ComparisonKind getComparisonKind(PythonLikeType leftType, PythonLikeType rightType) {
+        if (leftType == BuiltinTypes.STRING_TYPE && rightType == BuiltinTypes.STRING_TYPE) {
+            return ComparisonKind.STRING;
+        }
+        boolean isLeftNumber = leftType == BuiltinTypes.FLOAT_TYPE || leftType == BuiltinTypes.INT_TYPE;
+        boolean isRightNumber = rightType == BuiltinTypes.FLOAT_TYPE || rightType == BuiltinTypes.INT_TYPE;
+        if (!isLeftNumber || !isRightNumber) {
+            return null;
+        }
+        if (leftType == BuiltinTypes.INT_TYPE && rightType == BuiltinTypes.INT_TYPE) {
+            return ComparisonKind.INT;
+        }
+        return ComparisonKind.FLOAT;
+    }
+
+    /**
+     * Replaces the two operands on the top of the stack by an int that is negative, zero or positive
+     * depending on how they compare. For float comparisons, the int is chosen so NaN makes the comparison false.
+     */
+    public static void compare(MethodVisitor methodVisitor, FusedComparison fusedComparison) {
+        switch (fusedComparison.kind) {
+            case INT:
+                methodVisitor.visitInsn(Opcodes.SWAP);
+                unboxBigInteger(methodVisitor);
+                methodVisitor.visitInsn(Opcodes.SWAP);
+                unboxBigInteger(methodVisitor);
+                methodVisitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, Type.getInternalName(BigInteger.class), "compareTo",
+                        Type.getMethodDescriptor(Type.INT_TYPE, Type.getType(BigInteger.class)), false);
+                break;
+            case STRING:
+                methodVisitor.visitInsn(Opcodes.SWAP);
+                unboxString(methodVisitor);
+                methodVisitor.visitInsn(Opcodes.SWAP);
+                unboxString(methodVisitor);
+                methodVisitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, Type.getInternalName(String.class), "compareTo",
+                        Type.getMethodDescriptor(Type.INT_TYPE, Type.getType(String.class)), false);
+                break;
+            case FLOAT:
+                UnboxedFloatImplementor.unboxOperands(methodVisitor, fusedComparison.leftType,
+                        fusedComparison.isLeftUnboxed, fusedComparison.rightType, fusedComparison.isRightUnboxed);
+                switch (fusedComparison.compareOp) {
+                    case LESS_THAN:
+                    case LESS_THAN_OR_EQUALS:
+                        // NaN compares as greater, so < and <= are false
+                        methodVisitor.visitInsn(Opcodes.DCMPG);
+                        break;
+                    default:
+                        // NaN compares as less, so > and >= are false; == and != only check for zero
+                        methodVisitor.visitInsn(Opcodes.DCMPL);
+                        break;
+                }
+                break;
+            default:
+                throw new IllegalStateException("Unhandled case (" + fusedComparison.kind + ").");
+        }
+    }
+
+    /**
+     * Pops the int left by {@link #compare(MethodVisitor, FusedComparison)}, and jumps to {@code jumpTarget}
+     * if the comparison is {@code jumpIfTrue}.
+     */
+    public static void jump(FunctionMetadata functionMetadata, FusedComparison fusedComparison, int jumpTarget,
+            boolean jumpIfTrue) {
+        Label jumpLocation = functionMetadata.bytecodeCounterToLabelMap.computeIfAbsent(jumpTarget, key -> new Label());
+        int jumpOpcode;
+        switch (fusedComparison.compareOp) {
+            case LESS_THAN:
+                jumpOpcode = jumpIfTrue ? Opcodes.IFLT : Opcodes.IFGE;
+                break;
+            case LESS_THAN_OR_EQUALS:
+                jumpOpcode = jumpIfTrue ? Opcodes.IFLE : Opcodes.IFGT;
+                break;
+            case EQUALS:
+                jumpOpcode = jumpIfTrue ? Opcodes.IFEQ : Opcodes.IFNE;
+                break;
+            case NOT_EQUALS:
+                jumpOpcode = jumpIfTrue ? Opcodes.IFNE : Opcodes.IFEQ;
+                break;
+            case GREATER_THAN:
+                jumpOpcode = jumpIfTrue ? Opcodes.IFGT : Opcodes.IFLE;
+                break;
+            case GREATER_THAN_OR_EQUALS:
+                jumpOpcode = jumpIfTrue ? Opcodes.IFGE : Opcodes.IFLT;
+                break;
+            default:
+                throw new IllegalStateException("Unhandled case (" + fusedComparison.compareOp + ").");
+        }
+        functionMetadata.methodVisitor.visitJumpInsn(jumpOpcode, jumpLocation);
+    }
+
+    private static void unboxBigInteger(MethodVisitor methodVisitor) {
+        methodVisitor.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(PythonInteger.class));
+        methodVisitor.visitFieldInsn(Opcodes.GETFIELD, Type.getInternalName(PythonInteger.class), "value",
+                Type.getDescriptor(BigInteger.class));
+    }
+
+    private static void unboxString(MethodVisitor methodVisitor) {
+        methodVisitor.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(PythonString.class));
+        methodVisitor.visitFieldInsn(Opcodes.GETFIELD, Type.getInternalName(PythonString.class), "value",
+                Type.getDescriptor(String.class));
+    }
+}
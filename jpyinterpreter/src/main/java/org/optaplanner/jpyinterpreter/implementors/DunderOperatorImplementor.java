@@ -19,6 +19,7 @@ import org.optaplanner.jpyinterpreter.PythonLikeObject;
 import org.optaplanner.jpyinterpreter.PythonTernaryOperators;
 import org.optaplanner.jpyinterpreter.PythonUnaryOperator;
 import org.optaplanner.jpyinterpreter.StackMetadata;
+import org.optaplanner.jpyinterpreter.profiling.GenericFallbackRecorder;
 import org.optaplanner.jpyinterpreter.types.BuiltinTypes;
 import org.optaplanner.jpyinterpreter.types.NotImplemented;
 import org.optaplanner.jpyinterpreter.types.PythonKnownFunctionType;
@@ -49,9 +50,11 @@ public class DunderOperatorImplementor {
                 }
                 functionSignature.getMethodDescriptor().callMethod(methodVisitor);
             } else {
+                GenericFallbackRecorder.record(methodVisitor, 1, operator.getDunderMethod(), operand);
                 unaryOperator(methodVisitor, operator);
             }
         } else {
+            GenericFallbackRecorder.record(methodVisitor, 1, operator.getDunderMethod(), operand);
             unaryOperator(methodVisitor, operator);
         }
     }
@@ -221,15 +224,22 @@ public class DunderOperatorImplementor {
             } else if (isLeft && actualOperator.hasRightDunderMethod()) {
                 binaryOperator(methodVisitor, stackMetadata, operator, false, false, false);
             } else if (!isLeft && leftCheckSuccessful) {
+                GenericFallbackRecorder.record(methodVisitor, 2, actualOperator.getRightDunderMethod(),
+                        leftOperand, rightOperand);
                 binaryOperatorOnlyRight(methodVisitor, stackMetadata.localVariableHelper, actualOperator);
             } else {
+                GenericFallbackRecorder.record(methodVisitor, 2, operator.getDunderMethod(), leftOperand,
+                        rightOperand);
                 binaryOperator(methodVisitor, stackMetadata.localVariableHelper, operator);
             }
         } else if (isLeft && actualOperator.hasRightDunderMethod()) {
             binaryOperator(methodVisitor, stackMetadata, operator, false, false, false);
         } else if (!isLeft && leftCheckSuccessful) {
+            GenericFallbackRecorder.record(methodVisitor, 2, actualOperator.getRightDunderMethod(),
+                    leftOperand, rightOperand);
             binaryOperatorOnlyRight(methodVisitor, stackMetadata.localVariableHelper, actualOperator);
         } else {
+            GenericFallbackRecorder.record(methodVisitor, 2, operator.getDunderMethod(), leftOperand, rightOperand);
             binaryOperator(methodVisitor, stackMetadata.localVariableHelper, operator);
         }
     }
@@ -561,6 +571,9 @@ public class DunderOperatorImplementor {
     public static void ternaryOperator(FunctionMetadata functionMetadata, StackMetadata stackMetadata,
             PythonTernaryOperators operator) {
         MethodVisitor methodVisitor = functionMetadata.methodVisitor;
+        GenericFallbackRecorder.record(methodVisitor, 0, operator.getDunderMethod(),
+                stackMetadata.getTypeAtStackIndex(2), stackMetadata.getTypeAtStackIndex(1),
+                stackMetadata.getTypeAtStackIndex(0));
 
         StackManipulationImplementor.rotateThree(methodVisitor);
         methodVisitor.visitInsn(Opcodes.SWAP);
@@ -682,6 +695,8 @@ public class DunderOperatorImplementor {
         methodVisitor.visitJumpInsn(Opcodes.IF_ACMPNE, ifDefined);
         methodVisitor.visitInsn(Opcodes.SWAP);
         methodVisitor.visitLabel(ifDefined);
+        GenericFallbackRecorder.record(methodVisitor, 2, operator.getDunderMethod(),
+                stackMetadata.getTypeAtStackIndex(1), stackMetadata.getTypeAtStackIndex(0));
         binaryOperator(methodVisitor, stackMetadata.localVariableHelper, operator);
     }
 }
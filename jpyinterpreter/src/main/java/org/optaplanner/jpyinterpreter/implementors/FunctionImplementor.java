@@ -21,6 +21,7 @@ import org.optaplanner.jpyinterpreter.PythonLikeObject;
 import org.optaplanner.jpyinterpreter.PythonVersion;
 import org.optaplanner.jpyinterpreter.StackMetadata;
 import org.optaplanner.jpyinterpreter.ValueSourceInfo;
+import org.optaplanner.jpyinterpreter.profiling.GenericFallbackRecorder;
 import org.optaplanner.jpyinterpreter.types.BuiltinTypes;
 import org.optaplanner.jpyinterpreter.types.PythonCode;
 import org.optaplanner.jpyinterpreter.types.PythonKnownFunctionType;
@@ -195,6 +196,8 @@ public class FunctionImplementor {
     private static void loadGenericMethod(FunctionMetadata functionMetadata, MethodVisitor methodVisitor, String className,
             PythonCompiledFunction function,
             StackMetadata stackMetadata, PythonBytecodeInstruction instruction) {
+        GenericFallbackRecorder.record(methodVisitor, 1, "load method '" + function.co_names.get(instruction.arg) + "'",
+                stackMetadata.getTOSType());
 
         methodVisitor.visitInsn(Opcodes.DUP);
         methodVisitor.visitMethodInsn(Opcodes.INVOKEINTERFACE, Type.getInternalName(PythonLikeObject.class),
@@ -299,6 +302,8 @@ public class FunctionImplementor {
             int argumentCount) {
         MethodVisitor methodVisitor = functionMetadata.methodVisitor;
         LocalVariableHelper localVariableHelper = stackMetadata.localVariableHelper;
+        GenericFallbackRecorder.record(methodVisitor, 0, "call", stackMetadata.getTypeAtStackIndex(argumentCount + 1),
+                stackMetadata.getTypeAtStackIndex(argumentCount));
 
         int keywordArgs = localVariableHelper.newLocal();
         int positionalArgs = localVariableHelper.newLocal();
@@ -415,6 +420,8 @@ public class FunctionImplementor {
             MethodVisitor methodVisitor,
             PythonBytecodeInstruction instruction,
             LocalVariableHelper localVariableHelper) {
+        GenericFallbackRecorder.record(methodVisitor, 0, "call method",
+                stackMetadata.getTypeAtStackIndex(instruction.arg + 1), stackMetadata.getTypeAtStackIndex(instruction.arg));
         // Stack is method, (obj or null), arg0, ..., arg(argc - 1)
         CollectionImplementor.buildCollection(PythonLikeTuple.class, methodVisitor, instruction.arg);
         methodVisitor.visitInsn(Opcodes.SWAP);
@@ -522,6 +529,7 @@ public class FunctionImplementor {
     public static void callGenericFunction(FunctionMetadata functionMetadata,
             StackMetadata stackMetadata,
             MethodVisitor methodVisitor, int argCount) {
+        GenericFallbackRecorder.record(methodVisitor, 0, "call", stackMetadata.getTypeAtStackIndex(argCount));
         // stack is callable, arg0, arg1, ..., arg(argc - 1)
         CollectionImplementor.buildCollection(PythonLikeTuple.class, methodVisitor, argCount);
         methodVisitor.visitMethodInsn(Opcodes.INVOKESTATIC, Type.getInternalName(Collections.class), "emptyMap",
@@ -575,6 +583,8 @@ public class FunctionImplementor {
     public static void callGenericFunctionWithKeywords(FunctionMetadata functionMetadata,
             StackMetadata stackMetadata,
             MethodVisitor methodVisitor, PythonBytecodeInstruction instruction) {
+        GenericFallbackRecorder.record(methodVisitor, 0, "call with keywords",
+                stackMetadata.getTypeAtStackIndex(instruction.arg + 1));
         // stack is callable, arg0, arg1, ..., arg(argc - len(keys)), ..., arg(argc - 1), keys
         // We know the total number of arguments, but not the number of individual positional/keyword arguments
         // Since Java Bytecode require consistent stack frames  (i.e. the body of a loop must start with
@@ -14,6 +14,7 @@ import org.optaplanner.jpyinterpreter.PythonBytecodeInstruction;
 import org.optaplanner.jpyinterpreter.PythonLikeObject;
 import org.optaplanner.jpyinterpreter.PythonTernaryOperators;
 import org.optaplanner.jpyinterpreter.StackMetadata;
+import org.optaplanner.jpyinterpreter.profiling.GenericFallbackRecorder;
 import org.optaplanner.jpyinterpreter.types.BuiltinTypes;
 import org.optaplanner.jpyinterpreter.types.PythonLikeType;
 import org.optaplanner.jpyinterpreter.types.PythonNone;
@@ -84,6 +85,7 @@ public class ObjectImplementor {
                         true);
             }
         } else {
+            GenericFallbackRecorder.record(methodVisitor, 1, "getattr '" + name + "'", tosType);
             PythonConstantsImplementor.loadName(methodVisitor, className, instruction.arg);
             DunderOperatorImplementor.binaryOperator(methodVisitor,
                     stackMetadata.pushTemp(BuiltinTypes.STRING_TYPE),
@@ -108,6 +110,7 @@ public class ObjectImplementor {
                     fieldDescriptor.getJavaFieldName(),
                     fieldDescriptor.getJavaFieldTypeDescriptor());
         } else {
+            GenericFallbackRecorder.record(methodVisitor, 1, "delattr '" + name + "'", tosType);
             PythonConstantsImplementor.loadName(methodVisitor, className, instruction.arg);
             DunderOperatorImplementor.binaryOperator(methodVisitor,
                     stackMetadata.pushTemp(BuiltinTypes.STRING_TYPE),
@@ -133,6 +136,7 @@ public class ObjectImplementor {
                     fieldDescriptor.getJavaFieldName(),
                     fieldDescriptor.getJavaFieldTypeDescriptor());
         } else {
+            GenericFallbackRecorder.record(methodVisitor, 1, "setattr '" + name + "'", tosType);
             StackManipulationImplementor.swap(methodVisitor);
             PythonConstantsImplementor.loadName(methodVisitor, className, instruction.arg);
             StackManipulationImplementor.swap(methodVisitor);
@@ -18,6 +18,7 @@ import org.optaplanner.jpyinterpreter.StackMetadata;
 import org.optaplanner.jpyinterpreter.types.PythonLikeFunction;
 import org.optaplanner.jpyinterpreter.types.PythonString;
 import org.optaplanner.jpyinterpreter.types.collections.PythonLikeTuple;
+import org.optaplanner.jpyinterpreter.util.StringFormatter;
 
 public class StringImplementor {
 
@@ -27,44 +28,38 @@ public class StringImplementor {
      *
      * <code>
      * <pre>
-     *     StringBuilder builder = new StringBuilder();
-     *     builder.insert(0, TOS);
-     *     builder.insert(0, TOS1);
+     *     PythonLikeObject[] parts = new PythonLikeObject[itemCount];
+     *     parts[itemCount - 1] = TOS;
+     *     parts[itemCount - 2] = TOS1;
      *     ...
-     *     builder.insert(0, TOS(itemCount - 1));
-     *     TOS' = PythonString.valueOf(builder.toString())
+     *     parts[0] = TOS(itemCount - 1);
+     *     TOS' = StringFormatter.buildString(parts)
      * </pre>
      * </code>
      *
+     * {@link StringFormatter#buildString(PythonLikeObject[])} sizes the result from the parts, so it is
+     * built without copying.
+     *
      * @param itemCount The number of items to put into collection from the stack
      */
     public static void buildString(MethodVisitor methodVisitor,
             int itemCount) {
-        methodVisitor.visitTypeInsn(Opcodes.NEW, Type.getInternalName(StringBuilder.class));
-        methodVisitor.visitInsn(Opcodes.DUP);
-        methodVisitor.visitMethodInsn(Opcodes.INVOKESPECIAL, Type.getInternalName(StringBuilder.class), "<init>",
-                Type.getMethodDescriptor(Type.VOID_TYPE), false);
+        methodVisitor.visitLdcInsn(itemCount);
+        methodVisitor.visitTypeInsn(Opcodes.ANEWARRAY, Type.getInternalName(PythonLikeObject.class));
 
-        for (int i = 0; i < itemCount; i++) {
+        for (int i = itemCount - 1; i >= 0; i--) {
+            // stack is ..., item, parts
+            methodVisitor.visitInsn(Opcodes.DUP_X1);
             methodVisitor.visitInsn(Opcodes.SWAP);
-            methodVisitor.visitInsn(Opcodes.ICONST_0);
+            methodVisitor.visitLdcInsn(i);
             methodVisitor.visitInsn(Opcodes.SWAP);
-
-            methodVisitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, Type.getInternalName(StringBuilder.class),
-                    "insert",
-                    Type.getMethodDescriptor(Type.getType(StringBuilder.class),
-                            Type.INT_TYPE,
-                            Type.getType(Object.class)),
-                    false);
+            methodVisitor.visitInsn(Opcodes.AASTORE);
         }
-        methodVisitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, Type.getInternalName(Object.class),
-                "toString",
-                Type.getMethodDescriptor(Type.getType(String.class)), false);
 
-        methodVisitor.visitMethodInsn(Opcodes.INVOKESTATIC, Type.getInternalName(PythonString.class),
-                "valueOf",
+        methodVisitor.visitMethodInsn(Opcodes.INVOKESTATIC, Type.getInternalName(StringFormatter.class),
+                "buildString",
                 Type.getMethodDescriptor(Type.getType(PythonString.class),
-                        Type.getType(String.class)),
+                        Type.getType(PythonLikeObject[].class)),
                 false);
     }
 
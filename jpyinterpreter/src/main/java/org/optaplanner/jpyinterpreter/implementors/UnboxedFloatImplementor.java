@@ -0,0 +1,295 @@
+package org.optaplanner.jpyinterpreter.implementors;
+
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.optaplanner.jpyinterpreter.FunctionMetadata;
+import org.optaplanner.jpyinterpreter.PythonBinaryOperators;
+import org.optaplanner.jpyinterpreter.PythonBytecodeInstruction;
+import org.optaplanner.jpyinterpreter.PythonFunctionType;
+import org.optaplanner.jpyinterpreter.StackMetadata;
+import org.optaplanner.jpyinterpreter.opcodes.Opcode;
+import org.optaplanner.jpyinterpreter.opcodes.dunder.BinaryDunderOpcode;
+import org.optaplanner.jpyinterpreter.opcodes.dunder.CompareOpcode;
+import org.optaplanner.jpyinterpreter.types.BuiltinTypes;
+import org.optaplanner.jpyinterpreter.types.PythonLikeType;
+import org.optaplanner.jpyinterpreter.types.errors.arithmetic.ZeroDivisionError;
+import org.optaplanner.jpyinterpreter.types.numeric.PythonFloat;
+import org.optaplanner.jpyinterpreter.types.numeric.PythonInteger;
+
+/**
+ * Implements float arithmetic on unboxed doubles.
+ * <p>
+ * A binary +, -, * or / whose operands are known to be an int or a float (with at least one float) is done with
+ * double arithmetic instead of calling the dunder method. If its result is used as an operand of another such
+ * operation in the same straight-line expression (i.e. {@code dx * dx + dy * dy}), the result is left on the
+ * stack as a double, and only the outermost operation allocates a {@link PythonFloat}.
+ */
+public class UnboxedFloatImplementor {
+
+    /**
+     * How a binary operation is done unboxed: the operand types, whether each operand is already a double
+     * on the stack, and whether the result is left as a double for the next operation.
+     */
+    public static final class UnboxedFloatOperation {
+        final PythonBinaryOperators operator;
+        final PythonLikeType leftType;
+        final PythonLikeType rightType;
+        boolean isLeftUnboxed = false;
+        boolean isRightUnboxed = false;
+        boolean isResultUnboxed = false;
+
+        UnboxedFloatOperation(PythonBinaryOperators operator, PythonLikeType leftType, PythonLikeType rightType) {
+            this.operator = operator;
+            this.leftType = leftType;
+            this.rightType = rightType;
+        }
+
+        public boolean isResultUnboxed() {
+            return isResultUnboxed;
+        }
+    }
+
+    /**
+     * Find the binary operations in {@code opcodeList} that can be done unboxed.
+     *
+     * @param barrierInstructionSet Instructions where the stack must only contain Python objects (such as the
+     *        start of try blocks and exception handlers); an unboxed result is never kept on the stack across them.
+     * @param bytecodeCounterToFusedComparisonMap The comparisons fused with a jump; float comparisons among them
+     *        can use unboxed results as operands
+     * @return A map from the bytecode index of each such operation to how it is done
+     */
+    public static Map<Integer, UnboxedFloatOperation> findUnboxedFloatOperations(FunctionMetadata functionMetadata,
+            List<StackMetadata> stackMetadataForOpcodeIndex, List<Opcode> opcodeList,
+            Set<Integer> barrierInstructionSet,
+            Map<Integer, CompareAndJumpImplementor.FusedComparison> bytecodeCounterToFusedComparisonMap) {
+        // Keyed by opcode index; converted to bytecode counter at the end
+        Map<Integer, UnboxedFloatOperation> out = new HashMap<>();
+        for (int i = 0; i < opcodeList.size(); i++) {
+            StackMetadata stackMetadata = stackMetadataForOpcodeIndex.get(i);
+            if (stackMetadata.isDeadCode() || !(opcodeList.get(i) instanceof BinaryDunderOpcode)) {
+                continue;
+            }
+            PythonBinaryOperators operator = ((BinaryDunderOpcode) opcodeList.get(i)).getOperator();
+            PythonLikeType leftType = stackMetadata.getTypeAtStackIndex(1);
+            PythonLikeType rightType = stackMetadata.getTypeAtStackIndex(0);
+            if (isUnboxableOperator(operator) && isUnboxableOperandTypes(leftType, rightType)) {
+                out.put(i, new UnboxedFloatOperation(operator, leftType, rightType));
+            }
+        }
+
+        // Generators save and restore their stack when they yield, so their results are always boxed
+        if (functionMetadata.functionType == PythonFunctionType.FUNCTION) {
+            keepResultsUnboxedWhenPossible(functionMetadata, stackMetadataForOpcodeIndex, opcodeList,
+                    barrierInstructionSet, out, bytecodeCounterToFusedComparisonMap);
+        }
+
+        Map<Integer, UnboxedFloatOperation> bytecodeCounterToOperationMap = new HashMap<>();
+        out.forEach((index, operation) -> bytecodeCounterToOperationMap
+                .put(functionMetadata.pythonCompiledFunction.instructionList.get(index).offset, operation));
+        return bytecodeCounterToOperationMap;
+    }
+
+    /**
+     * Marks the result of each operation in {@code indexToOperationMap} as unboxed if the only instructions
+     * between it and the operation or fused float comparison that uses it push values on top of it.
+     */
+    private static void keepResultsUnboxedWhenPossible(FunctionMetadata functionMetadata,
+            List<StackMetadata> stackMetadataForOpcodeIndex, List<Opcode> opcodeList,
+            Set<Integer> barrierInstructionSet, Map<Integer, UnboxedFloatOperation> indexToOperationMap,
+            Map<Integer, CompareAndJumpImplementor.FusedComparison> bytecodeCounterToFusedComparisonMap) {
+        for (Map.Entry<Integer, UnboxedFloatOperation> entry : indexToOperationMap.entrySet()) {
+            int producer = entry.getKey();
+            int slot = stackMetadataForOpcodeIndex.get(producer).getStackSize() - 2;
+
+            for (int i = producer + 1; i < opcodeList.size(); i++) {
+                PythonBytecodeInstruction instruction = functionMetadata.pythonCompiledFunction.instructionList.get(i);
+                StackMetadata stackMetadata = stackMetadataForOpcodeIndex.get(i);
+                if (instruction.isJumpTarget || barrierInstructionSet.contains(instruction.offset)
+                        || stackMetadata.isDeadCode()) {
+                    break;
+                }
+
+                int stackSizeBefore = stackMetadata.getStackSize();
+                UnboxedFloatOperation consumer = indexToOperationMap.get(i);
+                if (consumer != null) {
+                    if (stackSizeBefore - 1 == slot) {
+                        entry.getValue().isResultUnboxed = true;
+                        consumer.isRightUnboxed = true;
+                    } else if (stackSizeBefore - 2 == slot) {
+                        entry.getValue().isResultUnboxed = true;
+                        consumer.isLeftUnboxed = true;
+                    } else {
+                        continue;
+                    }
+                    break;
+                }
+
+                CompareAndJumpImplementor.FusedComparison comparison =
+                        bytecodeCounterToFusedComparisonMap.get(instruction.offset);
+                if (comparison != null && opcodeList.get(i) instanceof CompareOpcode) {
+                    if (comparison.isFloatComparison() && stackSizeBefore - 1 == slot) {
+                        entry.getValue().isResultUnboxed = true;
+                        comparison.isRightUnboxed = true;
+                    } else if (comparison.isFloatComparison() && stackSizeBefore - 2 == slot) {
+                        entry.getValue().isResultUnboxed = true;
+                        comparison.isLeftUnboxed = true;
+                    }
+                    break;
+                }
+
+                int popped = getPoppedCountIfOnlyTouchesTop(instruction);
+                if (popped == -1 || stackSizeBefore - popped <= slot) {
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the number of values popped by an instruction that only reads the values it pops, or -1 if the
+     * instruction might do anything else with the stack.
+     */
+    private static int getPoppedCountIfOnlyTouchesTop(PythonBytecodeInstruction instruction) {
+        switch (instruction.opcode) {
+            case NOP:
+            case CACHE:
+            case LOAD_CONST:
+            case LOAD_FAST:
+            case LOAD_DEREF:
+            case LOAD_GLOBAL:
+                return 0;
+            case LOAD_ATTR:
+                return 1;
+            default:
+                return -1;
+        }
+    }
+
+    private static boolean isUnboxableOperator(PythonBinaryOperators operator) {
+        switch (operator) {
+            case ADD:
+            case SUBTRACT:
+            case MULTIPLY:
+            case TRUE_DIVIDE:
+            case INPLACE_ADD:
+            case INPLACE_SUBTRACT:
+            case INPLACE_MULTIPLY:
+            case INPLACE_TRUE_DIVIDE:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static boolean isUnboxableOperandTypes(PythonLikeType leftType, PythonLikeType rightType) {
+        boolean isLeftNumber = leftType == BuiltinTypes.FLOAT_TYPE || leftType == BuiltinTypes.INT_TYPE;
+        boolean isRightNumber = rightType == BuiltinTypes.FLOAT_TYPE || rightType == BuiltinTypes.INT_TYPE;
+        return isLeftNumber && isRightNumber
+                && (leftType == BuiltinTypes.FLOAT_TYPE || rightType == BuiltinTypes.FLOAT_TYPE);
+    }
+
+    /**
+     * Implements an unboxed binary operation. The operands are on the top of the stack, either as Python
+     * objects or as doubles as described by {@code operation}. Leaves the result on the top of the stack,
+     * as a double if {@link UnboxedFloatOperation#isResultUnboxed()} and as a {@link PythonFloat} otherwise.
+     */
+    public static void binaryOperator(MethodVisitor methodVisitor, UnboxedFloatOperation operation) {
+        unboxOperands(methodVisitor, operation.leftType, operation.isLeftUnboxed, operation.rightType,
+                operation.isRightUnboxed);
+
+        // Stack is (double) left, (double) right
+        switch (operation.operator) {
+            case ADD:
+            case INPLACE_ADD:
+                methodVisitor.visitInsn(Opcodes.DADD);
+                break;
+            case SUBTRACT:
+            case INPLACE_SUBTRACT:
+                methodVisitor.visitInsn(Opcodes.DSUB);
+                break;
+            case MULTIPLY:
+            case INPLACE_MULTIPLY:
+                methodVisitor.visitInsn(Opcodes.DMUL);
+                break;
+            case TRUE_DIVIDE:
+            case INPLACE_TRUE_DIVIDE: {
+                Label divisorIsNotZero = new Label();
+                methodVisitor.visitInsn(Opcodes.DUP2);
+                methodVisitor.visitInsn(Opcodes.DCONST_0);
+                methodVisitor.visitInsn(Opcodes.DCMPL);
+                methodVisitor.visitJumpInsn(Opcodes.IFNE, divisorIsNotZero);
+                methodVisitor.visitTypeInsn(Opcodes.NEW, Type.getInternalName(ZeroDivisionError.class));
+                methodVisitor.visitInsn(Opcodes.DUP);
+                // Same messages as PythonFloat.trueDivide and PythonInteger.trueDivide
+                methodVisitor.visitLdcInsn((operation.leftType == BuiltinTypes.FLOAT_TYPE) ? "float division"
+                        : "integer division or modulo by zero");
+                methodVisitor.visitMethodInsn(Opcodes.INVOKESPECIAL, Type.getInternalName(ZeroDivisionError.class),
+                        "<init>", Type.getMethodDescriptor(Type.VOID_TYPE, Type.getType(String.class)), false);
+                methodVisitor.visitInsn(Opcodes.ATHROW);
+                methodVisitor.visitLabel(divisorIsNotZero);
+                methodVisitor.visitInsn(Opcodes.DDIV);
+                break;
+            }
+            default:
+                throw new IllegalStateException("Unhandled operator (" + operation.operator + ").");
+        }
+
+        if (!operation.isResultUnboxed) {
+            methodVisitor.visitMethodInsn(Opcodes.INVOKESTATIC, Type.getInternalName(PythonFloat.class), "valueOf",
+                    Type.getMethodDescriptor(Type.getType(PythonFloat.class), Type.DOUBLE_TYPE), false);
+        }
+    }
+
+    /**
+     * Replaces the two operands on the top of the stack by their double values; an operand that is already
+     * a double is left as is.
+     */
+    static void unboxOperands(MethodVisitor methodVisitor, PythonLikeType leftType, boolean isLeftUnboxed,
+            PythonLikeType rightType, boolean isRightUnboxed) {
+        if (!isRightUnboxed) {
+            if (!isLeftUnboxed) {
+                // Stack is left, right
+                methodVisitor.visitInsn(Opcodes.SWAP);
+                unbox(methodVisitor, leftType);
+                // Stack is right, (double) left
+                methodVisitor.visitInsn(Opcodes.DUP2_X1);
+                methodVisitor.visitInsn(Opcodes.POP2);
+            }
+            // Stack is (double) left, right
+            unbox(methodVisitor, rightType);
+        } else if (!isLeftUnboxed) {
+            // Stack is left, (double) right
+            methodVisitor.visitInsn(Opcodes.DUP2_X1);
+            methodVisitor.visitInsn(Opcodes.POP2);
+            unbox(methodVisitor, leftType);
+            // Stack is (double) right, (double) left
+            methodVisitor.visitInsn(Opcodes.DUP2_X2);
+            methodVisitor.visitInsn(Opcodes.POP2);
+        }
+    }
+
+    /**
+     * Replaces the int or float on the top of the stack by its double value.
+     */
+    private static void unbox(MethodVisitor methodVisitor, PythonLikeType type) {
+        if (type == BuiltinTypes.FLOAT_TYPE) {
+            methodVisitor.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(PythonFloat.class));
+            methodVisitor.visitFieldInsn(Opcodes.GETFIELD, Type.getInternalName(PythonFloat.class), "value",
+                    Type.getDescriptor(double.class));
+        } else {
+            methodVisitor.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(PythonInteger.class));
+            methodVisitor.visitFieldInsn(Opcodes.GETFIELD, Type.getInternalName(PythonInteger.class), "value",
+                    Type.getDescriptor(BigInteger.class));
+            methodVisitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, Type.getInternalName(BigInteger.class), "doubleValue",
+                    Type.getMethodDescriptor(Type.DOUBLE_TYPE), false);
+        }
+    }
+}
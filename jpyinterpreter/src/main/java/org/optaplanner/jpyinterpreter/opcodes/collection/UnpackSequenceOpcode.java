@@ -26,6 +26,10 @@ public class UnpackSequenceOpcode extends AbstractOpcode {
 
     @Override
     public void implement(FunctionMetadata functionMetadata, StackMetadata stackMetadata) {
+        if (functionMetadata.isFusedIterateAndUnpack(instruction.offset)) {
+            // The FOR_ITER before this instruction already unpacked the item
+            return;
+        }
         CollectionImplementor.unpackSequence(functionMetadata.methodVisitor, instruction.arg,
                 stackMetadata.localVariableHelper);
     }
@@ -41,7 +41,12 @@ public class ForIterOpcode extends AbstractControlFlowOpcode {
 
     @Override
     public void implement(FunctionMetadata functionMetadata, StackMetadata stackMetadata) {
-        CollectionImplementor.iterateIterator(functionMetadata.methodVisitor, jumpTarget,
-                stackMetadata, functionMetadata);
+        if (functionMetadata.isFusedIterateAndUnpack(instruction.offset)) {
+            CollectionImplementor.iterateIteratorAndUnpackPair(functionMetadata.methodVisitor, jumpTarget,
+                    stackMetadata, functionMetadata);
+        } else {
+            CollectionImplementor.iterateIterator(functionMetadata.methodVisitor, jumpTarget,
+                    stackMetadata, functionMetadata);
+        }
     }
 }
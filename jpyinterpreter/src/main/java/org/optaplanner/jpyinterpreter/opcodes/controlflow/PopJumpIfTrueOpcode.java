@@ -6,6 +6,7 @@ import java.util.Map;
 import org.optaplanner.jpyinterpreter.FunctionMetadata;
 import org.optaplanner.jpyinterpreter.PythonBytecodeInstruction;
 import org.optaplanner.jpyinterpreter.StackMetadata;
+import org.optaplanner.jpyinterpreter.implementors.CompareAndJumpImplementor;
 import org.optaplanner.jpyinterpreter.implementors.JumpImplementor;
 
 public class PopJumpIfTrueOpcode extends AbstractControlFlowOpcode {
@@ -38,6 +39,12 @@ public class PopJumpIfTrueOpcode extends AbstractControlFlowOpcode {
 
     @Override
     public void implement(FunctionMetadata functionMetadata, StackMetadata stackMetadata) {
+        CompareAndJumpImplementor.FusedComparison fusedComparison =
+                functionMetadata.getFusedComparison(instruction.offset);
+        if (fusedComparison != null) {
+            CompareAndJumpImplementor.jump(functionMetadata, fusedComparison, jumpTarget, true);
+            return;
+        }
         JumpImplementor.popAndJumpIfTrue(functionMetadata, stackMetadata, jumpTarget);
     }
 }
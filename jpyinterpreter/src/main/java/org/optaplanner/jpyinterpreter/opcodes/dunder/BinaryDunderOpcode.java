@@ -9,6 +9,7 @@ import org.optaplanner.jpyinterpreter.PythonFunctionSignature;
 import org.optaplanner.jpyinterpreter.StackMetadata;
 import org.optaplanner.jpyinterpreter.ValueSourceInfo;
 import org.optaplanner.jpyinterpreter.implementors.DunderOperatorImplementor;
+import org.optaplanner.jpyinterpreter.implementors.UnboxedFloatImplementor;
 import org.optaplanner.jpyinterpreter.opcodes.AbstractOpcode;
 import org.optaplanner.jpyinterpreter.types.BuiltinTypes;
 import org.optaplanner.jpyinterpreter.types.PythonKnownFunctionType;
@@ -23,6 +24,10 @@ public class BinaryDunderOpcode extends AbstractOpcode {
         this.operator = operator;
     }
 
+    public PythonBinaryOperators getOperator() {
+        return operator;
+    }
+
     @Override
     public StackMetadata getStackMetadataAfterInstruction(FunctionMetadata functionMetadata,
             StackMetadata stackMetadata) {
@@ -49,6 +54,12 @@ public class BinaryDunderOpcode extends AbstractOpcode {
 
     @Override
     public void implement(FunctionMetadata functionMetadata, StackMetadata stackMetadata) {
+        UnboxedFloatImplementor.UnboxedFloatOperation unboxedFloatOperation =
+                functionMetadata.getUnboxedFloatOperation(instruction.offset);
+        if (unboxedFloatOperation != null) {
+            UnboxedFloatImplementor.binaryOperator(functionMetadata.methodVisitor, unboxedFloatOperation);
+            return;
+        }
         DunderOperatorImplementor.binaryOperator(functionMetadata.methodVisitor, stackMetadata, operator);
     }
 }
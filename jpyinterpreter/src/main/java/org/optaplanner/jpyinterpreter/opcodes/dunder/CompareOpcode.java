@@ -5,6 +5,7 @@ import org.optaplanner.jpyinterpreter.FunctionMetadata;
 import org.optaplanner.jpyinterpreter.PythonBytecodeInstruction;
 import org.optaplanner.jpyinterpreter.StackMetadata;
 import org.optaplanner.jpyinterpreter.ValueSourceInfo;
+import org.optaplanner.jpyinterpreter.implementors.CompareAndJumpImplementor;
 import org.optaplanner.jpyinterpreter.implementors.DunderOperatorImplementor;
 import org.optaplanner.jpyinterpreter.opcodes.AbstractOpcode;
 import org.optaplanner.jpyinterpreter.types.BuiltinTypes;
@@ -15,6 +16,10 @@ public class CompareOpcode extends AbstractOpcode {
         super(instruction);
     }
 
+    public CompareOp getCompareOp() {
+        return CompareOp.getOp(instruction.arg);
+    }
+
     @Override
     public StackMetadata getStackMetadataAfterInstruction(FunctionMetadata functionMetadata,
             StackMetadata stackMetadata) {
@@ -24,7 +29,12 @@ public class CompareOpcode extends AbstractOpcode {
 
     @Override
     public void implement(FunctionMetadata functionMetadata, StackMetadata stackMetadata) {
-        DunderOperatorImplementor.compareValues(functionMetadata.methodVisitor, stackMetadata,
-                CompareOp.getOp(instruction.arg));
+        CompareAndJumpImplementor.FusedComparison fusedComparison =
+                functionMetadata.getFusedComparison(instruction.offset);
+        if (fusedComparison != null) {
+            CompareAndJumpImplementor.compare(functionMetadata.methodVisitor, fusedComparison);
+            return;
+        }
+        DunderOperatorImplementor.compareValues(functionMetadata.methodVisitor, stackMetadata, getCompareOp());
     }
 }
@@ -0,0 +1,57 @@
+package org.optaplanner.jpyinterpreter.profiling;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.optaplanner.jpyinterpreter.types.PythonLikeType;
+
+/**
+ * Counts how often the generic path of a {@link GenericFallbackSite} runs, and with which runtime operand types.
+ */
+public final class GenericFallbackCounter {
+    private final GenericFallbackSite site;
+    private final LongAdder count = new LongAdder();
+    private final Map<List<PythonLikeType>, LongAdder> runtimeTypesToCount = new ConcurrentHashMap<>();
+
+    GenericFallbackCounter(GenericFallbackSite site) {
+        this.site = site;
+    }
+
+    public GenericFallbackSite getSite() {
+        return site;
+    }
+
+    /**
+     * @return how often the generic path ran
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * @return how often the generic path ran for each combination of runtime operand types.
+     *         Empty if the operand types are not recorded for this site.
+     */
+    public Map<List<PythonLikeType>, Long> getRuntimeTypeCounts() {
+        Map<List<PythonLikeType>, Long> out = new HashMap<>();
+        runtimeTypesToCount.forEach((types, typeCount) -> out.put(types, typeCount.sum()));
+        return out;
+    }
+
+    void increment() {
+        count.increment();
+    }
+
+    void increment(List<PythonLikeType> runtimeTypes) {
+        count.increment();
+        runtimeTypesToCount.computeIfAbsent(runtimeTypes, ignored -> new LongAdder()).increment();
+    }
+
+    void reset() {
+        count.reset();
+        runtimeTypesToCount.clear();
+    }
+}
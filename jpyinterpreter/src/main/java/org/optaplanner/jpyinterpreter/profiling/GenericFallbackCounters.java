@@ -0,0 +1,129 @@
+package org.optaplanner.jpyinterpreter.profiling;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import org.optaplanner.jpyinterpreter.InterpreterStartupOptions;
+import org.optaplanner.jpyinterpreter.PythonLikeObject;
+import org.optaplanner.jpyinterpreter.types.BuiltinTypes;
+import org.optaplanner.jpyinterpreter.types.PythonLikeType;
+
+/**
+ * Holds the {@link GenericFallbackCounter} of every generic fallback site emitted while
+ * {@link InterpreterStartupOptions#countGenericFallbacks} was true.
+ * The translated code refers to its counters by index, and calls the {@code increment} methods
+ * each time it runs the generic path of a site.
+ */
+public final class GenericFallbackCounters {
+    private static volatile GenericFallbackCounter[] counters = new GenericFallbackCounter[16];
+    private static int counterCount = 0;
+
+    private GenericFallbackCounters() {
+    }
+
+    public static boolean isEnabled() {
+        return InterpreterStartupOptions.countGenericFallbacks;
+    }
+
+    /**
+     * @return the index of the new counter for the given site
+     */
+    static synchronized int register(GenericFallbackSite site) {
+        GenericFallbackCounter[] newCounters = counters;
+        if (counterCount == newCounters.length) {
+            newCounters = Arrays.copyOf(newCounters, newCounters.length * 2);
+        }
+        newCounters[counterCount] = new GenericFallbackCounter(site);
+        counters = newCounters;
+        return counterCount++;
+    }
+
+    public static void increment(int siteIndex) {
+        counters[siteIndex].increment();
+    }
+
+    public static void increment(PythonLikeObject operand, int siteIndex) {
+        counters[siteIndex].increment(List.of(getType(operand)));
+    }
+
+    public static void increment(PythonLikeObject left, PythonLikeObject right, int siteIndex) {
+        counters[siteIndex].increment(List.of(getType(left), getType(right)));
+    }
+
+    private static PythonLikeType getType(PythonLikeObject object) {
+        if (object == null) {
+            // NULL is pushed by LOAD_METHOD and LOAD_GLOBAL
+            return BuiltinTypes.NULL_TYPE;
+        }
+        return object.__getType();
+    }
+
+    /**
+     * @return the counters of every site whose generic path ran, most frequent first
+     */
+    public static List<GenericFallbackCounter> getCounters() {
+        GenericFallbackCounter[] currentCounters;
+        int currentCounterCount;
+        synchronized (GenericFallbackCounters.class) {
+            currentCounters = counters;
+            currentCounterCount = counterCount;
+        }
+        return Arrays.stream(currentCounters, 0, currentCounterCount)
+                .filter(counter -> counter.getCount() > 0)
+                .sorted(Comparator.comparingLong(GenericFallbackCounter::getCount).reversed())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Sets every counter to zero. The sites are kept, since translated code still refers to them.
+     */
+    public static synchronized void reset() {
+        for (int i = 0; i < counterCount; i++) {
+            counters[i].reset();
+        }
+    }
+
+    /**
+     * @return a report of the generic paths that ran, grouped by Python file and sorted by line.
+     *         Each site with a high count is a good candidate for a type hint.
+     */
+    public static String getReport() {
+        Map<String, List<GenericFallbackCounter>> fileToCounters = new TreeMap<>();
+        for (GenericFallbackCounter counter : getCounters()) {
+            GenericFallbackSite site = counter.getSite();
+            String file = Objects.requireNonNullElse(site.getFileName(), site.getModuleName());
+            fileToCounters.computeIfAbsent(file, ignored -> new ArrayList<>()).add(counter);
+        }
+
+        StringBuilder out = new StringBuilder();
+        fileToCounters.forEach((file, fileCounters) -> {
+            out.append(file).append('\n');
+            fileCounters.sort(Comparator
+                    .comparing((GenericFallbackCounter counter) -> counter.getSite().getLineNumber(),
+                            Comparator.nullsLast(Comparator.naturalOrder()))
+                    .thenComparingInt(counter -> counter.getSite().getInstructionIndex()));
+            for (GenericFallbackCounter counter : fileCounters) {
+                GenericFallbackSite site = counter.getSite();
+                out.append("    line ").append(site.getLineNumber() != null ? site.getLineNumber() : "?")
+                        .append(": ").append(counter.getCount()).append("x ")
+                        .append(site.getOperation())
+                        .append(" in ").append(site.getFunctionName())
+                        .append(" (").append(site.getOpname()).append(")\n");
+                counter.getRuntimeTypeCounts().entrySet().stream()
+                        .sorted(Map.Entry.<List<PythonLikeType>, Long> comparingByValue().reversed())
+                        .forEach(entry -> out.append("        ")
+                                .append(entry.getKey().stream()
+                                        .map(PythonLikeType::getTypeName)
+                                        .collect(Collectors.joining(", ")))
+                                .append(": ").append(entry.getValue()).append('\n'));
+            }
+        });
+        return out.toString();
+    }
+}
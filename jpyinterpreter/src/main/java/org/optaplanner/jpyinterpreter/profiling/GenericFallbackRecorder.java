@@ -0,0 +1,65 @@
+package org.optaplanner.jpyinterpreter.profiling;
+
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.optaplanner.jpyinterpreter.PythonLikeObject;
+import org.optaplanner.jpyinterpreter.types.PythonLikeType;
+
+/**
+ * Called by implementors when the instruction they are emitting falls back to a generic dunder method,
+ * attribute lookup or call.
+ */
+public final class GenericFallbackRecorder {
+    private GenericFallbackRecorder() {
+    }
+
+    /**
+     * Records the generic fallback in {@link TranslationMetricsRegistry}, and if
+     * {@link GenericFallbackCounters#isEnabled()}, emits code that counts how often the generic path runs.
+     * The emitted code leaves the stack unchanged.
+     *
+     * @param methodVisitor The method visitor of the instruction
+     * @param recordedOperandCount How many operands (0, 1 or 2) on the top of the stack should have their
+     *        runtime types recorded
+     * @param operation The generic operation (for instance, a dunder method name)
+     * @param knownTypes The types of the operands known at translation time
+     */
+    public static void record(MethodVisitor methodVisitor, int recordedOperandCount, String operation,
+            PythonLikeType... knownTypes) {
+        TranslationMetricsRegistry.recordGenericFallback(operation, knownTypes);
+
+        if (!GenericFallbackCounters.isEnabled()) {
+            return;
+        }
+
+        GenericFallbackSite site =
+                TranslationMetricsRegistry.getGenericFallbackSiteForCurrentInstruction(operation, knownTypes);
+        if (site == null) {
+            return;
+        }
+
+        Type[] parameterTypes;
+        switch (recordedOperandCount) {
+            case 0:
+                parameterTypes = new Type[] { Type.INT_TYPE };
+                break;
+            case 1:
+                methodVisitor.visitInsn(Opcodes.DUP);
+                parameterTypes = new Type[] { Type.getType(PythonLikeObject.class), Type.INT_TYPE };
+                break;
+            case 2:
+                methodVisitor.visitInsn(Opcodes.DUP2);
+                parameterTypes = new Type[] { Type.getType(PythonLikeObject.class), Type.getType(PythonLikeObject.class),
+                        Type.INT_TYPE };
+                break;
+            default:
+                throw new IllegalArgumentException("Can only record the types of at most two operands, got ("
+                        + recordedOperandCount + ").");
+        }
+
+        methodVisitor.visitLdcInsn(GenericFallbackCounters.register(site));
+        methodVisitor.visitMethodInsn(Opcodes.INVOKESTATIC, Type.getInternalName(GenericFallbackCounters.class),
+                "increment", Type.getMethodDescriptor(Type.VOID_TYPE, parameterTypes), false);
+    }
+}
@@ -0,0 +1,111 @@
+package org.optaplanner.jpyinterpreter.profiling;
+
+import java.util.Objects;
+
+/**
+ * A Python instruction whose translation fell back to a generic (dynamically dispatched) dunder method or call,
+ * because the types of its operands could not be determined at translation time.
+ */
+public final class GenericFallbackSite {
+    private final String className;
+    private final String functionName;
+    private final String moduleName;
+    private final String fileName;
+    private final Integer lineNumber;
+    private final int instructionIndex;
+    private final String opname;
+    private final String operation;
+
+    public GenericFallbackSite(String className, String functionName, String moduleName, String fileName,
+            Integer lineNumber, int instructionIndex, String opname, String operation) {
+        this.className = className;
+        this.functionName = functionName;
+        this.moduleName = moduleName;
+        this.fileName = fileName;
+        this.lineNumber = lineNumber;
+        this.instructionIndex = instructionIndex;
+        this.opname = opname;
+        this.operation = operation;
+    }
+
+    /**
+     * @return the name of the generated Java class containing the instruction
+     */
+    public String getClassName() {
+        return className;
+    }
+
+    /**
+     * @return the qualified name of the Python function containing the instruction
+     */
+    public String getFunctionName() {
+        return functionName;
+    }
+
+    /**
+     * @return the Python module of the function
+     */
+    public String getModuleName() {
+        return moduleName;
+    }
+
+    /**
+     * @return the Python source file of the function, or null if unknown
+     */
+    public String getFileName() {
+        return fileName;
+    }
+
+    /**
+     * @return the Python source line of the instruction, or null if unknown
+     */
+    public Integer getLineNumber() {
+        return lineNumber;
+    }
+
+    /**
+     * @return the index of the instruction in the function's instruction list
+     */
+    public int getInstructionIndex() {
+        return instructionIndex;
+    }
+
+    /**
+     * @return the name of the Python opcode of the instruction
+     */
+    public String getOpname() {
+        return opname;
+    }
+
+    /**
+     * @return a description of the generic operation, including the operand types known at translation time
+     */
+    public String getOperation() {
+        return operation;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        GenericFallbackSite that = (GenericFallbackSite) o;
+        return instructionIndex == that.instructionIndex && className.equals(that.className)
+                && operation.equals(that.operation);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(className, instructionIndex, operation);
+    }
+
+    @Override
+    public String toString() {
+        return functionName + " (" + (fileName != null ? fileName : moduleName) + ":"
+                + (lineNumber != null ? lineNumber : "?") + ") " + opname + " at instruction "
+                + instructionIndex + ": " + operation;
+    }
+}
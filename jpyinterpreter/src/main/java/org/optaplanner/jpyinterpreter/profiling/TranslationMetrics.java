@@ -0,0 +1,87 @@
+package org.optaplanner.jpyinterpreter.profiling;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Metrics collected while translating a single generated class
+ * (a Python function, a Python class or an overload dispatcher).
+ */
+public final class TranslationMetrics {
+    private final String className;
+    private final Map<TranslationPhase, Long> phaseToNanos = new EnumMap<>(TranslationPhase.class);
+    private final Set<GenericFallbackSite> genericFallbackSites = new LinkedHashSet<>();
+    private int bytecodeSize;
+
+    TranslationMetrics(String className) {
+        this.className = className;
+    }
+
+    /**
+     * @return the name of the generated Java class
+     */
+    public String getClassName() {
+        return className;
+    }
+
+    /**
+     * @return the time spent in the given phase, in nanoseconds
+     */
+    public synchronized long getPhaseNanos(TranslationPhase phase) {
+        return phaseToNanos.getOrDefault(phase, 0L);
+    }
+
+    /**
+     * @return the time spent in all phases, in nanoseconds
+     */
+    public synchronized long getTotalNanos() {
+        long out = 0L;
+        for (long nanos : phaseToNanos.values()) {
+            out += nanos;
+        }
+        return out;
+    }
+
+    /**
+     * @return the size of the generated class file, in bytes
+     */
+    public synchronized int getBytecodeSize() {
+        return bytecodeSize;
+    }
+
+    /**
+     * @return the instructions that were translated to a generic dunder method or call
+     */
+    public synchronized List<GenericFallbackSite> getGenericFallbackSites() {
+        return Collections.unmodifiableList(new ArrayList<>(genericFallbackSites));
+    }
+
+    synchronized void addPhaseNanos(TranslationPhase phase, long nanos) {
+        phaseToNanos.merge(phase, nanos, Long::sum);
+    }
+
+    synchronized void setBytecodeSize(int bytecodeSize) {
+        this.bytecodeSize = bytecodeSize;
+    }
+
+    synchronized void addGenericFallbackSite(GenericFallbackSite genericFallbackSite) {
+        genericFallbackSites.add(genericFallbackSite);
+    }
+
+    @Override
+    public synchronized String toString() {
+        StringBuilder out = new StringBuilder();
+        out.append(className).append(": ");
+        for (TranslationPhase phase : TranslationPhase.values()) {
+            out.append(phase).append('=').append(getPhaseNanos(phase) / 1000L).append("us, ");
+        }
+        out.append("bytecode=").append(bytecodeSize).append("B, ");
+        out.append("genericFallbacks=").append(genericFallbackSites.size());
+        return out.toString();
+    }
+}
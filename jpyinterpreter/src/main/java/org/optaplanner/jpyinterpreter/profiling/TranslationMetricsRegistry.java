@@ -0,0 +1,197 @@
+package org.optaplanner.jpyinterpreter.profiling;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.optaplanner.jpyinterpreter.FunctionMetadata;
+import org.optaplanner.jpyinterpreter.InterpreterStartupOptions;
+import org.optaplanner.jpyinterpreter.PythonBytecodeInstruction;
+import org.optaplanner.jpyinterpreter.PythonCompiledFunction;
+import org.optaplanner.jpyinterpreter.types.PythonLikeType;
+
+/**
+ * A queryable registry of {@link TranslationMetrics}, keyed by generated class name.
+ * Nothing is recorded unless {@link InterpreterStartupOptions#collectTranslationMetrics} is true.
+ * <p>
+ * Phases are timed like this:
+ *
+ * <pre>
+ * long startTime = TranslationMetricsRegistry.startPhase();
+ * // ...
+ * TranslationMetricsRegistry.endPhase(className, TranslationPhase.FLOW_ANALYSIS, startTime);
+ * </pre>
+ */
+public final class TranslationMetricsRegistry {
+    private static final Map<String, TranslationMetrics> classNameToMetrics = new ConcurrentHashMap<>();
+
+    private static final ThreadLocal<Deque<InstructionContext>> instructionContextStack =
+            ThreadLocal.withInitial(ArrayDeque::new);
+
+    private TranslationMetricsRegistry() {
+    }
+
+    public static boolean isEnabled() {
+        return InterpreterStartupOptions.collectTranslationMetrics;
+    }
+
+    /**
+     * @return the metrics for the given generated class, or null if none were recorded
+     */
+    public static TranslationMetrics getMetrics(String className) {
+        return classNameToMetrics.get(className.replace('/', '.'));
+    }
+
+    /**
+     * @return the metrics of every generated class, sorted by total translation time (slowest first)
+     */
+    public static List<TranslationMetrics> getAllMetrics() {
+        return classNameToMetrics.values().stream()
+                .sorted(Comparator.comparingLong(TranslationMetrics::getTotalNanos).reversed())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * @return every instruction that was translated to a generic dunder method or call
+     */
+    public static List<GenericFallbackSite> getGenericFallbackSites() {
+        List<GenericFallbackSite> out = new ArrayList<>();
+        for (TranslationMetrics metrics : getAllMetrics()) {
+            out.addAll(metrics.getGenericFallbackSites());
+        }
+        return out;
+    }
+
+    public static void clear() {
+        classNameToMetrics.clear();
+    }
+
+    /**
+     * @return the start time to pass to {@link #endPhase(String, TranslationPhase, long)}
+     */
+    public static long startPhase() {
+        if (!isEnabled()) {
+            return 0L;
+        }
+        return System.nanoTime();
+    }
+
+    public static void endPhase(String className, TranslationPhase phase, long startTime) {
+        if (!isEnabled()) {
+            return;
+        }
+        getOrCreateMetrics(className).addPhaseNanos(phase, System.nanoTime() - startTime);
+    }
+
+    public static void recordBytecodeSize(String className, int bytecodeSize) {
+        if (!isEnabled()) {
+            return;
+        }
+        getOrCreateMetrics(className).setBytecodeSize(bytecodeSize);
+    }
+
+    /**
+     * Marks the start of bytecode emission for the instructions of a function on the current thread.
+     * Must be paired with {@link #exitFunction()}.
+     */
+    public static void enterFunction(FunctionMetadata functionMetadata) {
+        if (!isTrackingInstructions()) {
+            return;
+        }
+        instructionContextStack.get().push(new InstructionContext(functionMetadata));
+    }
+
+    public static void exitFunction() {
+        if (!isTrackingInstructions()) {
+            return;
+        }
+        instructionContextStack.get().poll();
+    }
+
+    /**
+     * Sets the instruction whose bytecode is currently being emitted on this thread.
+     * Instructions must be set in order, since only the first instruction of a line has its line number.
+     */
+    public static void setCurrentInstruction(int instructionIndex, PythonBytecodeInstruction instruction) {
+        if (!isTrackingInstructions()) {
+            return;
+        }
+        InstructionContext context = instructionContextStack.get().peek();
+        if (context != null) {
+            context.instructionIndex = instructionIndex;
+            context.instruction = instruction;
+            if (instruction.startsLine != null) {
+                context.lineNumber = instruction.startsLine;
+            }
+        }
+    }
+
+    /**
+     * Records that the instruction currently being emitted on this thread uses a generic dunder method or call.
+     * Prefer {@link GenericFallbackRecorder#record}, which also emits a runtime counter for the site when enabled.
+     *
+     * @param operation The generic operation (for instance, a dunder method name)
+     * @param knownTypes The types of the operands known at translation time
+     */
+    public static void recordGenericFallback(String operation, PythonLikeType... knownTypes) {
+        if (!isEnabled()) {
+            return;
+        }
+        GenericFallbackSite site = getGenericFallbackSiteForCurrentInstruction(operation, knownTypes);
+        if (site != null) {
+            getOrCreateMetrics(site.getClassName()).addGenericFallbackSite(site);
+        }
+    }
+
+    static boolean isTrackingInstructions() {
+        return isEnabled() || GenericFallbackCounters.isEnabled();
+    }
+
+    /**
+     * @return the site of the instruction currently being emitted on this thread, or null if no instruction
+     *         is being emitted
+     */
+    static GenericFallbackSite getGenericFallbackSiteForCurrentInstruction(String operation,
+            PythonLikeType... knownTypes) {
+        InstructionContext context = instructionContextStack.get().peek();
+        if (context == null || context.instruction == null) {
+            return null;
+        }
+        PythonCompiledFunction pythonCompiledFunction = context.functionMetadata.pythonCompiledFunction;
+        StringBuilder description = new StringBuilder(operation);
+        if (knownTypes.length > 0) {
+            description.append(" on (");
+            for (int i = 0; i < knownTypes.length; i++) {
+                if (i != 0) {
+                    description.append(", ");
+                }
+                description.append(knownTypes[i] != null ? knownTypes[i].getTypeName() : "?");
+            }
+            description.append(')');
+        }
+
+        return new GenericFallbackSite(context.functionMetadata.className.replace('/', '.'),
+                pythonCompiledFunction.qualifiedName, pythonCompiledFunction.module, pythonCompiledFunction.co_filename,
+                context.lineNumber, context.instructionIndex, context.instruction.opname, description.toString());
+    }
+
+    private static TranslationMetrics getOrCreateMetrics(String className) {
+        return classNameToMetrics.computeIfAbsent(className.replace('/', '.'), TranslationMetrics::new);
+    }
+
+    private static final class InstructionContext {
+        final FunctionMetadata functionMetadata;
+        int instructionIndex;
+        PythonBytecodeInstruction instruction;
+        Integer lineNumber;
+
+        InstructionContext(FunctionMetadata functionMetadata) {
+            this.functionMetadata = functionMetadata;
+        }
+    }
+}
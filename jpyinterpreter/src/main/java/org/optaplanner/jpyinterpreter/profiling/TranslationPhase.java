@@ -0,0 +1,27 @@
+package org.optaplanner.jpyinterpreter.profiling;
+
+/**
+ * The phases of translating a Python function, class or dispatcher into a Java class.
+ */
+public enum TranslationPhase {
+    /**
+     * Building the {@link org.optaplanner.jpyinterpreter.dag.FlowGraph} and inferring the stack types
+     * of each instruction.
+     */
+    FLOW_ANALYSIS,
+
+    /**
+     * Writing the Java bytecode with ASM, including frame and max stack computation.
+     */
+    BYTECODE_EMISSION,
+
+    /**
+     * Defining (loading) the generated class in the class loader.
+     */
+    CLASS_DEFINITION,
+
+    /**
+     * Setting the static fields (constants, names, globals, type) of the generated class.
+     */
+    STATIC_FIELD_SETUP
+}
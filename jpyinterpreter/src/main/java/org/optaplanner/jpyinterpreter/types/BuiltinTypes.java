@@ -2,9 +2,9 @@ package org.optaplanner.jpyinterpreter.types;
 
 import java.lang.reflect.Field;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.optaplanner.jpyinterpreter.PythonBytecodeToJavaBytecodeTranslator;
 import org.optaplanner.jpyinterpreter.PythonLikeObject;
@@ -85,7 +85,7 @@ public class BuiltinTypes {
      * The ASM generated bytecode. Used by
      * asmClassLoader to create the Java versions of Python methods
      */
-    public static final Map<String, byte[]> classNameToBytecode = new HashMap<>();
+    public static final Map<String, byte[]> classNameToBytecode = new ConcurrentHashMap<>();
     /**
      * A custom classloader that looks for the class in
      * classNameToBytecode
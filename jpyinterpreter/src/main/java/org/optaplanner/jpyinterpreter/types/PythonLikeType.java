@@ -469,8 +469,8 @@ public class PythonLikeType implements PythonLikeObject,
     public PythonLikeType getDefiningTypeOrNull(String attributeName) {
         if (__dir__.containsKey(attributeName) &&
                 (this == BuiltinTypes.BASE_TYPE
-                        || (__dir__.get(attributeName).getClass() != BuiltinTypes.BASE_TYPE.__dir__.get(attributeName)
-                                .getClass()))) {
+                        || isDifferentImplementation(__dir__.get(attributeName),
+                                BuiltinTypes.BASE_TYPE.__dir__.get(attributeName)))) {
             return this;
         }
 
@@ -483,6 +483,14 @@ public class PythonLikeType implements PythonLikeObject,
         return null;
     }
 
+    private static boolean isDifferentImplementation(PythonLikeObject attribute, PythonLikeObject baseAttribute) {
+        if (attribute instanceof PythonOverloadImplementor.LazyOverloadDispatch) {
+            // Every type gets its own dispatcher, so a lazy dispatcher is never the base type's implementation
+            return attribute != baseAttribute;
+        }
+        return baseAttribute == null || attribute.getClass() != baseAttribute.getClass();
+    }
+
     public PythonLikeObject __getAttributeOrNull(String attributeName) {
         PythonLikeObject out = __dir__.get(attributeName);
         if (out == null) {
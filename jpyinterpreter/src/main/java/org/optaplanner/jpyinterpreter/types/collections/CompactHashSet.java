@@ -0,0 +1,257 @@
+package org.optaplanner.jpyinterpreter.types.collections;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * The {@link java.util.Set} that backs {@link PythonLikeSet} and {@link PythonLikeFrozenSet}.
+ * <p>
+ * Small sets store their items in an array, which is searched linearly; for a few items, that is cheaper than
+ * computing a hash, and does not allocate a node per item like {@link java.util.HashSet}. Larger sets use an
+ * open-addressing table with linear probing, which stores the hash of every item so the table can be probed and
+ * resized without calling {@link Object#hashCode()} again.
+ */
+final class CompactHashSet<E> extends AbstractSet<E> {
+    // Sets with at most this many items are stored in an array and searched linearly
+    private static final int INLINE_CAPACITY = 8;
+
+    // Marks an item that was removed from the table, so probing continues past it
+    private static final Object REMOVED = new Object();
+
+    // Stands for null in items, since null marks an empty slot in the table
+    private static final Object NULL_ITEM = new Object();
+
+    private static final Object[] EMPTY = new Object[0];
+
+    private Object[] items;
+
+    // The hash of each item in the table; null while the items are stored in an array
+    private int[] hashes;
+
+    private int size;
+
+    // The number of slots in the table that are not empty, including the slots of removed items
+    private int usedSlots;
+
+    private int modCount;
+
+    CompactHashSet() {
+        items = EMPTY;
+    }
+
+    CompactHashSet(int expectedSize) {
+        if (expectedSize <= INLINE_CAPACITY) {
+            items = (expectedSize == 0) ? EMPTY : new Object[expectedSize];
+        } else {
+            items = new Object[tableCapacityFor(expectedSize)];
+            hashes = new int[items.length];
+        }
+    }
+
+    private static int tableCapacityFor(int itemCount) {
+        // Keeps the table at most two thirds full
+        return Integer.highestOneBit(Math.max(itemCount * 3 / 2, 1)) << 1;
+    }
+
+    private static int hash(Object item) {
+        int hash = item.hashCode() * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    private static Object mask(Object item) {
+        return (item == null) ? NULL_ITEM : item;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> E unmask(Object item) {
+        return (item == NULL_ITEM) ? null : (E) item;
+    }
+
+    private int indexOf(Object maskedItem) {
+        if (hashes == null) {
+            for (int i = 0; i < size; i++) {
+                Object item = items[i];
+                if (item == maskedItem || maskedItem.equals(item)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        int hash = hash(maskedItem);
+        int mask = items.length - 1;
+        for (int i = hash & mask;; i = (i + 1) & mask) {
+            Object item = items[i];
+            if (item == null) {
+                return -1;
+            }
+            if (item == maskedItem || (hashes[i] == hash && item != REMOVED && maskedItem.equals(item))) {
+                return i;
+            }
+        }
+    }
+
+    @Override
+    public boolean contains(Object item) {
+        return indexOf(mask(item)) != -1;
+    }
+
+    @Override
+    public boolean add(E item) {
+        Object maskedItem = mask(item);
+        if (indexOf(maskedItem) != -1) {
+            return false;
+        }
+
+        modCount++;
+        if (hashes == null) {
+            if (size < items.length) {
+                items[size++] = maskedItem;
+                return true;
+            }
+            if (size < INLINE_CAPACITY) {
+                items = Arrays.copyOf(items, Math.min(Math.max(size * 2, 2), INLINE_CAPACITY));
+                items[size++] = maskedItem;
+                return true;
+            }
+            resize(tableCapacityFor(size + 1));
+        } else if ((usedSlots + 1) * 3 > items.length * 2) {
+            resize(tableCapacityFor(size + 1));
+        }
+        insertIntoTable(maskedItem, hash(maskedItem));
+        size++;
+        usedSlots++;
+        return true;
+    }
+
+    private void insertIntoTable(Object maskedItem, int hash) {
+        int mask = items.length - 1;
+        int i = hash & mask;
+        while (items[i] != null) {
+            i = (i + 1) & mask;
+        }
+        items[i] = maskedItem;
+        hashes[i] = hash;
+    }
+
+    private void resize(int capacity) {
+        Object[] oldItems = items;
+        int[] oldHashes = hashes;
+
+        items = new Object[capacity];
+        hashes = new int[capacity];
+        usedSlots = size;
+
+        if (oldHashes == null) {
+            for (int i = 0; i < size; i++) {
+                insertIntoTable(oldItems[i], hash(oldItems[i]));
+            }
+        } else {
+            for (int i = 0; i < oldItems.length; i++) {
+                Object item = oldItems[i];
+                if (item != null && item != REMOVED) {
+                    insertIntoTable(item, oldHashes[i]);
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean remove(Object item) {
+        int index = indexOf(mask(item));
+        if (index == -1) {
+            return false;
+        }
+        removeAt(index);
+        return true;
+    }
+
+    private void removeAt(int index) {
+        modCount++;
+        size--;
+        if (hashes == null) {
+            items[index] = items[size];
+            items[size] = null;
+        } else {
+            items[index] = REMOVED;
+        }
+    }
+
+    @Override
+    public void clear() {
+        modCount++;
+        items = EMPTY;
+        hashes = null;
+        size = 0;
+        usedSlots = 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new CompactHashSetIterator();
+    }
+
+    private final class CompactHashSetIterator implements Iterator<E> {
+        private int nextIndex;
+        private int lastIndex = -1;
+        private int expectedModCount = modCount;
+
+        private CompactHashSetIterator() {
+            nextIndex = advance(0);
+        }
+
+        private int advance(int index) {
+            if (hashes == null) {
+                return index;
+            }
+            while (index < items.length && (items[index] == null || items[index] == REMOVED)) {
+                index++;
+            }
+            return index;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < ((hashes == null) ? size : items.length);
+        }
+
+        @Override
+        public E next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            lastIndex = nextIndex;
+            nextIndex = advance(nextIndex + 1);
+            return unmask(items[lastIndex]);
+        }
+
+        @Override
+        public void remove() {
+            if (lastIndex == -1) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            boolean isInline = hashes == null;
+            removeAt(lastIndex);
+            if (isInline) {
+                // The last item was moved into the removed item's place, so it is the next item
+                nextIndex = lastIndex;
+            }
+            lastIndex = -1;
+            expectedModCount = modCount;
+        }
+    }
+}
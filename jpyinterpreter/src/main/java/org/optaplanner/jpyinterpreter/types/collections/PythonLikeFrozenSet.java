@@ -2,7 +2,6 @@ package org.optaplanner.jpyinterpreter.types.collections;
 
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Objects;
 import java.util.Set;
@@ -128,13 +127,13 @@ public class PythonLikeFrozenSet extends AbstractPythonLikeObject implements Set
 
     public PythonLikeFrozenSet() {
         super(BuiltinTypes.FROZEN_SET_TYPE);
-        delegate = new HashSet<>();
+        delegate = new CompactHashSet<>();
     }
 
     public PythonLikeFrozenSet(PythonLikeObject iterable) {
         super(BuiltinTypes.FROZEN_SET_TYPE);
         Iterator<PythonLikeObject> iterator = (Iterator<PythonLikeObject>) UnaryDunderBuiltin.ITERATOR.invoke(iterable);
-        delegate = new HashSet<>();
+        delegate = new CompactHashSet<>();
         iterator.forEachRemaining(delegate::add);
     }
 
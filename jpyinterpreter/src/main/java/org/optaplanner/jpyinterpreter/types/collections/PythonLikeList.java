@@ -28,9 +28,17 @@ import org.optaplanner.jpyinterpreter.types.numeric.PythonBoolean;
 import org.optaplanner.jpyinterpreter.types.numeric.PythonInteger;
 
 public class PythonLikeList<T> extends AbstractPythonLikeObject implements List<T>, RandomAccess {
-    final List delegate;
+    // Volatile, like the flags below, since slicing a list changes how it stores its items, and lists can be read
+    // by several threads at once (ex: move threads reading a problem fact list)
+    volatile List delegate;
     private int remainderToAdd;
 
+    // True if delegate is shared with a slice view, and thus must be copied before it is modified
+    private volatile boolean delegateIsShared;
+
+    // True if delegate was given out by getDelegate(), and thus cannot be shared with a slice view
+    private volatile boolean delegateIsExposed;
+
     static {
         PythonOverloadImplementor.deferDispatchesFor(PythonLikeList::registerMethods);
     }
@@ -124,6 +132,11 @@ public class PythonLikeList<T> extends AbstractPythonLikeObject implements List<
         remainderToAdd = 0;
     }
 
+    private PythonLikeList(SliceView<?> sliceView) {
+        this((List) sliceView);
+        delegateIsShared = true;
+    }
+
     // Required for bytecode generation
     @SuppressWarnings("unused")
     public void reverseAdd(PythonLikeObject object) {
@@ -169,6 +182,7 @@ public class PythonLikeList<T> extends AbstractPythonLikeObject implements List<
     }
 
     public PythonLikeList multiplyToSelf(PythonInteger times) {
+        ensureDelegateIsWritable();
         if (times.value.compareTo(BigInteger.ZERO) <= 0) {
             delegate.clear();
             return this;
@@ -248,18 +262,26 @@ public class PythonLikeList<T> extends AbstractPythonLikeObject implements List<
     }
 
     public PythonLikeList getSlice(PythonSlice slice) {
-        int length = delegate.size();
-
-        PythonLikeList out = new PythonLikeList();
-
-        slice.iterate(length, (i, processed) -> {
-            out.add(delegate.get(i));
-        });
+        List<?> items = delegate;
+        SliceView<Object> sliceView = SliceView.of(items, slice);
+
+        // Sharing the items means this list copies all of them on its next modification,
+        // so only share them when the slice would copy at least half of them anyway
+        if (!delegateIsExposed && !sliceView.isEmpty() && sliceView.size() * 2 >= items.size()) {
+            synchronized (this) {
+                // Checked again, since another thread may have copied or exposed the items in the meantime
+                if (!delegateIsExposed && delegate == items) {
+                    delegateIsShared = true;
+                    return new PythonLikeList<>(sliceView);
+                }
+            }
+        }
 
-        return out;
+        return new PythonLikeList(new ArrayList<>(sliceView));
     }
 
     public PythonLikeObject setItem(PythonInteger index, PythonLikeObject value) {
+        ensureDelegateIsWritable();
         int indexAsInt = index.value.intValueExact();
 
         if (indexAsInt < 0) {
@@ -275,6 +297,7 @@ public class PythonLikeList<T> extends AbstractPythonLikeObject implements List<
     }
 
     public PythonLikeObject setSlice(PythonSlice slice, PythonLikeObject iterable) {
+        ensureDelegateIsWritable();
         int length = delegate.size();
         int start = slice.getStartIndex(length);
         int stop = slice.getStopIndex(length);
@@ -306,6 +329,7 @@ public class PythonLikeList<T> extends AbstractPythonLikeObject implements List<
     }
 
     public PythonNone deleteItem(PythonInteger index) {
+        ensureDelegateIsWritable();
         if (index.value.compareTo(BigInteger.ZERO) < 0) {
             delegate.remove(delegate.size() + index.value.intValueExact());
         } else {
@@ -315,6 +339,7 @@ public class PythonLikeList<T> extends AbstractPythonLikeObject implements List<
     }
 
     public PythonNone deleteSlice(PythonSlice slice) {
+        ensureDelegateIsWritable();
         int length = delegate.size();
         int start = slice.getStartIndex(length);
         int stop = slice.getStopIndex(length);
@@ -343,6 +368,7 @@ public class PythonLikeList<T> extends AbstractPythonLikeObject implements List<
     }
 
     public PythonNone remove(PythonLikeObject item) {
+        ensureDelegateIsWritable();
         if (!delegate.remove(item)) {
             throw new ValueError("list.remove(x): x not in list");
         }
@@ -350,6 +376,7 @@ public class PythonLikeList<T> extends AbstractPythonLikeObject implements List<
     }
 
     public PythonNone insert(PythonInteger index, PythonLikeObject item) {
+        ensureDelegateIsWritable();
         int indexAsInt = PythonSlice.asIntIndexForLength(index, delegate.size());
 
         if (indexAsInt < 0) {
@@ -365,6 +392,7 @@ public class PythonLikeList<T> extends AbstractPythonLikeObject implements List<
     }
 
     public PythonLikeObject pop() {
+        ensureDelegateIsWritable();
         if (delegate.isEmpty()) {
             throw new IndexError("pop from empty list");
         }
@@ -372,6 +400,7 @@ public class PythonLikeList<T> extends AbstractPythonLikeObject implements List<
     }
 
     public PythonLikeObject pop(PythonInteger index) {
+        ensureDelegateIsWritable();
         if (delegate.isEmpty()) {
             throw new IndexError("pop from empty list");
         }
@@ -403,11 +432,13 @@ public class PythonLikeList<T> extends AbstractPythonLikeObject implements List<
     }
 
     public PythonNone append(PythonLikeObject item) {
+        ensureDelegateIsWritable();
         delegate.add(item);
         return PythonNone.INSTANCE;
     }
 
     public PythonNone extend(PythonLikeObject item) {
+        ensureDelegateIsWritable();
         if (item instanceof Collection) {
             delegate.addAll((List) item);
         } else {
@@ -418,16 +449,19 @@ public class PythonLikeList<T> extends AbstractPythonLikeObject implements List<
     }
 
     public PythonNone reverse() {
+        ensureDelegateIsWritable();
         Collections.reverse(delegate);
         return PythonNone.INSTANCE;
     }
 
     public PythonNone sort() {
+        ensureDelegateIsWritable();
         Collections.sort(delegate);
         return PythonNone.INSTANCE;
     }
 
     public PythonNone clearList() {
+        ensureDelegateIsWritable();
         delegate.clear();
         return PythonNone.INSTANCE;
     }
@@ -453,6 +487,7 @@ public class PythonLikeList<T> extends AbstractPythonLikeObject implements List<
 
     @Override
     public Iterator<T> iterator() {
+        ensureDelegateIsWritable();
         return delegate.iterator();
     }
 
@@ -467,11 +502,13 @@ public class PythonLikeList<T> extends AbstractPythonLikeObject implements List<
 
     @Override
     public boolean add(Object pythonLikeObject) {
+        ensureDelegateIsWritable();
         return delegate.add(pythonLikeObject);
     }
 
     @Override
     public boolean remove(Object o) {
+        ensureDelegateIsWritable();
         return delegate.remove(o);
     }
 
@@ -482,26 +519,31 @@ public class PythonLikeList<T> extends AbstractPythonLikeObject implements List<
 
     @Override
     public boolean addAll(Collection collection) {
+        ensureDelegateIsWritable();
         return delegate.addAll(collection);
     }
 
     @Override
     public boolean addAll(int i, Collection collection) {
+        ensureDelegateIsWritable();
         return delegate.addAll(i, collection);
     }
 
     @Override
     public boolean removeAll(Collection collection) {
+        ensureDelegateIsWritable();
         return delegate.removeAll(collection);
     }
 
     @Override
     public boolean retainAll(Collection collection) {
+        ensureDelegateIsWritable();
         return delegate.retainAll(collection);
     }
 
     @Override
     public void clear() {
+        ensureDelegateIsWritable();
         delegate.clear();
     }
 
@@ -512,16 +554,19 @@ public class PythonLikeList<T> extends AbstractPythonLikeObject implements List<
 
     @Override
     public Object set(int i, Object pythonLikeObject) {
+        ensureDelegateIsWritable();
         return delegate.set(i, pythonLikeObject);
     }
 
     @Override
     public void add(int i, Object pythonLikeObject) {
+        ensureDelegateIsWritable();
         delegate.add(i, pythonLikeObject);
     }
 
     @Override
     public T remove(int i) {
+        ensureDelegateIsWritable();
         return (T) delegate.remove(i);
     }
 
@@ -537,16 +582,19 @@ public class PythonLikeList<T> extends AbstractPythonLikeObject implements List<
 
     @Override
     public ListIterator<T> listIterator() {
+        ensureDelegateIsWritable();
         return delegate.listIterator();
     }
 
     @Override
     public ListIterator<T> listIterator(int i) {
+        ensureDelegateIsWritable();
         return delegate.listIterator(i);
     }
 
     @Override
     public List<T> subList(int i, int i1) {
+        ensureDelegateIsWritable();
         return delegate.subList(i, i1);
     }
 
@@ -590,6 +638,26 @@ public class PythonLikeList<T> extends AbstractPythonLikeObject implements List<
     }
 
     public List getDelegate() {
+        if (!delegateIsExposed) {
+            synchronized (this) {
+                ensureDelegateIsWritable();
+                delegateIsExposed = true;
+            }
+        }
         return delegate;
     }
+
+    private void ensureDelegateIsWritable() {
+        if (delegateIsShared) {
+            copySharedDelegate();
+        }
+    }
+
+    private synchronized void copySharedDelegate() {
+        // The copy is published before the flag is cleared, so a thread that sees the flag cleared sees the copy
+        if (delegateIsShared) {
+            delegate = new ArrayList<>(delegate);
+            delegateIsShared = false;
+        }
+    }
 }
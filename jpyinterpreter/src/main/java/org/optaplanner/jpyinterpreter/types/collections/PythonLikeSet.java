@@ -2,7 +2,6 @@ package org.optaplanner.jpyinterpreter.types.collections;
 
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Objects;
 import java.util.Set;
@@ -139,12 +138,12 @@ public class PythonLikeSet extends AbstractPythonLikeObject implements Set<Pytho
 
     public PythonLikeSet() {
         super(BuiltinTypes.SET_TYPE);
-        delegate = new HashSet<>();
+        delegate = new CompactHashSet<>();
     }
 
     public PythonLikeSet(int size) {
         super(BuiltinTypes.SET_TYPE);
-        delegate = new HashSet<>(size);
+        delegate = new CompactHashSet<>(size);
     }
 
     // Required for bytecode generation
@@ -194,49 +193,60 @@ public class PythonLikeSet extends AbstractPythonLikeObject implements Set<Pytho
     }
 
     public PythonLikeSet union(PythonLikeSet other) {
-        PythonLikeSet out = new PythonLikeSet();
+        PythonLikeSet out = new PythonLikeSet(delegate.size() + other.delegate.size());
         out.delegate.addAll(delegate);
         out.delegate.addAll(other.delegate);
         return out;
     }
 
     public PythonLikeSet union(PythonLikeFrozenSet other) {
-        PythonLikeSet out = new PythonLikeSet();
+        PythonLikeSet out = new PythonLikeSet(delegate.size() + other.delegate.size());
         out.delegate.addAll(delegate);
         out.delegate.addAll(other.delegate);
         return out;
     }
 
     public PythonLikeSet intersection(PythonLikeSet other) {
-        PythonLikeSet out = new PythonLikeSet();
-        out.delegate.addAll(delegate);
-        out.delegate.retainAll(other.delegate);
-        return out;
+        return intersection(delegate, other.delegate);
     }
 
     public PythonLikeSet intersection(PythonLikeFrozenSet other) {
-        PythonLikeSet out = new PythonLikeSet();
-        out.delegate.addAll(delegate);
-        out.delegate.retainAll(other.delegate);
+        return intersection(delegate, other.delegate);
+    }
+
+    // Only looks up items in the larger set, instead of copying this set and removing the items of the other set
+    private static PythonLikeSet intersection(Set<PythonLikeObject> first, Set<PythonLikeObject> second) {
+        Set<PythonLikeObject> smaller = (first.size() <= second.size()) ? first : second;
+        Set<PythonLikeObject> larger = (smaller == first) ? second : first;
+        PythonLikeSet out = new PythonLikeSet(smaller.size());
+        for (PythonLikeObject item : smaller) {
+            if (larger.contains(item)) {
+                out.delegate.add(item);
+            }
+        }
         return out;
     }
 
-    public PythonLikeSet difference(PythonLikeSet other) {
-        PythonLikeSet out = new PythonLikeSet();
-        out.delegate.addAll(delegate);
-        out.delegate.removeAll(other.delegate);
+    private static PythonLikeSet difference(Set<PythonLikeObject> first, Set<PythonLikeObject> second) {
+        PythonLikeSet out = new PythonLikeSet(first.size());
+        for (PythonLikeObject item : first) {
+            if (!second.contains(item)) {
+                out.delegate.add(item);
+            }
+        }
         return out;
     }
 
+    public PythonLikeSet difference(PythonLikeSet other) {
+        return difference(delegate, other.delegate);
+    }
+
     public PythonLikeSet difference(PythonLikeFrozenSet other) {
-        PythonLikeSet out = new PythonLikeSet();
-        out.delegate.addAll(delegate);
-        out.delegate.removeAll(other.delegate);
-        return out;
+        return difference(delegate, other.delegate);
     }
 
     public PythonLikeSet symmetricDifference(PythonLikeSet other) {
-        PythonLikeSet out = new PythonLikeSet();
+        PythonLikeSet out = new PythonLikeSet(delegate.size() + other.delegate.size());
         out.delegate.addAll(delegate);
         other.delegate.stream() // for each item in other
                 .filter(Predicate.not(out.delegate::add)) // add each item
@@ -246,7 +256,7 @@ public class PythonLikeSet extends AbstractPythonLikeObject implements Set<Pytho
     }
 
     public PythonLikeSet symmetricDifference(PythonLikeFrozenSet other) {
-        PythonLikeSet out = new PythonLikeSet();
+        PythonLikeSet out = new PythonLikeSet(delegate.size() + other.delegate.size());
         out.delegate.addAll(delegate);
         other.delegate.stream() // for each item in other
                 .filter(Predicate.not(out.delegate::add)) // add each item
@@ -275,7 +285,7 @@ public class PythonLikeSet extends AbstractPythonLikeObject implements Set<Pytho
             delegate.retainAll((Collection<? extends PythonLikeObject>) collection);
         } else {
             Iterator<PythonLikeObject> iterator = (Iterator<PythonLikeObject>) UnaryDunderBuiltin.ITERATOR.invoke(collection);
-            Set<PythonLikeObject> temp = new HashSet<>();
+            Set<PythonLikeObject> temp = new CompactHashSet<>();
             iterator.forEachRemaining(temp::add);
             delegate.retainAll(temp);
         }
@@ -305,13 +315,18 @@ public class PythonLikeSet extends AbstractPythonLikeObject implements Set<Pytho
     public PythonLikeSet symmetricDifferenceUpdateWithResult(PythonLikeObject collection) {
         if (collection instanceof Collection) {
             Collection<PythonLikeObject> otherSet = (Collection<PythonLikeObject>) collection;
-            Set<PythonLikeObject> temp = new HashSet<>(delegate);
-            temp.retainAll(otherSet);
+            Set<PythonLikeObject> temp = new CompactHashSet<>();
+            for (PythonLikeObject item : otherSet) {
+                if (delegate.contains(item)) {
+                    temp.add(item);
+                }
+            }
             delegate.addAll(otherSet);
             delegate.removeAll(temp);
         } else {
             Iterator<PythonLikeObject> iterator = (Iterator<PythonLikeObject>) UnaryDunderBuiltin.ITERATOR.invoke(collection);
-            Set<PythonLikeObject> encountered = new HashSet<>(delegate);
+            Set<PythonLikeObject> encountered = new CompactHashSet<>(delegate.size());
+            encountered.addAll(delegate);
             while (iterator.hasNext()) {
                 PythonLikeObject item = iterator.next();
                 if (encountered.contains(item)) {
@@ -1,6 +1,7 @@
 package org.optaplanner.jpyinterpreter.types.collections;
 
 import java.math.BigInteger;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
@@ -16,19 +17,36 @@ import org.optaplanner.jpyinterpreter.PythonUnaryOperator;
 import org.optaplanner.jpyinterpreter.builtins.UnaryDunderBuiltin;
 import org.optaplanner.jpyinterpreter.types.AbstractPythonLikeObject;
 import org.optaplanner.jpyinterpreter.types.BuiltinTypes;
+import org.optaplanner.jpyinterpreter.types.PythonBytes;
 import org.optaplanner.jpyinterpreter.types.PythonLikeType;
+import org.optaplanner.jpyinterpreter.types.PythonNone;
 import org.optaplanner.jpyinterpreter.types.PythonSlice;
+import org.optaplanner.jpyinterpreter.types.PythonString;
 import org.optaplanner.jpyinterpreter.types.errors.ValueError;
 import org.optaplanner.jpyinterpreter.types.errors.lookup.IndexError;
 import org.optaplanner.jpyinterpreter.types.numeric.PythonBoolean;
+import org.optaplanner.jpyinterpreter.types.numeric.PythonFloat;
 import org.optaplanner.jpyinterpreter.types.numeric.PythonInteger;
 
 public class PythonLikeTuple extends AbstractPythonLikeObject implements List<PythonLikeObject>, RandomAccess {
     public static PythonLikeTuple EMPTY = PythonLikeTuple.fromList(List.of());
 
-    final List<PythonLikeObject> delegate;
+    // Volatile, like delegateIsShared, since slicing a tuple marks its items as shared, and tuples can be read
+    // by several threads at once
+    volatile List<PythonLikeObject> delegate;
     private int remainderToAdd;
 
+    // True if delegate is shared with a slice view, and thus must be copied before it is modified
+    private volatile boolean delegateIsShared;
+
+    // Tuples are used as dict keys and group keys, so their hash is cached until they are modified.
+    // The hash is only cached if every item is a builtin with a fixed hash (ex: an int or a str); other items,
+    // such as lists or user objects with a custom __hash__, can change their hash without the tuple knowing.
+    // Like String.hash, racy reads only cause the hash to be recomputed.
+    private int hash;
+    private boolean hashIsZero;
+    private PythonInteger hashObject;
+
     static {
         PythonOverloadImplementor.deferDispatchesFor(PythonLikeTuple::registerMethods);
     }
@@ -95,10 +113,15 @@ public class PythonLikeTuple extends AbstractPythonLikeObject implements List<Py
         }
     }
 
+    private PythonLikeTuple(List<PythonLikeObject> delegate) {
+        super(BuiltinTypes.TUPLE_TYPE);
+        this.delegate = delegate;
+        remainderToAdd = 0;
+    }
+
     public static PythonLikeTuple fromList(List<PythonLikeObject> other) {
-        PythonLikeTuple result = new PythonLikeTuple();
-        result.addAll(other);
-        return result;
+        // Sized exactly, since most tuples are small and never grow
+        return new PythonLikeTuple(new ArrayList<>(other));
     }
 
     public PythonLikeTuple concatToNew(PythonLikeTuple other) {
@@ -179,14 +202,21 @@ public class PythonLikeTuple extends AbstractPythonLikeObject implements List<Py
     }
 
     public PythonLikeTuple getSlice(PythonSlice slice) {
-        int length = delegate.size();
-
-        PythonLikeTuple out = new PythonLikeTuple();
+        List<PythonLikeObject> items = delegate;
+        SliceView<PythonLikeObject> sliceView = SliceView.of(items, slice);
+        if (sliceView.isEmpty()) {
+            return new PythonLikeTuple();
+        }
 
-        slice.iterate(length, (i, processed) -> {
-            out.add(delegate.get(i));
-        });
+        // Tuples are immutable from Python, so sharing their items almost never leads to a copy.
+        // However, the slice keeps all the items of this tuple alive, so a small slice copies its items instead.
+        if (sliceView.size() * 2 < items.size()) {
+            return new PythonLikeTuple(new ArrayList<>(sliceView));
+        }
 
+        delegateIsShared = true;
+        PythonLikeTuple out = new PythonLikeTuple(sliceView);
+        out.delegateIsShared = true;
         return out;
     }
 
@@ -247,10 +277,23 @@ public class PythonLikeTuple extends AbstractPythonLikeObject implements List<Py
     }
 
     public void reverseAdd(PythonLikeObject object) {
+        prepareForModification();
         delegate.set(remainderToAdd - 1, object);
         remainderToAdd--;
     }
 
+    private void prepareForModification() {
+        hash = 0;
+        hashIsZero = false;
+        hashObject = null;
+
+        if (delegateIsShared) {
+            // The copy is published before the flag is cleared, so a thread that sees the flag cleared sees the copy
+            delegate = new ArrayList<>(delegate);
+            delegateIsShared = false;
+        }
+    }
+
     @Override
     public int size() {
         return delegate.size();
@@ -283,11 +326,13 @@ public class PythonLikeTuple extends AbstractPythonLikeObject implements List<Py
 
     @Override
     public boolean add(PythonLikeObject pythonLikeObject) {
+        prepareForModification();
         return delegate.add(pythonLikeObject);
     }
 
     @Override
     public boolean remove(Object o) {
+        prepareForModification();
         return delegate.remove(o);
     }
 
@@ -298,26 +343,31 @@ public class PythonLikeTuple extends AbstractPythonLikeObject implements List<Py
 
     @Override
     public boolean addAll(Collection<? extends PythonLikeObject> collection) {
+        prepareForModification();
         return delegate.addAll(collection);
     }
 
     @Override
     public boolean addAll(int i, Collection<? extends PythonLikeObject> collection) {
+        prepareForModification();
         return delegate.addAll(i, collection);
     }
 
     @Override
     public boolean removeAll(Collection<?> collection) {
+        prepareForModification();
         return delegate.removeAll(collection);
     }
 
     @Override
     public boolean retainAll(Collection<?> collection) {
+        prepareForModification();
         return delegate.retainAll(collection);
     }
 
     @Override
     public void clear() {
+        prepareForModification();
         delegate.clear();
     }
 
@@ -328,16 +378,19 @@ public class PythonLikeTuple extends AbstractPythonLikeObject implements List<Py
 
     @Override
     public PythonLikeObject set(int i, PythonLikeObject pythonLikeObject) {
+        prepareForModification();
         return delegate.set(i, pythonLikeObject);
     }
 
     @Override
     public void add(int i, PythonLikeObject pythonLikeObject) {
+        prepareForModification();
         delegate.add(i, pythonLikeObject);
     }
 
     @Override
     public PythonLikeObject remove(int i) {
+        prepareForModification();
         return delegate.remove(i);
     }
 
@@ -353,21 +406,39 @@ public class PythonLikeTuple extends AbstractPythonLikeObject implements List<Py
 
     @Override
     public ListIterator<PythonLikeObject> listIterator() {
-        return delegate.listIterator();
+        return listIterator(0);
     }
 
     @Override
     public ListIterator<PythonLikeObject> listIterator(int i) {
-        return delegate.listIterator(i);
+        return new ModifiableView(0, delegate.size()).listIterator(i);
     }
 
     @Override
     public List<PythonLikeObject> subList(int i, int i1) {
-        return delegate.subList(i, i1);
+        Objects.checkFromToIndex(i, i1, delegate.size());
+        return new ModifiableView(i, i1 - i);
     }
 
     @Override
     public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (o instanceof PythonLikeTuple) {
+            List<PythonLikeObject> items = delegate;
+            List<PythonLikeObject> otherItems = ((PythonLikeTuple) o).delegate;
+            int itemCount = items.size();
+            if (otherItems.size() != itemCount) {
+                return false;
+            }
+            for (int i = 0; i < itemCount; i++) {
+                if (!Objects.equals(items.get(i), otherItems.get(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
         if (o instanceof List) {
             List other = (List) o;
             if (other.size() != this.size()) {
@@ -386,16 +457,118 @@ public class PythonLikeTuple extends AbstractPythonLikeObject implements List<Py
 
     @Override
     public int hashCode() {
-        return Objects.hash(delegate);
+        int out = hash;
+        if (out == 0 && !hashIsZero) {
+            // Same value as Objects.hash(delegate), without allocating an array and an iterator
+            int listHash = 1;
+            boolean isCacheable = true;
+            List<PythonLikeObject> items = delegate;
+            int itemCount = items.size();
+            for (int i = 0; i < itemCount; i++) {
+                PythonLikeObject item = items.get(i);
+                listHash = 31 * listHash + ((item == null) ? 0 : item.hashCode());
+                isCacheable = isCacheable && hasFixedHash(item);
+            }
+            out = 31 + listHash;
+            if (!isCacheable) {
+                return out;
+            }
+            if (out == 0) {
+                hashIsZero = true;
+            } else {
+                hash = out;
+            }
+        }
+        return out;
+    }
+
+    private boolean isHashCached() {
+        return hash != 0 || hashIsZero;
+    }
+
+    /**
+     * Returns true if the hash of {@code item} can never change; called after {@code item.hashCode()}, so the hash
+     * of an immutable tuple item is already cached. Exact classes are checked, since a Python subclass of a builtin
+     * can override __hash__.
+     */
+    private static boolean hasFixedHash(PythonLikeObject item) {
+        if (item == null) {
+            return true;
+        }
+        Class<?> itemClass = item.getClass();
+        if (itemClass == PythonLikeTuple.class) {
+            return ((PythonLikeTuple) item).isHashCached();
+        }
+        return itemClass == PythonInteger.class || itemClass == PythonBoolean.class || itemClass == PythonFloat.class
+                || itemClass == PythonString.class || itemClass == PythonBytes.class || itemClass == PythonNone.class;
     }
 
     @Override
     public PythonInteger $method$__hash__() {
-        return PythonInteger.valueOf(hashCode());
+        PythonInteger out = hashObject;
+        if (out == null) {
+            out = PythonInteger.valueOf(hashCode());
+            if (isHashCached()) {
+                hashObject = out;
+            }
+        }
+        return out;
     }
 
     @Override
     public String toString() {
         return delegate.toString();
     }
+
+    /**
+     * A view of a range of this tuple that only prepares it for modification when it is written through, so
+     * read-only uses of {@link #listIterator()} and {@link #subList(int, int)} keep the cached hash and the
+     * shared items of a slice.
+     */
+    private final class ModifiableView extends AbstractList<PythonLikeObject> implements RandomAccess {
+        private final int offset;
+        private int size;
+
+        private ModifiableView(int offset, int size) {
+            this.offset = offset;
+            this.size = size;
+        }
+
+        @Override
+        public PythonLikeObject get(int index) {
+            Objects.checkIndex(index, size);
+            return delegate.get(offset + index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public PythonLikeObject set(int index, PythonLikeObject item) {
+            Objects.checkIndex(index, size);
+            prepareForModification();
+            return delegate.set(offset + index, item);
+        }
+
+        @Override
+        public void add(int index, PythonLikeObject item) {
+            Objects.checkIndex(index, size + 1);
+            prepareForModification();
+            delegate.add(offset + index, item);
+            size++;
+            modCount++;
+        }
+
+        @Override
+        public PythonLikeObject remove(int index) {
+            Objects.checkIndex(index, size);
+            prepareForModification();
+            PythonLikeObject out = delegate.remove(offset + index);
+            size--;
+            modCount++;
+            return out;
+        }
+    }
 }
@@ -0,0 +1,64 @@
+package org.optaplanner.jpyinterpreter.types.collections;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+import org.optaplanner.jpyinterpreter.types.PythonSlice;
+
+/**
+ * A read-only view of the items a {@link PythonSlice} selects from a list.
+ * <p>
+ * The view does not copy the items; instead, the list it was taken from and the list that wraps the view both treat
+ * the shared items as read-only, and copy them before their first modification. Slices of a view are views of the
+ * original items, so a chain of slices never nests.
+ */
+final class SliceView<T> extends AbstractList<T> implements RandomAccess {
+    private final List<? extends T> items;
+    private final int start;
+    private final int step;
+    private final int size;
+
+    private SliceView(List<? extends T> items, int start, int step, int size) {
+        this.items = items;
+        this.start = start;
+        this.step = step;
+        this.size = size;
+    }
+
+    static <T> SliceView<T> of(List<? extends T> items, PythonSlice slice) {
+        int length = items.size();
+        int start = slice.getStartIndex(length);
+        int stop = slice.getStopIndex(length);
+        int step = slice.getStrideLength();
+        int size;
+
+        if (step > 0) {
+            start = Math.max(start, 0);
+            stop = Math.max(stop, 0);
+            size = (stop > start) ? (stop - start + step - 1) / step : 0;
+        } else {
+            start = Math.max(start, -1);
+            stop = Math.max(stop, -1);
+            size = (start > stop) ? (start - stop - step - 1) / -step : 0;
+        }
+
+        if (items instanceof SliceView) {
+            SliceView<? extends T> view = (SliceView<? extends T>) items;
+            return new SliceView<>(view.items, view.start + start * view.step, view.step * step, size);
+        }
+        return new SliceView<>(items, start, step, size);
+    }
+
+    @Override
+    public T get(int index) {
+        Objects.checkIndex(index, size);
+        return items.get(start + index * step);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
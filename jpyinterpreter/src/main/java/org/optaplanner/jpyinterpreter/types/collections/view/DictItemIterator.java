@@ -0,0 +1,49 @@
+package org.optaplanner.jpyinterpreter.types.collections.view;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.optaplanner.jpyinterpreter.PythonLikeObject;
+import org.optaplanner.jpyinterpreter.types.BuiltinTypes;
+import org.optaplanner.jpyinterpreter.types.collections.PythonIterator;
+import org.optaplanner.jpyinterpreter.types.collections.PythonLikeTuple;
+import org.optaplanner.jpyinterpreter.types.errors.StopIteration;
+
+/**
+ * The iterator of a {@link DictItemView}.
+ * <p>
+ * Its items are (key, value) tuples. Bytecode that immediately unpacks each item into two variables
+ * (i.e. {@code for key, value in d.items()}) calls {@link #nextEntry()} instead, so no tuple is created.
+ */
+public class DictItemIterator extends PythonIterator<PythonLikeObject> {
+    private final Iterator<Map.Entry<PythonLikeObject, PythonLikeObject>> entryIterator;
+
+    public DictItemIterator(Iterator<Map.Entry<PythonLikeObject, PythonLikeObject>> entryIterator) {
+        super(BuiltinTypes.ITERATOR_TYPE);
+        this.entryIterator = entryIterator;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return entryIterator.hasNext();
+    }
+
+    @Override
+    public PythonLikeObject next() {
+        Map.Entry<PythonLikeObject, PythonLikeObject> entry = nextEntry();
+        return PythonLikeTuple.fromList(List.of(entry.getKey(), entry.getValue()));
+    }
+
+    @Override
+    public PythonLikeObject nextPythonItem() {
+        return next();
+    }
+
+    public Map.Entry<PythonLikeObject, PythonLikeObject> nextEntry() {
+        if (!entryIterator.hasNext()) {
+            throw new StopIteration();
+        }
+        return entryIterator.next();
+    }
+}
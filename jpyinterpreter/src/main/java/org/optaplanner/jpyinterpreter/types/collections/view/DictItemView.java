@@ -95,9 +95,7 @@ public class DictItemView extends AbstractPythonLikeObject {
     }
 
     public PythonIterator<PythonLikeObject> getItemsIterator() {
-        return new PythonIterator<>(
-                IteratorUtils.iteratorMap(entrySet.iterator(),
-                        entry -> PythonLikeTuple.fromList(List.of(entry.getKey(), entry.getValue()))));
+        return new DictItemIterator(entrySet.iterator());
     }
 
     public PythonBoolean containsItem(PythonLikeObject o) {
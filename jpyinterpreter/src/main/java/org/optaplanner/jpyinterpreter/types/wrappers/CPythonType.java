@@ -3,6 +3,7 @@ package org.optaplanner.jpyinterpreter.types.wrappers;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.optaplanner.jpyinterpreter.CPythonBackedPythonInterpreter;
 import org.optaplanner.jpyinterpreter.PythonLikeObject;
@@ -15,7 +16,8 @@ import org.optaplanner.jpyinterpreter.types.numeric.PythonInteger;
 
 public class CPythonType extends PythonLikeType {
 
-    private static final Map<Number, CPythonType> cpythonTypeMap = new HashMap<>();
+    // Maps the id of a CPython type to its CPythonType; CPython objects are wrapped from any solver thread
+    private static final Map<Long, CPythonType> cpythonTypeMap = new ConcurrentHashMap<>();
 
     private final OpaquePythonReference pythonReference;
     private final Map<String, PythonLikeObject> cachedAttributeMap;
@@ -27,14 +29,27 @@ public class CPythonType extends PythonLikeType {
     }
 
     public static CPythonType lookupTypeOfPythonObject(OpaquePythonReference reference) {
-        OpaquePythonReference type = CPythonBackedPythonInterpreter.getPythonReferenceType(reference);
-        return cpythonTypeMap.computeIfAbsent(CPythonBackedPythonInterpreter.getPythonReferenceId(type),
-                key -> new CPythonType(type));
+        // The type is looked up and cached on the Python side, so this only crosses into CPython once
+        return CPythonBackedPythonInterpreter.getPythonReferenceCPythonType(reference);
     }
 
     public static CPythonType getType(OpaquePythonReference typeReference) {
-        return cpythonTypeMap.computeIfAbsent(CPythonBackedPythonInterpreter.getPythonReferenceId(typeReference),
-                key -> new CPythonType(typeReference));
+        return getType(typeReference, CPythonBackedPythonInterpreter.getPythonReferenceId(typeReference));
+    }
+
+    /**
+     * Returns the type for the CPython type {@code typeReference}, whose id is already known.
+     */
+    public static CPythonType getType(OpaquePythonReference typeReference, Number typeId) {
+        Long key = typeId.longValue();
+        CPythonType out = cpythonTypeMap.get(key);
+        if (out != null) {
+            return out;
+        }
+        // Not computeIfAbsent, since creating the type calls into CPython, which can look up other types
+        CPythonType created = new CPythonType(typeReference);
+        out = cpythonTypeMap.putIfAbsent(key, created);
+        return (out != null) ? out : created;
     }
 
     private CPythonType(OpaquePythonReference pythonReference) {
@@ -28,6 +28,14 @@ public class PythonObjectWrapper extends CPythonBackedPythonLikeObject
         cachedAttributeMap = new HashMap<>();
     }
 
+    /**
+     * Wraps {@code pythonReference}, whose type was already resolved on the Python side.
+     */
+    public PythonObjectWrapper(OpaquePythonReference pythonReference, CPythonType type) {
+        super(type, pythonReference);
+        cachedAttributeMap = new HashMap<>();
+    }
+
     public OpaquePythonReference getWrappedObject() {
         return $cpythonReference;
     }
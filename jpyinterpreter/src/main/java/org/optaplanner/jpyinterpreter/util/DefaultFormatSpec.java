@@ -1,6 +1,9 @@
 package org.optaplanner.jpyinterpreter.util;
 
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -79,7 +82,30 @@ public class DefaultFormatSpec {
         this.conversionType = conversionType;
     }
 
+    private static final Map<String, DefaultFormatSpec> SPEC_TO_FORMAT_SPEC = new ConcurrentHashMap<>();
+    private static final Map<String, DefaultFormatSpec> SPEC_TO_STRING_FORMAT_SPEC = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the parsed spec from {@code cache}, parsing it with {@code parser} the first time. Format specs are
+     * almost always constants, so each distinct spec is only parsed once.
+     */
+    private static DefaultFormatSpec getCachedSpec(Map<String, DefaultFormatSpec> cache, PythonString formatSpec,
+            Function<PythonString, DefaultFormatSpec> parser) {
+        DefaultFormatSpec out = cache.get(formatSpec.value);
+        if (out == null) {
+            out = parser.apply(formatSpec);
+            if (cache.size() < StringFormatter.MAX_CACHED_FORMAT_STRINGS) {
+                cache.put(formatSpec.value, out);
+            }
+        }
+        return out;
+    }
+
     public static DefaultFormatSpec fromSpec(PythonString formatSpec) {
+        return getCachedSpec(SPEC_TO_FORMAT_SPEC, formatSpec, DefaultFormatSpec::parseSpec);
+    }
+
+    private static DefaultFormatSpec parseSpec(PythonString formatSpec) {
         Matcher matcher = DEFAULT_FORMAT_SPEC_PATTERN.matcher(formatSpec.value);
 
         if (!matcher.matches()) {
@@ -105,6 +131,10 @@ public class DefaultFormatSpec {
      * of strings.
      */
     public static DefaultFormatSpec fromStringSpec(PythonString formatSpec) {
+        return getCachedSpec(SPEC_TO_STRING_FORMAT_SPEC, formatSpec, DefaultFormatSpec::parseStringSpec);
+    }
+
+    private static DefaultFormatSpec parseStringSpec(PythonString formatSpec) {
         Matcher matcher = DEFAULT_FORMAT_SPEC_PATTERN.matcher(formatSpec.value);
 
         if (!matcher.matches()) {
@@ -4,10 +4,12 @@ import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -26,6 +28,17 @@ import org.optaplanner.jpyinterpreter.types.numeric.PythonFloat;
 import org.optaplanner.jpyinterpreter.types.numeric.PythonInteger;
 
 public class StringFormatter {
+    /**
+     * Parsed format strings are cached up to this many distinct strings, so strings built at runtime cannot
+     * grow the caches without bound.
+     */
+    final static int MAX_CACHED_FORMAT_STRINGS = 4096;
+
+    /**
+     * The number of characters reserved for each formatted value when sizing the output.
+     */
+    final static int ESTIMATED_FIELD_LENGTH = 8;
+
     final static String IDENTIFIER = "(?:(?:\\p{javaUnicodeIdentifierStart}|_)\\p{javaUnicodeIdentifierPart}*)";
     final static String ARG_NAME = "(?<argName>" + IDENTIFIER + "|\\d+)?";
     final static String ATTRIBUTE_NAME = IDENTIFIER;
@@ -77,13 +90,7 @@ public class StringFormatter {
             this.matchedCharacters = matchedCharacters;
         }
 
-        public static PrintfConversionType getConversionType(Matcher matcher) {
-            String conversion = matcher.group("type");
-
-            if (conversion == null) {
-                throw new ValueError("Invalid specifier at position " + matcher.start() + " in string ");
-            }
-
+        static PrintfConversionType getConversionType(String conversion) {
             for (PrintfConversionType conversionType : PrintfConversionType.values()) {
                 for (String matchedCharacter : conversionType.matchedCharacters) {
                     if (matchedCharacter.equals(conversion)) {
@@ -101,137 +108,207 @@ public class StringFormatter {
     }
 
     public static String printfInterpolate(CharSequence value, List<PythonLikeObject> tuple, PrintfStringType stringType) {
-        Matcher matcher = PRINTF_FORMAT_REGEX.matcher(value);
+        return CompiledPrintfFormat.compile(value.toString()).interpolate(tuple, stringType);
+    }
 
-        StringBuilder out = new StringBuilder();
-        int start = 0;
-        int currentElement = 0;
+    public static String printfInterpolate(CharSequence value, PythonLikeDict dict, PrintfStringType stringType) {
+        return CompiledPrintfFormat.compile(value.toString()).interpolate(dict, stringType);
+    }
 
-        while (matcher.find()) {
-            out.append(value, start, matcher.start());
-            start = matcher.end();
+    /**
+     * A printf-style format string for the "%" operator, parsed into the literal text and conversion specifiers
+     * it consists of. Parsing happens once per distinct format string; the result is cached, so formatting the same
+     * string again (for instance, a constant in a translated function) only performs the conversions.
+     */
+    static final class CompiledPrintfFormat {
+        private static final Map<String, CompiledPrintfFormat> FORMAT_TO_COMPILED_FORMAT = new ConcurrentHashMap<>();
+
+        /**
+         * Either a literal (when {@link #literal} is not null) or a conversion specifier.
+         */
+        private static final class Step {
+            final String literal;
+            final int position;
+            final String key;
+            final String flags;
+            final String minWidth;
+            final String precisionString;
+            final Optional<Integer> maybeWidth;
+            final Optional<Integer> maybePrecision;
+            // null if the specifier is invalid
+            final PrintfConversionType conversionType;
+
+            Step(String literal) {
+                this.literal = literal;
+                this.position = -1;
+                this.key = null;
+                this.flags = null;
+                this.minWidth = null;
+                this.precisionString = null;
+                this.maybeWidth = Optional.empty();
+                this.maybePrecision = Optional.empty();
+                this.conversionType = null;
+            }
 
-            String key = matcher.group("key");
-            if (key != null) {
-                throw new TypeError("format requires a mapping");
+            Step(Matcher matcher) {
+                this.literal = null;
+                this.position = matcher.start();
+                this.key = matcher.group("key");
+                this.flags = matcher.group("flags");
+                this.minWidth = matcher.group("minWidth");
+                this.precisionString = matcher.group("precision");
+                this.maybeWidth = (minWidth != null && !"*".equals(minWidth))
+                        ? Optional.of(Integer.parseInt(minWidth))
+                        : Optional.empty();
+                this.maybePrecision = (precisionString != null && !".*".equals(precisionString))
+                        ? Optional.of(Integer.parseInt(precisionString.substring(1)))
+                        : Optional.empty();
+                String type = matcher.group("type");
+                this.conversionType = (type != null) ? PrintfConversionType.getConversionType(type) : null;
             }
 
-            String flags = matcher.group("flags");
-            String minWidth = matcher.group("minWidth");
-            String precisionString = matcher.group("precision");
+            PrintfConversionType getConversionType() {
+                if (conversionType == null) {
+                    throw new ValueError("Invalid specifier at position " + position + " in string ");
+                }
+                return conversionType;
+            }
+        }
 
-            PrintfConversionType conversionType = PrintfConversionType.getConversionType(matcher);
+        private final Step[] steps;
+        private final int literalLength;
 
-            if (conversionType != PrintfConversionType.LITERAL_PERCENT) {
-                if (tuple.size() <= currentElement) {
-                    throw new TypeError("not enough arguments for format string");
+        private CompiledPrintfFormat(String value) {
+            Matcher matcher = PRINTF_FORMAT_REGEX.matcher(value);
+            List<Step> stepList = new ArrayList<>();
+            int start = 0;
+            int literalLength = 0;
+
+            while (matcher.find()) {
+                if (start < matcher.start()) {
+                    stepList.add(new Step(value.substring(start, matcher.start())));
+                    literalLength += matcher.start() - start;
                 }
+                start = matcher.end();
+                stepList.add(new Step(matcher));
+            }
+            if (start < value.length()) {
+                stepList.add(new Step(value.substring(start)));
+                literalLength += value.length() - start;
+            }
+            this.steps = stepList.toArray(new Step[0]);
+            this.literalLength = literalLength;
+        }
 
-                PythonLikeObject toConvert = tuple.get(currentElement);
+        static CompiledPrintfFormat compile(String value) {
+            CompiledPrintfFormat out = FORMAT_TO_COMPILED_FORMAT.get(value);
+            if (out == null) {
+                out = new CompiledPrintfFormat(value);
+                if (FORMAT_TO_COMPILED_FORMAT.size() < MAX_CACHED_FORMAT_STRINGS) {
+                    FORMAT_TO_COMPILED_FORMAT.put(value, out);
+                }
+            }
+            return out;
+        }
 
-                currentElement++;
+        String interpolate(List<PythonLikeObject> tuple, PrintfStringType stringType) {
+            StringBuilder out = new StringBuilder(literalLength + ESTIMATED_FIELD_LENGTH * tuple.size());
+            int currentElement = 0;
 
-                if ("*".equals(minWidth)) {
-                    if (tuple.size() <= currentElement) {
-                        throw new TypeError("not enough arguments for format string");
-                    }
-                    minWidth = ((PythonString) UnaryDunderBuiltin.STR.invoke(tuple.get(currentElement))).value;
-                    currentElement++;
+            for (Step step : steps) {
+                if (step.literal != null) {
+                    out.append(step.literal);
+                    continue;
+                }
+
+                if (step.key != null) {
+                    throw new TypeError("format requires a mapping");
                 }
 
-                if ("*".equals(precisionString)) {
+                PrintfConversionType conversionType = step.getConversionType();
+
+                if (conversionType != PrintfConversionType.LITERAL_PERCENT) {
+                    // Arguments for "*" width and precision come before the value to convert
+                    Optional<Integer> maybeWidth = step.maybeWidth;
+                    if ("*".equals(step.minWidth)) {
+                        if (tuple.size() <= currentElement) {
+                            throw new TypeError("not enough arguments for format string");
+                        }
+                        maybeWidth = Optional.of(Integer.parseInt(
+                                ((PythonString) UnaryDunderBuiltin.STR.invoke(tuple.get(currentElement))).value));
+                        currentElement++;
+                    }
+
+                    Optional<Integer> maybePrecision = step.maybePrecision;
+                    if (".*".equals(step.precisionString)) {
+                        if (tuple.size() <= currentElement) {
+                            throw new TypeError("not enough arguments for format string");
+                        }
+                        maybePrecision = Optional.of(Integer.parseInt(
+                                ((PythonString) UnaryDunderBuiltin.STR.invoke(tuple.get(currentElement))).value));
+                        currentElement++;
+                    }
+
                     if (tuple.size() <= currentElement) {
                         throw new TypeError("not enough arguments for format string");
                     }
-                    precisionString = ((PythonString) UnaryDunderBuiltin.STR.invoke(tuple.get(currentElement))).value;
-                    currentElement++;
-                }
 
-                Optional<Integer> maybePrecision, maybeWidth;
-                if (precisionString != null) {
-                    maybePrecision = Optional.of(Integer.parseInt(precisionString.substring(1)));
-                } else {
-                    maybePrecision = Optional.empty();
-                }
+                    PythonLikeObject toConvert = tuple.get(currentElement);
+                    currentElement++;
 
-                if (minWidth != null) {
-                    maybeWidth = Optional.of(Integer.parseInt(minWidth));
+                    out.append(performInterpolateConversion(step.flags, maybeWidth, maybePrecision, conversionType,
+                            toConvert, stringType));
                 } else {
-                    maybeWidth = Optional.empty();
+                    out.append("%");
                 }
-                out.append(performInterpolateConversion(flags, maybeWidth, maybePrecision, conversionType, toConvert,
-                        stringType));
-            } else {
-                out.append("%");
             }
+            return out.toString();
         }
 
-        out.append(value.subSequence(start, value.length()));
-
-        return out.toString();
-    }
-
-    public static String printfInterpolate(CharSequence value, PythonLikeDict dict, PrintfStringType stringType) {
-        Matcher matcher = PRINTF_FORMAT_REGEX.matcher(value);
-
-        StringBuilder out = new StringBuilder();
-        int start = 0;
-        while (matcher.find()) {
-            out.append(value, start, matcher.start());
-            start = matcher.end();
-
-            PrintfConversionType conversionType = PrintfConversionType.getConversionType(matcher);
+        String interpolate(PythonLikeDict dict, PrintfStringType stringType) {
+            StringBuilder out = new StringBuilder(literalLength + ESTIMATED_FIELD_LENGTH * steps.length);
 
-            if (conversionType != PrintfConversionType.LITERAL_PERCENT) {
-                String key = matcher.group("key");
-                if (key == null) {
-                    throw new ValueError(
-                            "When a dict is used for the interpolation operator, all conversions must have parenthesised keys");
+            for (Step step : steps) {
+                if (step.literal != null) {
+                    out.append(step.literal);
+                    continue;
                 }
-                key = key.substring(1, key.length() - 1);
 
-                String flags = matcher.group("flags");
-                String minWidth = matcher.group("minWidth");
-                String precisionString = matcher.group("precision");
+                PrintfConversionType conversionType = step.getConversionType();
 
-                if ("*".equals(minWidth)) {
-                    throw new ValueError(
-                            "* cannot be used for minimum field width when a dict is used for the interpolation operator");
-                }
+                if (conversionType != PrintfConversionType.LITERAL_PERCENT) {
+                    String key = step.key;
+                    if (key == null) {
+                        throw new ValueError("When a dict is used for the interpolation operator, "
+                                + "all conversions must have parenthesised keys");
+                    }
+                    key = key.substring(1, key.length() - 1);
 
-                if ("*".equals(precisionString)) {
-                    throw new ValueError("* cannot be used for precision when a dict is used for the interpolation operator");
-                }
+                    if ("*".equals(step.minWidth)) {
+                        throw new ValueError(
+                                "* cannot be used for minimum field width when a dict is used for the interpolation operator");
+                    }
 
-                PythonLikeObject toConvert;
-                if (stringType == PrintfStringType.STRING) {
-                    toConvert = dict.getItemOrError(PythonString.valueOf(key));
-                } else {
-                    toConvert = dict.getItemOrError(PythonString.valueOf(key).asAsciiBytes());
-                }
+                    if (".*".equals(step.precisionString)) {
+                        throw new ValueError(
+                                "* cannot be used for precision when a dict is used for the interpolation operator");
+                    }
 
-                Optional<Integer> maybePrecision, maybeWidth;
-                if (precisionString != null) {
-                    maybePrecision = Optional.of(Integer.parseInt(precisionString.substring(1)));
-                } else {
-                    maybePrecision = Optional.empty();
-                }
+                    PythonLikeObject toConvert;
+                    if (stringType == PrintfStringType.STRING) {
+                        toConvert = dict.getItemOrError(PythonString.valueOf(key));
+                    } else {
+                        toConvert = dict.getItemOrError(PythonString.valueOf(key).asAsciiBytes());
+                    }
 
-                if (minWidth != null) {
-                    maybeWidth = Optional.of(Integer.parseInt(minWidth));
+                    out.append(performInterpolateConversion(step.flags, step.maybeWidth, step.maybePrecision,
+                            conversionType, toConvert, stringType));
                 } else {
-                    maybeWidth = Optional.empty();
+                    out.append("%");
                 }
-
-                out.append(performInterpolateConversion(flags, maybeWidth, maybePrecision, conversionType, toConvert,
-                        stringType));
-            } else {
-                out.append("%");
             }
+            return out.toString();
         }
-
-        out.append(value.subSequence(start, value.length()));
-        return out.toString();
     }
 
     private static BigDecimal getBigDecimalWithPrecision(BigDecimal number, Optional<Integer> precision) {
@@ -490,113 +567,229 @@ public class StringFormatter {
 
     public static String format(String text, List<PythonLikeObject> positionalArguments,
             Map<? extends PythonLikeObject, PythonLikeObject> namedArguments) {
-        Matcher matcher = REPLACEMENT_FIELD_PATTERN.matcher(text);
-        StringBuilder out = new StringBuilder();
-        int start = 0;
-        int implicitField = 0;
+        return CompiledFormat.compile(text).format(positionalArguments, namedArguments);
+    }
 
-        while (matcher.find()) {
-            out.append(text, start, matcher.start());
-            start = matcher.end();
+    /**
+     * A format string for {@code str.format}, parsed into the literal text and replacement fields it consists of.
+     * Parsing happens once per distinct format string; the result is cached, so formatting the same string again
+     * (for instance, a constant in a translated function) only looks up and formats the fields.
+     */
+    static final class CompiledFormat {
+        private static final Map<String, CompiledFormat> FORMAT_TO_COMPILED_FORMAT = new ConcurrentHashMap<>();
+
+        /**
+         * Either a literal (when {@link #literal} is not null) or a replacement field.
+         */
+        private static final class Step {
+            final String literal;
+            final String argName;
+            // -1 if argName is not an int
+            final int argumentIndex;
+            final PythonString argNameKey;
+            // Attribute names (as PythonString, prefixed by ".") and item keys in the field name, in order
+            final boolean[] isAttributeInChain;
+            final PythonLikeObject[] namesInChain;
+            final String conversion;
+            final PythonString formatSpec;
+
+            Step(String literal) {
+                this.literal = literal;
+                this.argName = null;
+                this.argumentIndex = -1;
+                this.argNameKey = null;
+                this.isAttributeInChain = null;
+                this.namesInChain = null;
+                this.conversion = null;
+                this.formatSpec = null;
+            }
 
-            String literal = matcher.group("literal");
-            if (literal != null) {
-                switch (literal) {
-                    case "{{":
-                        out.append("{");
-                        continue;
-                    case "}}":
-                        out.append("}");
-                        continue;
-                    default:
-                        throw new IllegalStateException("Unhandled literal: " + literal);
+            Step(Matcher matcher) {
+                this.literal = null;
+                this.argName = matcher.group("argName");
+                int argumentIndex = -1;
+                if (argName != null) {
+                    try {
+                        argumentIndex = Integer.parseInt(argName);
+                    } catch (NumberFormatException e) {
+                        // A named argument
+                    }
+                }
+                this.argumentIndex = argumentIndex;
+                this.argNameKey = (argName != null) ? PythonString.valueOf(argName) : null;
+
+                List<Boolean> isAttributeList = new ArrayList<>();
+                List<PythonLikeObject> nameList = new ArrayList<>();
+                String chain = matcher.group("fieldName");
+                if (chain != null) {
+                    Matcher chainMatcher = INDEX_CHAIN_PART_PATTERN.matcher(chain);
+                    while (chainMatcher.find()) {
+                        String result = chainMatcher.group();
+                        if (result.startsWith(".")) {
+                            isAttributeList.add(true);
+                            nameList.add(PythonString.valueOf(result.substring(1)));
+                        } else {
+                            String index = result.substring(1, result.length() - 1);
+                            isAttributeList.add(false);
+                            try {
+                                nameList.add(PythonInteger.valueOf(Integer.parseInt(index)));
+                            } catch (NumberFormatException e) {
+                                nameList.add(PythonString.valueOf(index));
+                            }
+                        }
+                    }
+                }
+                this.isAttributeInChain = new boolean[isAttributeList.size()];
+                for (int i = 0; i < isAttributeInChain.length; i++) {
+                    isAttributeInChain[i] = isAttributeList.get(i);
                 }
+                this.namesInChain = nameList.toArray(new PythonLikeObject[0]);
+                this.conversion = matcher.group("conversion");
+                this.formatSpec = PythonString.valueOf(Objects.requireNonNullElse(matcher.group("formatSpec"), ""));
             }
+        }
 
-            String argName = matcher.group("argName");
+        private final Step[] steps;
+        private final int literalLength;
+
+        private CompiledFormat(String text) {
+            Matcher matcher = REPLACEMENT_FIELD_PATTERN.matcher(text);
+            List<Step> stepList = new ArrayList<>();
+            StringBuilder literal = new StringBuilder();
+            int start = 0;
+            int literalLength = 0;
+
+            while (matcher.find()) {
+                literal.append(text, start, matcher.start());
+                start = matcher.end();
+
+                String escapedBrace = matcher.group("literal");
+                if (escapedBrace != null) {
+                    switch (escapedBrace) {
+                        case "{{":
+                            literal.append("{");
+                            continue;
+                        case "}}":
+                            literal.append("}");
+                            continue;
+                        default:
+                            throw new IllegalStateException("Unhandled literal: " + escapedBrace);
+                    }
+                }
 
-            PythonLikeObject toConvert;
+                if (literal.length() > 0) {
+                    stepList.add(new Step(literal.toString()));
+                    literalLength += literal.length();
+                    literal.setLength(0);
+                }
+                stepList.add(new Step(matcher));
+            }
+            literal.append(text, start, text.length());
+            if (literal.length() > 0) {
+                stepList.add(new Step(literal.toString()));
+                literalLength += literal.length();
+            }
+            this.steps = stepList.toArray(new Step[0]);
+            this.literalLength = literalLength;
+        }
 
-            if (positionalArguments != null) {
-                if (argName == null) {
-                    if (implicitField >= positionalArguments.size()) {
-                        throw new ValueError(
-                                "(" + implicitField + ") is larger than sequence length (" + positionalArguments.size() + ")");
-                    }
-                    toConvert = positionalArguments.get(implicitField);
-                    implicitField++;
-                } else {
-                    try {
-                        int argumentIndex = Integer.parseInt(argName);
-                        if (argumentIndex >= positionalArguments.size()) {
+        static CompiledFormat compile(String text) {
+            CompiledFormat out = FORMAT_TO_COMPILED_FORMAT.get(text);
+            if (out == null) {
+                out = new CompiledFormat(text);
+                if (FORMAT_TO_COMPILED_FORMAT.size() < MAX_CACHED_FORMAT_STRINGS) {
+                    FORMAT_TO_COMPILED_FORMAT.put(text, out);
+                }
+            }
+            return out;
+        }
+
+        String format(List<PythonLikeObject> positionalArguments,
+                Map<? extends PythonLikeObject, PythonLikeObject> namedArguments) {
+            StringBuilder out = new StringBuilder(literalLength + ESTIMATED_FIELD_LENGTH * steps.length);
+            int implicitField = 0;
+
+            for (Step step : steps) {
+                if (step.literal != null) {
+                    out.append(step.literal);
+                    continue;
+                }
+
+                PythonLikeObject toConvert;
+
+                if (positionalArguments != null) {
+                    if (step.argName == null) {
+                        if (implicitField >= positionalArguments.size()) {
+                            throw new ValueError(
+                                    "(" + implicitField + ") is larger than sequence length (" + positionalArguments.size()
+                                            + ")");
+                        }
+                        toConvert = positionalArguments.get(implicitField);
+                        implicitField++;
+                    } else if (step.argumentIndex != -1) {
+                        if (step.argumentIndex >= positionalArguments.size()) {
                             throw new ValueError("(" + implicitField + ") is larger than sequence length ("
                                     + positionalArguments.size() + ")");
                         }
-                        toConvert = positionalArguments.get(argumentIndex);
-                    } catch (NumberFormatException e) {
-                        if (namedArguments == null) {
-                            throw new ValueError("(" + argName + ") cannot be used to index a sequence");
-                        } else {
-                            toConvert = namedArguments.get(PythonString.valueOf(argName));
-                        }
+                        toConvert = positionalArguments.get(step.argumentIndex);
+                    } else if (namedArguments == null) {
+                        throw new ValueError("(" + step.argName + ") cannot be used to index a sequence");
+                    } else {
+                        toConvert = namedArguments.get(step.argNameKey);
                     }
+                } else {
+                    toConvert = namedArguments.get(step.argNameKey);
                 }
-            } else {
-                toConvert = namedArguments.get(PythonString.valueOf(argName));
-            }
 
-            if (toConvert == null) {
-                throw new KeyError(argName);
-            }
+                if (toConvert == null) {
+                    throw new KeyError(step.argName);
+                }
 
-            toConvert = getFinalObjectInChain(toConvert, matcher.group("fieldName"));
+                for (int i = 0; i < step.namesInChain.length; i++) {
+                    if (step.isAttributeInChain[i]) {
+                        toConvert = BinaryDunderBuiltin.GET_ATTRIBUTE.invoke(toConvert, step.namesInChain[i]);
+                    } else {
+                        toConvert = BinaryDunderBuiltin.GET_ITEM.invoke(toConvert, step.namesInChain[i]);
+                    }
+                }
 
-            String conversion = matcher.group("conversion");
-            if (conversion != null) {
-                switch (conversion) {
-                    case "s":
-                        toConvert = UnaryDunderBuiltin.STR.invoke(toConvert);
-                        break;
-                    case "r":
-                        toConvert = UnaryDunderBuiltin.REPRESENTATION.invoke(toConvert);
-                        break;
-                    case "a":
-                        toConvert = GlobalBuiltins.ascii(List.of(toConvert), Map.of(), null);
-                        break;
+                if (step.conversion != null) {
+                    switch (step.conversion) {
+                        case "s":
+                            toConvert = UnaryDunderBuiltin.STR.invoke(toConvert);
+                            break;
+                        case "r":
+                            toConvert = UnaryDunderBuiltin.REPRESENTATION.invoke(toConvert);
+                            break;
+                        case "a":
+                            toConvert = GlobalBuiltins.ascii(List.of(toConvert), Map.of(), null);
+                            break;
+                    }
                 }
-            }
 
-            String formatSpec = Objects.requireNonNullElse(matcher.group("formatSpec"), "");
-            out.append(BinaryDunderBuiltin.FORMAT.invoke(toConvert, PythonString.valueOf(formatSpec)));
+                out.append(BinaryDunderBuiltin.FORMAT.invoke(toConvert, step.formatSpec));
+            }
+            return out.toString();
         }
-        out.append(text.substring(start));
-        return out.toString();
     }
 
-    private static PythonLikeObject getFinalObjectInChain(PythonLikeObject chainStart, String chain) {
-        if (chain == null) {
-            return chainStart;
+    /**
+     * Concatenates the results of the FORMAT_VALUE instructions and constants that make up an f-string
+     * into a single, exactly sized string.
+     */
+    public static PythonString buildString(PythonLikeObject[] parts) {
+        String[] partValues = new String[parts.length];
+        int length = 0;
+        for (int i = 0; i < parts.length; i++) {
+            partValues[i] = parts[i].toString();
+            length += partValues[i].length();
         }
 
-        PythonLikeObject current = chainStart;
-        Matcher matcher = INDEX_CHAIN_PART_PATTERN.matcher(chain);
-
-        while (matcher.find()) {
-            String result = matcher.group();
-            if (result.startsWith(".")) {
-                String attributeName = result.substring(1);
-                current = BinaryDunderBuiltin.GET_ATTRIBUTE.invoke(current, PythonString.valueOf(attributeName));
-            } else {
-                String index = result.substring(1, result.length() - 1);
-                try {
-                    int intIndex = Integer.parseInt(index);
-                    current = BinaryDunderBuiltin.GET_ITEM.invoke(current, PythonInteger.valueOf(intIndex));
-                } catch (NumberFormatException e) {
-                    current = BinaryDunderBuiltin.GET_ITEM.invoke(current, PythonString.valueOf(index));
-                }
-            }
+        StringBuilder out = new StringBuilder(length);
+        for (String partValue : partValues) {
+            out.append(partValue);
         }
-        return current;
+        return PythonString.valueOf(out.toString());
     }
 
     public static void addGroupings(StringBuilder out, DefaultFormatSpec formatSpec, int groupSize) {
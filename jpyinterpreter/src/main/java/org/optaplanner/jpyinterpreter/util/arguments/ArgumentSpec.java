@@ -2,6 +2,7 @@ package org.optaplanner.jpyinterpreter.util.arguments;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.BitSet;
 import java.util.Collection;
 import java.util.HashMap;
@@ -28,6 +29,7 @@ public final class ArgumentSpec<Out_> {
     private final Class<Out_> functionReturnType;
     private final String functionName;
     private final List<String> argumentNameList;
+    private final Map<String, Integer> argumentNameToIndexMap;
     private final List<Class<?>> argumentTypeList;
     private final List<ArgumentKind> argumentKindList;
     private final List<Object> argumentDefaultList;
@@ -44,6 +46,7 @@ public final class ArgumentSpec<Out_> {
         requiredPositionalArguments = 0;
         numberOfPositionalArguments = 0;
         argumentNameList = List.of();
+        argumentNameToIndexMap = Map.of();
         argumentTypeList = List.of();
         argumentKindList = List.of();
         argumentDefaultList = List.of();
@@ -86,6 +89,9 @@ public final class ArgumentSpec<Out_> {
         argumentNameList.addAll(previousSpec.argumentNameList);
         argumentNameList.add(argumentName);
 
+        argumentNameToIndexMap = new HashMap<>(previousSpec.argumentNameToIndexMap);
+        argumentNameToIndexMap.putIfAbsent(argumentName, argumentNameList.size() - 1);
+
         argumentTypeList.addAll(previousSpec.argumentTypeList);
         argumentTypeList.add(argumentType);
 
@@ -153,7 +159,7 @@ public final class ArgumentSpec<Out_> {
      * @return the index of an argument with the given name, or -1 if no argument has that name
      */
     public int getArgumentIndex(String argumentName) {
-        return argumentNameList.indexOf(argumentName);
+        return argumentNameToIndexMap.getOrDefault(argumentName, -1);
     }
 
     public boolean isArgumentNullable(int argumentIndex) {
@@ -185,80 +191,83 @@ public final class ArgumentSpec<Out_> {
 
     public List<PythonLikeObject> extractArgumentList(List<PythonLikeObject> positionalArguments,
             Map<PythonString, PythonLikeObject> keywordArguments) {
-        List<PythonLikeObject> out = new ArrayList<>(argumentNameList.size());
-
-        if (positionalArguments.size() > numberOfPositionalArguments &&
+        int positionalArgumentCount = positionalArguments.size();
+        if (positionalArgumentCount > numberOfPositionalArguments &&
                 extraPositionalsArgumentIndex.isEmpty()) {
             throw new TypeError(functionName + " takes " + numberOfPositionalArguments + " positional arguments but "
-                    + positionalArguments.size() + " were given");
+                    + positionalArgumentCount + " were given");
         }
 
-        if (positionalArguments.size() < requiredPositionalArguments) {
-            int missing = (requiredPositionalArguments - positionalArguments.size());
+        if (positionalArgumentCount < requiredPositionalArguments) {
+            int missing = (requiredPositionalArguments - positionalArgumentCount);
             String argumentString = (missing == 1) ? "argument" : "arguments";
             List<String> missingArgumentNames = argumentNameList.subList(argumentNameList.size() - missing,
                     argumentNameList.size());
-            throw new TypeError(functionName + " missing " + (requiredPositionalArguments - positionalArguments.size()) +
+            throw new TypeError(functionName + " missing " + (requiredPositionalArguments - positionalArgumentCount) +
                     " required positional " + argumentString + ": '" + String.join("', ", missingArgumentNames) + "'");
         }
 
-        int numberOfSetArguments = Math.min(numberOfPositionalArguments, positionalArguments.size());
-        out.addAll(positionalArguments.subList(0, numberOfSetArguments));
-        for (int i = numberOfSetArguments; i < argumentNameList.size(); i++) {
-            out.add(null);
+        // Arguments are bound straight into their slots; the array is only wrapped as a list on return
+        PythonLikeObject[] out = new PythonLikeObject[argumentNameList.size()];
+        int numberOfSetArguments = Math.min(numberOfPositionalArguments, positionalArgumentCount);
+        for (int i = 0; i < numberOfSetArguments; i++) {
+            out[i] = positionalArguments.get(i);
         }
 
-        int remaining = argumentNameList.size() - numberOfSetArguments;
+        int remaining = out.length - numberOfSetArguments;
 
         PythonLikeDict extraKeywordArguments = null;
         if (extraPositionalsArgumentIndex.isPresent()) {
             remaining--;
-            out.set(extraPositionalsArgumentIndex.get(),
-                    PythonLikeTuple
-                            .fromList(positionalArguments.subList(numberOfSetArguments, positionalArguments.size())));
+            out[extraPositionalsArgumentIndex.get()] = PythonLikeTuple
+                    .fromList(positionalArguments.subList(numberOfSetArguments, positionalArgumentCount));
         }
 
         if (extraKeywordsArgumentIndex.isPresent()) {
             remaining--;
             extraKeywordArguments = new PythonLikeDict();
-            out.set(extraKeywordsArgumentIndex.get(),
-                    extraKeywordArguments);
+            out[extraKeywordsArgumentIndex.get()] = extraKeywordArguments;
         }
 
-        for (Map.Entry<PythonString, PythonLikeObject> keywordArgument : keywordArguments.entrySet()) {
-            PythonString argumentName = keywordArgument.getKey();
+        if (!keywordArguments.isEmpty()) {
+            for (Map.Entry<PythonString, PythonLikeObject> keywordArgument : keywordArguments.entrySet()) {
+                PythonString argumentName = keywordArgument.getKey();
 
-            int position = argumentNameList.indexOf(argumentName.value);
-            if (position == -1) {
-                if (extraKeywordsArgumentIndex.isPresent()) {
-                    extraKeywordArguments.put(argumentName, keywordArgument.getValue());
-                    continue;
-                } else {
-                    throw new TypeError(functionName + " got an unexpected keyword argument " + argumentName.repr().value);
+                Integer position = argumentNameToIndexMap.get(argumentName.value);
+                if (position == null) {
+                    if (extraKeywordsArgumentIndex.isPresent()) {
+                        extraKeywordArguments.put(argumentName, keywordArgument.getValue());
+                        continue;
+                    } else {
+                        throw new TypeError(functionName + " got an unexpected keyword argument " + argumentName.repr().value);
+                    }
                 }
-            }
 
-            if (out.get(position) != null) {
-                throw new TypeError(functionName + " got multiple values for argument " + argumentName.repr().value);
-            }
+                if (out[position] != null) {
+                    throw new TypeError(functionName + " got multiple values for argument " + argumentName.repr().value);
+                }
 
-            if (!argumentKindList.get(position).allowKeyword) {
-                throw new TypeError(functionName + " got some positional-only arguments passed as keyword arguments: "
-                        + argumentName.repr().value);
-            }
+                if (!argumentKindList.get(position).allowKeyword) {
+                    throw new TypeError(functionName + " got some positional-only arguments passed as keyword arguments: "
+                            + argumentName.repr().value);
+                }
 
-            remaining--;
-            out.set(position, keywordArgument.getValue());
+                remaining--;
+                out[position] = keywordArgument.getValue();
+            }
         }
 
         if (remaining > 0) {
-            List<Integer> missing = new ArrayList<>(remaining);
-            for (int i = 0; i < out.size(); i++) {
-                if (out.get(i) == null) {
+            List<Integer> missing = null;
+            for (int i = 0; i < out.length; i++) {
+                if (out[i] == null) {
                     if (argumentDefaultList.get(i) != null || nullableArgumentSet.get(i)) {
-                        out.set(i, (PythonLikeObject) argumentDefaultList.get(i));
+                        out[i] = (PythonLikeObject) argumentDefaultList.get(i);
                         remaining--;
                     } else {
+                        if (missing == null) {
+                            missing = new ArrayList<>(remaining);
+                        }
                         missing.add(i);
                     }
                 }
@@ -287,19 +296,19 @@ public final class ArgumentSpec<Out_> {
             }
         }
 
-        for (int i = 0; i < argumentNameList.size(); i++) {
-            if ((out.get(i) == null && !nullableArgumentSet.get(i))
-                    || (out.get(i) != null && !argumentTypeList.get(i).isInstance(out.get(i)))) {
+        for (int i = 0; i < out.length; i++) {
+            if ((out[i] == null && !nullableArgumentSet.get(i))
+                    || (out[i] != null && !argumentTypeList.get(i).isInstance(out[i]))) {
                 throw new TypeError(functionName + "'s argument '" + argumentNameList.get(i) + "' has incorrect type: " +
                         "'" + argumentNameList.get(i) + "' must be a " +
                         JavaPythonTypeConversionImplementor.getPythonLikeType(argumentTypeList.get(i)) +
                         " (got "
-                        + ((out.get(i) != null) ? JavaPythonTypeConversionImplementor.getPythonLikeType(out.get(i).getClass())
+                        + ((out[i] != null) ? JavaPythonTypeConversionImplementor.getPythonLikeType(out[i].getClass())
                                 : "NULL")
                         + " instead)");
             }
         }
-        return out;
+        return Arrays.asList(out);
     }
 
     public boolean verifyMatchesCallSignature(int positionalArgumentCount, List<String> keywordArgumentNameList,
@@ -308,7 +317,7 @@ public final class ArgumentSpec<Out_> {
         for (int keywordIndex = 0; keywordIndex < keywordArgumentNameList.size(); keywordIndex++) {
             String keyword = keywordArgumentNameList.get(keywordIndex);
             PythonLikeType stackType = callStackTypeList.get(positionalArgumentCount + keywordIndex);
-            int index = argumentNameList.indexOf(keyword);
+            int index = getArgumentIndex(keyword);
             if (index == -1 && extraKeywordsArgumentIndex.isEmpty()) {
                 return false;
             }
@@ -45,6 +45,7 @@ def init(*args, path: List[str] = None, include_translator_jars: bool = True,
     from org.optaplanner.jpyinterpreter import CPythonBackedPythonInterpreter
     CPythonBackedPythonInterpreter.lookupPythonReferenceIdPythonFunction = GetPythonObjectId()
     CPythonBackedPythonInterpreter.lookupPythonReferenceTypePythonFunction = GetPythonObjectType()
+    CPythonBackedPythonInterpreter.lookupPythonReferenceCPythonTypePythonFunction = GetPythonObjectCPythonType()
     CPythonBackedPythonInterpreter.lookupAttributeOnPythonReferencePythonFunction = GetAttributeOnPythonObject()
     CPythonBackedPythonInterpreter.lookupPointerForAttributeOnPythonReferencePythonFunction = \
         GetAttributePointerOnPythonObject()
@@ -75,6 +76,14 @@ class GetPythonObjectType:
         return jpype.JProxy(OpaquePythonReference, inst=type(python_object), convert=True)
 
 
+@jpype.JImplements('java.util.function.Function', deferred=True)
+class GetPythonObjectCPythonType:
+    @jpype.JOverride()
+    def apply(self, python_object):
+        from .python_to_java_bytecode_translator import get_cpython_type
+        return get_cpython_type(python_object)
+
+
 @jpype.JImplements('java.util.function.BiFunction', deferred=True)
 class GetAttributeOnPythonObject:
     @jpype.JOverride()
@@ -181,11 +190,12 @@ class CreateFunctionFromCode:
     @jpype.JOverride()
     def apply(self, code_object, function_globals, closure, name):
         from types import FunctionType
-        from .python_to_java_bytecode_translator import unwrap_python_like_object, find_globals_dict_for_java_map
+        from .python_to_java_bytecode_translator import unwrap_python_like_object, find_globals_dict_for_java_map, \
+            get_cpython_type
         from org.optaplanner.jpyinterpreter import CPythonBackedPythonInterpreter  # noqa
         from org.optaplanner.jpyinterpreter.types.wrappers import OpaquePythonReference, PythonObjectWrapper  # noqa
         from java.util import HashMap
-        from jpype import JProxy
+        from jpype import JProxy, JLong
 
         instance_map = HashMap()
         python_code = JProxy.unwrap(code_object).wrapped
@@ -199,9 +209,10 @@ class CreateFunctionFromCode:
                                        closure=python_closure)
 
         proxy = JProxy(OpaquePythonReference, inst=python_function, convert=True)
-        out = PythonObjectWrapper(proxy)
+        out = PythonObjectWrapper(proxy, get_cpython_type(python_function))
         CPythonBackedPythonInterpreter.updateJavaObjectFromPythonObject(out,
                                                                         proxy,
+                                                                        JLong(id(python_function)),
                                                                         instance_map)
         return out
 
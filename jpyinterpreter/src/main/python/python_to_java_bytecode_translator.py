@@ -171,6 +171,20 @@ def copy_variable_names(iterable):
     return iterable_copy
 
 
+python_type_to_cpython_type = dict()
+
+
+def get_cpython_type(python_object):
+    """Returns the CPythonType of python_object's type, without asking Java for the id of the type"""
+    from org.optaplanner.jpyinterpreter.types.wrappers import CPythonType, OpaquePythonReference  # noqa
+    python_type = type(python_object)
+    out = python_type_to_cpython_type.get(python_type)
+    if out is None:
+        out = CPythonType.getType(JProxy(OpaquePythonReference, inst=python_type, convert=True), JLong(id(python_type)))
+        python_type_to_cpython_type[python_type] = out
+    return out
+
+
 def remove_from_instance_map(instance_map, object_id):
     instance_map.remove(object_id)
 
@@ -435,10 +449,11 @@ def convert_to_java_python_like_object(value, instance_map=None):
             return out
 
         proxy = JProxy(OpaquePythonReference, inst=value, convert=True)
-        out = PythonObjectWrapper(proxy)
+        out = PythonObjectWrapper(proxy, get_cpython_type(value))
         put_in_instance_map(instance_map, value, out)
         CPythonBackedPythonInterpreter.updateJavaObjectFromPythonObject(out,
                                                                         proxy,
+                                                                        JLong(id(value)),
                                                                         instance_map)
         return out
 
@@ -820,7 +835,7 @@ def get_function_bytecode_object(python_function):
         else:
             java_instruction.arg = JInt(0)
 
-        if java_instruction.startsLine is not None:
+        if instruction.starts_line is not None:
             java_instruction.startsLine = JInt(instruction.starts_line)
 
         java_instruction.isJumpTarget = JBoolean(instruction.is_jump_target)
@@ -836,6 +851,7 @@ def get_function_bytecode_object(python_function):
     python_compiled_function.co_cellvars = copy_variable_names(python_function.__code__.co_cellvars)
     python_compiled_function.co_freevars = copy_variable_names(python_function.__code__.co_freevars)
     python_compiled_function.co_constants = copy_constants(python_function.__code__.co_consts)
+    python_compiled_function.co_filename = python_function.__code__.co_filename
     python_compiled_function.co_argcount = python_function.__code__.co_argcount
     python_compiled_function.co_kwonlyargcount = python_function.__code__.co_kwonlyargcount
     python_compiled_function.closure = copy_closure(python_function.__closure__)
@@ -877,7 +893,7 @@ def get_code_bytecode_object(python_code):
         else:
             java_instruction.arg = JInt(0)
 
-        if java_instruction.startsLine is not None:
+        if instruction.starts_line is not None:
             java_instruction.startsLine = JInt(instruction.starts_line)
 
         java_instruction.isJumpTarget = JBoolean(instruction.is_jump_target)
@@ -893,6 +909,7 @@ def get_code_bytecode_object(python_code):
     python_compiled_function.co_cellvars = copy_variable_names(python_code.co_cellvars)
     python_compiled_function.co_freevars = copy_variable_names(python_code.co_freevars)
     python_compiled_function.co_constants = copy_constants(python_code.co_consts)
+    python_compiled_function.co_filename = python_code.co_filename
     python_compiled_function.co_argcount = python_code.co_argcount
     python_compiled_function.co_kwonlyargcount = python_code.co_kwonlyargcount
     python_compiled_function.closure = copy_closure(None)
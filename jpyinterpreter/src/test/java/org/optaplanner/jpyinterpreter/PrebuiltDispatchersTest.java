@@ -0,0 +1,85 @@
+package org.optaplanner.jpyinterpreter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.optaplanner.jpyinterpreter.types.BuiltinTypes;
+import org.optaplanner.jpyinterpreter.types.PythonKnownFunctionType;
+
+public class PrebuiltDispatchersTest {
+
+    @AfterEach
+    public void restoreOptions() {
+        InterpreterStartupOptions.usePrebuiltDispatchers = true;
+    }
+
+    @Test
+    public void testFingerprintDependsOnSignatures() {
+        PythonKnownFunctionType upperType = BuiltinTypes.STRING_TYPE.getMethodType("upper").orElseThrow();
+        PythonKnownFunctionType lowerType = BuiltinTypes.STRING_TYPE.getMethodType("lower").orElseThrow();
+
+        assertThat(PrebuiltDispatchers.fingerprint(BuiltinTypes.STRING_TYPE, upperType,
+                PythonClassTranslator.PythonMethodKind.VIRTUAL_METHOD))
+                .isEqualTo(PrebuiltDispatchers.fingerprint(BuiltinTypes.STRING_TYPE, upperType,
+                        PythonClassTranslator.PythonMethodKind.VIRTUAL_METHOD));
+        assertThat(PrebuiltDispatchers.fingerprint(BuiltinTypes.STRING_TYPE, upperType,
+                PythonClassTranslator.PythonMethodKind.VIRTUAL_METHOD))
+                .isNotEqualTo(PrebuiltDispatchers.fingerprint(BuiltinTypes.STRING_TYPE, lowerType,
+                        PythonClassTranslator.PythonMethodKind.VIRTUAL_METHOD));
+    }
+
+    @Test
+    public void testNoBytecodeWhenDisabled() {
+        InterpreterStartupOptions.usePrebuiltDispatchers = false;
+        PythonKnownFunctionType upperType = BuiltinTypes.STRING_TYPE.getMethodType("upper").orElseThrow();
+        assertThat(PrebuiltDispatchers.getBytecode(
+                PythonBytecodeToJavaBytecodeTranslator.GENERATED_PACKAGE_BASE + "org.optaplanner.jpyinterpreter.types."
+                        + "PythonString.upper$$Dispatcher",
+                BuiltinTypes.STRING_TYPE, upperType, PythonClassTranslator.PythonMethodKind.VIRTUAL_METHOD))
+                .isNull();
+    }
+
+    @Test
+    public void testWritesArchive(@TempDir Path outputDirectory) throws IOException {
+        // A few dispatchers are enough to check the archive; generating all of them is the build's job
+        List<PythonOverloadImplementor.LazyOverloadDispatch> dispatchList = Stream.of("upper", "lower", "strip")
+                .map(methodName -> (PythonOverloadImplementor.LazyOverloadDispatch) BuiltinTypes.STRING_TYPE
+                        .__getAttributeOrNull(methodName))
+                .collect(Collectors.toList());
+        PrebuiltDispatchers.writeArchive(outputDirectory, dispatchList);
+
+        Set<String> expectedClassNames = new HashSet<>();
+        for (PythonOverloadImplementor.LazyOverloadDispatch dispatch : dispatchList) {
+            String className = dispatch.getDispatch().getClass().getName();
+            if (className.endsWith("$$Dispatcher")) {
+                expectedClassNames.add(className);
+            }
+        }
+
+        Path archivePath = outputDirectory.resolve(PrebuiltDispatchers.ARCHIVE_RESOURCE);
+        assertThat(Files.exists(archivePath)).isTrue();
+        Set<String> actualClassNames = new HashSet<>();
+        try (DataInputStream dataInputStream = new DataInputStream(Files.newInputStream(archivePath))) {
+            int count = dataInputStream.readInt();
+            for (int i = 0; i < count; i++) {
+                actualClassNames.add(dataInputStream.readUTF());
+                dataInputStream.readFully(new byte[dataInputStream.readInt()]);
+                dataInputStream.readFully(new byte[dataInputStream.readInt()]);
+            }
+        }
+        assertThat(expectedClassNames).hasSize(3);
+        assertThat(actualClassNames).isEqualTo(expectedClassNames);
+    }
+}
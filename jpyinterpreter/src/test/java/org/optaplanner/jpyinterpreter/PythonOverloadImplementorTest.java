@@ -24,7 +24,10 @@ public class PythonOverloadImplementorTest {
 
         SingleOverload instance = new SingleOverload();
         PythonLikeFunction overload = (PythonLikeFunction) SingleOverload.TYPE.__getAttributeOrError("overload");
+        assertThat(((PythonOverloadImplementor.LazyOverloadDispatch) overload).isGenerated()).isFalse();
+        assertThat(overload.__getType()).isEqualTo(BuiltinTypes.FUNCTION_TYPE);
         assertThat(overload.$call(List.of(instance), Map.of(), null)).isEqualTo(PythonString.valueOf("1"));
+        assertThat(((PythonOverloadImplementor.LazyOverloadDispatch) overload).isGenerated()).isTrue();
     }
 
     @Test
@@ -0,0 +1,161 @@
+package org.optaplanner.jpyinterpreter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.optaplanner.jpyinterpreter.types.PythonLikeFunction;
+import org.optaplanner.jpyinterpreter.types.PythonString;
+import org.optaplanner.jpyinterpreter.types.collections.PythonLikeTuple;
+import org.optaplanner.jpyinterpreter.types.errors.TypeError;
+import org.optaplanner.jpyinterpreter.types.numeric.PythonFloat;
+import org.optaplanner.jpyinterpreter.types.numeric.PythonInteger;
+import org.optaplanner.jpyinterpreter.util.PythonFunctionBuilder;
+
+@SuppressWarnings({ "unchecked", "rawtypes" })
+public class PythonTieredFunctionTranslatorTest {
+    private static final int CALL_THRESHOLD = 10;
+
+    @BeforeEach
+    public void enableTieredTranslation() {
+        InterpreterStartupOptions.tieredTranslation = true;
+        InterpreterStartupOptions.tieredTranslationCallThreshold = CALL_THRESHOLD;
+    }
+
+    @AfterEach
+    public void disableTieredTranslation() {
+        InterpreterStartupOptions.tieredTranslation = false;
+        InterpreterStartupOptions.tieredTranslationCallThreshold = 10_000;
+    }
+
+    private static BiFunction translateAdd() {
+        PythonCompiledFunction pythonCompiledFunction = PythonFunctionBuilder.newFunction("a", "b")
+                .loadParameter("a")
+                .loadParameter("b")
+                .op(OpcodeIdentifier.BINARY_ADD)
+                .op(OpcodeIdentifier.RETURN_VALUE)
+                .build();
+
+        return PythonBytecodeToJavaBytecodeTranslator.translatePythonBytecode(pythonCompiledFunction, BiFunction.class);
+    }
+
+    private static TieredFunctionState getState(Object function) throws Exception {
+        return (TieredFunctionState) function.getClass()
+                .getField(PythonTieredFunctionTranslator.STATE_FIELD_NAME)
+                .get(function);
+    }
+
+    @Test
+    public void testSpecializesMonomorphicFunction() throws Exception {
+        BiFunction javaFunction = translateAdd();
+        TieredFunctionState state = getState(javaFunction);
+
+        for (int i = 0; i < CALL_THRESHOLD - 1; i++) {
+            assertThat(javaFunction.apply(PythonInteger.valueOf(i), PythonInteger.valueOf(1)))
+                    .isEqualTo(PythonInteger.valueOf(i + 1));
+        }
+        assertThat(state.isProfiling()).isTrue();
+        assertThat(state.isSpecialized()).isFalse();
+
+        assertThat(javaFunction.apply(PythonInteger.valueOf(1), PythonInteger.valueOf(2)))
+                .isEqualTo(PythonInteger.valueOf(3));
+        assertThat(state.isProfiling()).isFalse();
+        assertThat(state.isSpecialized()).isTrue();
+        assertThat(state.getSpecializedParameterTypes())
+                .containsExactly(PythonInteger.class, PythonInteger.class);
+
+        assertThat(javaFunction.apply(PythonInteger.valueOf(3), PythonInteger.valueOf(4)))
+                .isEqualTo(PythonInteger.valueOf(7));
+        assertThat(state.getGuardFailureCount()).isZero();
+    }
+
+    @Test
+    public void testDeoptimizesAfterGuardFailures() throws Exception {
+        BiFunction javaFunction = translateAdd();
+        TieredFunctionState state = getState(javaFunction);
+
+        for (int i = 0; i < CALL_THRESHOLD; i++) {
+            javaFunction.apply(PythonInteger.valueOf(i), PythonInteger.valueOf(1));
+        }
+        assertThat(state.isSpecialized()).isTrue();
+
+        for (int i = 0; i < TieredFunctionState.GUARD_FAILURE_THRESHOLD; i++) {
+            assertThat(javaFunction.apply(PythonFloat.valueOf(1.5), PythonInteger.valueOf(1)))
+                    .isEqualTo(PythonFloat.valueOf(2.5));
+        }
+        assertThat(state.isSpecialized()).isFalse();
+        assertThat(javaFunction.apply(PythonInteger.valueOf(1), PythonInteger.valueOf(2)))
+                .isEqualTo(PythonInteger.valueOf(3));
+    }
+
+    @Test
+    public void testPolymorphicParameterIsNotSpecialized() throws Exception {
+        BiFunction javaFunction = translateAdd();
+        TieredFunctionState state = getState(javaFunction);
+
+        for (int i = 0; i < CALL_THRESHOLD; i++) {
+            Object left = (i % 2 == 0) ? PythonInteger.valueOf(i) : PythonFloat.valueOf(i);
+            javaFunction.apply(left, PythonInteger.valueOf(1));
+        }
+        assertThat(state.isProfiling()).isFalse();
+        assertThat(state.getSpecializedParameterTypes()).containsExactly(null, PythonInteger.class);
+        assertThat(javaFunction.apply(PythonFloat.valueOf(1.0), PythonInteger.valueOf(2)))
+                .isEqualTo(PythonFloat.valueOf(3.0));
+    }
+
+    @Test
+    public void testCallAsPythonLikeFunction() throws Exception {
+        BiFunction javaFunction = translateAdd();
+        TieredFunctionState state = getState(javaFunction);
+        assertThat(javaFunction).isInstanceOf(PythonLikeFunction.class);
+
+        PythonLikeFunction pythonLikeFunction = (PythonLikeFunction) javaFunction;
+        for (int i = 0; i < CALL_THRESHOLD; i++) {
+            assertThat(pythonLikeFunction.$call(List.of(PythonInteger.valueOf(i), PythonInteger.valueOf(1)),
+                    Map.of(), null)).isEqualTo(PythonInteger.valueOf(i + 1));
+        }
+        // Calls through $call are profiled like direct calls
+        assertThat(state.isSpecialized()).isTrue();
+
+        assertThatCode(() -> pythonLikeFunction.$call(List.of(PythonInteger.valueOf(1)), Map.of(), null))
+                .isInstanceOf(TypeError.class);
+    }
+
+    @Test
+    public void testCallAsPythonLikeFunctionWithKeywordAndDefaultArguments() {
+        PythonCompiledFunction pythonCompiledFunction = PythonFunctionBuilder.newFunction("a", "b")
+                .loadParameter("a")
+                .loadParameter("b")
+                .op(OpcodeIdentifier.BINARY_SUBTRACT)
+                .op(OpcodeIdentifier.RETURN_VALUE)
+                .build();
+        pythonCompiledFunction.defaultPositionalArguments = PythonLikeTuple.fromList(List.of(PythonInteger.valueOf(1)));
+
+        PythonLikeFunction pythonLikeFunction = (PythonLikeFunction) PythonBytecodeToJavaBytecodeTranslator
+                .translatePythonBytecode(pythonCompiledFunction, BiFunction.class);
+
+        assertThat(pythonLikeFunction.$call(List.of(PythonInteger.valueOf(5)), Map.of(), null))
+                .isEqualTo(PythonInteger.valueOf(4));
+        assertThat(pythonLikeFunction.$call(List.of(PythonInteger.valueOf(5)),
+                Map.of(PythonString.valueOf("b"), PythonInteger.valueOf(3)), null))
+                .isEqualTo(PythonInteger.valueOf(2));
+        assertThat(pythonLikeFunction.$call(List.of(),
+                Map.of(PythonString.valueOf("b"), PythonInteger.valueOf(3),
+                        PythonString.valueOf("a"), PythonInteger.valueOf(10)),
+                null))
+                .isEqualTo(PythonInteger.valueOf(7));
+    }
+
+    @Test
+    public void testDisabledByDefault() {
+        InterpreterStartupOptions.tieredTranslation = false;
+        BiFunction javaFunction = translateAdd();
+        assertThat(javaFunction.getClass().getName()).doesNotContain("$$Tiered");
+    }
+}
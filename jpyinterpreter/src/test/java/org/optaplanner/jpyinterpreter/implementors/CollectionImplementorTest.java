@@ -17,6 +17,7 @@ import org.optaplanner.jpyinterpreter.OpcodeIdentifier;
 import org.optaplanner.jpyinterpreter.PythonBytecodeToJavaBytecodeTranslator;
 import org.optaplanner.jpyinterpreter.PythonCompiledFunction;
 import org.optaplanner.jpyinterpreter.types.PythonSlice;
+import org.optaplanner.jpyinterpreter.types.collections.PythonLikeDict;
 import org.optaplanner.jpyinterpreter.types.collections.PythonLikeList;
 import org.optaplanner.jpyinterpreter.types.collections.PythonLikeTuple;
 import org.optaplanner.jpyinterpreter.types.numeric.PythonInteger;
@@ -210,6 +211,67 @@ public class CollectionImplementorTest {
         assertThatCode(() -> javaFunction.apply(List.of(1, 2, 3, 4))).hasMessage("too many values to unpack (expected 3)");
     }
 
+    @Test
+    public void testUnpackTuple() {
+        PythonCompiledFunction pythonCompiledFunction = PythonFunctionBuilder.newFunction("sequence")
+                .loadParameter("sequence")
+                .op(OpcodeIdentifier.UNPACK_SEQUENCE, 2)
+                .storeVariable("a")
+                .storeVariable("b")
+                .loadVariable("b")
+                .loadVariable("a")
+                .tuple(2)
+                .op(OpcodeIdentifier.RETURN_VALUE)
+                .build();
+
+        Function javaFunction =
+                PythonBytecodeToJavaBytecodeTranslator.translatePythonBytecode(pythonCompiledFunction, Function.class);
+        assertThat(javaFunction.apply(PythonLikeTuple.fromList(List.of(PythonInteger.valueOf(1), PythonInteger.valueOf(2)))))
+                .isEqualTo(List.of(2, 1));
+        assertThatCode(() -> javaFunction.apply(PythonLikeTuple.fromList(List.of(PythonInteger.valueOf(1)))))
+                .hasMessage("not enough values to unpack (expected 2, got 1)");
+        assertThatCode(() -> javaFunction.apply(PythonLikeTuple.fromList(List.of(PythonInteger.valueOf(1),
+                PythonInteger.valueOf(2), PythonInteger.valueOf(3)))))
+                .hasMessage("too many values to unpack (expected 2)");
+    }
+
+    @Test
+    public void testIterateAndUnpack() {
+        PythonCompiledFunction pythonCompiledFunction = PythonFunctionBuilder.newFunction("iterable")
+                .loadConstant(0)
+                .storeVariable("total")
+                .loadParameter("iterable")
+                .op(OpcodeIdentifier.GET_ITER)
+                .loop(block -> {
+                    block.op(OpcodeIdentifier.UNPACK_SEQUENCE, 2)
+                            .storeVariable("key")
+                            .storeVariable("value")
+                            .loadVariable("total")
+                            .loadVariable("key")
+                            .loadConstant(10)
+                            .op(OpcodeIdentifier.BINARY_MULTIPLY)
+                            .loadVariable("value")
+                            .op(OpcodeIdentifier.BINARY_ADD)
+                            .op(OpcodeIdentifier.BINARY_ADD)
+                            .storeVariable("total");
+                })
+                .loadVariable("total")
+                .op(OpcodeIdentifier.RETURN_VALUE)
+                .build();
+
+        Function javaFunction =
+                PythonBytecodeToJavaBytecodeTranslator.translatePythonBytecode(pythonCompiledFunction, Function.class);
+
+        PythonLikeDict dict = new PythonLikeDict();
+        dict.put(PythonInteger.valueOf(1), PythonInteger.valueOf(2));
+        dict.put(PythonInteger.valueOf(3), PythonInteger.valueOf(4));
+        assertThat(javaFunction.apply(dict.getItems())).isEqualTo(46L);
+        assertThat(javaFunction.apply(List.of(PythonLikeTuple.fromList(List.of(PythonInteger.valueOf(1),
+                PythonInteger.valueOf(2))), List.of(3, 4)))).isEqualTo(46L);
+        assertThatCode(() -> javaFunction.apply(List.of(List.of(1))))
+                .hasMessage("not enough values to unpack (expected 2, got 1)");
+    }
+
     @Test
     public void testUnpackSequenceWithTail() {
         PythonCompiledFunction pythonCompiledFunction = PythonFunctionBuilder.newFunction("sequence")
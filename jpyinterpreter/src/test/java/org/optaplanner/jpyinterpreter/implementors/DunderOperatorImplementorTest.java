@@ -1,8 +1,10 @@
 package org.optaplanner.jpyinterpreter.implementors;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.optaplanner.jpyinterpreter.PythonBytecodeToJavaBytecodeTranslator.translatePythonBytecode;
 
+import java.util.List;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 
@@ -11,6 +13,8 @@ import org.optaplanner.jpyinterpreter.CompareOp;
 import org.optaplanner.jpyinterpreter.OpcodeIdentifier;
 import org.optaplanner.jpyinterpreter.PythonBytecodeToJavaBytecodeTranslator;
 import org.optaplanner.jpyinterpreter.PythonCompiledFunction;
+import org.optaplanner.jpyinterpreter.types.errors.arithmetic.ZeroDivisionError;
+import org.optaplanner.jpyinterpreter.types.numeric.PythonFloat;
 import org.optaplanner.jpyinterpreter.util.PythonFunctionBuilder;
 
 @SuppressWarnings({ "unchecked", "rawtypes" })
@@ -131,4 +135,64 @@ public class DunderOperatorImplementorTest {
         javaFunction = getMathFunction(OpcodeIdentifier.BINARY_FLOOR_DIVIDE);
         assertThat(javaFunction.apply(3L, 2L)).isEqualTo(1L);
     }
+
+    private BiFunction getTypedFloatFunction(PythonFunctionBuilder functionBuilder) {
+        return PythonBytecodeToJavaBytecodeTranslator.translatePythonBytecode(functionBuilder.build(), BiFunction.class,
+                List.of(PythonFloat.class, PythonFloat.class, PythonFloat.class));
+    }
+
+    @Test
+    public void testUnboxedFloatMath() {
+        // a * a + b * b
+        BiFunction javaFunction = getTypedFloatFunction(PythonFunctionBuilder.newFunction("a", "b")
+                .loadParameter("a")
+                .loadParameter("a")
+                .op(OpcodeIdentifier.BINARY_MULTIPLY)
+                .loadParameter("b")
+                .loadParameter("b")
+                .op(OpcodeIdentifier.BINARY_MULTIPLY)
+                .op(OpcodeIdentifier.BINARY_ADD)
+                .op(OpcodeIdentifier.RETURN_VALUE));
+        assertThat(javaFunction.apply(PythonFloat.valueOf(3.0), PythonFloat.valueOf(4.0)))
+                .isEqualTo(PythonFloat.valueOf(25.0));
+
+        // (a - 1) / (b + 2.0)
+        javaFunction = getTypedFloatFunction(PythonFunctionBuilder.newFunction("a", "b")
+                .loadParameter("a")
+                .loadConstant(1)
+                .op(OpcodeIdentifier.BINARY_SUBTRACT)
+                .loadParameter("b")
+                .loadConstant(2.0)
+                .op(OpcodeIdentifier.BINARY_ADD)
+                .op(OpcodeIdentifier.BINARY_TRUE_DIVIDE)
+                .op(OpcodeIdentifier.RETURN_VALUE));
+        assertThat(javaFunction.apply(PythonFloat.valueOf(5.0), PythonFloat.valueOf(2.0)))
+                .isEqualTo(PythonFloat.valueOf(1.0));
+
+        // c = a - b; return c * a
+        javaFunction = getTypedFloatFunction(PythonFunctionBuilder.newFunction("a", "b")
+                .loadParameter("a")
+                .loadParameter("b")
+                .op(OpcodeIdentifier.BINARY_SUBTRACT)
+                .storeVariable("c")
+                .loadVariable("c")
+                .loadParameter("a")
+                .op(OpcodeIdentifier.BINARY_MULTIPLY)
+                .op(OpcodeIdentifier.RETURN_VALUE));
+        assertThat(javaFunction.apply(PythonFloat.valueOf(5.0), PythonFloat.valueOf(2.0)))
+                .isEqualTo(PythonFloat.valueOf(15.0));
+    }
+
+    @Test
+    public void testUnboxedFloatDivisionByZero() {
+        BiFunction javaFunction = getTypedFloatFunction(PythonFunctionBuilder.newFunction("a", "b")
+                .loadParameter("a")
+                .loadParameter("b")
+                .loadParameter("b")
+                .op(OpcodeIdentifier.BINARY_SUBTRACT)
+                .op(OpcodeIdentifier.BINARY_TRUE_DIVIDE)
+                .op(OpcodeIdentifier.RETURN_VALUE));
+        assertThatCode(() -> javaFunction.apply(PythonFloat.valueOf(1.0), PythonFloat.valueOf(2.0)))
+                .isInstanceOf(ZeroDivisionError.class);
+    }
 }
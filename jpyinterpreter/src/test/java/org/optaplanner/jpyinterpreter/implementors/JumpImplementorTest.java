@@ -3,6 +3,9 @@ package org.optaplanner.jpyinterpreter.implementors;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.optaplanner.jpyinterpreter.PythonBytecodeToJavaBytecodeTranslator.translatePythonBytecode;
 
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 import org.junit.jupiter.api.Test;
@@ -10,7 +13,10 @@ import org.optaplanner.jpyinterpreter.CompareOp;
 import org.optaplanner.jpyinterpreter.OpcodeIdentifier;
 import org.optaplanner.jpyinterpreter.PythonBytecodeToJavaBytecodeTranslator;
 import org.optaplanner.jpyinterpreter.PythonCompiledFunction;
+import org.optaplanner.jpyinterpreter.types.PythonString;
 import org.optaplanner.jpyinterpreter.types.numeric.PythonBoolean;
+import org.optaplanner.jpyinterpreter.types.numeric.PythonFloat;
+import org.optaplanner.jpyinterpreter.types.numeric.PythonInteger;
 import org.optaplanner.jpyinterpreter.util.PythonFunctionBuilder;
 
 @SuppressWarnings({ "unchecked", "rawtypes" })
@@ -92,4 +98,90 @@ public class JumpImplementorTest {
         assertThat(javaFunction.apply(1L)).isEqualTo(PythonBoolean.TRUE);
         assertThat(javaFunction.apply(10L)).isEqualTo(PythonBoolean.FALSE);
     }
+
+    private BiFunction getTypedCompareAndJumpFunction(CompareOp compareOp, boolean isJumpIfFalse, Class<?> type) {
+        PythonFunctionBuilder functionBuilder = PythonFunctionBuilder.newFunction("a", "b")
+                .loadParameter("a")
+                .loadParameter("b")
+                .compare(compareOp);
+        Consumer<PythonFunctionBuilder> block = inner -> {
+            inner.loadConstant(true);
+            inner.op(OpcodeIdentifier.RETURN_VALUE);
+        };
+        if (isJumpIfFalse) {
+            functionBuilder.ifTrue(block);
+        } else {
+            functionBuilder.ifFalse(block);
+        }
+        PythonCompiledFunction pythonCompiledFunction = functionBuilder
+                .loadConstant(false)
+                .op(OpcodeIdentifier.RETURN_VALUE)
+                .build();
+        return translatePythonBytecode(pythonCompiledFunction, BiFunction.class, List.of(type, type, PythonBoolean.class));
+    }
+
+    private void assertCompareAndJump(Class<?> type, Object smaller, Object larger) {
+        for (boolean isJumpIfFalse : new boolean[] { true, false }) {
+            for (CompareOp compareOp : CompareOp.values()) {
+                BiFunction javaFunction = getTypedCompareAndJumpFunction(compareOp, isJumpIfFalse, type);
+                boolean isTrueForLess = compareOp == CompareOp.LESS_THAN
+                        || compareOp == CompareOp.LESS_THAN_OR_EQUALS || compareOp == CompareOp.NOT_EQUALS;
+                boolean isTrueForGreater = compareOp == CompareOp.GREATER_THAN
+                        || compareOp == CompareOp.GREATER_THAN_OR_EQUALS || compareOp == CompareOp.NOT_EQUALS;
+                boolean isTrueForEqual = compareOp == CompareOp.LESS_THAN_OR_EQUALS
+                        || compareOp == CompareOp.EQUALS || compareOp == CompareOp.GREATER_THAN_OR_EQUALS;
+
+                assertThat(javaFunction.apply(smaller, larger))
+                        .isEqualTo(PythonBoolean.valueOf(isTrueForLess == isJumpIfFalse));
+                assertThat(javaFunction.apply(larger, smaller))
+                        .isEqualTo(PythonBoolean.valueOf(isTrueForGreater == isJumpIfFalse));
+                assertThat(javaFunction.apply(smaller, smaller))
+                        .isEqualTo(PythonBoolean.valueOf(isTrueForEqual == isJumpIfFalse));
+            }
+        }
+    }
+
+    @Test
+    public void testTypedCompareAndJump() {
+        assertCompareAndJump(PythonInteger.class, PythonInteger.valueOf(1), PythonInteger.valueOf(2));
+        assertCompareAndJump(PythonFloat.class, PythonFloat.valueOf(1.5), PythonFloat.valueOf(2.5));
+        assertCompareAndJump(PythonString.class, PythonString.valueOf("a"), PythonString.valueOf("b"));
+    }
+
+    @Test
+    public void testTypedCompareAndJumpNaN() {
+        PythonFloat nan = PythonFloat.valueOf(Double.NaN);
+        PythonFloat one = PythonFloat.valueOf(1.0);
+        for (CompareOp compareOp : CompareOp.values()) {
+            BiFunction javaFunction = getTypedCompareAndJumpFunction(compareOp, true, PythonFloat.class);
+            PythonBoolean expected = PythonBoolean.valueOf(compareOp == CompareOp.NOT_EQUALS);
+            assertThat(javaFunction.apply(nan, one)).isEqualTo(expected);
+            assertThat(javaFunction.apply(one, nan)).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    public void testUnboxedFloatCompareAndJump() {
+        // if a * 2.0 < b - 1: return True; return False
+        PythonCompiledFunction pythonCompiledFunction = PythonFunctionBuilder.newFunction("a", "b")
+                .loadParameter("a")
+                .loadConstant(2.0)
+                .op(OpcodeIdentifier.BINARY_MULTIPLY)
+                .loadParameter("b")
+                .loadConstant(1)
+                .op(OpcodeIdentifier.BINARY_SUBTRACT)
+                .compare(CompareOp.LESS_THAN)
+                .ifTrue(block -> {
+                    block.loadConstant(true);
+                    block.op(OpcodeIdentifier.RETURN_VALUE);
+                })
+                .loadConstant(false)
+                .op(OpcodeIdentifier.RETURN_VALUE)
+                .build();
+        BiFunction javaFunction = translatePythonBytecode(pythonCompiledFunction, BiFunction.class,
+                List.of(PythonFloat.class, PythonFloat.class, PythonBoolean.class));
+
+        assertThat(javaFunction.apply(PythonFloat.valueOf(1.0), PythonFloat.valueOf(4.0))).isEqualTo(PythonBoolean.TRUE);
+        assertThat(javaFunction.apply(PythonFloat.valueOf(1.5), PythonFloat.valueOf(4.0))).isEqualTo(PythonBoolean.FALSE);
+    }
 }
@@ -0,0 +1,87 @@
+package org.optaplanner.jpyinterpreter.profiling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.function.BiFunction;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.optaplanner.jpyinterpreter.InterpreterStartupOptions;
+import org.optaplanner.jpyinterpreter.OpcodeIdentifier;
+import org.optaplanner.jpyinterpreter.PythonBytecodeToJavaBytecodeTranslator;
+import org.optaplanner.jpyinterpreter.PythonCompiledFunction;
+import org.optaplanner.jpyinterpreter.types.BuiltinTypes;
+import org.optaplanner.jpyinterpreter.types.numeric.PythonFloat;
+import org.optaplanner.jpyinterpreter.types.numeric.PythonInteger;
+import org.optaplanner.jpyinterpreter.util.PythonFunctionBuilder;
+
+@SuppressWarnings({ "unchecked", "rawtypes" })
+public class GenericFallbackCountersTest {
+    @BeforeEach
+    public void enableCounters() {
+        InterpreterStartupOptions.countGenericFallbacks = true;
+        GenericFallbackCounters.reset();
+    }
+
+    @AfterEach
+    public void disableCounters() {
+        InterpreterStartupOptions.countGenericFallbacks = false;
+        GenericFallbackCounters.reset();
+    }
+
+    @Test
+    public void testCountsGenericPathWithRuntimeTypes() {
+        PythonCompiledFunction pythonCompiledFunction = PythonFunctionBuilder.newFunction("a", "b")
+                .loadParameter("a")
+                .loadParameter("b")
+                .op(OpcodeIdentifier.BINARY_ADD)
+                .op(OpcodeIdentifier.RETURN_VALUE)
+                .build();
+
+        BiFunction javaFunction =
+                PythonBytecodeToJavaBytecodeTranslator.translatePythonBytecode(pythonCompiledFunction, BiFunction.class);
+
+        assertThat(javaFunction.apply(PythonInteger.valueOf(1), PythonInteger.valueOf(2)))
+                .isEqualTo(PythonInteger.valueOf(3));
+        assertThat(javaFunction.apply(PythonInteger.valueOf(3), PythonInteger.valueOf(4)))
+                .isEqualTo(PythonInteger.valueOf(7));
+        assertThat(javaFunction.apply(PythonFloat.valueOf(1.0), PythonInteger.valueOf(2)))
+                .isEqualTo(PythonFloat.valueOf(3.0));
+
+        GenericFallbackCounter counter = getCounterForClass(javaFunction.getClass().getName());
+        assertThat(counter.getCount()).isEqualTo(3L);
+        assertThat(counter.getSite().getOperation()).startsWith("__add__");
+        assertThat(counter.getRuntimeTypeCounts())
+                .containsEntry(List.of(BuiltinTypes.INT_TYPE, BuiltinTypes.INT_TYPE), 2L)
+                .containsEntry(List.of(BuiltinTypes.FLOAT_TYPE, BuiltinTypes.INT_TYPE), 1L);
+
+        assertThat(GenericFallbackCounters.getReport()).contains("__add__", "int, int: 2", "float, int: 1");
+    }
+
+    @Test
+    public void testNoCountersWhenDisabled() {
+        InterpreterStartupOptions.countGenericFallbacks = false;
+        PythonCompiledFunction pythonCompiledFunction = PythonFunctionBuilder.newFunction("a", "b")
+                .loadParameter("a")
+                .loadParameter("b")
+                .op(OpcodeIdentifier.BINARY_ADD)
+                .op(OpcodeIdentifier.RETURN_VALUE)
+                .build();
+
+        BiFunction javaFunction =
+                PythonBytecodeToJavaBytecodeTranslator.translatePythonBytecode(pythonCompiledFunction, BiFunction.class);
+
+        assertThat(javaFunction.apply(PythonInteger.valueOf(1), PythonInteger.valueOf(2)))
+                .isEqualTo(PythonInteger.valueOf(3));
+        assertThat(getCounterForClass(javaFunction.getClass().getName())).isNull();
+    }
+
+    private static GenericFallbackCounter getCounterForClass(String className) {
+        return GenericFallbackCounters.getCounters().stream()
+                .filter(counter -> counter.getSite().getClassName().equals(className))
+                .findAny()
+                .orElse(null);
+    }
+}
@@ -0,0 +1,105 @@
+package org.optaplanner.jpyinterpreter.profiling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.optaplanner.jpyinterpreter.InterpreterStartupOptions;
+import org.optaplanner.jpyinterpreter.OpcodeIdentifier;
+import org.optaplanner.jpyinterpreter.PythonBytecodeToJavaBytecodeTranslator;
+import org.optaplanner.jpyinterpreter.PythonCompiledFunction;
+import org.optaplanner.jpyinterpreter.util.PythonFunctionBuilder;
+
+public class TranslationMetricsRegistryTest {
+    @BeforeEach
+    public void enableMetrics() {
+        InterpreterStartupOptions.collectTranslationMetrics = true;
+        TranslationMetricsRegistry.clear();
+    }
+
+    @AfterEach
+    public void disableMetrics() {
+        InterpreterStartupOptions.collectTranslationMetrics = false;
+        TranslationMetricsRegistry.clear();
+    }
+
+    @Test
+    public void testRecordsPhasesAndBytecodeSize() {
+        PythonCompiledFunction pythonCompiledFunction = PythonFunctionBuilder.newFunction("a", "b")
+                .loadParameter("a")
+                .loadParameter("b")
+                .op(OpcodeIdentifier.BINARY_ADD)
+                .op(OpcodeIdentifier.RETURN_VALUE)
+                .build();
+
+        Class<?> functionClass =
+                PythonBytecodeToJavaBytecodeTranslator.translatePythonBytecodeToClass(pythonCompiledFunction,
+                        BiFunction.class);
+
+        TranslationMetrics metrics = TranslationMetricsRegistry.getMetrics(functionClass.getName());
+        assertThat(metrics).isNotNull();
+        assertThat(metrics.getBytecodeSize()).isPositive();
+        assertThat(metrics.getPhaseNanos(TranslationPhase.FLOW_ANALYSIS)).isPositive();
+        assertThat(metrics.getPhaseNanos(TranslationPhase.BYTECODE_EMISSION)).isPositive();
+        assertThat(metrics.getPhaseNanos(TranslationPhase.CLASS_DEFINITION)).isPositive();
+        assertThat(metrics.getPhaseNanos(TranslationPhase.STATIC_FIELD_SETUP)).isPositive();
+    }
+
+    @Test
+    public void testRecordsGenericFallbacks() {
+        PythonCompiledFunction pythonCompiledFunction = PythonFunctionBuilder.newFunction("a", "b")
+                .loadParameter("a")
+                .loadParameter("b")
+                .op(OpcodeIdentifier.BINARY_ADD)
+                .op(OpcodeIdentifier.RETURN_VALUE)
+                .build();
+
+        Class<?> functionClass =
+                PythonBytecodeToJavaBytecodeTranslator.translatePythonBytecodeToClass(pythonCompiledFunction,
+                        BiFunction.class);
+
+        TranslationMetrics metrics = TranslationMetricsRegistry.getMetrics(functionClass.getName());
+        assertThat(metrics.getGenericFallbackSites()).hasSize(1);
+
+        GenericFallbackSite site = metrics.getGenericFallbackSites().get(0);
+        assertThat(site.getInstructionIndex()).isEqualTo(2);
+        assertThat(site.getOperation()).startsWith("__add__ on (");
+    }
+
+    @Test
+    public void testTypedOperationsAreNotGenericFallbacks() {
+        PythonCompiledFunction pythonCompiledFunction = PythonFunctionBuilder.newFunction()
+                .loadConstant(1)
+                .loadConstant(2)
+                .op(OpcodeIdentifier.BINARY_ADD)
+                .op(OpcodeIdentifier.RETURN_VALUE)
+                .build();
+
+        Class<?> functionClass =
+                PythonBytecodeToJavaBytecodeTranslator.translatePythonBytecodeToClass(pythonCompiledFunction,
+                        Supplier.class);
+
+        assertThat(TranslationMetricsRegistry.getMetrics(functionClass.getName()).getGenericFallbackSites()).isEmpty();
+    }
+
+    @Test
+    public void testNothingRecordedWhenDisabled() {
+        InterpreterStartupOptions.collectTranslationMetrics = false;
+        PythonCompiledFunction pythonCompiledFunction = PythonFunctionBuilder.newFunction("a", "b")
+                .loadParameter("a")
+                .loadParameter("b")
+                .op(OpcodeIdentifier.BINARY_ADD)
+                .op(OpcodeIdentifier.RETURN_VALUE)
+                .build();
+
+        Class<?> functionClass =
+                PythonBytecodeToJavaBytecodeTranslator.translatePythonBytecodeToClass(pythonCompiledFunction,
+                        BiFunction.class);
+
+        assertThat(TranslationMetricsRegistry.getMetrics(functionClass.getName())).isNull();
+    }
+}
@@ -0,0 +1,102 @@
+package org.optaplanner.jpyinterpreter.types.collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+import java.util.ConcurrentModificationException;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class CompactHashSetTest {
+    @Test
+    public void testAddContainsRemove() {
+        // Goes past the inline capacity, so both the array and the table are used
+        Set<Integer> set = new CompactHashSet<>();
+        Set<Integer> expected = new HashSet<>();
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(set.add(i)).isTrue();
+            assertThat(set.add(i)).isFalse();
+            expected.add(i);
+            assertThat(set).isEqualTo(expected);
+        }
+
+        for (int i = 0; i < 100; i += 2) {
+            assertThat(set.remove(i)).isTrue();
+            assertThat(set.remove(i)).isFalse();
+            expected.remove(i);
+        }
+        assertThat(set).isEqualTo(expected);
+        assertThat(set).hasSize(50);
+        assertThat(set.contains(2)).isFalse();
+        assertThat(set.contains(3)).isTrue();
+
+        // Reuses the table after many removals
+        for (int i = 0; i < 1000; i++) {
+            set.add(1000 + i);
+            set.remove(1000 + i);
+        }
+        assertThat(set).isEqualTo(expected);
+        assertThat(set.hashCode()).isEqualTo(expected.hashCode());
+
+        set.clear();
+        assertThat(set).isEmpty();
+        assertThat(set.add(1)).isTrue();
+        assertThat(set).containsExactly(1);
+    }
+
+    @Test
+    public void testNull() {
+        Set<Integer> set = new CompactHashSet<>();
+        assertThat(set.contains(null)).isFalse();
+        assertThat(set.add(null)).isTrue();
+        assertThat(set.contains(null)).isTrue();
+        assertThat(set).containsExactly((Integer) null);
+        assertThat(set.remove(null)).isTrue();
+        assertThat(set).isEmpty();
+    }
+
+    @Test
+    public void testIteratorRemove() {
+        for (int size : new int[] { 5, 50 }) {
+            Set<Integer> set = new CompactHashSet<>(size);
+            for (int i = 0; i < size; i++) {
+                set.add(i);
+            }
+
+            Set<Integer> seen = new HashSet<>();
+            Iterator<Integer> iterator = set.iterator();
+            while (iterator.hasNext()) {
+                Integer item = iterator.next();
+                assertThat(seen.add(item)).isTrue();
+                if (item % 2 == 0) {
+                    iterator.remove();
+                }
+            }
+
+            assertThat(seen).hasSize(size);
+            assertThat(set).hasSize(size / 2);
+            assertThat(set.removeIf(item -> item % 2 == 0)).isFalse();
+            assertThat(set.removeIf(item -> item % 3 == 0)).isTrue();
+            for (Integer item : set) {
+                assertThat(item % 2).isEqualTo(1);
+                assertThat(item % 3).isNotEqualTo(0);
+            }
+        }
+    }
+
+    @Test
+    public void testModificationDuringIteration() {
+        Set<Integer> set = new CompactHashSet<>();
+        set.add(1);
+        set.add(2);
+
+        Iterator<Integer> iterator = set.iterator();
+        iterator.next();
+        set.add(3);
+        assertThatCode(iterator::next).isInstanceOf(ConcurrentModificationException.class);
+    }
+}
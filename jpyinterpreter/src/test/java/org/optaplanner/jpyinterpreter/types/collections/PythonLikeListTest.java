@@ -0,0 +1,119 @@
+package org.optaplanner.jpyinterpreter.types.collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.jpyinterpreter.PythonLikeObject;
+import org.optaplanner.jpyinterpreter.types.PythonNone;
+import org.optaplanner.jpyinterpreter.types.PythonSlice;
+import org.optaplanner.jpyinterpreter.types.numeric.PythonInteger;
+
+public class PythonLikeListTest {
+    private static PythonLikeList<PythonLikeObject> listOf(int... items) {
+        List<PythonLikeObject> out = new ArrayList<>(items.length);
+        for (int item : items) {
+            out.add(PythonInteger.valueOf(item));
+        }
+        return new PythonLikeList<>(out);
+    }
+
+    private static PythonSlice slice(PythonLikeObject start, PythonLikeObject stop, PythonLikeObject step) {
+        return new PythonSlice(start, stop, step);
+    }
+
+    @Test
+    public void testSlice() {
+        PythonLikeList<PythonLikeObject> list = listOf(0, 1, 2, 3, 4, 5);
+        PythonInteger one = PythonInteger.valueOf(1);
+        PythonInteger two = PythonInteger.valueOf(2);
+        PythonNone none = PythonNone.INSTANCE;
+
+        assertThat(list.getSlice(slice(one, none, none))).isEqualTo(listOf(1, 2, 3, 4, 5));
+        assertThat(list.getSlice(slice(none, two, none))).isEqualTo(listOf(0, 1));
+        assertThat(list.getSlice(slice(none, none, two))).isEqualTo(listOf(0, 2, 4));
+        assertThat(list.getSlice(slice(none, none, PythonInteger.valueOf(-1)))).isEqualTo(listOf(5, 4, 3, 2, 1, 0));
+        assertThat(list.getSlice(slice(PythonInteger.valueOf(-2), PythonInteger.valueOf(-100), PythonInteger.valueOf(-2))))
+                .isEqualTo(listOf(4, 2, 0));
+        assertThat(list.getSlice(slice(PythonInteger.valueOf(-100), two, none))).isEqualTo(listOf(0, 1));
+        assertThat(list.getSlice(slice(PythonInteger.valueOf(4), two, none))).isEmpty();
+
+        PythonLikeList<PythonLikeObject> sliceOfSlice = list.getSlice(slice(one, none, none))
+                .getSlice(slice(none, none, PythonInteger.valueOf(-2)));
+        assertThat(sliceOfSlice).isEqualTo(listOf(5, 3, 1));
+        assertThat(sliceOfSlice.getItem(PythonInteger.valueOf(-1))).isEqualTo(one);
+    }
+
+    @Test
+    public void testModifyingListDoesNotChangeSlice() {
+        PythonLikeList<PythonLikeObject> list = listOf(0, 1, 2, 3);
+        PythonLikeList<PythonLikeObject> slice = list.getSlice(slice(PythonInteger.valueOf(1), PythonNone.INSTANCE,
+                PythonNone.INSTANCE));
+
+        list.setItem(PythonInteger.valueOf(1), PythonInteger.valueOf(10));
+        list.append(PythonInteger.valueOf(4));
+
+        assertThat(list).isEqualTo(listOf(0, 10, 2, 3, 4));
+        assertThat(slice).isEqualTo(listOf(1, 2, 3));
+    }
+
+    @Test
+    public void testModifyingSliceDoesNotChangeList() {
+        PythonLikeList<PythonLikeObject> list = listOf(0, 1, 2, 3);
+        PythonLikeList<PythonLikeObject> slice = list.getSlice(slice(PythonNone.INSTANCE, PythonNone.INSTANCE,
+                PythonInteger.valueOf(-1)));
+
+        slice.append(PythonInteger.valueOf(5));
+        slice.set(0, PythonInteger.valueOf(6));
+        slice.sort();
+
+        assertThat(slice).isEqualTo(listOf(0, 1, 2, 5, 6));
+        assertThat(list).isEqualTo(listOf(0, 1, 2, 3));
+    }
+
+    @Test
+    public void testTupleSlice() {
+        PythonLikeTuple tuple = PythonLikeTuple.fromList(listOf(0, 1, 2, 3));
+        PythonLikeTuple slice = tuple.getSlice(slice(PythonInteger.valueOf(1), PythonNone.INSTANCE, PythonNone.INSTANCE));
+
+        assertThat(slice).isEqualTo(PythonLikeTuple.fromList(listOf(1, 2, 3)));
+        assertThat(slice.hashCode()).isEqualTo(PythonLikeTuple.fromList(listOf(1, 2, 3)).hashCode());
+
+        tuple.set(1, PythonInteger.valueOf(10));
+        assertThat(slice).isEqualTo(PythonLikeTuple.fromList(listOf(1, 2, 3)));
+    }
+
+    @Test
+    public void testReadingTupleSliceKeepsSharedItems() {
+        PythonLikeTuple tuple = PythonLikeTuple.fromList(listOf(0, 1, 2, 3));
+        PythonLikeTuple slice = tuple.getSlice(slice(PythonInteger.valueOf(1), PythonNone.INSTANCE, PythonNone.INSTANCE));
+
+        slice.listIterator().forEachRemaining(Objects::requireNonNull);
+        assertThat(slice.subList(0, 2)).isEqualTo(listOf(1, 2));
+        assertThat(slice.delegate).isInstanceOf(SliceView.class);
+
+        slice.subList(0, 2).set(0, PythonInteger.valueOf(10));
+        assertThat(slice.delegate).isInstanceOf(ArrayList.class);
+        assertThat(slice).isEqualTo(PythonLikeTuple.fromList(listOf(10, 2, 3)));
+        assertThat(tuple).isEqualTo(PythonLikeTuple.fromList(listOf(0, 1, 2, 3)));
+    }
+
+    @Test
+    public void testSliceSharesItemsOnlyWhenLarge() {
+        PythonLikeList<PythonLikeObject> list = listOf(0, 1, 2, 3, 4, 5);
+        PythonLikeTuple tuple = PythonLikeTuple.fromList(listOf(0, 1, 2, 3, 4, 5));
+        PythonSlice largeSlice = slice(PythonInteger.valueOf(3), PythonNone.INSTANCE, PythonNone.INSTANCE);
+        PythonSlice smallSlice = slice(PythonInteger.valueOf(4), PythonNone.INSTANCE, PythonNone.INSTANCE);
+
+        assertThat(list.getSlice(largeSlice).delegate).isInstanceOf(SliceView.class);
+        assertThat(tuple.getSlice(largeSlice).delegate).isInstanceOf(SliceView.class);
+
+        // A small slice copies its items, so it does not keep all the items of a large list or tuple alive
+        assertThat(list.getSlice(smallSlice).delegate).isInstanceOf(ArrayList.class);
+        assertThat(tuple.getSlice(smallSlice).delegate).isInstanceOf(ArrayList.class);
+        assertThat(tuple.getSlice(smallSlice)).isEqualTo(PythonLikeTuple.fromList(listOf(4, 5)));
+    }
+}
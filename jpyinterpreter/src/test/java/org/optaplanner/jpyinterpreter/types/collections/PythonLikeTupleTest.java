@@ -0,0 +1,113 @@
+package org.optaplanner.jpyinterpreter.types.collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Objects;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.jpyinterpreter.PythonLikeObject;
+import org.optaplanner.jpyinterpreter.types.AbstractPythonLikeObject;
+import org.optaplanner.jpyinterpreter.types.BuiltinTypes;
+import org.optaplanner.jpyinterpreter.types.PythonString;
+import org.optaplanner.jpyinterpreter.types.numeric.PythonInteger;
+
+public class PythonLikeTupleTest {
+    @Test
+    public void testHash() {
+        List<PythonLikeObject> items = List.of(PythonInteger.valueOf(1), PythonString.valueOf("a"));
+        PythonLikeTuple tuple = PythonLikeTuple.fromList(items);
+
+        assertThat(tuple.hashCode()).isEqualTo(Objects.hash(items));
+        assertThat(tuple.hashCode()).isEqualTo(PythonLikeTuple.fromList(items).hashCode());
+        assertThat(tuple.$method$__hash__()).isEqualTo(PythonInteger.valueOf(Objects.hash(items)));
+        assertThat(tuple.$method$__hash__()).isSameAs(tuple.$method$__hash__());
+    }
+
+    @Test
+    public void testHashIsRecomputedAfterModification() {
+        PythonLikeTuple tuple = new PythonLikeTuple(2);
+        tuple.reverseAdd(PythonInteger.valueOf(2));
+        int partialHash = tuple.hashCode();
+        tuple.reverseAdd(PythonInteger.valueOf(1));
+
+        assertThat(tuple.hashCode()).isNotEqualTo(partialHash);
+        assertThat(tuple.hashCode()).isEqualTo(Objects.hash(List.of(PythonInteger.valueOf(1), PythonInteger.valueOf(2))));
+
+        tuple.set(0, PythonInteger.valueOf(3));
+        assertThat(tuple.hashCode()).isEqualTo(Objects.hash(List.of(PythonInteger.valueOf(3), PythonInteger.valueOf(2))));
+    }
+
+    @Test
+    public void testHashIsNotCachedWithMutableItem() {
+        PythonLikeList<PythonLikeObject> list = new PythonLikeList<>();
+        list.add(PythonInteger.valueOf(1));
+        PythonLikeTuple tuple = PythonLikeTuple.fromList(List.of(PythonInteger.valueOf(0), list));
+        PythonLikeTuple nestedTuple = PythonLikeTuple.fromList(List.of(tuple));
+
+        int hashBeforeModification = tuple.hashCode();
+        PythonInteger hashObjectBeforeModification = tuple.$method$__hash__();
+        int nestedHashBeforeModification = nestedTuple.hashCode();
+        list.add(PythonInteger.valueOf(2));
+
+        assertThat(tuple.hashCode()).isNotEqualTo(hashBeforeModification);
+        assertThat(tuple.hashCode()).isEqualTo(Objects.hash(List.of(PythonInteger.valueOf(0), list)));
+        assertThat(tuple.$method$__hash__()).isNotEqualTo(hashObjectBeforeModification);
+        assertThat(nestedTuple.hashCode()).isNotEqualTo(nestedHashBeforeModification);
+    }
+
+    @Test
+    public void testHashIsNotCachedWithUserObject() {
+        MutableHashObject item = new MutableHashObject(1);
+        PythonLikeTuple tuple = PythonLikeTuple.fromList(List.of(PythonInteger.valueOf(0), item));
+
+        int hashBeforeModification = tuple.hashCode();
+        item.hash = 2;
+
+        assertThat(tuple.hashCode()).isNotEqualTo(hashBeforeModification);
+        assertThat(tuple.hashCode()).isEqualTo(Objects.hash(List.of(PythonInteger.valueOf(0), item)));
+    }
+
+    @Test
+    public void testHashIsKeptByReadOnlyViews() {
+        PythonLikeTuple tuple = PythonLikeTuple.fromList(List.of(PythonInteger.valueOf(1), PythonInteger.valueOf(2)));
+        PythonInteger hashObject = tuple.$method$__hash__();
+
+        tuple.listIterator().forEachRemaining(Objects::requireNonNull);
+        assertThat(tuple.subList(0, 1)).isEqualTo(List.of(PythonInteger.valueOf(1)));
+        assertThat(tuple.$method$__hash__()).isSameAs(hashObject);
+
+        tuple.subList(0, 1).set(0, PythonInteger.valueOf(3));
+        assertThat(tuple.hashCode()).isEqualTo(Objects.hash(List.of(PythonInteger.valueOf(3), PythonInteger.valueOf(2))));
+
+        ListIterator<PythonLikeObject> listIterator = tuple.listIterator(1);
+        listIterator.next();
+        listIterator.set(PythonInteger.valueOf(4));
+        assertThat(tuple.hashCode()).isEqualTo(Objects.hash(List.of(PythonInteger.valueOf(3), PythonInteger.valueOf(4))));
+    }
+
+    @Test
+    public void testEquals() {
+        PythonLikeTuple tuple = PythonLikeTuple.fromList(List.of(PythonInteger.valueOf(1), PythonInteger.valueOf(2)));
+
+        assertThat(tuple).isEqualTo(PythonLikeTuple.fromList(List.of(PythonInteger.valueOf(1), PythonInteger.valueOf(2))));
+        assertThat(tuple).isNotEqualTo(PythonLikeTuple.fromList(List.of(PythonInteger.valueOf(1))));
+        assertThat(tuple).isNotEqualTo(PythonLikeTuple.fromList(List.of(PythonInteger.valueOf(2), PythonInteger.valueOf(1))));
+        assertThat(tuple.equals(List.of(PythonInteger.valueOf(1), PythonInteger.valueOf(2)))).isTrue();
+    }
+
+    private static class MutableHashObject extends AbstractPythonLikeObject {
+        int hash;
+
+        MutableHashObject(int hash) {
+            super(BuiltinTypes.BASE_TYPE);
+            this.hash = hash;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package org.optaplanner.jpyinterpreter.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.jpyinterpreter.PythonLikeObject;
+import org.optaplanner.jpyinterpreter.types.PythonString;
+import org.optaplanner.jpyinterpreter.types.collections.PythonLikeDict;
+import org.optaplanner.jpyinterpreter.types.errors.TypeError;
+import org.optaplanner.jpyinterpreter.types.errors.ValueError;
+import org.optaplanner.jpyinterpreter.types.numeric.PythonFloat;
+import org.optaplanner.jpyinterpreter.types.numeric.PythonInteger;
+
+public class StringFormatterTest {
+    @Test
+    public void testFormat() {
+        List<PythonLikeObject> positionalArguments = List.of(PythonInteger.valueOf(1), PythonString.valueOf("a"));
+        Map<PythonString, PythonLikeObject> namedArguments = Map.of(PythonString.valueOf("name"),
+                PythonFloat.valueOf(2.5));
+
+        assertThat(StringFormatter.format("{} and {}", positionalArguments, namedArguments)).isEqualTo("1 and a");
+        assertThat(StringFormatter.format("{1}{0}{1}", positionalArguments, namedArguments)).isEqualTo("a1a");
+        assertThat(StringFormatter.format("{{{name:.2f}}}", positionalArguments, namedArguments))
+                .isEqualTo("{2.50}");
+        assertThat(StringFormatter.format("{!r:>5}|", positionalArguments, namedArguments)).isEqualTo("    1|");
+        assertThat(StringFormatter.format("no fields", positionalArguments, namedArguments)).isEqualTo("no fields");
+    }
+
+    @Test
+    public void testFormatIsRepeatable() {
+        String format = "{0:03d}-{1}";
+        for (int i = 0; i < 3; i++) {
+            assertThat(StringFormatter.format(format, List.of(PythonInteger.valueOf(i), PythonString.valueOf("x")),
+                    Map.of())).isEqualTo("00" + i + "-x");
+        }
+    }
+
+    @Test
+    public void testPrintfInterpolate() {
+        assertThat(StringFormatter.printfInterpolate("%d%% of %s", List.of(PythonInteger.valueOf(50),
+                PythonString.valueOf("it")), StringFormatter.PrintfStringType.STRING)).isEqualTo("50% of it");
+        assertThat(StringFormatter.printfInterpolate("[%-*d]", List.of(PythonInteger.valueOf(4),
+                PythonInteger.valueOf(7)), StringFormatter.PrintfStringType.STRING)).isEqualTo("[7   ]");
+        assertThat(StringFormatter.printfInterpolate("%.*f", List.of(PythonInteger.valueOf(1),
+                PythonFloat.valueOf(2.25)), StringFormatter.PrintfStringType.STRING)).isEqualTo("2.2");
+
+        PythonLikeDict dict = new PythonLikeDict();
+        dict.put(PythonString.valueOf("a"), PythonInteger.valueOf(3));
+        assertThat(StringFormatter.printfInterpolate("a=%(a)03d", dict, StringFormatter.PrintfStringType.STRING))
+                .isEqualTo("a=003");
+    }
+
+    @Test
+    public void testPrintfInterpolateErrors() {
+        assertThatCode(() -> StringFormatter.printfInterpolate("%d %d", List.of(PythonInteger.valueOf(1)),
+                StringFormatter.PrintfStringType.STRING))
+                .isInstanceOf(TypeError.class)
+                .hasMessageContaining("not enough arguments");
+        assertThatCode(() -> StringFormatter.printfInterpolate("%d %y", List.of(PythonInteger.valueOf(1)),
+                StringFormatter.PrintfStringType.STRING))
+                .isInstanceOf(ValueError.class)
+                .hasMessageContaining("Invalid specifier at position 3");
+    }
+
+    @Test
+    public void testBuildString() {
+        assertThat(StringFormatter.buildString(new PythonLikeObject[] { PythonString.valueOf("a"),
+                PythonString.valueOf("bc"), PythonString.valueOf("") }))
+                .isEqualTo(PythonString.valueOf("abc"));
+    }
+}
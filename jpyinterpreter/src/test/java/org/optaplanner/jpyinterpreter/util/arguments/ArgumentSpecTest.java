@@ -13,6 +13,7 @@ import org.assertj.core.api.InstanceOfAssertFactories;
 import org.junit.jupiter.api.Test;
 import org.optaplanner.jpyinterpreter.PythonLikeObject;
 import org.optaplanner.jpyinterpreter.types.PythonString;
+import org.optaplanner.jpyinterpreter.types.collections.PythonLikeDict;
 import org.optaplanner.jpyinterpreter.types.collections.PythonLikeTuple;
 import org.optaplanner.jpyinterpreter.types.errors.TypeError;
 import org.optaplanner.jpyinterpreter.types.numeric.PythonInteger;
@@ -151,4 +152,35 @@ public class ArgumentSpecTest {
             argumentValueList.add(PythonInteger.valueOf(i));
         }
     }
+
+    @Test
+    public void testSpecArgumentKinds() {
+        ArgumentSpec<?> spec = ArgumentSpec.forFunctionReturning("myFunction", PythonLikeTuple.class)
+                .addPositionalOnlyArgument("a", PythonInteger.class)
+                .addArgument("b", PythonInteger.class)
+                .addKeywordOnlyArgument("c", PythonInteger.class, PythonInteger.valueOf(3))
+                .addExtraKeywordVarArgument("kwargs");
+
+        Map<PythonString, PythonLikeObject> keywordArguments = new HashMap<>();
+        keywordArguments.put(PythonString.valueOf("b"), PythonInteger.valueOf(2));
+        keywordArguments.put(PythonString.valueOf("d"), PythonInteger.valueOf(4));
+
+        List<PythonLikeObject> out = spec.extractArgumentList(List.of(PythonInteger.valueOf(1)), keywordArguments);
+        PythonLikeDict expectedExtraKeywords = new PythonLikeDict();
+        expectedExtraKeywords.put(PythonString.valueOf("d"), PythonInteger.valueOf(4));
+        assertThat(out).containsExactly(PythonInteger.valueOf(1), PythonInteger.valueOf(2), PythonInteger.valueOf(3),
+                expectedExtraKeywords);
+
+        assertThatCode(() -> spec.extractArgumentList(List.of(PythonInteger.valueOf(1)),
+                Map.of(PythonString.valueOf("a"), PythonInteger.valueOf(1),
+                        PythonString.valueOf("b"), PythonInteger.valueOf(2))))
+                .isInstanceOf(TypeError.class)
+                .hasMessageContaining("myFunction() got multiple values for argument 'a'");
+
+        assertThatCode(() -> spec.extractArgumentList(List.of(),
+                Map.of(PythonString.valueOf("a"), PythonInteger.valueOf(1),
+                        PythonString.valueOf("b"), PythonInteger.valueOf(2))))
+                .isInstanceOf(TypeError.class)
+                .hasMessageContaining("myFunction() missing 1 required positional argument");
+    }
 }
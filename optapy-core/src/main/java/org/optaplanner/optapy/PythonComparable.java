@@ -8,6 +8,11 @@ import org.optaplanner.jpyinterpreter.types.wrappers.OpaqueJavaReference;
 import org.optaplanner.jpyinterpreter.types.wrappers.OpaquePythonReference;
 import org.optaplanner.jpyinterpreter.types.wrappers.PythonObjectWrapper;
 
+/**
+ * A planning id whose compareTo, equals and hashCode call the Python object's __lt__, __eq__ and __hash__.
+ * Used unless the class of the planning id is translated (which @planning_id only does when asked to),
+ * in which case the planning id is an instance of its translated class, which implements these methods in Java.
+ */
 @SuppressWarnings("unused")
 public class PythonComparable implements Comparable<PythonComparable>, OpaqueJavaReference {
 
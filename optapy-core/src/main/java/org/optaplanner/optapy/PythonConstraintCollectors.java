@@ -0,0 +1,511 @@
+package org.optaplanner.optapy;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.optaplanner.core.api.function.PentaFunction;
+import org.optaplanner.core.api.function.QuadFunction;
+import org.optaplanner.core.api.function.TriFunction;
+import org.optaplanner.core.api.score.stream.bi.BiConstraintCollector;
+import org.optaplanner.core.api.score.stream.quad.QuadConstraintCollector;
+import org.optaplanner.core.api.score.stream.tri.TriConstraintCollector;
+import org.optaplanner.core.api.score.stream.uni.UniConstraintCollector;
+import org.optaplanner.jpyinterpreter.PythonLikeObject;
+import org.optaplanner.jpyinterpreter.types.PythonNone;
+import org.optaplanner.jpyinterpreter.types.collections.PythonLikeList;
+import org.optaplanner.jpyinterpreter.types.errors.TypeError;
+import org.optaplanner.jpyinterpreter.types.numeric.PythonFloat;
+import org.optaplanner.jpyinterpreter.types.numeric.PythonInteger;
+
+/**
+ * Constraint collectors for streams whose functions were translated to Java bytecode.
+ * <p>
+ * Translated functions return {@link PythonLikeObject}s, and translated functions downstream accept them as is.
+ * Unlike the collectors in {@link org.optaplanner.core.api.score.stream.ConstraintCollectors}, these collectors
+ * accumulate {@link PythonInteger}s and {@link PythonFloat}s directly into primitive fields, and return
+ * {@link PythonLikeObject}s, so no value is converted to or from a Java type when a tuple is inserted or retracted.
+ */
+@SuppressWarnings("unused")
+public final class PythonConstraintCollectors {
+
+    private PythonConstraintCollectors() {
+    }
+
+    // ************************************************************************
+    // count
+    // ************************************************************************
+
+    public static <A> UniConstraintCollector<A, ?, Object> count() {
+        return new UniCollector<A>(CountContainer::new, a -> null);
+    }
+
+    public static <A, B> BiConstraintCollector<A, B, ?, Object> countBi() {
+        return new BiCollector<A, B>(CountContainer::new, (a, b) -> null);
+    }
+
+    public static <A, B, C> TriConstraintCollector<A, B, C, ?, Object> countTri() {
+        return new TriCollector<A, B, C>(CountContainer::new, (a, b, c) -> null);
+    }
+
+    public static <A, B, C, D> QuadConstraintCollector<A, B, C, D, ?, Object> countQuad() {
+        return new QuadCollector<A, B, C, D>(CountContainer::new, (a, b, c, d) -> null);
+    }
+
+    // ************************************************************************
+    // sum
+    // ************************************************************************
+
+    public static <A> UniConstraintCollector<A, ?, Object> sum(Function<A, ?> mapping) {
+        return new UniCollector<>(SumContainer::new, mapping);
+    }
+
+    public static <A, B> BiConstraintCollector<A, B, ?, Object> sum(BiFunction<A, B, ?> mapping) {
+        return new BiCollector<>(SumContainer::new, mapping);
+    }
+
+    public static <A, B, C> TriConstraintCollector<A, B, C, ?, Object> sum(TriFunction<A, B, C, ?> mapping) {
+        return new TriCollector<>(SumContainer::new, mapping);
+    }
+
+    public static <A, B, C, D> QuadConstraintCollector<A, B, C, D, ?, Object>
+            sum(QuadFunction<A, B, C, D, ?> mapping) {
+        return new QuadCollector<>(SumContainer::new, mapping);
+    }
+
+    // ************************************************************************
+    // average
+    // ************************************************************************
+
+    public static <A> UniConstraintCollector<A, ?, Object> average(Function<A, ?> mapping) {
+        return new UniCollector<>(AverageContainer::new, mapping);
+    }
+
+    public static <A, B> BiConstraintCollector<A, B, ?, Object> average(BiFunction<A, B, ?> mapping) {
+        return new BiCollector<>(AverageContainer::new, mapping);
+    }
+
+    public static <A, B, C> TriConstraintCollector<A, B, C, ?, Object>
+            average(TriFunction<A, B, C, ?> mapping) {
+        return new TriCollector<>(AverageContainer::new, mapping);
+    }
+
+    public static <A, B, C, D> QuadConstraintCollector<A, B, C, D, ?, Object>
+            average(QuadFunction<A, B, C, D, ?> mapping) {
+        return new QuadCollector<>(AverageContainer::new, mapping);
+    }
+
+    // ************************************************************************
+    // min
+    // ************************************************************************
+
+    public static <A> UniConstraintCollector<A, ?, Object> min(Function<A, ?> mapping) {
+        return new UniCollector<>(() -> new MinMaxContainer(false), mapping);
+    }
+
+    public static <A, B> BiConstraintCollector<A, B, ?, Object> min(BiFunction<A, B, ?> mapping) {
+        return new BiCollector<>(() -> new MinMaxContainer(false), mapping);
+    }
+
+    public static <A, B, C> TriConstraintCollector<A, B, C, ?, Object> min(TriFunction<A, B, C, ?> mapping) {
+        return new TriCollector<>(() -> new MinMaxContainer(false), mapping);
+    }
+
+    public static <A, B, C, D> QuadConstraintCollector<A, B, C, D, ?, Object>
+            min(QuadFunction<A, B, C, D, ?> mapping) {
+        return new QuadCollector<>(() -> new MinMaxContainer(false), mapping);
+    }
+
+    // ************************************************************************
+    // max
+    // ************************************************************************
+
+    public static <A> UniConstraintCollector<A, ?, Object> max(Function<A, ?> mapping) {
+        return new UniCollector<>(() -> new MinMaxContainer(true), mapping);
+    }
+
+    public static <A, B> BiConstraintCollector<A, B, ?, Object> max(BiFunction<A, B, ?> mapping) {
+        return new BiCollector<>(() -> new MinMaxContainer(true), mapping);
+    }
+
+    public static <A, B, C> TriConstraintCollector<A, B, C, ?, Object> max(TriFunction<A, B, C, ?> mapping) {
+        return new TriCollector<>(() -> new MinMaxContainer(true), mapping);
+    }
+
+    public static <A, B, C, D> QuadConstraintCollector<A, B, C, D, ?, Object>
+            max(QuadFunction<A, B, C, D, ?> mapping) {
+        return new QuadCollector<>(() -> new MinMaxContainer(true), mapping);
+    }
+
+    // ************************************************************************
+    // toList
+    // ************************************************************************
+
+    public static <A> UniConstraintCollector<A, ?, Object> toList() {
+        return new UniCollector<A>(ToListContainer::new, a -> a);
+    }
+
+    public static <A> UniConstraintCollector<A, ?, Object> toList(Function<A, ?> mapping) {
+        return new UniCollector<>(ToListContainer::new, mapping);
+    }
+
+    public static <A, B> BiConstraintCollector<A, B, ?, Object> toList(BiFunction<A, B, ?> mapping) {
+        return new BiCollector<>(ToListContainer::new, mapping);
+    }
+
+    public static <A, B, C> TriConstraintCollector<A, B, C, ?, Object>
+            toList(TriFunction<A, B, C, ?> mapping) {
+        return new TriCollector<>(ToListContainer::new, mapping);
+    }
+
+    public static <A, B, C, D> QuadConstraintCollector<A, B, C, D, ?, Object>
+            toList(QuadFunction<A, B, C, D, ?> mapping) {
+        return new QuadCollector<>(ToListContainer::new, mapping);
+    }
+
+    // ************************************************************************
+    // Collectors
+    // ************************************************************************
+
+    private static final class UniCollector<A> implements UniConstraintCollector<A, ResultContainer, Object> {
+        private final Supplier<ResultContainer> supplier;
+        private final Function<A, ?> mapping;
+
+        UniCollector(Supplier<ResultContainer> supplier, Function<A, ?> mapping) {
+            this.supplier = supplier;
+            this.mapping = mapping;
+        }
+
+        @Override
+        public Supplier<ResultContainer> supplier() {
+            return supplier;
+        }
+
+        @Override
+        public BiFunction<ResultContainer, A, Runnable> accumulator() {
+            return (container, a) -> container.insert(mapping.apply(a));
+        }
+
+        @Override
+        public Function<ResultContainer, Object> finisher() {
+            return ResultContainer::result;
+        }
+    }
+
+    private static final class BiCollector<A, B>
+            implements BiConstraintCollector<A, B, ResultContainer, Object> {
+        private final Supplier<ResultContainer> supplier;
+        private final BiFunction<A, B, ?> mapping;
+
+        BiCollector(Supplier<ResultContainer> supplier, BiFunction<A, B, ?> mapping) {
+            this.supplier = supplier;
+            this.mapping = mapping;
+        }
+
+        @Override
+        public Supplier<ResultContainer> supplier() {
+            return supplier;
+        }
+
+        @Override
+        public TriFunction<ResultContainer, A, B, Runnable> accumulator() {
+            return (container, a, b) -> container.insert(mapping.apply(a, b));
+        }
+
+        @Override
+        public Function<ResultContainer, Object> finisher() {
+            return ResultContainer::result;
+        }
+    }
+
+    private static final class TriCollector<A, B, C>
+            implements TriConstraintCollector<A, B, C, ResultContainer, Object> {
+        private final Supplier<ResultContainer> supplier;
+        private final TriFunction<A, B, C, ?> mapping;
+
+        TriCollector(Supplier<ResultContainer> supplier, TriFunction<A, B, C, ?> mapping) {
+            this.supplier = supplier;
+            this.mapping = mapping;
+        }
+
+        @Override
+        public Supplier<ResultContainer> supplier() {
+            return supplier;
+        }
+
+        @Override
+        public QuadFunction<ResultContainer, A, B, C, Runnable> accumulator() {
+            return (container, a, b, c) -> container.insert(mapping.apply(a, b, c));
+        }
+
+        @Override
+        public Function<ResultContainer, Object> finisher() {
+            return ResultContainer::result;
+        }
+    }
+
+    private static final class QuadCollector<A, B, C, D>
+            implements QuadConstraintCollector<A, B, C, D, ResultContainer, Object> {
+        private final Supplier<ResultContainer> supplier;
+        private final QuadFunction<A, B, C, D, ?> mapping;
+
+        QuadCollector(Supplier<ResultContainer> supplier, QuadFunction<A, B, C, D, ?> mapping) {
+            this.supplier = supplier;
+            this.mapping = mapping;
+        }
+
+        @Override
+        public Supplier<ResultContainer> supplier() {
+            return supplier;
+        }
+
+        @Override
+        public PentaFunction<ResultContainer, A, B, C, D, Runnable> accumulator() {
+            return (container, a, b, c, d) -> container.insert(mapping.apply(a, b, c, d));
+        }
+
+        @Override
+        public Function<ResultContainer, Object> finisher() {
+            return ResultContainer::result;
+        }
+    }
+
+    // ************************************************************************
+    // Result containers
+    // ************************************************************************
+
+    private interface ResultContainer {
+        /**
+         * Adds the mapped value of a tuple to the container.
+         *
+         * @return A {@link Runnable} that retracts the value again
+         */
+        Runnable insert(Object value);
+
+        Object result();
+    }
+
+    private static final class CountContainer implements ResultContainer {
+        private int count = 0;
+
+        @Override
+        public Runnable insert(Object value) {
+            count++;
+            return () -> count--;
+        }
+
+        @Override
+        public Object result() {
+            return PythonInteger.valueOf(count);
+        }
+    }
+
+    private static class SumContainer implements ResultContainer {
+        // Ints are summed in longSum until it would overflow, after which the excess goes to bigSum
+        private long longSum = 0L;
+        private BigInteger bigSum = null;
+        // Finite floats are summed exactly, so retracting a float restores the previous sum;
+        // NaN and infinities are only counted, since they cannot be subtracted out of a sum
+        private BigDecimal floatSum = BigDecimal.ZERO;
+        private int floatCount = 0;
+        private int nanCount = 0;
+        private int positiveInfinityCount = 0;
+        private int negativeInfinityCount = 0;
+        protected int count = 0;
+
+        @Override
+        public Runnable insert(Object value) {
+            count++;
+            if (value instanceof PythonInteger) {
+                BigInteger integerValue = ((PythonInteger) value).value;
+                if (integerValue.bitLength() < Long.SIZE) {
+                    long longValue = integerValue.longValue();
+                    addLong(longValue);
+                    return () -> {
+                        count--;
+                        subtractLong(longValue);
+                    };
+                }
+                addBigInteger(integerValue);
+                return () -> {
+                    count--;
+                    addBigInteger(integerValue.negate());
+                };
+            }
+            if (value instanceof PythonFloat) {
+                double floatValue = ((PythonFloat) value).value;
+                floatCount++;
+                if (Double.isFinite(floatValue)) {
+                    BigDecimal exactValue = new BigDecimal(floatValue);
+                    floatSum = floatSum.add(exactValue);
+                    return () -> {
+                        count--;
+                        floatCount--;
+                        floatSum = floatSum.subtract(exactValue);
+                    };
+                }
+                countNonFinite(floatValue, 1);
+                return () -> {
+                    count--;
+                    floatCount--;
+                    countNonFinite(floatValue, -1);
+                };
+            }
+            count--;
+            throw new TypeError("unsupported operand type(s) for +: 'int' and '" + getTypeName(value) + "'");
+        }
+
+        private void addLong(long value) {
+            try {
+                longSum = Math.addExact(longSum, value);
+            } catch (ArithmeticException e) {
+                addBigInteger(BigInteger.valueOf(value));
+            }
+        }
+
+        private void subtractLong(long value) {
+            try {
+                longSum = Math.subtractExact(longSum, value);
+            } catch (ArithmeticException e) {
+                addBigInteger(BigInteger.valueOf(value).negate());
+            }
+        }
+
+        private void countNonFinite(double value, int delta) {
+            if (Double.isNaN(value)) {
+                nanCount += delta;
+            } else if (value > 0) {
+                positiveInfinityCount += delta;
+            } else {
+                negativeInfinityCount += delta;
+            }
+        }
+
+        private void addBigInteger(BigInteger value) {
+            bigSum = (bigSum == null) ? value : bigSum.add(value);
+        }
+
+        private BigInteger getIntegerSum() {
+            return (bigSum == null) ? BigInteger.valueOf(longSum) : bigSum.add(BigInteger.valueOf(longSum));
+        }
+
+        protected double getFloatSum() {
+            if (nanCount > 0 || (positiveInfinityCount > 0 && negativeInfinityCount > 0)) {
+                return Double.NaN;
+            }
+            if (positiveInfinityCount > 0) {
+                return Double.POSITIVE_INFINITY;
+            }
+            if (negativeInfinityCount > 0) {
+                return Double.NEGATIVE_INFINITY;
+            }
+            BigDecimal integerSum = (bigSum == null) ? BigDecimal.valueOf(longSum) : new BigDecimal(getIntegerSum());
+            return integerSum.add(floatSum).doubleValue();
+        }
+
+        @Override
+        public Object result() {
+            if (floatCount > 0) {
+                return PythonFloat.valueOf(getFloatSum());
+            }
+            return (bigSum == null) ? PythonInteger.valueOf(longSum) : PythonInteger.valueOf(getIntegerSum());
+        }
+    }
+
+    private static final class AverageContainer extends SumContainer {
+        @Override
+        public Object result() {
+            if (count == 0) {
+                return PythonNone.INSTANCE;
+            }
+            return PythonFloat.valueOf(getFloatSum() / count);
+        }
+    }
+
+    private static final class MinMaxContainer implements ResultContainer {
+        private final boolean isMax;
+        // Counts how often each value was inserted, since equal values can be retracted separately
+        private final TreeMap<Object, int[]> valueToCount = new TreeMap<>(PYTHON_VALUE_COMPARATOR);
+
+        MinMaxContainer(boolean isMax) {
+            this.isMax = isMax;
+        }
+
+        @Override
+        public Runnable insert(Object value) {
+            int[] count = valueToCount.computeIfAbsent(value, key -> new int[1]);
+            count[0]++;
+            return () -> {
+                if (--count[0] == 0) {
+                    valueToCount.remove(value);
+                }
+            };
+        }
+
+        @Override
+        public Object result() {
+            if (valueToCount.isEmpty()) {
+                return PythonNone.INSTANCE;
+            }
+            return (isMax ? valueToCount.lastKey() : valueToCount.firstKey());
+        }
+    }
+
+    private static final class ToListContainer implements ResultContainer {
+        private final Map<Object, int[]> valueToCount = new LinkedHashMap<>();
+        private int size = 0;
+
+        @Override
+        public Runnable insert(Object value) {
+            int[] count = valueToCount.computeIfAbsent(value, key -> new int[1]);
+            count[0]++;
+            size++;
+            return () -> {
+                size--;
+                if (--count[0] == 0) {
+                    valueToCount.remove(value);
+                }
+            };
+        }
+
+        @Override
+        public Object result() {
+            PythonLikeList<Object> out = new PythonLikeList<>(new ArrayList<>(size));
+            for (Map.Entry<Object, int[]> entry : valueToCount.entrySet()) {
+                for (int i = 0; i < entry.getValue()[0]; i++) {
+                    out.add(entry.getKey());
+                }
+            }
+            return out;
+        }
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static final Comparator<Object> PYTHON_VALUE_COMPARATOR = (a, b) -> {
+        if (a instanceof PythonInteger && b instanceof PythonInteger) {
+            return ((PythonInteger) a).value.compareTo(((PythonInteger) b).value);
+        }
+        if (a instanceof PythonFloat && b instanceof PythonFloat) {
+            return Double.compare(((PythonFloat) a).value, ((PythonFloat) b).value);
+        }
+        if (a instanceof Comparable) {
+            return ((Comparable) a).compareTo(b);
+        }
+        throw new TypeError("'<' not supported between instances of '" + getTypeName(a) + "' and '"
+                + getTypeName(b) + "'");
+    };
+
+    private static String getTypeName(Object value) {
+        if (value instanceof PythonLikeObject) {
+            return ((PythonLikeObject) value).__getType().getTypeName();
+        }
+        return (value == null) ? "NoneType" : value.getClass().getName();
+    }
+}
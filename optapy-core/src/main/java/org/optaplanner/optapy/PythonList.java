@@ -17,6 +17,9 @@ import org.optaplanner.jpyinterpreter.types.collections.PythonLikeList;
 import org.optaplanner.jpyinterpreter.types.wrappers.OpaquePythonReference;
 
 public class PythonList<T> extends PythonLikeList<T> implements PythonObject, List<T> {
+    // The number of items read from Python at once when a list is wrapped
+    private static final int READ_CHUNK_SIZE = 1024;
+
     private static Function<OpaquePythonReference, Object> clearPythonList;
     private static Function<OpaquePythonReference, Integer> getPythonListLength;
     private static BiFunction<OpaquePythonReference, Integer, Object> getItemAtIndexInPythonList;
@@ -27,6 +30,9 @@ public class PythonList<T> extends PythonLikeList<T> implements PythonObject, Li
     private static BiFunction<OpaquePythonReference, Integer, Boolean> removeItemAtIndexFromPythonList;
     private static BiFunction<OpaquePythonReference, Object, Boolean> doesPythonListContainItem;
     private static TriFunction<OpaquePythonReference, Integer, Integer, OpaquePythonReference> slicePythonList;
+    private static TriFunction<OpaquePythonReference, Integer, Integer, List<Object>> getPythonListItems;
+    private static BiFunction<OpaquePythonReference, List<Object>, Object> replacePythonListItems;
+    private static TriFunction<OpaquePythonReference, Integer, List<Object>, Object> insertItemsIntoPythonList;
 
     public static void setClearPythonList(Function<OpaquePythonReference, Object> clearPythonList) {
         PythonList.clearPythonList = clearPythonList;
@@ -75,6 +81,21 @@ public class PythonList<T> extends PythonLikeList<T> implements PythonObject, Li
         PythonList.slicePythonList = slicePythonList;
     }
 
+    public static void
+            setGetPythonListItems(TriFunction<OpaquePythonReference, Integer, Integer, List<Object>> getPythonListItems) {
+        PythonList.getPythonListItems = getPythonListItems;
+    }
+
+    public static void
+            setReplacePythonListItems(BiFunction<OpaquePythonReference, List<Object>, Object> replacePythonListItems) {
+        PythonList.replacePythonListItems = replacePythonListItems;
+    }
+
+    public static void setInsertItemsIntoPythonList(
+            TriFunction<OpaquePythonReference, Integer, List<Object>, Object> insertItemsIntoPythonList) {
+        PythonList.insertItemsIntoPythonList = insertItemsIntoPythonList;
+    }
+
     private OpaquePythonReference pythonListOpaqueReference;
     private Map<Number, Object> idMap;
 
@@ -83,11 +104,19 @@ public class PythonList<T> extends PythonLikeList<T> implements PythonObject, Li
     private final List<Object> cachedObjectList;
     private final List<PythonLikeObject> cachedPythonLikeObjectList;
 
+    // The list this list is a sublist of, or null if this list is not a sublist
+    private PythonList<?> parentList;
+
+    // True if the Python list might differ from cachedObjectList. Only tracked when there is no Python setter,
+    // since modifications are then only written to the Python list by forceUpdate()
+    private boolean isDirty;
+
     public PythonList(OpaquePythonReference pythonListOpaqueReference, Number id, Map<Number, Object> idMap,
             TriFunction<OpaquePythonReference, String, Object, Object> pythonSetter) {
         this.pythonListOpaqueReference = pythonListOpaqueReference;
         this.idMap = idMap;
         this.pythonSetter = pythonSetter;
+
         int size = getPythonListLength.apply(pythonListOpaqueReference);
         this.cachedObjectList = new ArrayList<>(size);
         this.cachedPythonLikeObjectList = getDelegate();
@@ -95,8 +124,20 @@ public class PythonList<T> extends PythonLikeList<T> implements PythonObject, Li
             cachedObjectList.add(null);
             cachedPythonLikeObjectList.add(null);
         }
-        for (int i = 0; i < size; i++) {
-            get(i); // use side-effect of populating cachedObjectList
+
+        // Read the items a chunk at a time, instead of crossing into Python for every index. Each item is followed
+        // by its id and Java class (or two nulls if it does not need to be wrapped), so wrapping the items does not
+        // cross into Python either, and items are put into the id map as their chunk is read.
+        for (int chunkStart = 0; chunkStart < size; chunkStart += READ_CHUNK_SIZE) {
+            int chunkEnd = Math.min(chunkStart + READ_CHUNK_SIZE, size);
+            List<Object> chunk = getPythonListItems.apply(pythonListOpaqueReference, chunkStart, chunkEnd);
+            for (int i = chunkStart; i < chunkEnd; i++) {
+                int chunkIndex = 3 * (i - chunkStart);
+                Object item = chunk.get(chunkIndex);
+                if (item != null) {
+                    cacheItem(i, item, (Number) chunk.get(chunkIndex + 1), (Class<?>) chunk.get(chunkIndex + 2));
+                }
+            }
         }
     }
 
@@ -122,18 +163,46 @@ public class PythonList<T> extends PythonLikeList<T> implements PythonObject, Li
 
     @Override
     public void forceUpdate() {
-        clearPythonList.apply(pythonListOpaqueReference);
-        for (Object o : cachedObjectList) {
-            if (o instanceof OpaquePythonReference) {
-                addItemToPythonList.apply(pythonListOpaqueReference, o);
-            } else if (o instanceof PythonObject) {
-                addItemToPythonList.apply(pythonListOpaqueReference, ((PythonObject) o).get__optapy_Id());
-            } else {
-                addItemToPythonList.apply(pythonListOpaqueReference, o);
-            }
+        if (pythonSetter == PythonWrapperGenerator.NONE_PYTHON_SETTER && !isDirty) {
+            return;
+        }
+        replacePythonListItems.apply(pythonListOpaqueReference, toPythonItems(cachedObjectList));
+        isDirty = false;
+    }
+
+    // Called after the cached lists are modified. Without a Python setter, the modification is only written to the
+    // Python list by forceUpdate(), so this list (and its parents) are marked dirty and true is returned.
+    // Otherwise, false is returned and the caller writes the modification through to the Python list.
+    private boolean deferWriteToPython() {
+        if (pythonSetter == PythonWrapperGenerator.NONE_PYTHON_SETTER) {
+            markDirty();
+            return true;
+        }
+        return false;
+    }
+
+    private void markDirty() {
+        isDirty = true;
+        if (parentList != null) {
+            parentList.markDirty();
         }
     }
 
+    private static Object toPythonItem(Object item) {
+        if (item instanceof PythonObject && !(item instanceof OpaquePythonReference)) {
+            return ((PythonObject) item).get__optapy_Id();
+        }
+        return item;
+    }
+
+    private static List<Object> toPythonItems(Collection<?> items) {
+        List<Object> out = new ArrayList<>(items.size());
+        for (Object item : items) {
+            out.add(toPythonItem(item));
+        }
+        return out;
+    }
+
     @Override
     public void $setFields(OpaquePythonReference reference, Number id, Map referenceMap, TriFunction setter) {
 
@@ -212,7 +281,7 @@ public class PythonList<T> extends PythonLikeList<T> implements PythonObject, Li
         cachedObjectList.add(t);
         cachedPythonLikeObjectList.add(JavaPythonTypeConversionImplementor.wrapJavaObject(t));
 
-        if (pythonSetter != PythonWrapperGenerator.NONE_PYTHON_SETTER) {
+        if (!deferWriteToPython()) {
             if (t instanceof OpaquePythonReference) {
                 addItemToPythonList.apply(pythonListOpaqueReference, t);
             } else if (t instanceof PythonObject) {
@@ -229,7 +298,7 @@ public class PythonList<T> extends PythonLikeList<T> implements PythonObject, Li
         boolean out = cachedObjectList.remove(t);
         cachedPythonLikeObjectList.remove(JavaPythonTypeConversionImplementor.wrapJavaObject(t));
 
-        if (pythonSetter != PythonWrapperGenerator.NONE_PYTHON_SETTER) {
+        if (!deferWriteToPython()) {
             if (t instanceof OpaquePythonReference) {
                 return removeItemFromPythonList.apply(pythonListOpaqueReference, t);
             } else if (t instanceof PythonObject) {
@@ -254,18 +323,27 @@ public class PythonList<T> extends PythonLikeList<T> implements PythonObject, Li
 
     @Override
     public boolean addAll(Collection collection) {
-        for (Object o : collection) {
-            add(o);
-        }
-        return true;
+        return addAll(size(), collection);
     }
 
     @Override
     public boolean addAll(int i, Collection collection) {
-        int index = i;
-        for (Object o : collection) {
-            add(index, o);
-            index++;
+        if (i < 0 || i > cachedObjectList.size()) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (collection.isEmpty()) {
+            return false;
+        }
+        List<Object> items = new ArrayList<>(collection);
+        List<PythonLikeObject> pythonLikeItems = new ArrayList<>(items.size());
+        for (Object item : items) {
+            pythonLikeItems.add(JavaPythonTypeConversionImplementor.wrapJavaObject(item));
+        }
+        cachedObjectList.addAll(i, items);
+        cachedPythonLikeObjectList.addAll(i, pythonLikeItems);
+
+        if (!deferWriteToPython()) {
+            insertItemsIntoPythonList.apply(pythonListOpaqueReference, i, toPythonItems(items));
         }
         return true;
     }
@@ -295,7 +373,7 @@ public class PythonList<T> extends PythonLikeList<T> implements PythonObject, Li
         cachedObjectList.clear();
         cachedPythonLikeObjectList.clear();
 
-        if (pythonSetter != PythonWrapperGenerator.NONE_PYTHON_SETTER) {
+        if (!deferWriteToPython()) {
             clearPythonList.apply(pythonListOpaqueReference);
         }
     }
@@ -312,7 +390,10 @@ public class PythonList<T> extends PythonLikeList<T> implements PythonObject, Li
         }
 
         Object out = getItemAtIndexInPythonList.apply(pythonListOpaqueReference, i);
+        return (T) cacheItem(i, out, null, null);
+    }
 
+    private Object cacheItem(int i, Object out, Number id, Class<?> javaClass) {
         if (out instanceof Number || out instanceof Boolean || out instanceof String) {
             if (out instanceof Long) {
                 cachedObjectList.set(i, ((Long) out).intValue());
@@ -320,22 +401,27 @@ public class PythonList<T> extends PythonLikeList<T> implements PythonObject, Li
                 cachedObjectList.set(i, out);
             }
             cachedPythonLikeObjectList.set(i, JavaPythonTypeConversionImplementor.wrapJavaObject(out));
-            return (T) out;
+            return out;
         }
 
         if (out instanceof PythonLikeObject) {
             cachedObjectList.set(i, out);
             cachedPythonLikeObjectList.set(i, (PythonLikeObject) out);
-            return (T) out;
+            return out;
         }
 
         // Different proxies of the same object are different objects according to IdentityHashMap,
         // so wrap it (which will return the same Proxy if it was already created)
-        Object wrapped_out = PythonWrapperGenerator.wrap(PythonWrapperGenerator.getJavaClass((OpaquePythonReference) out),
-                (OpaquePythonReference) out, idMap, pythonSetter);
+        Object wrapped_out;
+        if (id != null) {
+            wrapped_out = PythonWrapperGenerator.wrap(javaClass, (OpaquePythonReference) out, id, idMap, pythonSetter);
+        } else {
+            wrapped_out = PythonWrapperGenerator.wrap(PythonWrapperGenerator.getJavaClass((OpaquePythonReference) out),
+                    (OpaquePythonReference) out, idMap, pythonSetter);
+        }
         cachedObjectList.set(i, wrapped_out);
         cachedPythonLikeObjectList.set(i, (PythonLikeObject) wrapped_out);
-        return (T) wrapped_out;
+        return wrapped_out;
     }
 
     @Override
@@ -344,7 +430,7 @@ public class PythonList<T> extends PythonLikeList<T> implements PythonObject, Li
         cachedObjectList.set(i, t);
         cachedPythonLikeObjectList.set(i, JavaPythonTypeConversionImplementor.wrapJavaObject(t));
 
-        if (pythonSetter != PythonWrapperGenerator.NONE_PYTHON_SETTER) {
+        if (!deferWriteToPython()) {
             if (t instanceof OpaquePythonReference) {
                 setItemAtIndexInPythonList.apply(pythonListOpaqueReference, i, t);
             } else if (t instanceof PythonObject) {
@@ -361,7 +447,7 @@ public class PythonList<T> extends PythonLikeList<T> implements PythonObject, Li
         cachedObjectList.add(i, t);
         cachedPythonLikeObjectList.add(i, JavaPythonTypeConversionImplementor.wrapJavaObject(t));
 
-        if (pythonSetter != PythonWrapperGenerator.NONE_PYTHON_SETTER) {
+        if (!deferWriteToPython()) {
             if (t instanceof OpaquePythonReference) {
                 addItemAtIndexInPythonList.apply(pythonListOpaqueReference, i, t);
             } else if (t instanceof PythonObject) {
@@ -378,7 +464,7 @@ public class PythonList<T> extends PythonLikeList<T> implements PythonObject, Li
         cachedObjectList.remove(i);
         cachedPythonLikeObjectList.remove(i);
 
-        if (pythonSetter != PythonWrapperGenerator.NONE_PYTHON_SETTER) {
+        if (!deferWriteToPython()) {
             removeItemAtIndexFromPythonList.apply(pythonListOpaqueReference, i);
         }
         return out;
@@ -418,8 +504,11 @@ public class PythonList<T> extends PythonLikeList<T> implements PythonObject, Li
 
     @Override
     public List subList(int start, int end) {
-        return new PythonList(slicePythonList.apply(pythonListOpaqueReference, start, end), null, null, pythonSetter,
-                cachedObjectList.subList(start, end), cachedPythonLikeObjectList.subList(start, end));
+        PythonList out = new PythonList(slicePythonList.apply(pythonListOpaqueReference, start, end), null, null,
+                pythonSetter, cachedObjectList.subList(start, end), cachedPythonLikeObjectList.subList(start, end));
+        // Modifying the sublist modifies this list's cached items, which must then be written to Python
+        out.parentList = this;
+        return out;
     }
 
     @Override
@@ -69,12 +69,16 @@ public class PythonPlanningSolutionCloner implements SolutionCloner<Object> {
         out.readFromPythonObject(Collections.newSetFromMap(new IdentityHashMap<>()),
                 newReferenceMap);
 
-        List<Object> referencedValues = new ArrayList<>(newReferenceMap.values());
-        for (Object value : referencedValues) {
-            if (value instanceof CPythonBackedPythonLikeObject) {
-                ((CPythonBackedPythonLikeObject) value).$readFieldsFromCPythonReference();
+        // Shared problem facts are the same in the clone, and were already read
+        List<CPythonBackedPythonLikeObject> referencedValues = new ArrayList<>();
+        for (Object value : newReferenceMap.values()) {
+            if (value instanceof CPythonBackedPythonLikeObject && !PythonWrapperGenerator.isSharedProblemFact(value)) {
+                referencedValues.add((CPythonBackedPythonLikeObject) value);
             }
         }
+        for (CPythonBackedPythonLikeObject value : referencedValues) {
+            value.$readFieldsFromCPythonReference();
+        }
 
         return out;
     }
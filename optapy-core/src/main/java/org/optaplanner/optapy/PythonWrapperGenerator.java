@@ -6,6 +6,9 @@ import static org.optaplanner.jpyinterpreter.types.BuiltinTypes.classNameToBytec
 
 import java.io.PrintStream;
 import java.lang.annotation.RetentionPolicy;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Array;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
@@ -19,6 +22,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -54,8 +58,10 @@ import org.optaplanner.jpyinterpreter.PythonClassTranslator;
 import org.optaplanner.jpyinterpreter.PythonLikeObject;
 import org.optaplanner.jpyinterpreter.implementors.JavaPythonTypeConversionImplementor;
 import org.optaplanner.jpyinterpreter.types.CPythonBackedPythonLikeObject;
+import org.optaplanner.jpyinterpreter.types.PythonLikeFunction;
 import org.optaplanner.jpyinterpreter.types.PythonLikeType;
 import org.optaplanner.jpyinterpreter.types.PythonNone;
+import org.optaplanner.jpyinterpreter.types.numeric.PythonInteger;
 import org.optaplanner.jpyinterpreter.types.wrappers.OpaquePythonReference;
 import org.optaplanner.jpyinterpreter.types.wrappers.PythonObjectWrapper;
 
@@ -72,6 +78,15 @@ import io.quarkus.gizmo.ResultHandle;
 import io.quarkus.gizmo.WhileLoop;
 
 public class PythonWrapperGenerator {
+    // Maps a class to the accessors of its variables, which are resolved the first time the variable is updated
+    private static final ClassValue<Map<String, VariableAccessor>> classToVariableNameToAccessorMap =
+            new ClassValue<>() {
+                @Override
+                protected Map<String, VariableAccessor> computeValue(Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
     // These functions are set in Python code
     // Maps a OpaquePythonReference to a unique, numerical id
     static Function<OpaquePythonReference, Number> pythonObjectToId;
@@ -127,6 +142,46 @@ public class PythonWrapperGenerator {
         pythonObjectIdAndAttributeSetter.apply(objectId, attributeName, javaList);
     }
 
+    @SuppressWarnings("unused")
+    public static void addDeepPlanningCloneProblemFactClass(Class<?> problemFactClass) {
+        deepPlanningCloneProblemFactClassSet.add(problemFactClass);
+    }
+
+    /**
+     * Returns true if {@code object} is a problem fact that every clone of a solution shares, since it is not deep
+     * planning cloned. The wrapper of a shared problem fact and its id never change when a solution is cloned.
+     * Whether its class is deep planning cloned is looked up on every call, since @deep_planning_clone can be applied
+     * to a problem fact class after its Java class was generated.
+     */
+    static boolean isSharedProblemFact(Object object) {
+        if (object == null) {
+            return false;
+        }
+        Class<?> objectClass = object.getClass();
+        return isProblemFactClass.get(objectClass) && !deepPlanningCloneProblemFactClassSet.contains(objectClass);
+    }
+
+    @SuppressWarnings("unused")
+    public static boolean shouldVisitProblemFactIds(Object object) {
+        return object instanceof PythonObject && !isSharedProblemFact(object);
+    }
+
+    /**
+     * Reads the fields of a problem fact from its OpaquePythonReference again, after it was changed by a problem change.
+     * Does nothing if {@code object} is not a problem fact.
+     */
+    @SuppressWarnings("unused") // used by the problem change director on the Python side
+    public static void refreshProblemFact(Object object) {
+        try {
+            object.getClass().getField(PROBLEM_FACT_FIELDS_ARE_READ_FIELD_NAME).setBoolean(object, false);
+        } catch (NoSuchFieldException e) {
+            return;
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+        ((CPythonBackedPythonLikeObject) object).$readFieldsFromCPythonReference();
+    }
+
     @SuppressWarnings("unused")
     public static void visitListIdOnPythonObject(OpaquePythonReference objectId, String getterName, List value,
             Map referenceMap) {
@@ -191,39 +246,169 @@ public class PythonWrapperGenerator {
     }
 
     public static Number getPythonObjectId(PythonObject pythonObject) {
+        // Wrappers remember the id they were created with, so visiting the ids of a solution does not call Python
+        // for every object
+        if (pythonObject instanceof CPythonBackedPythonLikeObject) {
+            PythonInteger id = ((CPythonBackedPythonLikeObject) pythonObject).$cpythonId;
+            if (id != null) {
+                return id.value.longValue();
+            }
+        }
         return pythonObjectToId.apply(pythonObject.get__optapy_Id());
     }
 
+    @SuppressWarnings("unused")
+    public static PythonInteger getPythonIdAsPythonInteger(Number id) {
+        if (id == null) {
+            return null;
+        }
+        return PythonInteger.valueOf(id.longValue());
+    }
+
     @SuppressWarnings("unused") // used by variable listener/custom shadow variable on Python side
     public static void updateVariableFromPythonObject(PythonObject object, String variableName)
             throws IllegalAccessException, InvocationTargetException {
-        Object newValue;
-        try {
-            newValue = getValueFromPythonObject(object.get__optapy_Id(), "get_" + variableName);
-        } catch (OptaPyException e1) {
+        VariableAccessor variableAccessor = getVariableAccessor(object, variableName);
+        variableAccessor.set(object, variableAccessor.getValueFromPythonObject(object));
+    }
+
+    /**
+     * Copies the value of a variable a translated variable listener set on a translated entity to the field
+     * OptaPlanner reads, reading it with the same getter as {@link #updateVariableFromPythonObject}.
+     */
+    public static void updateVariableFromTranslatedObject(PythonLikeObject object, String variableName)
+            throws InvocationTargetException {
+        VariableAccessor variableAccessor = getVariableAccessor(object, variableName);
+        variableAccessor.set(object, JavaPythonTypeConversionImplementor.convertPythonObjectToJavaType(
+                variableAccessor.valueType, variableAccessor.getValueFromTranslatedObject(object)));
+    }
+
+    private static VariableAccessor getVariableAccessor(Object object, String variableName) {
+        return classToVariableNameToAccessorMap.get(object.getClass())
+                .computeIfAbsent(variableName, ignored -> new VariableAccessor(object, variableName));
+    }
+
+    @SuppressWarnings("unused") // used by the setter handle of variables whose setter expects an Integer
+    private static Integer toInteger(Object value) {
+        // Integral Python values are converted to Long, which cannot be passed to a setter that expects an Integer
+        if (value == null || value instanceof Integer) {
+            return (Integer) value;
+        }
+        return ((Number) value).intValue();
+    }
+
+    /**
+     * The getter and setter of a variable of a class, resolved once for every instance of the class.
+     */
+    private static final class VariableAccessor {
+        private static final MethodHandle TO_INTEGER;
+
+        static {
             try {
-                newValue = getValueFromPythonObject(object.get__optapy_Id(),
-                        "get" + Character.toUpperCase(variableName.charAt(0)) + variableName.substring(1));
-            } catch (OptaPyException e2) {
+                TO_INTEGER = MethodHandles.lookup().findStatic(PythonWrapperGenerator.class, "toInteger",
+                        MethodType.methodType(Integer.class, Object.class));
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private final String variableName;
+        private final String pythonGetterName;
+        private final String pythonCamelCaseGetterName;
+
+        // (Object, Object)void; converts the value to the type the setter expects
+        private final MethodHandle setter;
+        private final Class<?> valueType;
+
+        // Which of the getters the Python object has; null until it is first read
+        private volatile String resolvedPythonGetterName;
+
+        private VariableAccessor(Object object, String variableName) {
+            this.variableName = variableName;
+            String capitalizedVariableName = Character.toUpperCase(variableName.charAt(0)) + variableName.substring(1);
+            this.pythonGetterName = "get_" + variableName;
+            this.pythonCamelCaseGetterName = "get" + capitalizedVariableName;
+
+            String javaSetter = "set" + capitalizedVariableName;
+            Method setterMethod = null;
+            for (Method method : object.getClass().getMethods()) {
+                if (method.getName().equals(javaSetter) && method.getParameterCount() == 1) {
+                    setterMethod = method;
+                    break;
+                }
+            }
+            if (setterMethod == null) {
                 throw new IllegalArgumentException(
                         "Unable to find variable (" + variableName + ") on entity (" + object + ").");
             }
+
+            MethodHandle setterHandle;
+            try {
+                setterHandle = MethodHandles.publicLookup().unreflect(setterMethod);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Unable to access setter (" + setterMethod + ").", e);
+            }
+            valueType = setterMethod.getParameterTypes()[0];
+            if (valueType.equals(Integer.class)) {
+                setterHandle = MethodHandles.filterArguments(setterHandle, 1, TO_INTEGER);
+            }
+            setter = setterHandle.asType(MethodType.methodType(void.class, Object.class, Object.class));
         }
-        String javaSetter = "set" + Character.toUpperCase(variableName.charAt(0)) + variableName.substring(1);
 
-        for (Method method : object.getClass().getMethods()) {
-            if (method.getName().equals(javaSetter)) {
-                // Need to check if (numeric) value is compatible with method parameter
-                // (in particular, newValue will be a Long if it is integral, but if the Method
-                //  expects an Integer it will throw an exception)
-                if (newValue != null && method.getParameterTypes()[0].equals(Integer.class) && !(newValue instanceof Integer)) {
-                    newValue = ((Number) newValue).intValue();
+        private Object getValueFromPythonObject(PythonObject object) {
+            String getterName = resolvedPythonGetterName;
+            if (getterName != null) {
+                return PythonWrapperGenerator.getValueFromPythonObject(object.get__optapy_Id(), getterName);
+            }
+            Object out;
+            try {
+                out = PythonWrapperGenerator.getValueFromPythonObject(object.get__optapy_Id(), pythonGetterName);
+                resolvedPythonGetterName = pythonGetterName;
+            } catch (OptaPyException e1) {
+                try {
+                    out = PythonWrapperGenerator.getValueFromPythonObject(object.get__optapy_Id(),
+                            pythonCamelCaseGetterName);
+                    resolvedPythonGetterName = pythonCamelCaseGetterName;
+                } catch (OptaPyException e2) {
+                    throw new IllegalArgumentException(
+                            "Unable to find variable (" + variableName + ") on entity (" + object + ").");
                 }
-                method.invoke(object, newValue);
-                return;
+            }
+            return out;
+        }
+
+        private PythonLikeObject getValueFromTranslatedObject(PythonLikeObject object) {
+            String getterName = resolvedPythonGetterName;
+            PythonLikeObject getter;
+            if (getterName != null) {
+                getter = object.__getType().__getAttributeOrNull(getterName);
+            } else {
+                getter = object.__getType().__getAttributeOrNull(pythonGetterName);
+                if (getter != null) {
+                    resolvedPythonGetterName = pythonGetterName;
+                } else {
+                    getter = object.__getType().__getAttributeOrNull(pythonCamelCaseGetterName);
+                    if (getter != null) {
+                        resolvedPythonGetterName = pythonCamelCaseGetterName;
+                    }
+                }
+            }
+            if (!(getter instanceof PythonLikeFunction)) {
+                throw new IllegalArgumentException(
+                        "Unable to find variable (" + variableName + ") on entity (" + object + ").");
+            }
+            return ((PythonLikeFunction) getter).$call(List.of(object), Map.of(), null);
+        }
+
+        private void set(Object object, Object newValue) throws InvocationTargetException {
+            try {
+                setter.invokeExact(object, newValue);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new InvocationTargetException(t);
             }
         }
-        throw new IllegalArgumentException("Unable to find variable (" + variableName + ") on entity (" + object + ").");
     }
 
     @SuppressWarnings("unused")
@@ -284,6 +469,28 @@ public class PythonWrapperGenerator {
     static final String PYTHON_LIKE_VALUE_MAP_FIELD_NAME = "__optaplannerPythonLikeValueCacheMap";
     static final String PYTHON_LIKE_TYPE_FIELD_NAME = "$TYPE";
 
+    // Set once the fields of a problem fact were read from its OpaquePythonReference
+    static final String PROBLEM_FACT_FIELDS_ARE_READ_FIELD_NAME = "__optaplannerFieldsAreRead";
+
+    private static final MethodDescriptor SHOULD_VISIT_PROBLEM_FACT_IDS =
+            MethodDescriptor.ofMethod(PythonWrapperGenerator.class, "shouldVisitProblemFactIds", boolean.class, Object.class);
+
+    // Problem fact classes that are deep planning cloned, so clones of a solution do not share their instances
+    private static final Set<Class<?>> deepPlanningCloneProblemFactClassSet = ConcurrentHashMap.newKeySet();
+
+    // Whether a class is a generated problem fact class, which never changes once the class exists
+    private static final ClassValue<Boolean> isProblemFactClass = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                type.getField(PROBLEM_FACT_FIELDS_ARE_READ_FIELD_NAME);
+                return true;
+            } catch (NoSuchFieldException e) {
+                return false;
+            }
+        }
+    };
+
     static final TriFunction<OpaquePythonReference, String, Object, Object> NONE_PYTHON_SETTER = (a, b, c) -> null;
 
     private static <T> T wrapArray(Class<T> javaClass, OpaquePythonReference object, Number id, Map<Number, Object> map,
@@ -330,15 +537,23 @@ public class PythonWrapperGenerator {
         return (T) out;
     }
 
-    @SuppressWarnings("unchecked")
     public static <T> T wrap(Class<T> javaClass, OpaquePythonReference object, Map<Number, Object> map,
             TriFunction<OpaquePythonReference, String, Object, Object> pythonSetter) {
         if (object == null) {
             return null;
         }
 
+        return wrap(javaClass, object, pythonObjectToId.apply(object), map, pythonSetter);
+    }
+
+    /**
+     * Like {@link #wrap(Class, OpaquePythonReference, Map, TriFunction)}, for callers that already know the id of
+     * {@code object}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T wrap(Class<T> javaClass, OpaquePythonReference object, Number id, Map<Number, Object> map,
+            TriFunction<OpaquePythonReference, String, Object, Object> pythonSetter) {
         // Check to see if we already created the object
-        Number id = pythonObjectToId.apply(object);
         if (map.containsKey(id)) {
             return (T) map.get(id);
         }
@@ -439,12 +654,19 @@ public class PythonWrapperGenerator {
     }
 
     public static ValueRange getValueRangeProxy(Object proxy) {
+        if (proxy instanceof ValueRange) {
+            // Already a Java value range (for instance, from an int value range provider)
+            return (ValueRange) proxy;
+        }
         return (ValueRange) Proxy.newProxyInstance(proxy.getClass().getClassLoader(),
                 new Class[] { ValueRange.class },
                 Proxy.getInvocationHandler(proxy));
     }
 
     public static CountableValueRange getCountableValueRangeProxy(Object proxy) {
+        if (proxy instanceof CountableValueRange) {
+            return (CountableValueRange) proxy;
+        }
         return (CountableValueRange) Proxy.newProxyInstance(proxy.getClass().getClassLoader(),
                 new Class[] { CountableValueRange.class },
                 Proxy.getInvocationHandler(proxy));
@@ -624,6 +846,21 @@ public class PythonWrapperGenerator {
         return defineWrapperClass(className, IncrementalScoreCalculator.class, incrementalScoreCalculatorSupplier);
     }
 
+    /**
+     * Creates a class like {@link #defineIncrementalScoreCalculatorClass(String, Supplier, boolean)}, whose delegate
+     * is an instance of an incremental score calculator class that was translated to Java bytecode.
+     *
+     * @param className The simple name of the generated class
+     * @param translatedType The translated incremental score calculator class
+     * @return never null
+     */
+    @SuppressWarnings("unused")
+    public static Class<?> defineTranslatedIncrementalScoreCalculatorClass(String className,
+            PythonLikeType translatedType, boolean constraintMatchAware) {
+        return defineIncrementalScoreCalculatorClass(className,
+                () -> new TranslatedIncrementalScoreCalculator<>(translatedType), constraintMatchAware);
+    }
+
     private static FieldDescriptor getInheritedFieldDescriptor(ClassCreator classCreator, Class<?> parentClass,
             String fieldName, Class<?> fieldClass) {
         try {
@@ -662,6 +899,22 @@ public class PythonWrapperGenerator {
         return defineWrapperClass(className, VariableListener.class, variableListenerSupplier);
     }
 
+    /**
+     * Creates a class like {@link #defineVariableListenerClass(String, Supplier)}, whose delegate
+     * is an instance of a variable listener class that was translated to Java bytecode.
+     *
+     * @param className The simple name of the generated class
+     * @param translatedType The translated variable listener class
+     * @param requireUniqueEntityEvents The value requiresUniqueEntityEvents returns if the class does not define it
+     * @return never null
+     */
+    @SuppressWarnings("unused")
+    public static Class<?> defineTranslatedVariableListenerClass(String className, PythonLikeType translatedType,
+            boolean requireUniqueEntityEvents) {
+        return defineVariableListenerClass(className,
+                () -> new TranslatedVariableListener<>(translatedType, requireUniqueEntityEvents));
+    }
+
     /*
      * The Planning Entity, Problem Fact, and Planning Solution classes look similar, with the only
      * difference being their top-level annotation. They all look like this:
@@ -984,6 +1237,14 @@ public class PythonWrapperGenerator {
             List<String> planningVariableSetterNameList) {
         MethodCreator methodCreator = classCreator.getMethodCreator("readFromPythonObject", void.class, Set.class, Map.class);
 
+        if (generatedClassType == GeneratedClassType.PROBLEM_FACT) {
+            // Problem facts are shared by every clone of the solution, so they only need to be read once
+            FieldDescriptor fieldsAreReadField = getInheritedFieldDescriptor(classCreator, parentClass,
+                    PROBLEM_FACT_FIELDS_ARE_READ_FIELD_NAME, boolean.class);
+            methodCreator.ifTrue(methodCreator.readInstanceField(fieldsAreReadField, methodCreator.getThis()))
+                    .trueBranch().returnValue(null);
+        }
+
         ResultHandle doneSet = methodCreator.getMethodParam(0);
         ResultHandle referenceMap = methodCreator.getMethodParam(1);
         ResultHandle alreadyHandled = methodCreator.invokeInterfaceMethod(
@@ -1118,6 +1379,30 @@ public class PythonWrapperGenerator {
         methodCreator.returnValue(null);
     }
 
+    /**
+     * Problem facts do not change during solving (except through a problem change, which calls
+     * {@link #refreshProblemFact(Object)}), and the wrapper of a problem fact is shared by every clone of the solution.
+     * Thus, $readFieldsFromCPythonReference only reads the fields of a problem fact the first time it is called.
+     */
+    private static void generateReadProblemFactFieldsOnce(ClassCreator classCreator, Class<?> parentClass) {
+        try {
+            parentClass.getField(PROBLEM_FACT_FIELDS_ARE_READ_FIELD_NAME);
+            return; // The parent class is a problem fact, which already only reads its fields once
+        } catch (NoSuchFieldException e) {
+            // The parent class is not a problem fact, so generate the method
+        }
+        FieldDescriptor fieldsAreReadField = getInheritedFieldDescriptor(classCreator, parentClass,
+                PROBLEM_FACT_FIELDS_ARE_READ_FIELD_NAME, boolean.class);
+        MethodCreator methodCreator = classCreator.getMethodCreator("$readFieldsFromCPythonReference", void.class);
+        methodCreator.ifTrue(methodCreator.readInstanceField(fieldsAreReadField, methodCreator.getThis()))
+                .trueBranch().returnValue(null);
+        methodCreator.writeInstanceField(fieldsAreReadField, methodCreator.getThis(), methodCreator.load(true));
+        methodCreator.invokeSpecialMethod(
+                MethodDescriptor.ofMethod(parentClass, "$readFieldsFromCPythonReference", void.class),
+                methodCreator.getThis());
+        methodCreator.returnValue(null);
+    }
+
     private static void generateVisitIds(ClassCreator classCreator, GeneratedClassType generatedClassType,
             Class<?> parentClass, FieldDescriptor valueField,
             List<FieldDescriptor> planningEntityPropertyFieldList,
@@ -1220,8 +1505,8 @@ public class PythonWrapperGenerator {
                 // problem facts
                 for (FieldDescriptor problemFactField : problemFactPropertyFieldList) {
                     ResultHandle fieldValue = methodCreator.readInstanceField(problemFactField, thisObject);
-                    ResultHandle isInstanceOfPythonObject = methodCreator.instanceOf(fieldValue, PythonObject.class);
-                    methodCreator.ifTrue(isInstanceOfPythonObject)
+                    ResultHandle shouldVisitIds = methodCreator.invokeStaticMethod(SHOULD_VISIT_PROBLEM_FACT_IDS, fieldValue);
+                    methodCreator.ifTrue(shouldVisitIds)
                             .trueBranch()
                             .invokeInterfaceMethod(
                                     MethodDescriptor.ofMethod(PythonObject.class, "visitIds", void.class, Map.class),
@@ -1242,8 +1527,9 @@ public class PythonWrapperGenerator {
                                 methodCreator.whileLoop(condition -> condition.ifIntegerLessThan(arrayIndex, arrayLength));
                         try (BytecodeCreator arrayLoopBlock = arrayLoop.block()) {
                             ResultHandle arrayElement = arrayLoopBlock.readArrayValue(array, arrayIndex);
-                            ResultHandle isInstanceOfPythonObject = arrayLoopBlock.instanceOf(arrayElement, PythonObject.class);
-                            arrayLoopBlock.ifTrue(isInstanceOfPythonObject)
+                            ResultHandle shouldVisitIds =
+                                    arrayLoopBlock.invokeStaticMethod(SHOULD_VISIT_PROBLEM_FACT_IDS, arrayElement);
+                            arrayLoopBlock.ifTrue(shouldVisitIds)
                                     .trueBranch()
                                     .invokeInterfaceMethod(
                                             MethodDescriptor.ofMethod(PythonObject.class, "visitIds", void.class, Map.class),
@@ -1271,8 +1557,9 @@ public class PythonWrapperGenerator {
                             ResultHandle element = iteratorLoopBlock.invokeInterfaceMethod(
                                     MethodDescriptor.ofMethod(Iterator.class, "next", Object.class),
                                     iterator);
-                            ResultHandle isInstanceOfPythonObject = iteratorLoopBlock.instanceOf(element, PythonObject.class);
-                            iteratorLoopBlock.ifTrue(isInstanceOfPythonObject)
+                            ResultHandle shouldVisitIds =
+                                    iteratorLoopBlock.invokeStaticMethod(SHOULD_VISIT_PROBLEM_FACT_IDS, element);
+                            iteratorLoopBlock.ifTrue(shouldVisitIds)
                                     .trueBranch()
                                     .invokeInterfaceMethod(
                                             MethodDescriptor.ofMethod(PythonObject.class, "visitIds", void.class, Map.class),
@@ -1403,6 +1690,10 @@ public class PythonWrapperGenerator {
                 planningVariableFieldList,
                 planningVariableSetterNameList);
 
+        if (generatedClassType == GeneratedClassType.PROBLEM_FACT) {
+            generateReadProblemFactFieldsOnce(classCreator, parentClass);
+        }
+
         generateVisitIds(classCreator, generatedClassType, parentClass, valueField,
                 planningEntityFieldList,
                 planningEntityCollectionFieldList, planningEntityCollectionGetterList,
@@ -1538,6 +1829,14 @@ public class PythonWrapperGenerator {
                 void.class,
                 OpaquePythonReference.class),
                 initCreator.getThis(), initCreator.getMethodParam(0));
+        initCreator.invokeVirtualMethod(MethodDescriptor.ofMethod(CPythonBackedPythonLikeObject.class,
+                "$setCPythonId",
+                void.class,
+                PythonInteger.class),
+                initCreator.getThis(),
+                initCreator.invokeStaticMethod(MethodDescriptor.ofMethod(PythonWrapperGenerator.class,
+                        "getPythonIdAsPythonInteger", PythonInteger.class, Number.class),
+                        initCreator.getMethodParam(1)));
         initCreator.writeInstanceField(valueField, initCreator.getThis(), initCreator.getMethodParam(0));
         initCreator.writeInstanceField(referenceMapField, initCreator.getThis(), initCreator.getMethodParam(2));
         initCreator.writeInstanceField(pythonSetterField, initCreator.getThis(), initCreator.getMethodParam(3));
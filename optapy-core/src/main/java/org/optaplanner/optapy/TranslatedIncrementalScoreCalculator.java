@@ -0,0 +1,157 @@
+package org.optaplanner.optapy;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.score.calculator.ConstraintMatchAwareIncrementalScoreCalculator;
+import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
+import org.optaplanner.core.api.score.constraint.Indictment;
+import org.optaplanner.jpyinterpreter.PythonLikeObject;
+import org.optaplanner.jpyinterpreter.implementors.JavaPythonTypeConversionImplementor;
+import org.optaplanner.jpyinterpreter.types.PythonLikeFunction;
+import org.optaplanner.jpyinterpreter.types.PythonLikeType;
+import org.optaplanner.jpyinterpreter.types.PythonString;
+import org.optaplanner.jpyinterpreter.types.numeric.PythonBoolean;
+import org.optaplanner.jpyinterpreter.types.wrappers.JavaObjectWrapper;
+
+/**
+ * An incremental score calculator whose class was translated to Java bytecode.
+ * <p>
+ * The methods of the translated class are looked up once, when the calculator is created, and are called directly,
+ * so no callback crosses into CPython. Every method of the translated class expects {@link PythonLikeObject}s; the
+ * planning entities and the working solution already are, since their classes extend translated classes. Java
+ * objects the translated methods return, such as scores and constraint match totals, are unwrapped before they are
+ * returned to OptaPlanner.
+ */
+public class TranslatedIncrementalScoreCalculator<Solution_, Score_ extends Score<Score_>>
+        implements ConstraintMatchAwareIncrementalScoreCalculator<Solution_, Score_> {
+    private final PythonLikeObject instance;
+
+    private final PythonLikeFunction resetWorkingSolution;
+    private final PythonLikeFunction beforeEntityAdded;
+    private final PythonLikeFunction afterEntityAdded;
+    private final PythonLikeFunction beforeVariableChanged;
+    private final PythonLikeFunction afterVariableChanged;
+    private final PythonLikeFunction beforeEntityRemoved;
+    private final PythonLikeFunction afterEntityRemoved;
+    private final PythonLikeFunction calculateScore;
+
+    // Only exist if the calculator is constraint match aware
+    private final PythonLikeFunction getConstraintMatchTotals;
+    private final PythonLikeFunction getIndictmentMap;
+
+    public TranslatedIncrementalScoreCalculator(PythonLikeType translatedType) {
+        instance = translatedType.$call(List.of(), Map.of(), null);
+
+        resetWorkingSolution = getMethod(translatedType, "resetWorkingSolution");
+        beforeEntityAdded = getMethod(translatedType, "beforeEntityAdded");
+        afterEntityAdded = getMethod(translatedType, "afterEntityAdded");
+        beforeVariableChanged = getMethod(translatedType, "beforeVariableChanged");
+        afterVariableChanged = getMethod(translatedType, "afterVariableChanged");
+        beforeEntityRemoved = getMethod(translatedType, "beforeEntityRemoved");
+        afterEntityRemoved = getMethod(translatedType, "afterEntityRemoved");
+        calculateScore = getMethod(translatedType, "calculateScore");
+
+        getConstraintMatchTotals = (PythonLikeFunction) translatedType.__getAttributeOrNull("getConstraintMatchTotals");
+        getIndictmentMap = (PythonLikeFunction) translatedType.__getAttributeOrNull("getIndictmentMap");
+    }
+
+    private static PythonLikeFunction getMethod(PythonLikeType translatedType, String methodName) {
+        PythonLikeObject method = translatedType.__getAttributeOrNull(methodName);
+        if (!(method instanceof PythonLikeFunction)) {
+            throw new IllegalArgumentException("The incremental score calculator class (" + translatedType.getTypeName()
+                    + ") is missing the required method (" + methodName + ").");
+        }
+        return (PythonLikeFunction) method;
+    }
+
+    private static PythonLikeObject wrap(Object object) {
+        return JavaPythonTypeConversionImplementor.wrapJavaObject(object);
+    }
+
+    @Override
+    public void resetWorkingSolution(Solution_ workingSolution) {
+        resetWorkingSolution.$call(List.of(instance, wrap(workingSolution)), Map.of(), null);
+    }
+
+    @Override
+    public void resetWorkingSolution(Solution_ workingSolution, boolean constraintMatchEnabled) {
+        resetWorkingSolution.$call(List.of(instance, wrap(workingSolution), PythonBoolean.valueOf(constraintMatchEnabled)),
+                Map.of(), null);
+    }
+
+    @Override
+    public void beforeEntityAdded(Object entity) {
+        beforeEntityAdded.$call(List.of(instance, wrap(entity)), Map.of(), null);
+    }
+
+    @Override
+    public void afterEntityAdded(Object entity) {
+        afterEntityAdded.$call(List.of(instance, wrap(entity)), Map.of(), null);
+    }
+
+    @Override
+    public void beforeVariableChanged(Object entity, String variableName) {
+        beforeVariableChanged.$call(List.of(instance, wrap(entity), PythonString.valueOf(variableName)), Map.of(), null);
+    }
+
+    @Override
+    public void afterVariableChanged(Object entity, String variableName) {
+        afterVariableChanged.$call(List.of(instance, wrap(entity), PythonString.valueOf(variableName)), Map.of(), null);
+    }
+
+    @Override
+    public void beforeEntityRemoved(Object entity) {
+        beforeEntityRemoved.$call(List.of(instance, wrap(entity)), Map.of(), null);
+    }
+
+    @Override
+    public void afterEntityRemoved(Object entity) {
+        afterEntityRemoved.$call(List.of(instance, wrap(entity)), Map.of(), null);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Score_ calculateScore() {
+        return (Score_) JavaPythonTypeConversionImplementor.convertPythonObjectToJavaType(Score.class,
+                calculateScore.$call(List.of(instance), Map.of(), null));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Collection<ConstraintMatchTotal<Score_>> getConstraintMatchTotals() {
+        Collection<PythonLikeObject> constraintMatchTotals = JavaPythonTypeConversionImplementor
+                .convertPythonObjectToJavaType(Collection.class,
+                        getConstraintMatchTotals.$call(List.of(instance), Map.of(), null));
+        if (constraintMatchTotals == null) {
+            return null;
+        }
+        List<ConstraintMatchTotal<Score_>> out = new ArrayList<>(constraintMatchTotals.size());
+        for (PythonLikeObject constraintMatchTotal : constraintMatchTotals) {
+            out.add(JavaPythonTypeConversionImplementor.convertPythonObjectToJavaType(ConstraintMatchTotal.class,
+                    constraintMatchTotal));
+        }
+        return out;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map<Object, Indictment<Score_>> getIndictmentMap() {
+        Map<PythonLikeObject, PythonLikeObject> indictmentMap = JavaPythonTypeConversionImplementor
+                .convertPythonObjectToJavaType(Map.class, getIndictmentMap.$call(List.of(instance), Map.of(), null));
+        if (indictmentMap == null) {
+            return null;
+        }
+        Map<Object, Indictment<Score_>> out = new LinkedHashMap<>(indictmentMap.size());
+        indictmentMap.forEach((indictedObject, indictment) -> out.put(
+                indictedObject instanceof JavaObjectWrapper
+                        ? ((JavaObjectWrapper) indictedObject).getWrappedObject()
+                        : indictedObject,
+                JavaPythonTypeConversionImplementor.convertPythonObjectToJavaType(Indictment.class, indictment)));
+        return out;
+    }
+}
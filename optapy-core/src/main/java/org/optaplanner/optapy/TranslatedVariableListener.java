@@ -0,0 +1,150 @@
+package org.optaplanner.optapy;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Map;
+
+import org.optaplanner.core.api.domain.variable.VariableListener;
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.jpyinterpreter.PythonLikeObject;
+import org.optaplanner.jpyinterpreter.implementors.JavaPythonTypeConversionImplementor;
+import org.optaplanner.jpyinterpreter.types.PythonLikeFunction;
+import org.optaplanner.jpyinterpreter.types.PythonLikeType;
+import org.optaplanner.jpyinterpreter.types.numeric.PythonBoolean;
+
+/**
+ * A variable listener whose class was translated to Java bytecode.
+ * <p>
+ * The methods of the translated class are looked up once, when the listener is created, and are called directly,
+ * so no notification crosses into CPython. A translated listener sets shadow variables on the translated part of the
+ * entity, so the score director it is given copies the new value to the field OptaPlanner reads when
+ * {@link ScoreDirector#afterVariableChanged(Object, String)} is called.
+ */
+public class TranslatedVariableListener<Solution_, Entity_> implements VariableListener<Solution_, Entity_> {
+    private final PythonLikeObject instance;
+
+    private final PythonLikeFunction beforeEntityAdded;
+    private final PythonLikeFunction afterEntityAdded;
+    private final PythonLikeFunction beforeVariableChanged;
+    private final PythonLikeFunction afterVariableChanged;
+    private final PythonLikeFunction beforeEntityRemoved;
+    private final PythonLikeFunction afterEntityRemoved;
+
+    // Optional methods
+    private final PythonLikeFunction requiresUniqueEntityEvents;
+    private final PythonLikeFunction resetWorkingSolution;
+    private final PythonLikeFunction close;
+
+    private final boolean defaultRequiresUniqueEntityEvents;
+
+    // The score directors are created once per solver, so the wrapper of the last one is almost always reused
+    private ScoreDirector<Solution_> lastScoreDirector;
+    private PythonLikeObject lastScoreDirectorWrapper;
+
+    public TranslatedVariableListener(PythonLikeType translatedType, boolean defaultRequiresUniqueEntityEvents) {
+        instance = translatedType.$call(List.of(), Map.of(), null);
+
+        beforeEntityAdded = getMethod(translatedType, "beforeEntityAdded");
+        afterEntityAdded = getMethod(translatedType, "afterEntityAdded");
+        beforeVariableChanged = getMethod(translatedType, "beforeVariableChanged");
+        afterVariableChanged = getMethod(translatedType, "afterVariableChanged");
+        beforeEntityRemoved = getMethod(translatedType, "beforeEntityRemoved");
+        afterEntityRemoved = getMethod(translatedType, "afterEntityRemoved");
+
+        requiresUniqueEntityEvents = (PythonLikeFunction) translatedType.__getAttributeOrNull("requiresUniqueEntityEvents");
+        resetWorkingSolution = (PythonLikeFunction) translatedType.__getAttributeOrNull("resetWorkingSolution");
+        close = (PythonLikeFunction) translatedType.__getAttributeOrNull("close");
+
+        this.defaultRequiresUniqueEntityEvents = defaultRequiresUniqueEntityEvents;
+    }
+
+    private static PythonLikeFunction getMethod(PythonLikeType translatedType, String methodName) {
+        PythonLikeObject method = translatedType.__getAttributeOrNull(methodName);
+        if (!(method instanceof PythonLikeFunction)) {
+            throw new IllegalArgumentException("The variable listener class (" + translatedType.getTypeName()
+                    + ") is missing the required method (" + methodName + ").");
+        }
+        return (PythonLikeFunction) method;
+    }
+
+    @SuppressWarnings("unchecked")
+    private PythonLikeObject wrap(ScoreDirector<Solution_> scoreDirector) {
+        if (scoreDirector != lastScoreDirector) {
+            ScoreDirector<Solution_> updatingScoreDirector = (ScoreDirector<Solution_>) Proxy.newProxyInstance(
+                    ScoreDirector.class.getClassLoader(), new Class[] { ScoreDirector.class },
+                    (proxy, method, args) -> {
+                        if (method.getName().equals("afterVariableChanged") && args != null && args.length == 2
+                                && args[0] instanceof PythonLikeObject) {
+                            PythonWrapperGenerator.updateVariableFromTranslatedObject((PythonLikeObject) args[0],
+                                    (String) args[1]);
+                        }
+                        try {
+                            return method.invoke(scoreDirector, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                    });
+            lastScoreDirectorWrapper = JavaPythonTypeConversionImplementor.wrapJavaObject(updatingScoreDirector);
+            lastScoreDirector = scoreDirector;
+        }
+        return lastScoreDirectorWrapper;
+    }
+
+    private void call(PythonLikeFunction method, ScoreDirector<Solution_> scoreDirector, Entity_ entity) {
+        method.$call(List.of(instance, wrap(scoreDirector), JavaPythonTypeConversionImplementor.wrapJavaObject(entity)),
+                Map.of(), null);
+    }
+
+    @Override
+    public boolean requiresUniqueEntityEvents() {
+        if (requiresUniqueEntityEvents == null) {
+            return defaultRequiresUniqueEntityEvents;
+        }
+        return PythonBoolean.isTruthful(requiresUniqueEntityEvents.$call(List.of(instance), Map.of(), null));
+    }
+
+    @Override
+    public void resetWorkingSolution(ScoreDirector<Solution_> scoreDirector) {
+        if (resetWorkingSolution != null) {
+            resetWorkingSolution.$call(List.of(instance, wrap(scoreDirector)), Map.of(), null);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (close != null) {
+            close.$call(List.of(instance), Map.of(), null);
+        }
+    }
+
+    @Override
+    public void beforeEntityAdded(ScoreDirector<Solution_> scoreDirector, Entity_ entity) {
+        call(beforeEntityAdded, scoreDirector, entity);
+    }
+
+    @Override
+    public void afterEntityAdded(ScoreDirector<Solution_> scoreDirector, Entity_ entity) {
+        call(afterEntityAdded, scoreDirector, entity);
+    }
+
+    @Override
+    public void beforeVariableChanged(ScoreDirector<Solution_> scoreDirector, Entity_ entity) {
+        call(beforeVariableChanged, scoreDirector, entity);
+    }
+
+    @Override
+    public void afterVariableChanged(ScoreDirector<Solution_> scoreDirector, Entity_ entity) {
+        call(afterVariableChanged, scoreDirector, entity);
+    }
+
+    @Override
+    public void beforeEntityRemoved(ScoreDirector<Solution_> scoreDirector, Entity_ entity) {
+        call(beforeEntityRemoved, scoreDirector, entity);
+    }
+
+    @Override
+    public void afterEntityRemoved(ScoreDirector<Solution_> scoreDirector, Entity_ entity) {
+        call(afterEntityRemoved, scoreDirector, entity);
+    }
+}
@@ -3,7 +3,7 @@ import jpype
 from .optaplanner_java_interop import ensure_init, _add_shallow_copy_to_class, _generate_planning_entity_class, \
     _generate_problem_fact_class, _generate_planning_solution_class, _generate_constraint_provider_class, \
     _generate_easy_score_calculator_class, _generate_incremental_score_calculator_class,\
-    _generate_variable_listener_class, get_class
+    _generate_variable_listener_class, _translate_python_class_if_possible, get_class
 from jpype import JImplements, JOverride
 from typing import Union, List, Callable, Type, Any, TYPE_CHECKING, TypeVar
 from .constraint_stream import BytecodeTranslation
@@ -35,7 +35,9 @@ is called and used (which allows __getattr__ to work w/o casting to a Java Proxy
 Solution_ = TypeVar('Solution_')
 
 
-def planning_id(getter_function: Callable[[], Union[int, str]]) -> Callable[[], Union[int, str]]:
+def planning_id(getter_function: Callable[[], Union[int, str]] = None, /, *,
+                id_bytecode_translation: BytecodeTranslation = BytecodeTranslation.NONE) -> \
+        Callable[[], Union[int, str]]:
     """Specifies that a bean property is the id to match when locating an externalObject (often from another Thread).
 
     Used during Move rebasing and in a ProblemFactChange.
@@ -44,13 +46,34 @@ def planning_id(getter_function: Callable[[], Union[int, str]]) -> Callable[[],
 
     The return type can be any Comparable type which overrides Object.equals(Object) and Object.hashCode(),
     and is usually number or str. It must never return a null instance.
+
+    :param id_bytecode_translation: Specifies how the class of ids that are not int or str should be translated.
+                                    A translated id class compares and hashes its ids without calling Python,
+                                    but only if it defines __eq__, __hash__ and a comparison.
+                                    Defaults to BytecodeTranslation.NONE.
     """
     ensure_init()
-    from org.optaplanner.core.api.domain.lookup import PlanningId as JavaPlanningId
-    getter_function.__optaplannerPlanningId = {
-        'annotationType': JavaPlanningId
-    }
-    return getter_function
+
+    def planning_id_wrapper(the_getter_function):
+        from org.optaplanner.core.api.domain.lookup import PlanningId as JavaPlanningId
+        the_getter_function.__optaplannerPlanningId = {
+            'annotationType': JavaPlanningId
+        }
+        the_getter_function.__optapy_id_bytecode_translation = id_bytecode_translation
+        if not hasattr(the_getter_function, '__optapy_return'):
+            # Declared int and str ids are stored as Long and String, which compare and hash without calling Python
+            id_type = getattr(the_getter_function, '__annotations__', {}).get('return')
+            if id_type in (int, 'int'):
+                from java.lang import Long
+                the_getter_function.__optapy_return = Long
+            elif id_type in (str, 'str'):
+                the_getter_function.__optapy_return = get_class(str)
+        return the_getter_function
+
+    if getter_function:  # Called as @planning_id
+        return planning_id_wrapper(getter_function)
+    else:  # Called as @planning_id(id_bytecode_translation=...)
+        return planning_id_wrapper
 
 
 def planning_pin(getter_function: Callable[[], bool]) -> Callable[[], bool]:
@@ -455,7 +478,8 @@ def value_range_provider(range_id: str, value_range_type: type = object) -> Call
     def value_range_provider_function_wrapper(getter_function: Callable[[], Union[List, '_ValueRange']]):
         ensure_init()
         from org.optaplanner.core.api.domain.valuerange import ValueRangeProvider as JavaValueRangeProvider,\
-                                                               ValueRange as JavaValueRange
+                                                               ValueRange as JavaValueRange,\
+                                                               CountableValueRange as JavaCountableValueRange
         from org.optaplanner.jpyinterpreter.types.wrappers import OpaquePythonReference # noqa
         from org.optaplanner.optapy import PythonWrapperGenerator  # noqa
         from java.util import List as JavaList
@@ -469,6 +493,12 @@ def value_range_provider(range_id: str, value_range_type: type = object) -> Call
             actual_value_range_type = get_class(value_range_type)
             if JavaValueRange.class_.isAssignableFrom(actual_value_range_type):
                 getter_function.__optapy_return = get_class(value_range_type)
+            elif value_range_type == int:
+                # Read as a CountableValueRange of Integer, so its values do not need to be wrapped
+                getter_function.__optapy_return = JavaCountableValueRange
+                getter_function.__optapy_signature = PythonWrapperGenerator.getCollectionSignature(
+                    JavaCountableValueRange, actual_value_range_type)
+                getter_function.__optapy_int_value_range = True
             else:
                 if actual_value_range_type == JavaObject:
                     getter_function.__optapy_return = PythonWrapperGenerator.getArrayClass(OpaquePythonReference)
@@ -641,6 +671,11 @@ def deep_planning_clone(planning_clone_object: Union[Type, Callable]):
     planning_clone_object.__optapy_is_planning_clone = True
     if isinstance(planning_clone_object, type):
         _add_shallow_copy_to_class(planning_clone_object)
+        if '__optapy_java_class' in vars(planning_clone_object):
+            # Already a @problem_fact, so its Java class was generated without knowing it is deep planning cloned
+            from org.optaplanner.optapy import PythonWrapperGenerator  # noqa
+            PythonWrapperGenerator.addDeepPlanningCloneProblemFactClass(
+                planning_clone_object.__optapy_java_class)
     return planning_clone_object
 
 
@@ -686,7 +721,8 @@ def constraint_provider(constraint_provider_function: Callable[['_ConstraintFact
         return constraint_provider_wrapper
 
 
-def easy_score_calculator(easy_score_calculator_function: Callable[[Solution_], '_Score']) -> \
+def easy_score_calculator(easy_score_calculator_function: Callable[[Solution_], '_Score'] = None, /, *,
+                          function_bytecode_translation: BytecodeTranslation = BytecodeTranslation.NONE) -> \
         Callable[[Solution_], '_Score']:
     """Used for easy python Score calculation. This is non-incremental calculation, which is slow.
 
@@ -694,16 +730,25 @@ def easy_score_calculator(easy_score_calculator_function: Callable[[Solution_],
     must return a Score compatible with the Solution Score Type.
     An implementation must be stateless.
 
+    :param function_bytecode_translation: Specifies how bytecode translator should occur.
+                                          Defaults to BytecodeTranslation.NONE.
     :type easy_score_calculator_function: Callable[[Solution_], '_Score']
     :rtype: Callable[[Solution_], '_Score']
     """
     ensure_init()
-    easy_score_calculator_function.__optapy_java_class = \
-        _generate_easy_score_calculator_class(easy_score_calculator_function)
-    return easy_score_calculator_function
 
+    def easy_score_calculator_wrapper(function):
+        function.__optapy_java_class = _generate_easy_score_calculator_class(function, function_bytecode_translation)
+        return function
 
-def incremental_score_calculator(incremental_score_calculator: Type['_IncrementalScoreCalculator']) -> \
+    if easy_score_calculator_function:  # Called as @easy_score_calculator
+        return easy_score_calculator_wrapper(easy_score_calculator_function)
+    else:  # Called as @easy_score_calculator(function_bytecode_translation=...)
+        return easy_score_calculator_wrapper
+
+
+def incremental_score_calculator(incremental_score_calculator_class: Type['_IncrementalScoreCalculator'] = None, /, *,
+                                 function_bytecode_translation: BytecodeTranslation = BytecodeTranslation.NONE) -> \
         Type['_IncrementalScoreCalculator']:
     """Used for incremental python Score calculation. This is much faster than EasyScoreCalculator
     but requires much more code to implement too.
@@ -737,45 +782,64 @@ def incremental_score_calculator(incremental_score_calculator: Type['_Incrementa
     def resetWorkingSolution(self, workingSolution: Solution_, constraintMatchEnabled=False);
     (A default value must be specified in resetWorkingSolution for constraintMatchEnabled)
 
-    :type incremental_score_calculator: '_IncrementalScoreCalculator'
+    :param function_bytecode_translation: Specifies how bytecode translator should occur.
+                                          When the class is translated, its methods are called without going
+                                          through Python. Since the methods share the state of the instance,
+                                          either the whole class is translated, or none of it is.
+                                          Defaults to BytecodeTranslation.NONE.
+    :type incremental_score_calculator_class: '_IncrementalScoreCalculator'
     :rtype: Type
     """
     ensure_init()
-    from org.optaplanner.core.api.score.calculator import IncrementalScoreCalculator, \
-        ConstraintMatchAwareIncrementalScoreCalculator
-    constraint_match_aware = callable(getattr(incremental_score_calculator, 'getConstraintMatchTotals', None)) and \
-        callable(getattr(incremental_score_calculator, 'getIndictmentMap', None))
-    methods = ['resetWorkingSolution',
-               'beforeEntityAdded',
-               'afterEntityAdded',
-               'beforeVariableChanged',
-               'afterVariableChanged',
-               'beforeEntityRemoved',
-               'afterEntityRemoved',
-               'calculateScore']
-    base_interface = IncrementalScoreCalculator
-    if constraint_match_aware:
-        methods.extend(['getIndictmentMap', 'getConstraintMatchTotals'])
-        base_interface = ConstraintMatchAwareIncrementalScoreCalculator
-
-    missing_method_list = []
-    for method in methods:
-        if not callable(getattr(incremental_score_calculator, method, None)):
-            missing_method_list.append(method)
-    if len(missing_method_list) != 0:
-        raise ValueError(f'The following required methods are missing from @incremental_score_calculator class '
-                         f'{incremental_score_calculator}: {missing_method_list}')
-    for method in methods:
-        method_on_class = getattr(incremental_score_calculator, method, None)
-        setattr(incremental_score_calculator, method, JOverride()(method_on_class))
-
-    out = jpype.JImplements(base_interface)(incremental_score_calculator)
-    out.__optapy_java_class = _generate_incremental_score_calculator_class(out, constraint_match_aware)
-    return out
+
+    def incremental_score_calculator_wrapper(incremental_score_calculator):
+        from org.optaplanner.core.api.score.calculator import IncrementalScoreCalculator, \
+            ConstraintMatchAwareIncrementalScoreCalculator
+        constraint_match_aware = callable(getattr(incremental_score_calculator, 'getConstraintMatchTotals', None)) and \
+            callable(getattr(incremental_score_calculator, 'getIndictmentMap', None))
+        methods = ['resetWorkingSolution',
+                   'beforeEntityAdded',
+                   'afterEntityAdded',
+                   'beforeVariableChanged',
+                   'afterVariableChanged',
+                   'beforeEntityRemoved',
+                   'afterEntityRemoved',
+                   'calculateScore']
+        base_interface = IncrementalScoreCalculator
+        if constraint_match_aware:
+            methods.extend(['getIndictmentMap', 'getConstraintMatchTotals'])
+            base_interface = ConstraintMatchAwareIncrementalScoreCalculator
+
+        missing_method_list = []
+        for method in methods:
+            if not callable(getattr(incremental_score_calculator, method, None)):
+                missing_method_list.append(method)
+        if len(missing_method_list) != 0:
+            raise ValueError(f'The following required methods are missing from @incremental_score_calculator class '
+                             f'{incremental_score_calculator}: {missing_method_list}')
+
+        # Translate before the class is made into a Java proxy, which adds attributes that cannot be translated
+        translated_type = _translate_python_class_if_possible(incremental_score_calculator,
+                                                              function_bytecode_translation)
+        for method in methods:
+            method_on_class = getattr(incremental_score_calculator, method, None)
+            setattr(incremental_score_calculator, method, JOverride()(method_on_class))
+
+        out = jpype.JImplements(base_interface)(incremental_score_calculator)
+        out.__optapy_java_class = _generate_incremental_score_calculator_class(out, constraint_match_aware,
+                                                                               translated_type)
+        return out
+
+    if incremental_score_calculator_class:  # Called as @incremental_score_calculator
+        return incremental_score_calculator_wrapper(incremental_score_calculator_class)
+    else:  # Called as @incremental_score_calculator(function_bytecode_translation=...)
+        return incremental_score_calculator_wrapper
 
 
 def variable_listener(variable_listener_class: Type['_VariableListener'] = None, /, *,
-                      require_unique_entity_events: bool = False) -> Type['_VariableListener']:
+                      require_unique_entity_events: bool = False,
+                      function_bytecode_translation: BytecodeTranslation = BytecodeTranslation.NONE) -> \
+        Type['_VariableListener']:
     """Changes shadow variables when a genuine planning variable changes.
     Important: it must only change the shadow variable(s) for which it's configured!
     It should never change a genuine variable or a problem fact.
@@ -812,6 +876,11 @@ def variable_listener(variable_listener_class: Type['_VariableListener'] = None,
                                          When set to False, it's often easier to make the listener implementation
                                          correct and fast.
                                          Defaults to False
+    :param function_bytecode_translation: Specifies how bytecode translator should occur.
+                                          When the class is translated, its methods are called without going
+                                          through Python, and the shadow variables it sets are read from Java.
+                                          Either the whole class is translated, or none of it is.
+                                          Defaults to BytecodeTranslation.NONE.
 
     :type variable_listener_class: '_VariableListener'
     :type require_unique_entity_events: bool
@@ -837,6 +906,10 @@ def variable_listener(variable_listener_class: Type['_VariableListener'] = None,
         if len(missing_method_list) != 0:
             raise ValueError(f'The following required methods are missing from @variable_listener class '
                              f'{the_variable_listener_class}: {missing_method_list}')
+
+        # Translate before the class is made into a Java proxy, which adds attributes that cannot be translated
+        translated_type = _translate_python_class_if_possible(the_variable_listener_class,
+                                                              function_bytecode_translation)
         for method in methods:
             method_on_class = getattr(the_variable_listener_class, method, None)
 
@@ -886,7 +959,8 @@ def variable_listener(variable_listener_class: Type['_VariableListener'] = None,
                     JOverride()(method_on_class))
 
         out = jpype.JImplements(base_interface)(the_variable_listener_class)
-        out.__optapy_java_class = _generate_variable_listener_class(out)
+        out.__optapy_java_class = _generate_variable_listener_class(out, translated_type,
+                                                                    require_unique_entity_events)
         return out
 
     if variable_listener_class:  # Called as @variable_listener
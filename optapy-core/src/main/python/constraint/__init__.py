@@ -9,6 +9,7 @@ from org.optaplanner.core.api.score.stream import Joiners as JavaJoiners, \
     ConstraintCollectors as JavaConstraintCollectors, Constraint  # noqa
 from org.optaplanner.core.api.score.constraint import ConstraintMatch, ConstraintMatchTotal
 from org.optaplanner.core.api.score import Score as _Score
+from org.optaplanner.optapy import PythonConstraintCollectors  # noqa
 from ..constraint_stream import PythonConstraintFactory as ConstraintFactory, \
     PythonUniConstraintStream as UniConstraintStream, PythonBiConstraintStream as BiConstraintStream, \
     PythonTriConstraintStream as TriConstraintStream, PythonQuadConstraintStream as QuadConstraintStream
@@ -502,7 +503,8 @@ class ConstraintCollectors:
         :return:
         """
         from ..constraint_stream import GroupIntMappingSingleArgConstraintCollector
-        return GroupIntMappingSingleArgConstraintCollector(JavaConstraintCollectors.average, group_value_mapping)
+        return GroupIntMappingSingleArgConstraintCollector(JavaConstraintCollectors.average, group_value_mapping,
+                                                          PythonConstraintCollectors.average)
 
     @overload  # noqa
     @staticmethod
@@ -662,7 +664,7 @@ class ConstraintCollectors:
         :return:
         """
         from ..constraint_stream import NoArgsConstraintCollector
-        return NoArgsConstraintCollector(JavaConstraintCollectors.count)  # noqa
+        return NoArgsConstraintCollector(JavaConstraintCollectors.count, PythonConstraintCollectors.count)  # noqa
 
     @staticmethod
     def count_bi() -> 'BiConstraintCollector[A, B, Any, int]':
@@ -671,7 +673,7 @@ class ConstraintCollectors:
         :return:
         """
         from ..constraint_stream import NoArgsConstraintCollector
-        return NoArgsConstraintCollector(JavaConstraintCollectors.countBi)  # noqa
+        return NoArgsConstraintCollector(JavaConstraintCollectors.countBi, PythonConstraintCollectors.countBi)  # noqa
 
     countBi = count_bi
 
@@ -682,7 +684,7 @@ class ConstraintCollectors:
         :return:
         """
         from ..constraint_stream import NoArgsConstraintCollector
-        return NoArgsConstraintCollector(JavaConstraintCollectors.countTri)  # noqa
+        return NoArgsConstraintCollector(JavaConstraintCollectors.countTri, PythonConstraintCollectors.countTri)  # noqa
 
     countTri = count_tri
 
@@ -693,7 +695,8 @@ class ConstraintCollectors:
         :return:
         """
         from ..constraint_stream import NoArgsConstraintCollector
-        return NoArgsConstraintCollector(JavaConstraintCollectors.countQuad)  # noqa
+        return NoArgsConstraintCollector(JavaConstraintCollectors.countQuad,
+                                         PythonConstraintCollectors.countQuad)  # noqa
 
     countQuad = count_quad
 
@@ -801,7 +804,8 @@ class ConstraintCollectors:
         if function is None and comparator is None:
             return NoArgsConstraintCollector(JavaConstraintCollectors.max)
         elif function is not None and comparator is None:
-            return GroupMappingSingleArgConstraintCollector(JavaConstraintCollectors.max, function)
+            return GroupMappingSingleArgConstraintCollector(JavaConstraintCollectors.max, function,
+                                                            PythonConstraintCollectors.max)
         elif function is None and comparator is not None:
             raise NotImplementedError  # TODO
         else:
@@ -871,7 +875,8 @@ class ConstraintCollectors:
         if function is None and comparator is None:
             return NoArgsConstraintCollector(JavaConstraintCollectors.min)
         elif function is not None and comparator is None:
-            return GroupMappingSingleArgConstraintCollector(JavaConstraintCollectors.min, function)
+            return GroupMappingSingleArgConstraintCollector(JavaConstraintCollectors.min, function,
+                                                            PythonConstraintCollectors.min)
         elif function is None and comparator is not None:
             raise NotImplementedError  # TODO
         else:
@@ -934,7 +939,8 @@ class ConstraintCollectors:
         """
         from ..constraint_stream import GroupIntMappingSingleArgConstraintCollector
         if zero is None and adder is None and subtractor is None:
-            return GroupIntMappingSingleArgConstraintCollector(JavaConstraintCollectors.sum, function)
+            return GroupIntMappingSingleArgConstraintCollector(JavaConstraintCollectors.sum, function,
+                                                              PythonConstraintCollectors.sum)
         elif zero is not None and adder is not None and subtractor is not None:
             raise NotImplementedError  # TODO
         else:
@@ -1016,9 +1022,10 @@ class ConstraintCollectors:
         """
         from ..constraint_stream import NoArgsConstraintCollector, GroupMappingSingleArgConstraintCollector
         if group_value_mapping is None:
-            return NoArgsConstraintCollector(JavaConstraintCollectors.toList)
+            return NoArgsConstraintCollector(JavaConstraintCollectors.toList, PythonConstraintCollectors.toList)
         else:
-            return GroupMappingSingleArgConstraintCollector(JavaConstraintCollectors.toList, group_value_mapping)
+            return GroupMappingSingleArgConstraintCollector(JavaConstraintCollectors.toList, group_value_mapping,
+                                                            PythonConstraintCollectors.toList)
 
     toList = to_list
 
@@ -413,12 +413,14 @@ def extract_constraint_info(default_package: str, args: tuple) -> ConstraintInfo
 @dataclasses.dataclass
 class NoArgsConstraintCollector:
     collector_creator: Callable
+    python_collector_creator: Optional[Callable] = None
 
 
 @dataclasses.dataclass
 class GroupMappingSingleArgConstraintCollector:
     collector_creator: Callable
     group_mapping: Callable
+    python_collector_creator: Optional[Callable] = None
 
 
 @dataclasses.dataclass
@@ -432,6 +434,7 @@ class KeyValueMappingConstraintCollector:
 class GroupIntMappingSingleArgConstraintCollector:
     collector_creator: Callable
     group_mapping: Callable
+    python_collector_creator: Optional[Callable] = None
 
 
 @dataclasses.dataclass
@@ -448,15 +451,37 @@ class ConditionalConstraintCollector:
     delegate: Any
 
 
+def _can_use_python_collectors(type_arguments):
+    """
+    Returns True if the collectors in PythonConstraintCollectors can be used for a stream with the given type arguments.
+    These return Python-like objects, which translated functions accept as is, but which untranslated functions would
+    receive as raw Java objects. Since the functions downstream of a group by are translated after the collector is
+    created, only forced translation guarantees that all of them are translated.
+    """
+    if function_bytecode_translation is not BytecodeTranslation.FORCE:
+        return False
+    return not _check_if_type_args_are_python_object_wrappers(type_arguments)
+
+
 def extract_collector(collector_info, *type_arguments):
     if isinstance(collector_info, NoArgsConstraintCollector):
+        if collector_info.python_collector_creator is not None and \
+                _can_use_python_collectors(type_arguments):
+            return collector_info.python_collector_creator()
         return collector_info.collector_creator()
     elif isinstance(collector_info, GroupMappingSingleArgConstraintCollector):
-        return collector_info.collector_creator(function_cast(collector_info.group_mapping, *type_arguments))
+        group_mapping = function_cast(collector_info.group_mapping, *type_arguments)
+        if collector_info.python_collector_creator is not None and _can_use_python_collectors(type_arguments):
+            return collector_info.python_collector_creator(group_mapping)
+        return collector_info.collector_creator(group_mapping)
     elif isinstance(collector_info, KeyValueMappingConstraintCollector):
         return collector_info.collector_creator(function_cast(collector_info.key_mapping, *type_arguments),
                                                 function_cast(collector_info.value_mapping, *type_arguments))
     elif isinstance(collector_info, GroupIntMappingSingleArgConstraintCollector):
+        if collector_info.python_collector_creator is not None and _can_use_python_collectors(type_arguments):
+            # Sum the translated int/float results in Java instead of converting each to a Java int
+            return collector_info.python_collector_creator(function_cast(collector_info.group_mapping,
+                                                                         *type_arguments))
         return collector_info.collector_creator(to_int_function_cast(collector_info.group_mapping, *type_arguments))
     elif isinstance(collector_info, ComposeConstraintCollector):
         subcollectors = tuple(map(lambda subcollector_info: extract_collector(subcollector_info, *type_arguments),
@@ -256,7 +256,11 @@ class _PythonProblemChangeDirector:
         global _problem_change_director_to_update_function
         instance_map = _problem_change_director_to_instance_dict[id(self)]
         update_function = _problem_change_director_to_update_function[id(self)]
-        self._java_changeProblemProperty(_wrap_object(problemFactOrEntity, instance_map, update_function), problemFactOrEntityConsumer)
+        from org.optaplanner.optapy import PythonWrapperGenerator  # noqa
+        wrapped_object = _wrap_object(problemFactOrEntity, instance_map, update_function)
+        self._java_changeProblemProperty(wrapped_object, problemFactOrEntityConsumer)
+        # Problem facts only read their fields once, so they need to be told they were changed
+        PythonWrapperGenerator.refreshProblemFact(self._java_lookUpWorkingObjectOrFail(wrapped_object))
 
     @JOverride(sticky=True, rename='_java_changeVariable')
     def changeVariable(self, entity, variableName, entityConsumer):
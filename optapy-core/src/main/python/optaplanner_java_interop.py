@@ -72,11 +72,19 @@ def _get_python_object_attribute(object_id, name):
         python_object = python_object_getter()
         if python_object is None:
             return None
+        elif hasattr(python_object_getter, '__optapy_int_value_range'):
+            return _to_int_value_range(python_object)
         elif isinstance(python_object, (str, bool, int, float, complex, java.util.Collection,
                                         org.optaplanner.core.api.score.Score)):
             out = JObject(python_object, java.lang.Object)
             return out
         elif hasattr(python_object_getter, '__optaplannerPlanningId'):
+            from .constraint_stream import BytecodeTranslation
+            id_bytecode_translation = getattr(python_object_getter, '__optapy_id_bytecode_translation',
+                                              BytecodeTranslation.NONE)
+            translated_id = _to_translated_planning_id(python_object, id_bytecode_translation)
+            if translated_id is not None:
+                return translated_id
             return PythonComparable(
                 JProxy(org.optaplanner.jpyinterpreter.types.wrappers.OpaquePythonReference, inst=python_object,
                        convert=True))
@@ -89,6 +97,73 @@ def _get_python_object_attribute(object_id, name):
         raise OptaPyException(error)
 
 
+planning_id_class_to_java_type = dict()
+"""Maps the class of a planning id and its BytecodeTranslation to its translated Java type,
+or None if its ids are compared in Python"""
+
+
+def _defines_comparable_dunders(python_class: Type) -> bool:
+    """Returns True if python_class defines __eq__, __hash__ and a comparison, instead of using the ones of object"""
+    if python_class.__eq__ is object.__eq__ or python_class.__hash__ in (None, object.__hash__):
+        return False
+    return any(getattr(python_class, comparison) is not getattr(object, comparison)
+               for comparison in ('__lt__', '__le__', '__gt__', '__ge__'))
+
+
+def _to_translated_planning_id(python_object, id_bytecode_translation):
+    """Converts a planning id to an instance of its translated class, whose compareTo, equals and hashCode
+    are translated from its __lt__, __eq__ and __hash__, so they do not call Python.
+    Returns None if id_bytecode_translation is NONE, or the class of the planning id cannot be translated
+    (in which case FORCE raises instead)."""
+    from java.lang import Comparable
+    from jpyinterpreter import convert_to_java_python_like_object
+    from .constraint_stream import BytecodeTranslation
+    if id_bytecode_translation is BytecodeTranslation.NONE:
+        return None
+    id_class = type(python_object)
+    # Keyed by the translation too, since getters of the same id class can ask for different translations
+    cache_key = (id_class, id_bytecode_translation)
+    if cache_key not in planning_id_class_to_java_type:
+        java_type = None
+        if _defines_comparable_dunders(id_class):
+            java_type = _translate_python_class_if_possible(id_class, id_bytecode_translation)
+        planning_id_class_to_java_type[cache_key] = java_type
+    out = None
+    if planning_id_class_to_java_type[cache_key] is not None:
+        out = convert_to_java_python_like_object(python_object)
+    if not isinstance(out, Comparable):
+        # Either not translated, or translated without a comparison; PythonComparable is still correct then
+        planning_id_class_to_java_type[cache_key] = None
+        if id_bytecode_translation is BytecodeTranslation.FORCE:
+            raise ValueError(f'Unable to translate planning id class {id_class} to a Comparable Java class. '
+                             f'It must define __eq__, __hash__ and a comparison (such as __lt__), and be translatable.')
+        return None
+    return out
+
+
+def _to_int_value_range(values):
+    """Converts the ints of an int value range provider to a CountableValueRange of Integer.
+    Evenly spaced ascending ints become an int value range, which does not store its values,
+    unless its exclusive end does not fit in an int."""
+    from java.lang import Integer
+    from java.util import Arrays
+    from org.optaplanner.core.api.domain.valuerange import CountableValueRange, ValueRangeFactory
+    from org.optaplanner.core.impl.domain.valuerange.collection import ListValueRange
+    if isinstance(values, CountableValueRange):
+        return values
+    if not isinstance(values, range):
+        values = list(values)
+        if len(values) > 1:
+            step = values[1] - values[0]
+            if step > 0 and all(values[i + 1] - values[i] == step for i in range(len(values) - 1)):
+                values = range(values[0], values[-1] + step, step)
+    if isinstance(values, range) and values.step > 0 and len(values) > 0:
+        end = values.start + len(values) * values.step
+        if Integer.MIN_VALUE <= values.start and end <= Integer.MAX_VALUE:
+            return ValueRangeFactory.createIntValueRange(values.start, end, values.step)
+    return ListValueRange(Arrays.asList(JArray(Integer)(values)))
+
+
 def _get_python_array_to_id_array(the_object: List):
     """Maps a Python List to a Java List of OpaquePythonReference"""
     import org.optaplanner.jpyinterpreter.types.wrappers.OpaquePythonReference
@@ -301,6 +376,34 @@ def _slice_python_list(the_list: List, start: int, end: int):
     return the_list[start:end]
 
 
+def _get_python_list_items(the_list: List, start: int, end: int):
+    """Copies a range of a Python list into a Java List, so it can be read with a single call.
+
+    Each item is followed by its id and Java class, so it can be wrapped without calling back into Python,
+    or by two None if it is converted to a Java value instead.
+    """
+    import java.lang.Object
+    import java.util.ArrayList
+    out = java.util.ArrayList(3 * (end - start))
+    for item in the_list[start:end]:
+        out.add(JObject(item, java.lang.Object))
+        if item is None or isinstance(item, (int, float, str, JObject)):
+            out.add(None)
+            out.add(None)
+        else:
+            out.add(JObject(id(item), java.lang.Long))
+            out.add(get_class(item))
+    return out
+
+
+def _replace_python_list_items(the_list: List, items):
+    the_list[:] = items
+
+
+def _insert_items_into_python_list(the_list: List, index: int, items):
+    the_list[index:index] = items
+
+
 def _compare_python_objects(a, b):
     from jpype import JInt
     if a < b:
@@ -384,6 +487,12 @@ def init(*args, path: List[str] = None, include_optaplanner_jars: bool = True, l
                                                     java.util.function.BiFunction))
     PythonList.setSlicePythonList(JObject(PythonTriFunction(_slice_python_list),
                                           org.optaplanner.core.api.function.TriFunction))
+    PythonList.setGetPythonListItems(JObject(PythonTriFunction(_get_python_list_items),
+                                             org.optaplanner.core.api.function.TriFunction))
+    PythonList.setReplacePythonListItems(JObject(PythonBiFunction(_replace_python_list_items),
+                                                 java.util.function.BiFunction))
+    PythonList.setInsertItemsIntoPythonList(JObject(PythonTriFunction(_insert_items_into_python_list),
+                                                    org.optaplanner.core.api.function.TriFunction))
 
     PythonComparable.setPythonObjectCompareTo(JObject(PythonBiFunction(_compare_python_objects),
                                                       java.util.function.BiFunction))
@@ -1069,6 +1178,8 @@ def _generate_problem_fact_class(python_class):
                                                         optaplanner_annotations)
     class_identifier_to_java_class_map[class_identifier] = out
     force_update_type(python_class, out.getField('$TYPE').get(None))
+    if hasattr(python_class, '__optapy_is_planning_clone'):
+        PythonWrapperGenerator.addDeepPlanningCloneProblemFactClass(out)
     return out
 
 
@@ -1131,12 +1242,40 @@ def _generate_constraint_provider_class(original_function: Callable[['_Constrain
     return out
 
 
-def _generate_easy_score_calculator_class(easy_score_calculator: Callable[[Solution_], Score_]) -> JClass:
+def _translate_easy_score_calculator_if_possible(easy_score_calculator: Callable[[Solution_], Score_],
+                                                function_bytecode_translation):
+    """Translates easy_score_calculator to Java bytecode, returning None if it should not or cannot be translated"""
+    from .constraint_stream import BytecodeTranslation, _check_if_bytecode_translation_possible
+    from jpyinterpreter import translate_python_bytecode_to_java_bytecode
+    from org.optaplanner.core.api.score.calculator import EasyScoreCalculator
+
+    if function_bytecode_translation is BytecodeTranslation.NONE:
+        return None
+
+    try:
+        _check_if_bytecode_translation_possible()
+        return translate_python_bytecode_to_java_bytecode(easy_score_calculator, EasyScoreCalculator)
+    except:  # noqa
+        if function_bytecode_translation is BytecodeTranslation.FORCE:
+            raise
+        return None
+
+
+def _generate_easy_score_calculator_class(easy_score_calculator: Callable[[Solution_], Score_],
+                                          function_bytecode_translation) -> JClass:
     ensure_init()
     from org.optaplanner.optapy import PythonWrapperGenerator  # noqa
     from org.optaplanner.core.api.score.calculator import EasyScoreCalculator
 
     class_identifier = _get_class_identifier_for_object(easy_score_calculator)
+    translated_easy_score_calculator = _translate_easy_score_calculator_if_possible(easy_score_calculator,
+                                                                                    function_bytecode_translation)
+    if translated_easy_score_calculator is not None:
+        out = PythonWrapperGenerator.defineEasyScoreCalculatorClass(
+            _compose_unique_class_name(class_identifier),
+            translated_easy_score_calculator)
+        class_identifier_to_java_class_map[class_identifier] = out
+        return out
 
     @JImplements(EasyScoreCalculator)
     class EasyScoreCalculatorClass:
@@ -1154,30 +1293,61 @@ def _generate_easy_score_calculator_class(easy_score_calculator: Callable[[Solut
     return out
 
 
+def _translate_python_class_if_possible(python_class: Type, function_bytecode_translation):
+    """Translates python_class to Java bytecode, returning None if it should not or cannot be translated"""
+    from .constraint_stream import BytecodeTranslation, _check_if_bytecode_translation_possible
+    from jpyinterpreter import translate_python_class_to_java_class
+    from org.optaplanner.jpyinterpreter.types.wrappers import CPythonType  # noqa
+
+    if function_bytecode_translation is BytecodeTranslation.NONE:
+        return None
+
+    try:
+        _check_if_bytecode_translation_possible()
+        out = translate_python_class_to_java_class(python_class)
+        if isinstance(out, CPythonType):
+            raise ValueError(f'Unable to translate class {python_class} to Java bytecode')
+        return out
+    except:  # noqa
+        if function_bytecode_translation is BytecodeTranslation.FORCE:
+            raise
+        return None
+
+
 def _generate_incremental_score_calculator_class(incremental_score_calculator: Type['_IncrementalScoreCalculator'],
-                                                 constraint_match_aware: bool) -> JClass:
+                                                 constraint_match_aware: bool,
+                                                 translated_type=None) -> JClass:
     from org.optaplanner.optapy import PythonWrapperGenerator  # noqa
     from java.util.function import Supplier
     ensure_init()
 
     class_identifier = _get_class_identifier_for_object(incremental_score_calculator)
-    out = PythonWrapperGenerator.defineIncrementalScoreCalculatorClass(
-        _compose_unique_class_name(class_identifier),
-        JObject(PythonSupplier(lambda: incremental_score_calculator()),
-                Supplier), constraint_match_aware)
+    if translated_type is not None:
+        out = PythonWrapperGenerator.defineTranslatedIncrementalScoreCalculatorClass(
+            _compose_unique_class_name(class_identifier), translated_type, constraint_match_aware)
+    else:
+        out = PythonWrapperGenerator.defineIncrementalScoreCalculatorClass(
+            _compose_unique_class_name(class_identifier),
+            JObject(PythonSupplier(lambda: incremental_score_calculator()),
+                    Supplier), constraint_match_aware)
     class_identifier_to_java_class_map[class_identifier] = out
     return out
 
 
-def _generate_variable_listener_class(variable_listener: Type['_VariableListener']) -> JClass:
+def _generate_variable_listener_class(variable_listener: Type['_VariableListener'], translated_type=None,
+                                      require_unique_entity_events: bool = False) -> JClass:
     from org.optaplanner.optapy import PythonWrapperGenerator  # noqa
     from java.util.function import Supplier
     ensure_init()
 
     class_identifier = _get_class_identifier_for_object(variable_listener)
-    out = PythonWrapperGenerator.defineVariableListenerClass(
-        _compose_unique_class_name(class_identifier),
-        JObject(PythonSupplier(lambda: variable_listener()),
-                Supplier))
+    if translated_type is not None:
+        out = PythonWrapperGenerator.defineTranslatedVariableListenerClass(
+            _compose_unique_class_name(class_identifier), translated_type, require_unique_entity_events)
+    else:
+        out = PythonWrapperGenerator.defineVariableListenerClass(
+            _compose_unique_class_name(class_identifier),
+            JObject(PythonSupplier(lambda: variable_listener()),
+                    Supplier))
     class_identifier_to_java_class_map[class_identifier] = out
     return out
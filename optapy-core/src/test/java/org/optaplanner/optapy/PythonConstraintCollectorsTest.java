@@ -0,0 +1,302 @@
+package org.optaplanner.optapy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.stream.bi.BiConstraintCollector;
+import org.optaplanner.core.api.score.stream.quad.QuadConstraintCollector;
+import org.optaplanner.core.api.score.stream.tri.TriConstraintCollector;
+import org.optaplanner.core.api.score.stream.uni.UniConstraintCollector;
+import org.optaplanner.jpyinterpreter.types.PythonNone;
+import org.optaplanner.jpyinterpreter.types.PythonString;
+import org.optaplanner.jpyinterpreter.types.collections.PythonLikeList;
+import org.optaplanner.jpyinterpreter.types.errors.TypeError;
+import org.optaplanner.jpyinterpreter.types.numeric.PythonFloat;
+import org.optaplanner.jpyinterpreter.types.numeric.PythonInteger;
+
+public class PythonConstraintCollectorsTest {
+
+    @Test
+    public void testCount() {
+        CollectorTester<Object, ?> tester = CollectorTester.ofUni(PythonConstraintCollectors.count());
+        assertThat(tester.result()).isEqualTo(PythonInteger.valueOf(0));
+
+        Runnable retractA = tester.insert(PythonString.valueOf("a"));
+        Runnable retractB = tester.insert(PythonString.valueOf("b"));
+        assertThat(tester.result()).isEqualTo(PythonInteger.valueOf(2));
+
+        retractA.run();
+        assertThat(tester.result()).isEqualTo(PythonInteger.valueOf(1));
+
+        retractB.run();
+        assertThat(tester.result()).isEqualTo(PythonInteger.valueOf(0));
+    }
+
+    @Test
+    public void testSumInt() {
+        CollectorTester<PythonInteger, ?> tester =
+                CollectorTester.ofUni(PythonConstraintCollectors.sum(Function.identity()));
+        assertThat(tester.result()).isEqualTo(PythonInteger.valueOf(0));
+
+        Runnable retract1 = tester.insert(PythonInteger.valueOf(1));
+        Runnable retract2 = tester.insert(PythonInteger.valueOf(2));
+        assertThat(tester.result()).isEqualTo(PythonInteger.valueOf(3));
+
+        retract1.run();
+        assertThat(tester.result()).isEqualTo(PythonInteger.valueOf(2));
+
+        retract2.run();
+        assertThat(tester.result()).isEqualTo(PythonInteger.valueOf(0));
+    }
+
+    @Test
+    public void testSumIntOverflow() {
+        CollectorTester<PythonInteger, ?> tester =
+                CollectorTester.ofUni(PythonConstraintCollectors.sum(Function.identity()));
+
+        Runnable retract1 = tester.insert(PythonInteger.valueOf(Long.MAX_VALUE));
+        Runnable retract2 = tester.insert(PythonInteger.valueOf(Long.MAX_VALUE));
+        assertThat(tester.result()).isEqualTo(PythonInteger.valueOf(Long.MAX_VALUE).add(
+                PythonInteger.valueOf(Long.MAX_VALUE)));
+
+        retract1.run();
+        assertThat(tester.result()).isEqualTo(PythonInteger.valueOf(Long.MAX_VALUE));
+
+        retract2.run();
+        assertThat(tester.result()).isEqualTo(PythonInteger.valueOf(0));
+    }
+
+    @Test
+    public void testSumFloat() {
+        CollectorTester<Object, ?> tester = CollectorTester.ofUni(PythonConstraintCollectors.sum(Function.identity()));
+
+        Runnable retract1 = tester.insert(PythonInteger.valueOf(1));
+        Runnable retract2 = tester.insert(PythonFloat.valueOf(0.5));
+        assertThat(tester.result()).isEqualTo(PythonFloat.valueOf(1.5));
+
+        retract2.run();
+        assertThat(tester.result()).isEqualTo(PythonInteger.valueOf(1));
+
+        retract1.run();
+        assertThat(tester.result()).isEqualTo(PythonInteger.valueOf(0));
+    }
+
+    @Test
+    public void testSumFloatIsRestoredByRetract() {
+        CollectorTester<Object, ?> tester = CollectorTester.ofUni(PythonConstraintCollectors.sum(Function.identity()));
+
+        Runnable retract1 = tester.insert(PythonFloat.valueOf(0.1));
+        tester.insert(PythonFloat.valueOf(0.2));
+        retract1.run();
+        assertThat(tester.result()).isEqualTo(PythonFloat.valueOf(0.2));
+
+        Runnable retractNaN = tester.insert(PythonFloat.valueOf(Double.NaN));
+        assertThat(Double.isNaN(((PythonFloat) tester.result()).value)).isTrue();
+        retractNaN.run();
+        assertThat(tester.result()).isEqualTo(PythonFloat.valueOf(0.2));
+
+        Runnable retractInfinity = tester.insert(PythonFloat.valueOf(Double.POSITIVE_INFINITY));
+        assertThat(tester.result()).isEqualTo(PythonFloat.valueOf(Double.POSITIVE_INFINITY));
+        Runnable retractNegativeInfinity = tester.insert(PythonFloat.valueOf(Double.NEGATIVE_INFINITY));
+        assertThat(Double.isNaN(((PythonFloat) tester.result()).value)).isTrue();
+        retractInfinity.run();
+        retractNegativeInfinity.run();
+        assertThat(tester.result()).isEqualTo(PythonFloat.valueOf(0.2));
+    }
+
+    @Test
+    public void testSumInvalidType() {
+        CollectorTester<Object, ?> tester = CollectorTester.ofUni(PythonConstraintCollectors.sum(Function.identity()));
+        tester.insert(PythonInteger.valueOf(1));
+
+        assertThatCode(() -> tester.insert(PythonString.valueOf("a"))).isInstanceOf(TypeError.class);
+        assertThat(tester.result()).isEqualTo(PythonInteger.valueOf(1));
+    }
+
+    @Test
+    public void testAverage() {
+        CollectorTester<Object, ?> tester =
+                CollectorTester.ofUni(PythonConstraintCollectors.average(Function.identity()));
+        assertThat(tester.result()).isEqualTo(PythonNone.INSTANCE);
+
+        Runnable retract1 = tester.insert(PythonInteger.valueOf(1));
+        Runnable retract2 = tester.insert(PythonInteger.valueOf(2));
+        assertThat(tester.result()).isEqualTo(PythonFloat.valueOf(1.5));
+
+        retract1.run();
+        assertThat(tester.result()).isEqualTo(PythonFloat.valueOf(2.0));
+
+        retract2.run();
+        assertThat(tester.result()).isEqualTo(PythonNone.INSTANCE);
+    }
+
+    @Test
+    public void testAverageFloatIsRestoredByRetract() {
+        CollectorTester<Object, ?> tester =
+                CollectorTester.ofUni(PythonConstraintCollectors.average(Function.identity()));
+
+        Runnable retract1 = tester.insert(PythonFloat.valueOf(0.1));
+        tester.insert(PythonFloat.valueOf(0.2));
+        Runnable retractNaN = tester.insert(PythonFloat.valueOf(Double.NaN));
+        assertThat(Double.isNaN(((PythonFloat) tester.result()).value)).isTrue();
+
+        retractNaN.run();
+        retract1.run();
+        assertThat(tester.result()).isEqualTo(PythonFloat.valueOf(0.2));
+    }
+
+    @Test
+    public void testMin() {
+        CollectorTester<PythonInteger, ?> tester =
+                CollectorTester.ofUni(PythonConstraintCollectors.min(Function.identity()));
+        assertThat(tester.result()).isEqualTo(PythonNone.INSTANCE);
+
+        Runnable retract2 = tester.insert(PythonInteger.valueOf(2));
+        Runnable retract1 = tester.insert(PythonInteger.valueOf(1));
+        Runnable retract1Again = tester.insert(PythonInteger.valueOf(1));
+        assertThat(tester.result()).isEqualTo(PythonInteger.valueOf(1));
+
+        retract1.run();
+        assertThat(tester.result()).isEqualTo(PythonInteger.valueOf(1));
+
+        retract1Again.run();
+        assertThat(tester.result()).isEqualTo(PythonInteger.valueOf(2));
+
+        retract2.run();
+        assertThat(tester.result()).isEqualTo(PythonNone.INSTANCE);
+    }
+
+    @Test
+    public void testMax() {
+        CollectorTester<PythonFloat, ?> tester =
+                CollectorTester.ofUni(PythonConstraintCollectors.max(Function.identity()));
+        assertThat(tester.result()).isEqualTo(PythonNone.INSTANCE);
+
+        Runnable retract1 = tester.insert(PythonFloat.valueOf(1.0));
+        Runnable retract2 = tester.insert(PythonFloat.valueOf(2.0));
+        assertThat(tester.result()).isEqualTo(PythonFloat.valueOf(2.0));
+
+        retract2.run();
+        assertThat(tester.result()).isEqualTo(PythonFloat.valueOf(1.0));
+
+        retract1.run();
+        assertThat(tester.result()).isEqualTo(PythonNone.INSTANCE);
+    }
+
+    @Test
+    public void testToList() {
+        CollectorTester<Object, ?> tester = CollectorTester.ofUni(PythonConstraintCollectors.toList());
+        assertThat(tester.result()).isEqualTo(new PythonLikeList<>());
+
+        Runnable retractA = tester.insert(PythonString.valueOf("a"));
+        Runnable retractB = tester.insert(PythonString.valueOf("b"));
+        Runnable retractAAgain = tester.insert(PythonString.valueOf("a"));
+        assertThat(tester.result()).isInstanceOf(PythonLikeList.class);
+        assertThat((List<?>) tester.result()).containsExactlyInAnyOrder(PythonString.valueOf("a"),
+                PythonString.valueOf("a"), PythonString.valueOf("b"));
+
+        retractA.run();
+        assertThat((List<?>) tester.result()).containsExactlyInAnyOrder(PythonString.valueOf("a"),
+                PythonString.valueOf("b"));
+
+        retractB.run();
+        retractAAgain.run();
+        assertThat(tester.result()).isEqualTo(new PythonLikeList<>());
+    }
+
+    @Test
+    public void testBiCollector() {
+        CollectorTester<PythonInteger, ?> tester = CollectorTester.ofBi(
+                PythonConstraintCollectors.<PythonInteger, PythonInteger> sum((a, b) -> a.add(b)),
+                PythonInteger.valueOf(1));
+
+        Runnable retract = tester.insert(PythonInteger.valueOf(2));
+        tester.insert(PythonInteger.valueOf(3));
+        assertThat(tester.result()).isEqualTo(PythonInteger.valueOf(7));
+
+        retract.run();
+        assertThat(tester.result()).isEqualTo(PythonInteger.valueOf(4));
+    }
+
+    @Test
+    public void testTriCollector() {
+        CollectorTester<Object, ?> tester = CollectorTester.ofTri(PythonConstraintCollectors.countTri(),
+                PythonNone.INSTANCE);
+
+        Runnable retract = tester.insert(PythonNone.INSTANCE);
+        assertThat(tester.result()).isEqualTo(PythonInteger.valueOf(1));
+
+        retract.run();
+        assertThat(tester.result()).isEqualTo(PythonInteger.valueOf(0));
+    }
+
+    @Test
+    public void testQuadCollector() {
+        CollectorTester<PythonInteger, ?> tester = CollectorTester.ofQuad(
+                PythonConstraintCollectors.<Object, Object, Object, PythonInteger> max((a, b, c, d) -> d),
+                PythonNone.INSTANCE);
+
+        Runnable retract = tester.insert(PythonInteger.valueOf(5));
+        tester.insert(PythonInteger.valueOf(3));
+        assertThat(tester.result()).isEqualTo(PythonInteger.valueOf(5));
+
+        retract.run();
+        assertThat(tester.result()).isEqualTo(PythonInteger.valueOf(3));
+    }
+
+    /**
+     * Inserts values into a single container of a collector. For bi, tri and quad collectors, the inserted value is
+     * the last element of the tuple, and every other element is a fixed value.
+     */
+    private static final class CollectorTester<A, Container_> {
+        private final Container_ container;
+        private final BiFunction<Container_, A, Runnable> accumulator;
+        private final Function<Container_, Object> finisher;
+
+        private CollectorTester(Container_ container, BiFunction<Container_, A, Runnable> accumulator,
+                Function<Container_, Object> finisher) {
+            this.container = container;
+            this.accumulator = accumulator;
+            this.finisher = finisher;
+        }
+
+        static <A, Container_> CollectorTester<A, Container_> ofUni(
+                UniConstraintCollector<A, Container_, Object> collector) {
+            return new CollectorTester<>(collector.supplier().get(), collector.accumulator(), collector.finisher());
+        }
+
+        static <O, A, Container_> CollectorTester<A, Container_> ofBi(
+                BiConstraintCollector<O, A, Container_, Object> collector, O other) {
+            return new CollectorTester<>(collector.supplier().get(),
+                    (container, a) -> collector.accumulator().apply(container, other, a),
+                    collector.finisher());
+        }
+
+        static <O, A, Container_> CollectorTester<A, Container_> ofTri(
+                TriConstraintCollector<O, O, A, Container_, Object> collector, O other) {
+            return new CollectorTester<>(collector.supplier().get(),
+                    (container, a) -> collector.accumulator().apply(container, other, other, a),
+                    collector.finisher());
+        }
+
+        static <O, A, Container_> CollectorTester<A, Container_> ofQuad(
+                QuadConstraintCollector<O, O, O, A, Container_, Object> collector, O other) {
+            return new CollectorTester<>(collector.supplier().get(),
+                    (container, a) -> collector.accumulator().apply(container, other, other, other, a),
+                    collector.finisher());
+        }
+
+        Runnable insert(A value) {
+            return accumulator.apply(container, value);
+        }
+
+        Object result() {
+            return finisher.apply(container);
+        }
+    }
+}
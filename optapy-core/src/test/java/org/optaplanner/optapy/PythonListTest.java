@@ -0,0 +1,120 @@
+package org.optaplanner.optapy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.function.TriFunction;
+import org.optaplanner.jpyinterpreter.types.wrappers.OpaquePythonReference;
+
+public class PythonListTest {
+    // Records how often each Python list function was called
+    private int getItemsCallCount;
+    private int replaceItemsCallCount;
+    private int insertItemsCallCount;
+
+    private static final class TestPythonList implements OpaquePythonReference {
+        private final List<Object> items;
+
+        TestPythonList(List<Object> items) {
+            this.items = items;
+        }
+    }
+
+    @BeforeEach
+    public void setUp() {
+        getItemsCallCount = 0;
+        replaceItemsCallCount = 0;
+        insertItemsCallCount = 0;
+
+        PythonList.setGetPythonListLength(reference -> ((TestPythonList) reference).items.size());
+        PythonList.setGetPythonListItems((reference, start, end) -> {
+            getItemsCallCount++;
+            List<Object> out = new ArrayList<>();
+            for (Object item : ((TestPythonList) reference).items.subList(start, end)) {
+                // ints are not wrapped, so they have no id or Java class
+                out.add(item);
+                out.add(null);
+                out.add(null);
+            }
+            return out;
+        });
+        PythonList.setSlicePythonList((reference, start, end) -> new TestPythonList(
+                new ArrayList<>(((TestPythonList) reference).items.subList(start, end))));
+        PythonList.setReplacePythonListItems((reference, items) -> {
+            replaceItemsCallCount++;
+            List<Object> pythonItems = ((TestPythonList) reference).items;
+            pythonItems.clear();
+            pythonItems.addAll(items);
+            return null;
+        });
+        PythonList.setInsertItemsIntoPythonList((reference, index, items) -> {
+            insertItemsCallCount++;
+            ((TestPythonList) reference).items.addAll(index, items);
+            return null;
+        });
+    }
+
+    private static PythonList<Object> createList(TestPythonList pythonList,
+            TriFunction<OpaquePythonReference, String, Object, Object> pythonSetter) {
+        return new PythonList<>(pythonList, 0, new HashMap<>(), pythonSetter);
+    }
+
+    @Test
+    public void testReadItems() {
+        TestPythonList pythonList = new TestPythonList(new ArrayList<>(List.of(1, 2, 3)));
+        PythonList<Object> list = createList(pythonList, PythonWrapperGenerator.NONE_PYTHON_SETTER);
+
+        assertThat(getItemsCallCount).isEqualTo(1);
+        assertThat(list).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    public void testAddAllInsertsItemsAtOnce() {
+        TestPythonList pythonList = new TestPythonList(new ArrayList<>(List.of(1, 2, 3)));
+        PythonList<Object> list = createList(pythonList, (reference, attribute, value) -> null);
+
+        list.addAll(1, List.of(4, 5));
+
+        assertThat(insertItemsCallCount).isEqualTo(1);
+        assertThat(list).containsExactly(1, 4, 5, 2, 3);
+        assertThat(pythonList.items).containsExactly(1, 4, 5, 2, 3);
+    }
+
+    @Test
+    public void testForceUpdateSkipsUnmodifiedList() {
+        TestPythonList pythonList = new TestPythonList(new ArrayList<>(List.of(1, 2, 3)));
+        PythonList<Object> list = createList(pythonList, PythonWrapperGenerator.NONE_PYTHON_SETTER);
+
+        list.forceUpdate();
+        assertThat(replaceItemsCallCount).isZero();
+
+        list.add(4);
+        assertThat(pythonList.items).containsExactly(1, 2, 3);
+
+        list.forceUpdate();
+        assertThat(replaceItemsCallCount).isEqualTo(1);
+        assertThat(pythonList.items).containsExactly(1, 2, 3, 4);
+
+        list.forceUpdate();
+        assertThat(replaceItemsCallCount).isEqualTo(1);
+    }
+
+    @Test
+    public void testModifyingSubListMarksListModified() {
+        TestPythonList pythonList = new TestPythonList(new ArrayList<>(List.of(1, 2, 3, 4)));
+        PythonList<Object> list = createList(pythonList, PythonWrapperGenerator.NONE_PYTHON_SETTER);
+
+        list.subList(1, 3).clear();
+        assertThat(list).containsExactly(1, 4);
+        assertThat(pythonList.items).containsExactly(1, 2, 3, 4);
+
+        list.forceUpdate();
+        assertThat(replaceItemsCallCount).isEqualTo(1);
+        assertThat(pythonList.items).containsExactly(1, 4);
+    }
+}
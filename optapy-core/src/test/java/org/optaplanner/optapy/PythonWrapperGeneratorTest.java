@@ -0,0 +1,232 @@
+package org.optaplanner.optapy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.function.TriFunction;
+import org.optaplanner.jpyinterpreter.PythonLikeObject;
+import org.optaplanner.jpyinterpreter.types.BuiltinTypes;
+import org.optaplanner.jpyinterpreter.types.PythonLikeFunction;
+import org.optaplanner.jpyinterpreter.types.PythonLikeType;
+import org.optaplanner.jpyinterpreter.types.numeric.PythonInteger;
+import org.optaplanner.jpyinterpreter.types.wrappers.OpaquePythonReference;
+
+public class PythonWrapperGeneratorTest {
+
+    @BeforeEach
+    public void setUp() {
+        // Python getters return integral values as a Long
+        PythonWrapperGenerator.setPythonObjectIdAndAttributeNameToValue((reference, attributeName) -> {
+            Map<String, Object> getterNameToValue = ((TestReference) reference).getterNameToValue;
+            if (!getterNameToValue.containsKey(attributeName)) {
+                throw new OptaPyException("No attribute " + attributeName);
+            }
+            return getterNameToValue.get(attributeName);
+        });
+    }
+
+    @Test
+    public void testUpdateIntegerVariableFromPythonObject() throws Exception {
+        TestEntity entity = new TestEntity();
+        entity.reference.getterNameToValue.put("get_value", 5L);
+
+        PythonWrapperGenerator.updateVariableFromPythonObject(entity, "value");
+        assertThat(entity.value).isEqualTo(5);
+
+        entity.reference.getterNameToValue.put("get_value", Long.valueOf(-3));
+        PythonWrapperGenerator.updateVariableFromPythonObject(entity, "value");
+        assertThat(entity.value).isEqualTo(-3);
+
+        entity.reference.getterNameToValue.put("get_value", null);
+        PythonWrapperGenerator.updateVariableFromPythonObject(entity, "value");
+        assertThat(entity.value).isNull();
+    }
+
+    @Test
+    public void testUpdateVariableFromPythonObjectWithCamelCaseGetter() throws Exception {
+        TestEntity entity = new CamelCaseTestEntity();
+        entity.reference.getterNameToValue.put("getValue", 2L);
+
+        PythonWrapperGenerator.updateVariableFromPythonObject(entity, "value");
+        assertThat(entity.value).isEqualTo(2);
+    }
+
+    @Test
+    public void testUpdateVariableFromPythonObjectWithoutGetter() {
+        TestEntity entity = new TestEntity();
+
+        assertThatCode(() -> PythonWrapperGenerator.updateVariableFromPythonObject(entity, "missing"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testUpdateIntegerVariableFromTranslatedObject() throws Exception {
+        // The value is read with the getter, which here reads an attribute with a different name
+        TestEntity entity = new TranslatedTestEntity();
+        entity.attributeNameToValue.put("_value", PythonInteger.valueOf(7));
+
+        PythonWrapperGenerator.updateVariableFromTranslatedObject(entity, "value");
+        assertThat(entity.value).isEqualTo(7);
+    }
+
+    @Test
+    public void testUpdateVariableFromTranslatedObjectWithoutGetter() {
+        TestEntity entity = new TestEntity();
+        entity.attributeNameToValue.put("value", PythonInteger.valueOf(7));
+
+        assertThatCode(() -> PythonWrapperGenerator.updateVariableFromTranslatedObject(entity, "value"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testProblemFactFieldsAreReadOnce() throws Exception {
+        Class<?> problemFactClass = PythonWrapperGenerator.defineProblemFactClass(
+                "org.optaplanner.optapy.test.ReadOnceProblemFact", CountingProblemFact.class, false, List.of());
+        CountingProblemFact problemFact = (CountingProblemFact) problemFactClass.getConstructor(PythonLikeType.class)
+                .newInstance(BuiltinTypes.BASE_TYPE);
+
+        ((PythonObject) problemFact).readFromPythonObject(new HashSet<>(), new HashMap<>());
+        assertThat(problemFact.readCount).isEqualTo(1);
+
+        // Cloning a solution reads its referenced objects again, which must not read a problem fact again
+        problemFact.$readFieldsFromCPythonReference();
+        ((PythonObject) problemFact).readFromPythonObject(new HashSet<>(), new HashMap<>());
+        assertThat(problemFact.readCount).isEqualTo(1);
+
+        // A problem change tells the problem fact it changed
+        PythonWrapperGenerator.refreshProblemFact(problemFact);
+        assertThat(problemFact.readCount).isEqualTo(2);
+
+        problemFact.$readFieldsFromCPythonReference();
+        assertThat(problemFact.readCount).isEqualTo(2);
+    }
+
+    @Test
+    public void testRefreshProblemFactIgnoresOtherObjects() {
+        assertThatCode(() -> PythonWrapperGenerator.refreshProblemFact(new TestEntity()))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    public void testDeepPlanningCloneProblemFactIsNotShared() throws Exception {
+        Class<?> problemFactClass = PythonWrapperGenerator.defineProblemFactClass(
+                "org.optaplanner.optapy.test.DeepPlanningCloneProblemFact", CountingProblemFact.class, false, List.of());
+        Object problemFact = problemFactClass.getConstructor(PythonLikeType.class).newInstance(BuiltinTypes.BASE_TYPE);
+
+        assertThat(PythonWrapperGenerator.isSharedProblemFact(problemFact)).isTrue();
+        assertThat(PythonWrapperGenerator.shouldVisitProblemFactIds(problemFact)).isFalse();
+
+        // @deep_planning_clone can be applied after the class was generated and its instances were used
+        PythonWrapperGenerator.addDeepPlanningCloneProblemFactClass(problemFactClass);
+        assertThat(PythonWrapperGenerator.isSharedProblemFact(problemFact)).isFalse();
+        assertThat(PythonWrapperGenerator.shouldVisitProblemFactIds(problemFact)).isTrue();
+    }
+
+    @Test
+    public void testOnlyProblemFactsAreShared() {
+        assertThat(PythonWrapperGenerator.isSharedProblemFact(new TestEntity())).isFalse();
+        assertThat(PythonWrapperGenerator.isSharedProblemFact(null)).isFalse();
+        assertThat(PythonWrapperGenerator.shouldVisitProblemFactIds(new TestEntity())).isTrue();
+    }
+
+    private static final class TestReference implements OpaquePythonReference {
+        private final Map<String, Object> getterNameToValue = new HashMap<>();
+    }
+
+    public static class TestEntity implements PythonObject {
+        private final TestReference reference = new TestReference();
+        private final Map<String, PythonLikeObject> attributeNameToValue = new HashMap<>();
+        private Integer value;
+
+        public void setValue(Integer value) {
+            this.value = value;
+        }
+
+        @Override
+        public OpaquePythonReference get__optapy_Id() {
+            return reference;
+        }
+
+        @Override
+        public Map<Number, Object> get__optapy_reference_map() {
+            return new HashMap<>();
+        }
+
+        @Override
+        public void forceUpdate() {
+        }
+
+        @Override
+        public void readFromPythonObject(Set doneSet, Map<Number, Object> referenceMap) {
+        }
+
+        @Override
+        public void visitIds(Map<Number, Object> referenceMap) {
+        }
+
+        @Override
+        public void $setFields(OpaquePythonReference reference, Number id, Map referenceMap, TriFunction setter) {
+        }
+
+        @Override
+        public PythonLikeObject __getAttributeOrNull(String attributeName) {
+            return attributeNameToValue.get(attributeName);
+        }
+
+        @Override
+        public void __setAttribute(String attributeName, PythonLikeObject value) {
+            attributeNameToValue.put(attributeName, value);
+        }
+
+        @Override
+        public void __deleteAttribute(String attributeName) {
+            attributeNameToValue.remove(attributeName);
+        }
+
+        @Override
+        public PythonLikeType __getType() {
+            return BuiltinTypes.BASE_TYPE;
+        }
+    }
+
+    // Stands in for the translated class of a Python problem fact, and counts how often its fields are read
+    public static class CountingProblemFact extends AbstractCPythonBackedClass {
+        private int readCount;
+
+        public CountingProblemFact(PythonLikeType type) {
+            super(type);
+        }
+
+        @Override
+        public void $readFieldsFromCPythonReference() {
+            readCount++;
+        }
+    }
+
+    // A separate class, since which Python getter a class has is resolved once per class
+    public static class CamelCaseTestEntity extends TestEntity {
+    }
+
+    // Stands in for a translated entity whose get_value() returns self._value
+    public static class TranslatedTestEntity extends TestEntity {
+        private static final PythonLikeType TYPE = new PythonLikeType("TranslatedTestEntity", TranslatedTestEntity.class);
+
+        static {
+            TYPE.__setAttribute("get_value", (PythonLikeFunction) (positionalArguments, namedArguments,
+                    callerInstance) -> positionalArguments.get(0).__getAttributeOrNull("_value"));
+        }
+
+        @Override
+        public PythonLikeType __getType() {
+            return TYPE;
+        }
+    }
+}
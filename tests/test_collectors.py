@@ -478,6 +478,49 @@ def test_compose():
     assert score_manager.explainScore(problem).getScore() == optapy.score.SimpleScore.of(22)
 
 
+def test_translated_collectors():
+    @optapy.constraint_provider(function_bytecode_translation=optapy.BytecodeTranslation.FORCE)
+    def define_constraints(constraint_factory: optapy.constraint.ConstraintFactory):
+        return [
+            constraint_factory.for_each(Entity)
+            .group_by(optapy.constraint.ConstraintCollectors.count(),
+                      optapy.constraint.ConstraintCollectors.sum(lambda entity: entity.value.number),
+                      optapy.constraint.ConstraintCollectors.min(lambda entity: entity.value.number),
+                      optapy.constraint.ConstraintCollectors.max(lambda entity: entity.value.number))
+            .reward('Count, sum, min and max', optapy.score.SimpleScore.ONE,
+                    lambda count, sum_value, min_value, max_value:
+                    count + sum_value * 10 + min_value * 100 + max_value * 1000),
+            constraint_factory.for_each(Entity)
+            .group_by(optapy.constraint.ConstraintCollectors.average(lambda entity: entity.value.number),
+                      optapy.constraint.ConstraintCollectors.to_list(lambda entity: entity.value.number))
+            .filter(lambda average_value, value_list: average_value * len(value_list) == sum(value_list))
+            .reward('Average and list', optapy.score.SimpleScore.ONE,
+                    lambda average_value, value_list: int(10000 * average_value))
+        ]
+
+    score_manager = create_score_manage(define_constraints)
+
+    entity_a: Entity = Entity('A')
+    entity_b: Entity = Entity('B')
+
+    value_1 = Value(1)
+    value_2 = Value(2)
+
+    problem = Solution([entity_a, entity_b], [value_1, value_2])
+    entity_a.set_value(value_1)
+    entity_b.set_value(value_1)
+
+    assert score_manager.explainScore(problem).getScore() == optapy.score.SimpleScore.of(11122)
+
+    entity_a.set_value(value_2)
+
+    assert score_manager.explainScore(problem).getScore() == optapy.score.SimpleScore.of(17132)
+
+    entity_b.set_value(value_2)
+
+    assert score_manager.explainScore(problem).getScore() == optapy.score.SimpleScore.of(22242)
+
+
 def test_flatten_last():
     @optapy.constraint_provider
     def define_constraints(constraint_factory: optapy.constraint.ConstraintFactory):
@@ -888,6 +888,140 @@ def test_custom_planning_id():
         encountered.add(entity.value)
 
 
+def define_planning_id_solution(entity_class, value_class):
+    @optapy.planning_solution
+    class Solution:
+        def __init__(self, entities, values, score=None):
+            self.entities = entities
+            self.values = values
+            self.score = score
+
+        @optapy.planning_entity_collection_property(entity_class)
+        def get_entities(self):
+            return self.entities
+
+        @optapy.problem_fact_collection_property(value_class)
+        @optapy.value_range_provider(range_id='value_range')
+        def get_values(self):
+            return self.values
+
+        @optapy.planning_score(optapy.score.SimpleScore)
+        def get_score(self) -> optapy.score.SimpleScore:
+            return self.score
+
+        def set_score(self, score):
+            self.score = score
+
+    return Solution
+
+
+def solve_with_problem_change(solution_class, entity_class, constraint_provider, best_score_limit, problem,
+                              problem_change):
+    # best_score_limit should only be reachable once problem_change is done
+    from org.optaplanner.core.api.solver import SolverStatus
+
+    solver_config = optapy.config.solver.SolverConfig()
+    termination_config = optapy.config.solver.termination.TerminationConfig()
+    termination_config.setBestScoreLimit(best_score_limit)
+    solver_config.withSolutionClass(optapy.get_class(solution_class)) \
+        .withEntityClasses(entity_class) \
+        .withConstraintProviderClass(constraint_provider) \
+        .withTerminationConfig(termination_config)
+
+    with optapy.solver_manager_create(solver_config) as solver_manager:
+        solver_job = solver_manager.solve(1, problem)
+        assert solver_manager.getSolverStatus(1) != SolverStatus.NOT_SOLVING
+        solver_manager.addProblemChange(1, problem_change)
+        return solver_job.getFinalBestSolution()
+
+
+def test_translated_planning_id():
+    from org.optaplanner.jpyinterpreter import PythonLikeObject
+    from org.optaplanner.optapy import PythonComparable
+
+    class Code:
+        def __init__(self, code):
+            self.code = code
+
+        def __eq__(self, other):
+            return isinstance(other, Code) and self.code == other.code
+
+        def __hash__(self):
+            return hash(self.code)
+
+        def __lt__(self, other):
+            return self.code < other.code
+
+    @optapy.problem_fact
+    class Value:
+        def __init__(self, code):
+            self.code = code
+
+        # Not translated, since the id translation defaults to BytecodeTranslation.NONE
+        @optapy.planning_id
+        def get_code(self):
+            return self.code
+
+    @optapy.planning_entity
+    class Entity:
+        def __init__(self, code, value=None):
+            self.code = code
+            self.value = value
+
+        @optapy.planning_id(id_bytecode_translation=optapy.BytecodeTranslation.FORCE)
+        def get_code(self):
+            return self.code
+
+        @optapy.planning_variable(Value, value_range_provider_refs=['value_range'])
+        def get_value(self):
+            return self.value
+
+        def set_value(self, value):
+            self.value = value
+
+    @optapy.constraint_provider
+    def my_constraints(constraint_factory: optapy.constraint.ConstraintFactory):
+        return [
+            constraint_factory.for_each_unique_pair(Entity,
+                                                    optapy.constraint.Joiners.equal(lambda entity: entity.value))
+                .penalize('Same value', optapy.score.SimpleScore.ONE),
+        ]
+
+    Solution = define_planning_id_solution(Entity, Value)
+
+    looked_up_ids = []
+
+    @optapy.problem_change
+    class RemoveEntityProblemChange:
+        def __init__(self, code):
+            self.code = code
+
+        def doChange(self, solution: Solution, problem_change_director: optapy.types.ProblemChangeDirector):
+            # The external objects are copies, so the working objects are looked up by equal ids
+            working_value = problem_change_director.lookUpWorkingObjectOrFail(Value(Code('A')))
+            working_entity = problem_change_director.lookUpWorkingObjectOrFail(Entity(Code(self.code)))
+            looked_up_ids.append(working_value.getCode())
+            looked_up_ids.append(working_entity.getCode())
+
+            def remove_entity(removed_working_entity):
+                solution.entities.remove(removed_working_entity.get__optapy_Id())
+
+            problem_change_director.removeEntity(working_entity.get__optapy_Id(), remove_entity)
+
+    # Four entities cannot all have a different value, so the best score limit is only reached after the removal
+    problem = Solution([Entity(Code(code)) for code in range(4)],
+                       [Value(Code(code)) for code in 'ABC'])
+    solution = solve_with_problem_change(Solution, Entity, my_constraints, '0', problem,
+                                         RemoveEntityProblemChange(3))
+    assert solution.get_score().getScore() == 0
+    assert sorted(entity.code.code for entity in solution.entities) == [0, 1, 2]
+
+    value_id, entity_id = looked_up_ids
+    assert isinstance(value_id, PythonComparable)
+    assert not isinstance(entity_id, PythonComparable)
+    assert isinstance(entity_id, PythonLikeObject)
+
+
 def test_custom_comparator():
     @optapy.problem_fact
     class Value:
@@ -1237,6 +1371,140 @@ def test_int_value_range_provider():
         encountered.add(entity.value)
 
 
+def test_int_list_value_range_provider():
+    @optapy.planning_entity
+    class Entity:
+        def __init__(self, code, value=None):
+            self.code = code
+            self.value = value
+
+        @optapy.planning_id
+        def get_code(self) -> int:
+            return self.code
+
+        @optapy.planning_variable(int, value_range_provider_refs=['even_range', 'odd_range', 'large_range'])
+        def get_value(self):
+            return self.value
+
+        def set_value(self, value):
+            self.value = value
+
+    @optapy.constraint_provider
+    def my_constraints(constraint_factory: optapy.constraint.ConstraintFactory):
+        return [
+            constraint_factory.for_each(Entity)
+            .filter(lambda entity: entity.value != entity.code)
+            .penalize('Value is not code', optapy.score.SimpleScore.ONE),
+        ]
+
+    @optapy.planning_solution
+    class Solution:
+        def __init__(self, entities, score=None):
+            self.entities = entities
+            self.score = score
+
+        @optapy.planning_entity_collection_property(Entity)
+        def get_entities(self):
+            return self.entities
+
+        @optapy.value_range_provider(range_id='even_range', value_range_type=int)
+        def get_even_values(self):
+            return [0, 2, 4]
+
+        @optapy.value_range_provider(range_id='odd_range', value_range_type=int)
+        def get_odd_values(self):
+            return [5, 1, 3]
+
+        # The exclusive end of this range, 2147483648, does not fit in an int
+        @optapy.value_range_provider(range_id='large_range', value_range_type=int)
+        def get_large_values(self):
+            return range(2147483644, 2147483647, 2)
+
+        @optapy.planning_score(optapy.score.SimpleScore)
+        def get_score(self) -> optapy.score.SimpleScore:
+            return self.score
+
+        def set_score(self, score):
+            self.score = score
+
+    solver_config = optapy.config.solver.SolverConfig()
+    termination_config = optapy.config.solver.termination.TerminationConfig()
+    termination_config.setBestScoreLimit('0')
+    solver_config.withSolutionClass(Solution) \
+        .withEntityClasses(Entity) \
+        .withConstraintProviderClass(my_constraints) \
+        .withTerminationConfig(termination_config)
+
+    problem: Solution = Solution([Entity(code) for code in [*range(6), 2147483644, 2147483646]])
+    solver = optapy.solver_factory_create(solver_config).buildSolver()
+    solution = solver.solve(problem)
+    assert solution.get_score().getScore() == 0
+    for entity in solution.entities:
+        assert entity.value == entity.code
+
+
+def test_string_planning_id():
+    @optapy.problem_fact
+    class Value:
+        def __init__(self, code, value):
+            self.code = code
+            self.value = value
+
+        @optapy.planning_id
+        def get_code(self) -> str:
+            return self.code
+
+    @optapy.planning_entity
+    class Entity:
+        def __init__(self, code, value=None):
+            self.code = code
+            self.value = value
+
+        @optapy.planning_id
+        def get_code(self) -> str:
+            return self.code
+
+        @optapy.planning_variable(Value, value_range_provider_refs=['value_range'])
+        def get_value(self):
+            return self.value
+
+        def set_value(self, value):
+            self.value = value
+
+    @optapy.constraint_provider
+    def my_constraints(constraint_factory: optapy.constraint.ConstraintFactory):
+        return [
+            constraint_factory.for_each(Entity)
+            .reward('Maximize value', optapy.score.SimpleScore.ONE, lambda entity: entity.value.value),
+        ]
+
+    Solution = define_planning_id_solution(Entity, Value)
+
+    @optapy.problem_change
+    class ChangeValueProblemChange:
+        def __init__(self, code, value):
+            self.code = code
+            self.value = value
+
+        def doChange(self, solution: Solution, problem_change_director: optapy.types.ProblemChangeDirector):
+            # Looked up by its String id, since the external value is not the working value
+            working_value = problem_change_director.lookUpWorkingObjectOrFail(Value(self.code, None))
+
+            def change_value(changed_working_value):
+                changed_working_value.get__optapy_Id().value = self.value
+
+            problem_change_director.changeProblemProperty(working_value.get__optapy_Id(), change_value)
+
+    assert optapy.get_class(Value).getMethod('getCode').getReturnType().getName() == 'java.lang.String'
+    assert optapy.get_class(Entity).getMethod('getCode').getReturnType().getName() == 'java.lang.String'
+
+    problem = Solution([Entity('A')], [Value('A', 1), Value('B', 2)])
+    solution = solve_with_problem_change(Solution, Entity, my_constraints, '10', problem,
+                                         ChangeValueProblemChange('B', 10))
+    assert solution.get_score().getScore() == 10
+    assert solution.entities[0].value.code == 'B'
+
+
 def test_list_variable():
     @optapy.planning_entity
     class Entity:
@@ -67,8 +67,8 @@ class Solution:
         self.score = score
 
 
-def test_constraint_match_disabled_incremental_score_calculator():
-    @optapy.incremental_score_calculator
+def define_incremental_score_calculator(incremental_score_calculator_decorator):
+    @incremental_score_calculator_decorator
     class IncrementalScoreCalculator:
         score: int
         row_index_map: dict
@@ -140,13 +140,17 @@ def test_constraint_match_disabled_incremental_score_calculator():
         def calculateScore(self) -> optapy.score.SimpleScore:
             return optapy.score.SimpleScore.of(self.score)
 
+    return IncrementalScoreCalculator
+
+
+def assert_solves_four_queens(incremental_score_calculator):
     solver_config = optapy.config.solver.SolverConfig()
     termination_config = optapy.config.solver.termination.TerminationConfig()
     termination_config.setBestScoreLimit('0')
     solver_config.withSolutionClass(Solution) \
         .withEntityClasses(Queen) \
         .withScoreDirectorFactory(optapy.config.score.director.ScoreDirectorFactoryConfig() \
-                                  .withIncrementalScoreCalculatorClass(IncrementalScoreCalculator)) \
+                                  .withIncrementalScoreCalculatorClass(incremental_score_calculator)) \
         .withTerminationConfig(termination_config)
     problem: Solution = Solution(4,
                                  [Queen('A', 0), Queen('B', 1), Queen('C', 2), Queen('D', 3)],
@@ -165,6 +169,17 @@ def test_constraint_match_disabled_incremental_score_calculator():
             assert left_queen.getDescendingDiagonalIndex() != right_queen.getDescendingDiagonalIndex()
 
 
+def test_constraint_match_disabled_incremental_score_calculator():
+    incremental_score_calculator = define_incremental_score_calculator(optapy.incremental_score_calculator)
+    assert_solves_four_queens(incremental_score_calculator)
+
+
+def test_translated_incremental_score_calculator():
+    incremental_score_calculator = define_incremental_score_calculator(
+        optapy.incremental_score_calculator(function_bytecode_translation=optapy.BytecodeTranslation.FORCE))
+    assert_solves_four_queens(incremental_score_calculator)
+
+
 def test_constraint_match_enabled_incremental_score_calculator():
     @optapy.incremental_score_calculator
     class IncrementalScoreCalculator:
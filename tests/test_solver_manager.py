@@ -207,6 +207,117 @@ def test_solve():
     time.sleep(1)  # ensure the thread factory close
 
 
+@pytest.mark.parametrize('deep_planning_clone', [False, True])
+def test_change_problem_property(deep_planning_clone):
+    from org.optaplanner.core.api.solver import SolverStatus
+    from org.optaplanner.optapy import PythonWrapperGenerator  # noqa
+
+    @optapy.problem_fact
+    class Value:
+        def __init__(self, code, value):
+            self.code = code
+            self.value = value
+
+        @optapy.planning_id
+        def get_id(self):
+            return self.code
+
+    if deep_planning_clone:
+        # @deep_planning_clone is applied after @problem_fact generated the Java class of Value
+        Value = optapy.deep_planning_clone(Value)
+
+    @optapy.planning_entity
+    class Entity:
+        def __init__(self, code, value=None):
+            self.code = code
+            self.value = value
+
+        @optapy.planning_variable(Value, value_range_provider_refs=['value_range'])
+        def get_value(self):
+            return self.value
+
+        def set_value(self, value):
+            self.value = value
+
+        @optapy.planning_id
+        def get_id(self):
+            return self.code
+
+    @optapy.constraint_provider(function_bytecode_translation=optapy.BytecodeTranslation.FORCE)
+    def my_constraints(constraint_factory: optapy.constraint.ConstraintFactory):
+        return [
+            constraint_factory.for_each(Entity)
+                .reward('Maximize Value', optapy.score.SimpleScore.ONE, lambda entity: entity.value.value),
+        ]
+
+    @optapy.planning_solution
+    class Solution:
+        def __init__(self, entity_list, value_range, score=None):
+            self.entity_list = entity_list
+            self.value_range = value_range
+            self.score = score
+
+        @optapy.planning_entity_collection_property(Entity)
+        def get_entity_list(self):
+            return self.entity_list
+
+        @optapy.problem_fact_collection_property(Value)
+        @optapy.value_range_provider(range_id='value_range')
+        def get_value_range(self):
+            return self.value_range
+
+        @optapy.planning_score(optapy.score.SimpleScore)
+        def get_score(self) -> optapy.score.SimpleScore:
+            return self.score
+
+        def set_score(self, score):
+            self.score = score
+
+    visits_working_value_ids = []
+
+    @optapy.problem_change
+    class ChangeValueProblemChange:
+        def __init__(self, code, value):
+            self.code = code
+            self.value = value
+
+        def doChange(self, solution: Solution, problem_change_director: optapy.types.ProblemChangeDirector):
+            for problem_fact in solution.value_range:
+                if problem_fact.code == self.code:
+                    def change_value(working_value):
+                        working_value.get__optapy_Id().value = self.value
+
+                    working_value = problem_change_director.lookUpWorkingObjectOrFail(problem_fact)
+                    visits_working_value_ids.append(PythonWrapperGenerator.shouldVisitProblemFactIds(working_value))
+                    problem_change_director.changeProblemProperty(problem_fact, change_value)
+
+    # The best score limit is only reachable once the problem change is done, since the value of B is read by the
+    # constraints from the Java wrapper of B. When Value is deep planning cloned, every clone has its own values,
+    # so the limit is only reached if the values of each clone are read.
+    solver_config = optapy.config.solver.SolverConfig()
+    termination_config = optapy.config.solver.termination.TerminationConfig()
+    termination_config.setBestScoreLimit('10')
+    solver_config.withSolutionClass(Solution) \
+        .withEntityClasses(Entity) \
+        .withConstraintProviderClass(my_constraints) \
+        .withTerminationConfig(termination_config)
+    problem: Solution = Solution([Entity('A')], [Value('A', 1), Value('B', 2)])
+
+    with optapy.solver_manager_create(solver_config) as solver_manager:
+        solver_job = solver_manager.solve(1, problem)
+        assert solver_manager.getSolverStatus(1) != SolverStatus.NOT_SOLVING
+        solver_manager.addProblemChange(1, ChangeValueProblemChange('B', 10))
+        solution = solver_job.getFinalBestSolution()
+        assert solution.get_score().getScore() == 10
+        assert solution.entity_list[0].value.code == 'B'
+        assert solution.entity_list[0].value.value == 10
+        assert visits_working_value_ids == [deep_planning_clone]
+        if deep_planning_clone:
+            assert solution.entity_list[0].value is solution.value_range[1]
+            assert solution.value_range[1] is not problem.value_range[1]
+            assert problem.value_range[1].value == 2
+
+
 @pytest.mark.filterwarnings("ignore:.*Exception in thread.*:pytest.PytestUnhandledThreadExceptionWarning")
 def test_error():
     @optapy.problem_fact